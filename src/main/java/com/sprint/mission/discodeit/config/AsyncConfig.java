@@ -21,25 +21,51 @@ import org.springframework.security.core.context.SecurityContextHolder;
 @EnableScheduling
 public class AsyncConfig {
 
+    // 알림 생성 등 일반 비동기 작업 ( 가상 스레드 모드에서는 작업마다 가상 스레드, 동시 실행은 커넥션 풀 기준 상한 )
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public Executor taskExecutor(BoundedTaskExecutors boundedTaskExecutors, AsyncExecutorProperties properties) {
+        return boundedTaskExecutors.create("taskExecutor", "Async-", properties.getTask(), taskDecorator());
+    }
+
+    // S3 업로드 ( @Retryable 대기 포함 ) - 큐가 차면 업로드 요청 스레드가 직접 올린다
+    @Bean("binaryContentTaskExecutor")
+    public TaskExecutor binaryContentTaskExecutor(BoundedTaskExecutors boundedTaskExecutors,
+        AsyncExecutorProperties properties) {
+        return boundedTaskExecutors.create("binaryContentTaskExecutor", "binary-", properties.getBinaryContent(),
+            taskDecorator());
+    }
+
+    // Kafka 직접 발행 - 큐가 차면 outbox 로 넘긴다 ( KafkaProduceRequiredEventListener )
+    @Bean("eventTaskExecutor")
+    public TaskExecutor eventTaskExecutor(BoundedTaskExecutors boundedTaskExecutors,
+        AsyncExecutorProperties properties) {
+        return boundedTaskExecutors.create("eventTaskExecutor", "event-", properties.getEvent(), null);
+    }
+
+    // Kafka 전송 실패 ( ack ) 를 outbox 에 기록 - 프로듀서 I/O 스레드에서 넘겨받으므로 제출한 스레드에서는 절대 실행하지 않는다
+    // 실패가 몰릴 때만 쓰이므로 스레드 하나에 큐 상한 없이 두고, 종료 시에는 남은 기록을 마치고 내려간다
+    @Bean("outboxFallbackTaskExecutor")
+    public TaskExecutor outboxFallbackTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Async-");
-        executor.setTaskDecorator(taskDecorator());
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("outbox-fallback-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
         executor.initialize();
         return executor;
     }
 
-    @Bean("eventTaskExecutor")
-    public TaskExecutor eventTaskExecutor() {
+    // 채널 / 사용자 삭제 후 연관 행 정리 ( 큐가 차서 거절돼도 DeletionPurgeService 의 주기 작업이 다시 잡는다 )
+    // 일부러 1~2 스레드로 천천히 지우므로 가상 스레드 모드에서도 그대로 둔다
+    @Bean("purgeTaskExecutor")
+    public TaskExecutor purgeTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("event-");
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("purge-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
         executor.initialize();
         return executor;
     }
@@ -0,0 +1,36 @@
+package com.sprint.mission.discodeit.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종류별 @Async executor 설정 ( 가상 스레드 모드에서는 풀 / 큐 대신 커넥션 풀 기준 동시 실행 상한을 쓴다 )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.async")
+public class AsyncExecutorProperties {
+
+    // 알림 생성 등 일반 비동기 작업 ( taskExecutor )
+    private Pool task = new Pool(5, 10, 100, RejectionPolicy.CALLER_RUNS);
+    // 바이너리 저장 ( binaryContentTaskExecutor ) - 업로드 바이트를 메모리에 들고 있으므로 큐를 길게 두지 않는다
+    private Pool binaryContent = new Pool(4, 8, 50, RejectionPolicy.CALLER_RUNS);
+    // Kafka 직접 발행 ( eventTaskExecutor ) - 넘치면 outbox 로 넘긴다
+    private Pool event = new Pool(2, 4, 100, RejectionPolicy.SPILL);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+        private RejectionPolicy rejectionPolicy;
+    }
+}
@@ -0,0 +1,169 @@
+package com.sprint.mission.discodeit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 종류별 @Async executor 를 만든다 ( 크기 / 큐 / 거절 정책은 AsyncExecutorProperties )
+ * - 큐가 차면 RejectionPolicy 에 따라 제출한 스레드에서 실행 / 오래된 작업 버림 / spill 한다 ( 기본은 작업을 잃지 않는 쪽 )
+ * - 지표 ( name 태그 = bean 이름 )
+ *   executor.queued / executor.active / executor.pool.size 등 : Micrometer ExecutorServiceMetrics
+ *   executor.queue.wait : 제출부터 실행 시작까지 기다린 시간
+ *   executor.rejected{policy, action} : 거절된 작업 수와 처리 방식 ( caller_runs | spilled | dropped | aborted )
+ * 가상 스레드 모드에서는 큐 없이 커넥션 풀 기준 상한까지만 동시에 실행하고, 넘치면 제출한 쪽이 기다린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoundedTaskExecutors {
+
+    public static final String QUEUE_WAIT = "executor.queue.wait";
+    public static final String REJECTED = "executor.rejected";
+
+    static final String ACTION_CALLER_RUNS = "caller_runs";
+    static final String ACTION_SPILLED = "spilled";
+    static final String ACTION_DROPPED = "dropped";
+    static final String ACTION_ABORTED = "aborted";
+
+    private final MeterRegistry meterRegistry;
+    private final VirtualThreadExecutors virtualThreadExecutors;
+
+    /**
+     * @param taskDecorator 실행 스레드로 넘길 컨텍스트 ( 없으면 null )
+     */
+    public TaskExecutor create(String name, String threadNamePrefix, AsyncExecutorProperties.Pool pool,
+        TaskDecorator taskDecorator) {
+        Timer queueWait = Timer.builder(QUEUE_WAIT)
+            .description("작업 제출부터 실행 시작까지 기다린 시간")
+            .tag("name", name)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(Duration.ofSeconds(30))
+            .register(meterRegistry);
+        TaskDecorator queuedTaskDecorator = task -> new QueuedTask(task,
+            taskDecorator != null ? taskDecorator.decorate(task) : task, System.nanoTime(), queueWait);
+
+        if (virtualThreadExecutors.isEnabled()) {
+            SimpleAsyncTaskExecutor executor =
+                virtualThreadExecutors.create(threadNamePrefix, virtualThreadExecutors.connectionBoundLimit());
+            executor.setTaskDecorator(queuedTaskDecorator);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setTaskDecorator(queuedTaskDecorator);
+        executor.setRejectedExecutionHandler(new BackPressureHandler(name, pool.getRejectionPolicy()));
+        executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        log.info("[Async] executor 생성 - 이름 : {}, 스레드 : {}~{}, 큐 : {}, 거절 정책 : {}",
+            name, pool.getCorePoolSize(), pool.getMaxPoolSize(), pool.getQueueCapacity(), pool.getRejectionPolicy());
+        return executor;
+    }
+
+    /**
+     * 원본 작업과 컨텍스트를 입힌 작업을 같이 들고 있는다
+     * 제출한 스레드에서 실행할 때는 원본을 돌린다 ( 컨텍스트 decorator 가 끝나면서 제출한 스레드의 MDC / SecurityContext 를 지우지 않게 )
+     */
+    private record QueuedTask(Runnable task, Runnable decorated, long submittedAt, Timer queueWait)
+        implements Runnable {
+
+        @Override
+        public void run() {
+            queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            decorated.run();
+        }
+    }
+
+    private class BackPressureHandler implements RejectedExecutionHandler {
+
+        private final String name;
+        private final RejectionPolicy policy;
+
+        BackPressureHandler(String name, RejectionPolicy policy) {
+            this.name = name;
+            this.policy = policy;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            Runnable task = runnable instanceof QueuedTask queued ? queued.task() : runnable;
+
+            // 종료 중이면 실행할 곳이 없으므로 spill 할 수 있는 작업만 살린다
+            if (task instanceof SpillableTask spillable && (policy == RejectionPolicy.SPILL || executor.isShutdown())) {
+                spill(spillable);
+                return;
+            }
+            if (executor.isShutdown()) {
+                rejected(ACTION_ABORTED);
+                throw new RejectedExecutionException("executor 종료 중 : " + name);
+            }
+
+            switch (policy) {
+                case CALLER_RUNS, SPILL -> {
+                    rejected(ACTION_CALLER_RUNS);
+                    log.debug("[Async] 큐 포화로 제출한 스레드에서 실행 - executor : {}, 스레드 : {}",
+                        name, Thread.currentThread().getName());
+                    task.run();
+                }
+                case DROP_OLDEST -> {
+                    Runnable oldest = executor.getQueue().poll();
+                    if (oldest != null) {
+                        drop(oldest);
+                    }
+                    // 이미 decorate 된 작업이므로 execute 를 다시 거치지 않고 큐에 바로 넣는다
+                    if (!executor.getQueue().offer(runnable)) {
+                        rejectedExecution(runnable, executor);
+                    }
+                }
+                case ABORT -> {
+                    rejected(ACTION_ABORTED);
+                    throw new RejectedExecutionException("executor 큐 포화 : " + name);
+                }
+            }
+        }
+
+        private void spill(SpillableTask spillable) {
+            rejected(ACTION_SPILLED);
+            log.debug("[Async] 큐 포화로 작업을 영속 저장소로 넘김 - executor : {}", name);
+            spillable.spill();
+        }
+
+        private void drop(Runnable oldest) {
+            Runnable task = oldest instanceof QueuedTask queued ? queued.task() : oldest;
+            if (task instanceof SpillableTask spillable) {
+                spill(spillable);
+                return;
+            }
+            rejected(ACTION_DROPPED);
+            log.warn("[Async] 큐 포화로 가장 오래된 작업을 버림 - executor : {}", name);
+        }
+
+        private void rejected(String action) {
+            Counter.builder(REJECTED)
+                .description("큐 포화로 거절된 작업 수 ( 처리 방식별 )")
+                .tag("name", name)
+                .tag("policy", policy.name().toLowerCase())
+                .tag("action", action)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+}
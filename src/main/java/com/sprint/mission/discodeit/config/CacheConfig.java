@@ -1,40 +1,117 @@
 package com.sprint.mission.discodeit.config;
 
-import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
-import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.sprint.mission.discodeit.redis.CacheInvalidationMessage;
+import com.sprint.mission.discodeit.redis.OrderedMessageDispatcher;
+import com.sprint.mission.discodeit.redis.SingleFlight;
+import com.sprint.mission.discodeit.redis.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+@Slf4j
 @Configuration
 @EnableCaching
 @Profile("!test")
 public class CacheConfig {
 
+    /**
+     * RedisTemplate 과 같은 값 직렬화기( redisSerializer )를 써서 캐시 값도 바이너리 코덱을 따른다
+     */
     @Bean
-    public RedisCacheConfiguration redisCacheConfiguration(ObjectMapper objectMapper) {
-        ObjectMapper redisObjectMapper = objectMapper.copy();
-        redisObjectMapper.activateDefaultTyping(
-            LaissezFaireSubTypeValidator.instance,
-            DefaultTyping.EVERYTHING,
-            As.PROPERTY
-        );
-
+    public RedisCacheConfiguration redisCacheConfiguration(
+        @Qualifier("redisSerializer") RedisSerializer<Object> redisSerializer) {
         return RedisCacheConfiguration.defaultCacheConfig()
             .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(
-                    new GenericJackson2JsonRedisSerializer(redisObjectMapper)
-                )
+                RedisSerializationContext.SerializationPair.fromSerializer(redisSerializer)
             )
             .prefixCacheNameWith("discodeit:")
             .entryTtl(Duration.ofSeconds(600))
             .disableCachingNullValues();
     }
-}
\ No newline at end of file
+
+    /**
+     * Caffeine L1 + Redis L2 2단 캐시
+     * 반복 조회( users, userChannels )는 노드 힙에서 바로 응답하고, Redis 는 노드 간 공유 / 재기동 후 워밍 용도로 쓴다
+     * 미스 시 로드는 노드 내 in-flight future + 노드 간 Redis lease 로 키당 한 번만 실행된다 ( @Cacheable(sync = true) )
+     */
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+        RedisCacheConfiguration redisCacheConfiguration,
+        RedisTemplate<String, Object> redisTemplate,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+        @Value("${app.cache.l1.maximum-size:10000}") long l1MaximumSize,
+        @Value("${app.cache.l1.expire-after-write:30s}") Duration l1ExpireAfterWrite,
+        @Value("${app.cache.l1.refresh-after-write:20s}") Duration l1RefreshAfterWrite,
+        @Value("${app.cache.single-flight.lease-ttl:5s}") Duration leaseTtl,
+        @Value("${app.cache.single-flight.lease-wait:2s}") Duration leaseWait) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(redisCacheConfiguration)
+            .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, meterRegistry.getIfAvailable(),
+            l1MaximumSize, l1ExpireAfterWrite, l1RefreshAfterWrite,
+            new SingleFlight(redisTemplate, leaseTtl, leaseWait), cacheRefreshExecutor);
+    }
+
+    /**
+     * stale-while-revalidate 백그라운드 갱신 전용 실행기
+     * 가득 차면 갱신을 버리고 오래된 값을 계속 쓴다 ( 만료되면 요청 스레드에서 single-flight 로 로드 )
+     */
+    @Bean("cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("CacheRefresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 다른 노드의 캐시 변경 통지를 받아 로컬 L1 에서 해당 키를 지운다
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        RedisTemplate<String, Object> redisTemplate,
+        TwoLevelCacheManager cacheManager,
+        OrderedMessageDispatcher orderedMessageDispatcher) {
+
+        RedisMessageListenerContainer container = orderedMessageDispatcher.createContainer(connectionFactory);
+        orderedMessageDispatcher.addMessageListener(container, (message, pattern) -> {
+            try {
+                Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+                if (body instanceof CacheInvalidationMessage invalidation) {
+                    cacheManager.onInvalidation(invalidation);
+                }
+            } catch (Exception e) {
+                log.error("캐시 무효화 메시지 처리 실패", e);
+            }
+        }, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_TOPIC));
+
+        log.info("[캐시 무효화 리스너 설정 완료] 채널: {}", TwoLevelCacheManager.INVALIDATION_TOPIC);
+        return container;
+    }
+}
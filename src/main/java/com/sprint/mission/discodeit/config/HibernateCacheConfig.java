@@ -0,0 +1,124 @@
+package com.sprint.mission.discodeit.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.sprint.mission.discodeit.entity.EntityCacheRegions;
+import com.sprint.mission.discodeit.redis.EntityCacheInvalidationMessage;
+import com.sprint.mission.discodeit.redis.EntityCacheInvalidator;
+import com.sprint.mission.discodeit.redis.OrderedMessageDispatcher;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Hibernate 2차 캐시 ( JCache + Caffeine ) - User / Channel / BinaryContent 와 사용자 중복 검사 쿼리
+ * - 리전은 노드 힙에 있고, 변경은 EntityCacheInvalidator 가 Redis pub/sub 으로 다른 노드에 전달한다
+ * - 리전별 적중률은 hibernate-micrometer 가 hibernate.second.level.cache.requests{region, result} 로 노출한다
+ *   ( hibernate.generate_statistics 필요 )
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.jpa.second-level-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class HibernateCacheConfig {
+
+    // Hibernate 기본 리전 ( 쿼리 캐시 무효화 기준 시각은 만료되면 안 된다 )
+    private static final String UPDATE_TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+    private static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+        @Value("${app.jpa.second-level-cache.maximum-size:10000}") long maximumSize,
+        @Value("${app.jpa.second-level-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), provider.getDefaultClassLoader());
+
+        for (String region : EntityCacheRegions.ENTITY_REGIONS) {
+            createCache(cacheManager, region, OptionalLong.of(maximumSize), expireAfterWrite);
+        }
+        createCache(cacheManager, EntityCacheRegions.USER_EXISTS, OptionalLong.of(maximumSize), expireAfterWrite);
+        createCache(cacheManager, QUERY_RESULTS_REGION, OptionalLong.of(maximumSize), expireAfterWrite);
+        createCache(cacheManager, UPDATE_TIMESTAMPS_REGION, OptionalLong.empty(), null);
+
+        log.info("[2차 캐시] 리전 생성 : {}, maximumSize = {}, expireAfterWrite = {}",
+            cacheManager.getCacheNames(), maximumSize, expireAfterWrite);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public EntityCacheInvalidator entityCacheInvalidator(EntityManagerFactory entityManagerFactory,
+        RedisTemplate<String, Object> redisTemplate) {
+        EntityCacheInvalidator invalidator = new EntityCacheInvalidator(entityManagerFactory, redisTemplate);
+        invalidator.register();
+        return invalidator;
+    }
+
+    /**
+     * 다른 노드의 엔티티 변경 통지를 받아 로컬 2차 캐시에서 지운다
+     */
+    @Bean
+    public RedisMessageListenerContainer entityCacheInvalidationListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        RedisTemplate<String, Object> redisTemplate,
+        EntityCacheInvalidator entityCacheInvalidator,
+        OrderedMessageDispatcher orderedMessageDispatcher) {
+
+        RedisMessageListenerContainer container = orderedMessageDispatcher.createContainer(connectionFactory);
+        orderedMessageDispatcher.addMessageListener(container, (message, pattern) -> {
+            try {
+                Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+                if (body instanceof EntityCacheInvalidationMessage invalidation) {
+                    entityCacheInvalidator.onInvalidation(invalidation);
+                }
+            } catch (Exception e) {
+                log.error("2차 캐시 무효화 메시지 처리 실패", e);
+            }
+        }, new ChannelTopic(EntityCacheInvalidator.INVALIDATION_TOPIC));
+
+        log.info("[2차 캐시 무효화 리스너 설정 완료] 채널: {}", EntityCacheInvalidator.INVALIDATION_TOPIC);
+        return container;
+    }
+
+    private static void createCache(CacheManager cacheManager, String region, OptionalLong maximumSize,
+        Duration expireAfterWrite) {
+        if (cacheManager.getCache(region) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        if (expireAfterWrite != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        // Hibernate 캐시 엔트리는 불변 구조라 복사할 필요가 없다
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(region, configuration);
+    }
+}
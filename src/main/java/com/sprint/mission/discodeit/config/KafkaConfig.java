@@ -3,6 +3,8 @@ package com.sprint.mission.discodeit.config;
 
 import java.util.HashMap;
 import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -11,6 +13,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
@@ -20,8 +23,11 @@ import org.springframework.kafka.core.ProducerFactory;
 
 @EnableKafka
 @Configuration
+@RequiredArgsConstructor
 public class KafkaConfig {
 
+    private final KafkaTuningProperties kafkaTuningProperties;
+
     @Value("${spring.kafka.bootstrap-servers:localhost:29092}")
     private String bootstrapServers;
 
@@ -31,21 +37,31 @@ public class KafkaConfig {
     // String용 ProducerFactory
     @Bean
     public ProducerFactory<String, String> stringProducerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        return new DefaultKafkaProducerFactory<>(producerConfigs());
     }
 
     // Object용 ProducerFactory
     @Bean
     public ProducerFactory<String, Object> objectProducerFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfigs());
+    }
+
+    // 공통 프로듀서 설정 ( 배칭 + 압축 + 멱등성 )
+    Map<String, Object> producerConfigs() {
+        KafkaTuningProperties.Producer producer = kafkaTuningProperties.getProducer();
+
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, producer.getLingerMs());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, producer.getBatchSize());
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.getCompressionType());
+        configProps.put(ProducerConfig.ACKS_CONFIG, producer.getAcks());
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producer.isEnableIdempotence());
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION,
+            producer.getMaxInFlightRequestsPerConnection());
+        return configProps;
     }
 
     // String용 KafkaTemplate
@@ -62,20 +78,74 @@ public class KafkaConfig {
 
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerConfigs());
+    }
+
+    // 공통 컨슈머 설정
+    Map<String, Object> consumerConfigs() {
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "discodeit-" + instanceId);
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-
-        return new DefaultKafkaConsumerFactory<>(props);
+        return props;
     }
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        // 파티션당 한 컨슈머 스레드
+        factory.setConcurrency(kafkaTuningProperties.listenerConcurrency());
+        return factory;
+    }
+
+    // poll 한 번에 받은 레코드를 List 로 넘겨주는 배치 리스너 ( 알림 컨슈머 )
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory() {
+        Map<String, Object> props = consumerConfigs();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG,
+            kafkaTuningProperties.getNotification().getMaxPollRecords());
+
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.setConcurrency(kafkaTuningProperties.listenerConcurrency());
         return factory;
     }
+
+    // 키(channelId / userId) 기반 파티셔닝을 위한 토픽 선언
+    @Bean
+    public NewTopic messageCreateEventTopic() {
+        return topic("discodeit.MessageCreateEvent");
+    }
+
+    @Bean
+    public NewTopic roleUpdatedEventTopic() {
+        return topic("discodeit.RoleUpdatedEvent");
+    }
+
+    @Bean
+    public NewTopic s3UploadFailedEventTopic() {
+        return topic("discodeit.S3UploadFailedEvent");
+    }
+
+    @Bean
+    public NewTopic userLogInOutEventTopic() {
+        return topic("discodeit.UserLogInOutEvent");
+    }
+
+    @Bean
+    public NewTopic messageCreatedTopic() {
+        return topic("message-created");
+    }
+
+    private NewTopic topic(String name) {
+        KafkaTuningProperties.Topic topic = kafkaTuningProperties.getTopic();
+        return TopicBuilder.name(name)
+            .partitions(topic.getPartitions())
+            .replicas(topic.getReplicas())
+            .build();
+    }
 }
\ No newline at end of file
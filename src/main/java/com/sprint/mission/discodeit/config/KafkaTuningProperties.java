@@ -0,0 +1,63 @@
+package com.sprint.mission.discodeit.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Kafka 처리량 관련 설정 ( 프로듀서 배칭/압축, 토픽 파티션, 리스너 동시성 )
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.kafka")
+public class KafkaTuningProperties {
+
+    private Producer producer = new Producer();
+    private Topic topic = new Topic();
+    private Listener listener = new Listener();
+    private Notification notification = new Notification();
+
+    @Getter
+    @Setter
+    public static class Producer {
+        // 배치를 모으기 위해 기다리는 최대 시간 (ms)
+        private int lingerMs = 10;
+        // 파티션별 배치 최대 크기 (bytes)
+        private int batchSize = 64 * 1024;
+        // none | gzip | snappy | lz4 | zstd
+        private String compressionType = "lz4";
+        private String acks = "all";
+        // 재시도 시 중복/순서 역전 방지
+        private boolean enableIdempotence = true;
+        private int maxInFlightRequestsPerConnection = 5;
+    }
+
+    @Getter
+    @Setter
+    public static class Topic {
+        private int partitions = 3;
+        private short replicas = 1;
+    }
+
+    @Getter
+    @Setter
+    public static class Listener {
+        // 파티션당 한 스레드로 소비하도록 기본값은 토픽 파티션 수를 따른다
+        private Integer concurrency;
+    }
+
+    @Getter
+    @Setter
+    public static class Notification {
+        // true 면 MessageCreateEvent 알림을 poll 단위 배치로 처리한다
+        private boolean batchEnabled = true;
+        // 배치 리스너가 한 번의 poll 로 가져오는 최대 레코드 수
+        private int maxPollRecords = 500;
+    }
+
+    public int listenerConcurrency() {
+        return listener.getConcurrency() != null ? listener.getConcurrency() : topic.getPartitions();
+    }
+}
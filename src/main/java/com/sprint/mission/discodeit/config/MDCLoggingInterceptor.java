@@ -1,11 +1,16 @@
 package com.sprint.mission.discodeit.config;
 
 
+import com.sprint.mission.discodeit.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 @Slf4j
@@ -16,6 +21,19 @@ public class MDCLoggingInterceptor implements HandlerInterceptor {
     public static final String REQUEST_URI = "requestUri";
     public static final String REQUEST_ID_HEADER = "X-Request-Id";
 
+    public static final String SQL_STATEMENTS = "request.sql.statements";
+    public static final String N_PLUS_ONE_SUSPECTED = "request.sql.n_plus_one";
+
+    // MeterRegistry 가 없는 환경 ( 슬라이스 테스트 ) 에서는 null : MDC / 로그만 남긴다
+    private final MeterRegistry meterRegistry;
+    // 요청 하나에서 이보다 많은 SQL 이 실행되면 N+1 로 의심한다
+    private final int statementThreshold;
+
+    public MDCLoggingInterceptor(MeterRegistry meterRegistry, int statementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.statementThreshold = statementThreshold;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
 
@@ -24,6 +42,7 @@ public class MDCLoggingInterceptor implements HandlerInterceptor {
         MDC.put(REQUEST_ID, requestId);
         MDC.put(REQUEST_METHOD, request.getMethod());
         MDC.put(REQUEST_URI, request.getRequestURI());
+        SqlStatementCounter.begin();
 
         response.setHeader(REQUEST_ID_HEADER, requestId);
 
@@ -33,7 +52,40 @@ public class MDCLoggingInterceptor implements HandlerInterceptor {
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int statements = SqlStatementCounter.end();
+        MDC.put(SqlStatementCounter.MDC_KEY, Integer.toString(statements));
+        if (handler instanceof HandlerMethod handlerMethod) {
+            recordStatements(handlerMethod.getBeanType().getSimpleName(), handlerMethod.getMethod().getName(),
+                statements);
+        }
         log.debug("Request completed");
         MDC.clear();
     }
+
+    // 어느 컨트롤러 메서드가 SQL 을 많이 실행하는지 남긴다 ( 태그는 핸들러 메서드 수만큼으로 제한된다 )
+    private void recordStatements(String controller, String method, int statements) {
+        if (statements > statementThreshold) {
+            log.warn("[N+1 의심] {}.{} 요청에서 SQL {}건 실행 ( 기준 : {}건 )", controller, method, statements,
+                statementThreshold);
+        }
+        if (meterRegistry == null) {
+            return;
+        }
+        DistributionSummary.builder(SQL_STATEMENTS)
+            .description("요청 하나에서 Hibernate 가 실행한 SQL 문 수")
+            .tag("controller", controller)
+            .tag("method", method)
+            .publishPercentileHistogram()
+            .maximumExpectedValue(1_000.0)
+            .register(meterRegistry)
+            .record(statements);
+        if (statements > statementThreshold) {
+            Counter.builder(N_PLUS_ONE_SUSPECTED)
+                .description("SQL 문 수가 기준을 넘은 요청 수 ( N+1 의심 )")
+                .tag("controller", controller)
+                .tag("method", method)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
 }
@@ -4,13 +4,23 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.sprint.mission.discodeit.redis.CompactRedisSerializer;
+import com.sprint.mission.discodeit.redis.OrderedMessageDispatcher;
+import com.sprint.mission.discodeit.service.UserSessionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
 @Profile("!test")
@@ -18,7 +28,7 @@ public class RedisConfig {
 
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
-        @Qualifier("redisSerializer")GenericJackson2JsonRedisSerializer redisSerializer) {
+        @Qualifier("redisSerializer") RedisSerializer<Object> redisSerializer) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -26,7 +36,7 @@ public class RedisConfig {
         template.setKeySerializer(template.getStringSerializer());
         template.setHashKeySerializer(template.getStringSerializer());
 
-        // Use JSON serial for values
+        // Use compact binary (JSON fallback) for values
         template.setValueSerializer(redisSerializer);
         template.setHashValueSerializer(redisSerializer);
 
@@ -34,8 +44,26 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * 캐시 / pub/sub 값 직렬화기
+     * - compact : 자주 쓰는 DTO 는 바이너리( 큰 값은 압축 ), 나머지와 기존 값은 JSON
+     * - json : 타입 정보를 포함한 JSON 만 사용 ( 롤백용 )
+     * 두 모드 모두 JSON 값을 읽을 수 있으므로 롤링 배포 중에도 캐시를 비울 필요가 없다
+     * ( json 으로 되돌릴 때는 바이너리 값이 남아 있으면 역직렬화에 실패하므로 캐시 prefix 를 비운다 )
+     */
     @Bean("redisSerializer")
-    public GenericJackson2JsonRedisSerializer redisSerializer(ObjectMapper objectMapper) {
+    public RedisSerializer<Object> redisSerializer(
+        @Qualifier("jsonRedisSerializer") GenericJackson2JsonRedisSerializer jsonRedisSerializer,
+        @Value("${app.redis.codec:compact}") String codec,
+        @Value("${app.redis.compression-threshold:1024}") int compressionThreshold) {
+        if ("json".equalsIgnoreCase(codec)) {
+            return jsonRedisSerializer;
+        }
+        return new CompactRedisSerializer(jsonRedisSerializer, compressionThreshold);
+    }
+
+    @Bean("jsonRedisSerializer")
+    public GenericJackson2JsonRedisSerializer jsonRedisSerializer(ObjectMapper objectMapper) {
         ObjectMapper redisObjectMapper = objectMapper.copy();
         redisObjectMapper.activateDefaultTyping(
             LaissezFaireSubTypeValidator.instance,
@@ -44,4 +72,37 @@ public class RedisConfig {
         );
         return new GenericJackson2JsonRedisSerializer(redisObjectMapper);
     }
-}
\ No newline at end of file
+
+    /**
+     * pub/sub 리스너 처리 스레드 ( 가상 스레드 모드에서는 가상 스레드 )
+     * 토픽마다 drain 작업이 하나만 돌므로 큐에는 토픽 수만큼만 쌓인다
+     */
+    @Bean("redisPubSubExecutor")
+    public TaskExecutor redisPubSubExecutor(BoundedTaskExecutors boundedTaskExecutors,
+        @Value("${app.redis.listener.pool-size:4}") int poolSize) {
+        return boundedTaskExecutors.create("redisPubSubExecutor", "redis-pubsub-",
+            new AsyncExecutorProperties.Pool(poolSize, poolSize, 100, RejectionPolicy.ABORT), null);
+    }
+
+    @Bean
+    public OrderedMessageDispatcher orderedMessageDispatcher(
+        @Qualifier("redisPubSubExecutor") TaskExecutor redisPubSubExecutor,
+        @Value("${app.redis.listener.queue-capacity:10000}") int queueCapacity,
+        MeterRegistry meterRegistry) {
+        return new OrderedMessageDispatcher(redisPubSubExecutor, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * 다른 노드의 로그아웃 통지를 받아 이 노드의 접속 상태에서도 지운다
+     */
+    @Bean
+    public RedisMessageListenerContainer presenceListenerContainer(RedisConnectionFactory connectionFactory,
+        UserSessionService userSessionService,
+        OrderedMessageDispatcher orderedMessageDispatcher) {
+        RedisMessageListenerContainer container = orderedMessageDispatcher.createContainer(connectionFactory);
+        orderedMessageDispatcher.addMessageListener(container, (message, pattern) ->
+                userSessionService.onOfflineMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(UserSessionService.OFFLINE_TOPIC));
+        return container;
+    }
+}
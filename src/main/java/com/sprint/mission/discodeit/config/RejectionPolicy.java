@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.config;
+
+/**
+ * 스레드 풀과 큐가 모두 찼을 때 새 작업의 처리 방식 ( app.async.*.rejection-policy )
+ */
+public enum RejectionPolicy {
+
+    // 제출한 스레드가 직접 실행한다 ( 제출 속도가 처리 속도로 떨어진다 )
+    CALLER_RUNS,
+    // 가장 오래 기다린 작업을 버리고 새 작업을 큐에 넣는다 ( 버린 작업이 SpillableTask 면 spill )
+    DROP_OLDEST,
+    // SpillableTask 는 실행하지 않고 영속 저장소로 넘긴다 ( 그 외 작업은 CALLER_RUNS )
+    SPILL,
+    // TaskRejectedException ( 기존 동작 )
+    ABORT
+}
@@ -0,0 +1,90 @@
+package com.sprint.mission.discodeit.config;
+
+import com.sprint.mission.discodeit.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * 읽기 복제본 라우팅 ( app.datasource.replica.enabled=true 일 때만 )
+ * - primary 풀은 spring.datasource / spring.datasource.hikari 설정을 그대로 쓴다
+ * - 애플리케이션이 쓰는 DataSource 는 LazyConnectionDataSourceProxy( ReplicaRoutingDataSource ) 이다
+ *   ( JpaTransactionManager 가 readOnly 플래그를 설정한 뒤 첫 쿼리에서 실제 커넥션을 고른다 )
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+        DataSourceProperties dataSourceProperties,
+        ReplicaDataSourceProperties replicaProperties
+    ) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaDataSourceProperties.Node> nodes = replicaProperties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReplicaDataSourceProperties.Node node = nodes.get(i);
+            if (!StringUtils.hasText(node.getUrl())) {
+                continue;
+            }
+            String name = "replica-" + i;
+            replicas.put(name, replicaPool(name, node, primaryDataSource, dataSourceProperties, replicaProperties));
+        }
+        log.info("[Replica] 읽기 복제본 라우팅 활성화 : 복제본 수 = {}, maxLag = {}",
+            replicas.size(), replicaProperties.getMaxLag());
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas,
+            replicaProperties.getMaxLag(), replicaProperties.getReadYourWritesWindow(),
+            replicaProperties.getLagQuery());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private static HikariDataSource replicaPool(String name, ReplicaDataSourceProperties.Node node,
+        HikariDataSource primary, DataSourceProperties dataSourceProperties,
+        ReplicaDataSourceProperties replicaProperties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(node.getUrl());
+        config.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        config.setUsername(StringUtils.hasText(node.getUsername())
+            ? node.getUsername() : dataSourceProperties.determineUsername());
+        config.setPassword(StringUtils.hasText(node.getUsername())
+            ? node.getPassword() : dataSourceProperties.determinePassword());
+        config.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        config.setConnectionInitSql(primary.getConnectionInitSql());
+        config.setReadOnly(true);
+        // 기동 시 복제본이 내려가 있어도 primary 로 동작하도록 ( 헬스 체크에서 복구 )
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
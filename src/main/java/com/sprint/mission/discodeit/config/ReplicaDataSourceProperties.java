@@ -0,0 +1,39 @@
+package com.sprint.mission.discodeit.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 복제본 라우팅 설정 ( readOnly 트랜잭션을 복제본 풀로 보낸다 )
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+    private List<Node> nodes = new ArrayList<>();
+    // 복제본 하나당 커넥션 풀 크기
+    private int maximumPoolSize = 10;
+    // 복제 지연이 이보다 크면 해당 복제본으로 보내지 않는다
+    private Duration maxLag = Duration.ofSeconds(5);
+    // 쓰기 커밋 후 이 시간 동안 해당 사용자의 읽기는 primary 로 보낸다 ( maxLag 보다 짧으면 maxLag 를 쓴다 )
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    // 복제 지연 ( ms ) 조회 쿼리, WAL 을 모두 재생했으면 0 ( 조용한 primary 에서 지연이 커 보이지 않도록 )
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+        + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+        + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 END";
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        // 비어 있으면 spring.datasource 의 계정을 쓴다
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sprint.mission.discodeit.config;
+
+import com.sprint.mission.discodeit.metrics.RepositoryMetricsInterceptor;
+import com.sprint.mission.discodeit.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * repository 패키지의 Spring Data repository 마다 지표 인터셉터를 붙이고, 요청별 SQL 문 수를 센다
+ * - 메서드별 소요 시간 / 반환 행 수 : RepositoryMetricsInterceptor ( /actuator/prometheus 노출 )
+ * - 요청별 SQL 문 수 / N+1 의심 : SqlStatementCounter + MDCLoggingInterceptor
+ * Spring Boot 기본 spring.data.repository.invocations 타이머는 중복이라 꺼 둔다
+ * ( management.metrics.data.repository.autotime.enabled=false )
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.repository.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryMetricsConfig {
+
+    private static final String REPOSITORY_PACKAGE = "com.sprint.mission.discodeit.repository";
+
+    // 다른 빈보다 먼저 만들어지므로 static 으로 두고 MeterRegistry 는 repository 가 만들어질 때 꺼낸다
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> {
+                            Class<?> repositoryInterface = repositoryInformation.getRepositoryInterface();
+                            if (repositoryInterface.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                                proxyFactory.addAdvice(
+                                    new RepositoryMetricsInterceptor(meterRegistry.getObject(), repositoryInterface));
+                            }
+                        }));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+}
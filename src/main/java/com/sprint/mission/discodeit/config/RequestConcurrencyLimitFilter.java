@@ -0,0 +1,88 @@
+package com.sprint.mission.discodeit.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 가상 스레드 모드의 요청 동시 처리 상한
+ * Tomcat 은 요청마다 가상 스레드를 띄우므로 요청 수가 그대로 Hikari 대기열로 몰려 connection-timeout 으로 실패한다
+ * 상한 ( VirtualThreadExecutors.connectionBoundLimit ) 을 넘는 요청은 여기서 wait-timeout 동안 기다리고, 그래도 자리가 없으면 503 으로 돌려준다
+ * - 비동기 요청 ( SSE ) 은 첫 dispatch 가 끝나면 자리를 돌려준다
+ * - /actuator 는 제한하지 않는다 ( 헬스 체크가 막히지 않도록 )
+ * 지표 : http.server.requests.waiting / http.server.requests.limited ( 503 으로 돌려준 요청 )
+ */
+@Slf4j
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    public static final String WAITING = "http.server.requests.waiting";
+    public static final String LIMITED = "http.server.requests.limited";
+
+    private final Semaphore permits;
+    private final Duration waitTimeout;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Counter limited;
+
+    public RequestConcurrencyLimitFilter(int limit, Duration waitTimeout, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(limit, true);
+        this.waitTimeout = waitTimeout;
+        Gauge.builder(WAITING, waiting, AtomicInteger::get)
+            .description("동시 처리 상한에 걸려 기다리는 요청 수")
+            .register(meterRegistry);
+        this.limited = Counter.builder(LIMITED)
+            .description("동시 처리 상한에 걸려 503 으로 돌려준 요청 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+        FilterChain filterChain) throws ServletException, IOException {
+        if (!acquire()) {
+            limited.increment();
+            log.warn("[요청 동시 처리 상한] 대기 시간 초과로 거절 - {} {}", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            response.getWriter().write("{\"error\":\"요청이 많아 잠시 후 다시 시도해 주세요.\",\"status\":503}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        waiting.incrementAndGet();
+        try {
+            return permits.tryAcquire(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
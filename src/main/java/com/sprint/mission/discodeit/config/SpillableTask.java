@@ -0,0 +1,25 @@
+package com.sprint.mission.discodeit.config;
+
+/**
+ * executor 가 가득 차 거절될 때 버리지 않고 영속 저장소로 넘길 수 있는 작업
+ * ( 예 : Kafka 발행 작업 → outbox 테이블, OutboxRelay 가 이어서 발행 )
+ * @Async 메서드는 작업 내용을 알 수 없으므로 spill 하려면 executor 에 직접 제출해야 한다
+ */
+public interface SpillableTask extends Runnable {
+
+    void spill();
+
+    static SpillableTask of(Runnable task, Runnable spill) {
+        return new SpillableTask() {
+            @Override
+            public void run() {
+                task.run();
+            }
+
+            @Override
+            public void spill() {
+                spill.run();
+            }
+        };
+    }
+}
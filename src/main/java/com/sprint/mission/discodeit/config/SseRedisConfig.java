@@ -1,9 +1,13 @@
 package com.sprint.mission.discodeit.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.redis.CompactRedisSerializer;
+import com.sprint.mission.discodeit.redis.OrderedMessageDispatcher;
 import com.sprint.mission.discodeit.service.distributed.RedisBasedSseService;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +16,7 @@ import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
 @RequiredArgsConstructor
@@ -24,19 +29,20 @@ public class SseRedisConfig {
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
         RedisConnectionFactory connectionFactory,
-        RedisBasedSseService sseService) {
+        RedisBasedSseService sseService,
+        @Qualifier("redisSerializer") RedisSerializer<Object> redisSerializer,
+        OrderedMessageDispatcher orderedMessageDispatcher) {
 
-        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-        container.setConnectionFactory(connectionFactory);
+        // 메시지마다 스레드를 띄우지 않고 토픽별로 순서대로 처리 ( OrderedMessageDispatcher )
+        RedisMessageListenerContainer container = orderedMessageDispatcher.createContainer(connectionFactory);
 
         // 브로드캐스트 리스너
         MessageListener broadcastListener = new MessageListener() {
             @Override
             public void onMessage(Message message, byte[] pattern) {
                 try {
-                    String jsonMessage = new String(message.getBody());
-                    RedisBasedSseService.SseMessage sseMessage = objectMapper.readValue(
-                        jsonMessage, RedisBasedSseService.SseMessage.class);
+                    RedisBasedSseService.SseMessage sseMessage =
+                        decode(message.getBody(), redisSerializer);
                     sseService.handleBroadcastMessage(sseMessage);
                     log.debug("[Redis 브로드캐스트 수신] 이벤트: {}", sseMessage.getEventName());
                 } catch (Exception e) {
@@ -50,9 +56,8 @@ public class SseRedisConfig {
             @Override
             public void onMessage(Message message, byte[] pattern) {
                 try {
-                    String jsonMessage = new String(message.getBody());
-                    RedisBasedSseService.SseMessage sseMessage = objectMapper.readValue(
-                        jsonMessage, RedisBasedSseService.SseMessage.class);
+                    RedisBasedSseService.SseMessage sseMessage =
+                        decode(message.getBody(), redisSerializer);
                     sseService.handleTargetedMessage(sseMessage);
                     log.debug("[Redis 타겟 수신] 이벤트: {}, 대상: {}명",
                         sseMessage.getEventName(),
@@ -63,11 +68,23 @@ public class SseRedisConfig {
             }
         };
 
-        container.addMessageListener(broadcastListener, new ChannelTopic("sse:broadcast"));
-        container.addMessageListener(targetedListener, new ChannelTopic("sse:targeted"));
+        orderedMessageDispatcher.addMessageListener(container, broadcastListener, new ChannelTopic("sse:broadcast"));
+        orderedMessageDispatcher.addMessageListener(container, targetedListener, new ChannelTopic("sse:targeted"));
 
         log.info("[Redis SSE 리스너 설정 완료] 브로드캐스트 & 타겟 채널");
 
         return container;
     }
+
+    /**
+     * 바이너리( compact 코덱 )면 redisSerializer 로, 아니면 기존 JSON 으로 읽는다
+     * ( 배포 중 구버전 노드가 보낸 JSON 메시지도 처리, 문자열로 바꾸지 않고 바이트에서 바로 읽는다 )
+     */
+    private RedisBasedSseService.SseMessage decode(byte[] body,
+        RedisSerializer<Object> redisSerializer) throws IOException {
+        if (CompactRedisSerializer.isCompact(body)) {
+            return (RedisBasedSseService.SseMessage) redisSerializer.deserialize(body);
+        }
+        return objectMapper.readValue(body, RedisBasedSseService.SseMessage.class);
+    }
 }
@@ -0,0 +1,55 @@
+package com.sprint.mission.discodeit.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.kafka.config.AbstractKafkaListenerContainerFactory;
+
+/**
+ * 가상 스레드 모드에서 직접 만든 Kafka 리스너 컨테이너의 실행 스레드를 가상 스레드로 바꾼다
+ * ( Spring Boot 자동 구성은 직접 정의한 팩토리에는 적용되지 않는다 )
+ * Tomcat 요청도 커넥션 풀 크기에 맞춘 동시 처리 상한 ( RequestConcurrencyLimitFilter ) 을 둔다
+ * Redis pub/sub 리스너는 토픽별 순서를 지키도록 OrderedMessageDispatcher 가 redisPubSubExecutor 로 처리한다
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // 컨테이너 빈이 초기화되기 전에 executor 를 넣어야 하므로 static 으로 먼저 등록한다
+    @Bean
+    public static BeanPostProcessor virtualThreadListenerPostProcessor(
+        ObjectProvider<VirtualThreadExecutors> virtualThreadExecutors) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractKafkaListenerContainerFactory<?, ?, ?> factory) {
+                    // 컨슈머 스레드 수는 concurrency ( 파티션 수 ) 로 이미 정해져 있어 제한하지 않는다
+                    factory.getContainerProperties().setListenerTaskExecutor(
+                        virtualThreadExecutors.getObject().create(beanName + "-", VirtualThreadExecutors.UNBOUNDED));
+                }
+                return bean;
+            }
+        };
+    }
+
+    // 요청 관측 ( ServerHttpObservationFilter ) 뒤, Spring Security 앞에서 자리를 잡는다
+    @Bean
+    public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+        VirtualThreadExecutors virtualThreadExecutors,
+        @Value("${app.threads.virtual.request-wait-timeout:5s}") Duration requestWaitTimeout,
+        MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new RequestConcurrencyLimitFilter(virtualThreadExecutors.connectionBoundLimit(), requestWaitTimeout,
+                meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
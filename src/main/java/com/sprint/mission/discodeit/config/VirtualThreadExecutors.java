@@ -0,0 +1,61 @@
+package com.sprint.mission.discodeit.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ConcurrencyThrottleSupport;
+
+/**
+ * 가상 스레드 실행 모드 ( spring.threads.virtual.enabled=true, JDK 21 이상에서만 켜진다 )
+ * - Tomcat 요청 스레드 / @Scheduled 는 Spring Boot 가 가상 스레드로 바꾼다 ( 요청 동시 처리 수는 RequestConcurrencyLimitFilter 가 같은 상한으로 막는다 )
+ * - @Async / Redis pub/sub executor 는 BoundedTaskExecutors, Kafka 리스너 컨테이너는 VirtualThreadConfig 가 여기서 만든 executor 를 쓴다
+ * 가상 스레드는 개수 제한이 없으므로 DB 를 쓰는 작업은 동시 실행 수를 Hikari 풀 크기 × concurrency-per-connection 으로 막는다
+ * ( 넘치는 작업은 executor 앞에서 기다린다. Hikari 대기열에 쌓여 connection-timeout 으로 실패하지 않게 한다 )
+ */
+@Slf4j
+@Component
+public class VirtualThreadExecutors {
+
+    public static final int UNBOUNDED = ConcurrencyThrottleSupport.UNBOUNDED_CONCURRENCY;
+
+    private final boolean enabled;
+    private final int connectionBoundLimit;
+
+    public VirtualThreadExecutors(Environment environment,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+        @Value("${app.threads.virtual.concurrency-per-connection:4}") int concurrencyPerConnection) {
+        this.enabled = Threading.VIRTUAL.isActive(environment);
+        this.connectionBoundLimit = maximumPoolSize * concurrencyPerConnection;
+        if (enabled) {
+            log.info("[가상 스레드 모드] DB 작업 동시 실행 상한 : {} ( 커넥션 풀 {} × {} )",
+                connectionBoundLimit, maximumPoolSize, concurrencyPerConnection);
+        } else if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("[가상 스레드 모드] JDK 21 미만이라 플랫폼 스레드 풀을 그대로 사용합니다. 현재 JDK : {}",
+                Runtime.version());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * DB 커넥션을 잡을 수 있는 작업의 동시 실행 상한
+     */
+    public int connectionBoundLimit() {
+        return connectionBoundLimit;
+    }
+
+    /**
+     * 작업마다 가상 스레드 하나 ( concurrencyLimit 을 넘으면 제출한 쪽이 자리가 날 때까지 기다린다 )
+     */
+    public SimpleAsyncTaskExecutor create(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+}
@@ -1,5 +1,8 @@
 package com.sprint.mission.discodeit.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -8,8 +11,19 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int sqlStatementThreshold;
+
+    public WebConfig(ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${app.metrics.repository.n-plus-one-threshold:20}") int sqlStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.sqlStatementThreshold = sqlStatementThreshold;
+    }
+
     @Bean
-    public MDCLoggingInterceptor mdcLoggingInterceptor() { return new MDCLoggingInterceptor(); }
+    public MDCLoggingInterceptor mdcLoggingInterceptor() {
+        return new MDCLoggingInterceptor(meterRegistry.getIfAvailable(), sqlStatementThreshold);
+    }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
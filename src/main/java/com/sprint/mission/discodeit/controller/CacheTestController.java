@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.redis.NotificationPageCache;
 import com.sprint.mission.discodeit.service.NotificationService;
 import java.util.Collection;
 import java.util.HashMap;
@@ -29,6 +30,7 @@ public class CacheTestController {
 
     private final NotificationService notificationService;
     private final CacheManager cacheManager;
+    private final NotificationPageCache notificationPageCache;
 
     @PostMapping("/notifications")
     public ResponseEntity<NotificationDto> createTestNotification(
@@ -53,7 +55,7 @@ public class CacheTestController {
             log.info("[CACHE-TEST] {}번째 호출 시작", i);
             long startTime = System.currentTimeMillis();
 
-            result = notificationService.findAllByReceiverId(receiverId);
+            result = notificationService.findAllByReceiverId(receiverId, null, 20).content();
 
             long endTime = System.currentTimeMillis();
             log.info("[CACHE-TEST] {}번째 호출 완료 - 응답시간: {}ms", i, (endTime - startTime));
@@ -75,14 +77,10 @@ public class CacheTestController {
 
     @DeleteMapping("/clear/{receiverId}")
     public ResponseEntity<String> clearCache(@PathVariable UUID receiverId) {
-        var cache = cacheManager.getCache("userNotifications");
-        if (cache != null) {
-            boolean hadValue = cache.get(receiverId) != null;
-            cache.evict(receiverId);
-            log.info("[CACHE-CLEAR] 캐시 수동 삭제 - 사용자: {}, 기존 값 존재: {}", receiverId, hadValue);
-            return ResponseEntity.ok("Cache cleared for user: " + receiverId + ", had value: " + hadValue);
-        }
-        return ResponseEntity.ok("No cache found");
+        boolean hadValue = notificationPageCache.get(receiverId).isPresent();
+        notificationPageCache.evict(receiverId);
+        log.info("[CACHE-CLEAR] 캐시 수동 삭제 - 사용자: {}, 기존 값 존재: {}", receiverId, hadValue);
+        return ResponseEntity.ok("Cache cleared for user: " + receiverId + ", had value: " + hadValue);
     }
 
     @GetMapping("/debug")
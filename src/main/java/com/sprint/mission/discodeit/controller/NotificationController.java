@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.controller;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
 import com.sprint.mission.discodeit.service.NotificationService;
 import java.util.List;
@@ -22,11 +23,16 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class NotificationController {
 
+    // 응답 본문은 기존처럼 알림 배열로 두고, 다음 페이지 커서는 헤더로 내려준다 ( 마지막 페이지면 생략 )
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final NotificationService notificationService;
 
     @GetMapping
     public ResponseEntity<List<NotificationDto>> getNotifications(
         @RequestParam(required = false) UUID receiverId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size,
         Authentication authentication) {
 
         UUID targetReceiverId;
@@ -40,13 +46,18 @@ public class NotificationController {
         log.info("[API-REQUEST] 알림 목록 조회 요청 - 대상 사용자: {}", targetReceiverId);
 
         long startTime = System.currentTimeMillis();
-        List<NotificationDto> notifications = notificationService.findAllByReceiverId(targetReceiverId);
+        PageResponse<NotificationDto> notifications =
+            notificationService.findAllByReceiverId(targetReceiverId, cursor, size);
         long endTime = System.currentTimeMillis();
 
         log.info("[PERFORMANCE] 알림 목록 조회 완료 - 응답시간: {}ms, 알림 수: {}개",
-            (endTime - startTime), notifications.size());
+            (endTime - startTime), notifications.content().size());
 
-        return ResponseEntity.ok().body(notifications);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (notifications.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(notifications.nextCursor()));
+        }
+        return response.body(notifications.content());
     }
 
     @DeleteMapping(path = "{notificationId}")
@@ -0,0 +1,232 @@
+package com.sprint.mission.discodeit.datasource;
+
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import com.sprint.mission.discodeit.util.UuidLongMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션을 읽기 복제본으로 보내는 DataSource
+ * - 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 가져와야 readOnly 여부를 알 수 있으므로
+ *   LazyConnectionDataSourceProxy 로 감싸서 쓴다 ( ReplicaDataSourceConfig )
+ * - 복제본은 라운드 로빈으로 고르고, 헬스 체크에 실패했거나 복제 지연이 maxLag 를 넘은 복제본은 건너뛴다
+ * - 복제본 커넥션 획득에 실패하면 해당 복제본을 내리고 primary 로 응답한다 ( 다음 헬스 체크에서 복구 )
+ * - 쓰기 트랜잭션을 커밋한 사용자는 readYourWritesWindow 동안 primary 에서 읽는다 ( 노드 로컬 기준 )
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    static final String TARGET_PRIMARY = "primary";
+    static final String TARGET_REPLICA = "replica";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagMillis;
+    private final long readYourWritesMillis;
+    private final String lagQuery;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+    // 사용자별 마지막 쓰기 커밋 시각 ( epoch millis )
+    private final UuidLongMap recentWriters = new UuidLongMap();
+
+    private final LongAdder primaryWrites = new LongAdder();
+    private final LongAdder primaryRecentWrites = new LongAdder();
+    private final LongAdder primaryNoReplica = new LongAdder();
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder failovers = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+        Duration maxLag, Duration readYourWritesWindow, String lagQuery) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.maxLagMillis = maxLag.toMillis();
+        this.readYourWritesMillis = Math.max(readYourWritesWindow.toMillis(), maxLagMillis);
+        this.lagQuery = lagQuery;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = selectReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = replica.dataSource.getConnection();
+            replicaReads.increment();
+            return connection;
+        } catch (SQLException e) {
+            replica.markDown(e.getMessage());
+            failovers.increment();
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private Replica selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryWrites.increment();
+            recordWriteOnCommit();
+            return null;
+        }
+
+        UUID userId = currentUserId();
+        if (userId != null) {
+            long lastWrite = recentWriters.get(userId);
+            if (lastWrite != UuidLongMap.NO_VALUE && System.currentTimeMillis() - lastWrite < readYourWritesMillis) {
+                primaryRecentWrites.increment();
+                return null;
+            }
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isAvailable(maxLagMillis)) {
+                return replica;
+            }
+        }
+        primaryNoReplica.increment();
+        return null;
+    }
+
+    // 커밋된 쓰기만 기록 ( 롤백된 트랜잭션은 복제본과 차이가 없다 )
+    private void recordWriteOnCommit() {
+        UUID userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof DiscodeitUserDetails userDetails) {
+            return userDetails.getUserDto().id();
+        }
+        return null;
+    }
+
+    /**
+     * 복제본 헬스 / 복제 지연 확인, 지난 read-your-writes 기록 정리
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                long lagMillis = resultSet.next() ? Math.max(0L, resultSet.getLong(1)) : 0L;
+                replica.markUp(lagMillis);
+                if (lagMillis > maxLagMillis) {
+                    log.warn("[Replica] 복제 지연 초과로 제외 : replica = {}, lag = {}ms", replica.name, lagMillis);
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        recentWriters.removeIf((userId, lastWrite) -> now - lastWrite >= readYourWritesMillis);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindRoutingCounter(registry, TARGET_PRIMARY, "write", primaryWrites);
+        bindRoutingCounter(registry, TARGET_PRIMARY, "recent_write", primaryRecentWrites);
+        bindRoutingCounter(registry, TARGET_PRIMARY, "no_replica", primaryNoReplica);
+        bindRoutingCounter(registry, TARGET_PRIMARY, "failover", failovers);
+        bindRoutingCounter(registry, TARGET_REPLICA, "read_only", replicaReads);
+
+        for (Replica replica : replicas) {
+            Gauge.builder("db.replica.available", replica, r -> r.isAvailable(maxLagMillis) ? 1 : 0)
+                .description("복제본 라우팅 대상 여부 ( 헬스 체크 통과 + 지연 허용 범위 )")
+                .tag("replica", replica.name)
+                .register(registry);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagMillis)
+                .description("마지막 헬스 체크 시점의 복제 지연")
+                .tag("replica", replica.name)
+                .baseUnit("milliseconds")
+                .register(registry);
+        }
+    }
+
+    private static void bindRoutingCounter(MeterRegistry registry, String target, String reason, LongAdder count) {
+        FunctionCounter.builder("db.routing", count, LongAdder::sum)
+            .description("커넥션 획득 시 라우팅 결과")
+            .tag("target", target)
+            .tag("reason", reason)
+            .register(registry);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy = true;
+        volatile long lagMillis;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isAvailable(long maxLagMillis) {
+            return healthy && lagMillis <= maxLagMillis;
+        }
+
+        void markUp(long lagMillis) {
+            this.lagMillis = lagMillis;
+            if (!healthy) {
+                healthy = true;
+                log.info("[Replica] 복구 : replica = {}, lag = {}ms", name, lagMillis);
+            }
+        }
+
+        void markDown(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("[Replica] 라우팅 제외 : replica = {}, reason = {}", name, reason);
+            }
+        }
+    }
+}
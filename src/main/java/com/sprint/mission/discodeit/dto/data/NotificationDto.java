@@ -3,11 +3,21 @@ package com.sprint.mission.discodeit.dto.data;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * 알림 DTO
+ * 채널 집계 알림은 channelId 와 누적 메시지 수(count)를 가지며, 개별 알림은 channelId 가 null, count 가 1 이다
+ */
 public record NotificationDto(
     UUID id,
     Instant createdAt,
     UUID receiverId,
     String title,
-    String content
+    String content,
+    UUID channelId,
+    int count
 ) {
+
+    public NotificationDto(UUID id, Instant createdAt, UUID receiverId, String title, String content) {
+        this(id, createdAt, receiverId, title, content, null, 1);
+    }
 }
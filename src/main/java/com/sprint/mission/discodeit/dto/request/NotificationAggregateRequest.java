@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import java.util.UUID;
+
+/**
+ * 채널 집계 알림 upsert 요청 ( 수신자, 채널 당 하나 )
+ * @param increment 이번에 더해질 메시지 수
+ * @param preview 가장 최근 메시지 내용
+ */
+public record NotificationAggregateRequest(
+    UUID receiverId,
+    UUID channelId,
+    String title,
+    String preview,
+    int increment
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import java.util.UUID;
+
+/**
+ * 알림 일괄 생성 요청 한 건 ( NotificationService.createAll )
+ */
+public record NotificationCreateRequest(
+    UUID receiverId,
+    String title,
+    String content
+) {
+
+}
@@ -0,0 +1,46 @@
+package com.sprint.mission.discodeit.dto.request;
+
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.exception.notification.InvalidNotificationCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 알림 keyset 페이지네이션 커서 ( 마지막으로 받은 알림의 createdAt, id )
+ * 클라이언트에는 "createdAt_id" 를 base64url 로 인코딩한 불투명 문자열로 전달한다
+ */
+public record NotificationCursor(
+    Instant createdAt,
+    UUID id
+) {
+
+    private static final String DELIMITER = "_";
+
+    // DB 컬럼은 마이크로초 정밀도이므로 캐시된 DTO 의 나노초는 잘라서 비교한다
+    public static NotificationCursor from(NotificationDto notification) {
+        return new NotificationCursor(
+            notification.createdAt().truncatedTo(ChronoUnit.MICROS), notification.id());
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.indexOf(DELIMITER);
+            return new NotificationCursor(
+                Instant.parse(raw.substring(0, delimiterIndex)),
+                UUID.fromString(raw.substring(delimiterIndex + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new InvalidNotificationCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
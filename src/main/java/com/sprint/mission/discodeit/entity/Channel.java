@@ -1,17 +1,26 @@
 package com.sprint.mission.discodeit.entity;
 
 import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "channels")
+// 삭제된 채널은 메시지 / 첨부파일 / 읽음 상태를 DeletionPurgeService 가 나눠 지우는 동안 조회에서 제외한다
+@SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.CHANNEL)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Channel extends BaseUpdatableEntity {
@@ -23,6 +32,8 @@ public class Channel extends BaseUpdatableEntity {
   private String name;
   @Column(length = 500)
   private String description;
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant deletedAt;
 
   public Channel(ChannelType type, String name, String description) {
     this.type = type;
@@ -38,4 +49,10 @@ public class Channel extends BaseUpdatableEntity {
       this.description = newDescription;
     }
   }
+
+  public void markDeleted() {
+    if (this.deletedAt == null) {
+      this.deletedAt = Instant.now();
+    }
+  }
 }
@@ -0,0 +1,21 @@
+package com.sprint.mission.discodeit.entity;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 리전 이름 ( HibernateCacheConfig 에서 Caffeine JCache 캐시로 미리 만든다 )
+ */
+public final class EntityCacheRegions {
+
+    public static final String USER = "discodeit.entity.user";
+    public static final String CHANNEL = "discodeit.entity.channel";
+    public static final String BINARY_CONTENT = "discodeit.entity.binaryContent";
+
+    // existsByUsername / existsByEmail 쿼리 캐시
+    public static final String USER_EXISTS = "discodeit.query.userExists";
+
+    public static final List<String> ENTITY_REGIONS = List.of(USER, CHANNEL, BINARY_CONTENT);
+
+    private EntityCacheRegions() {
+    }
+}
@@ -23,6 +23,14 @@ public class Notification extends BaseEntity {
     @Column(nullable = false, columnDefinition = "text")
     private String content;
 
+    // 채널 집계 알림에만 채워진다 ( receiver_id, channel_id 당 한 행 )
+    @Column(columnDefinition = "uuid")
+    private UUID channelId;
+
+    // 집계된 메시지 수 ( 개별 알림은 1 )
+    @Column(name = "unread_count", nullable = false)
+    private int count = 1;
+
     public Notification(UUID receiverId, String title, String content) {
         this.receiverId = receiverId;
         this.title = title;
@@ -0,0 +1,83 @@
+package com.sprint.mission.discodeit.entity;
+
+import com.sprint.mission.discodeit.entity.base.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭셔널 아웃박스 레코드
+ * 도메인 변경과 같은 트랜잭션에서 저장되고, OutboxRelay가 Kafka로 발행한 뒤 SENT로 표시한다.
+ */
+@Entity
+@Table(name = "outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(length = 100, nullable = false)
+    private String topic;
+
+    // Kafka 파티션 키 ( channelId / userId )
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(columnDefinition = "text", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(columnDefinition = "timestamp with time zone")
+    private Instant sentAt;
+
+    // relay 가 행을 가져가 ack 를 기다리는 동안 다른 relay 가 다시 가져가지 않도록 잡아 두는 시각
+    @Column(columnDefinition = "timestamp with time zone")
+    private Instant lockedUntil;
+
+    // 발행에 실패한 행을 다시 보내기 전까지 기다리는 시각 ( 지수 백오프 )
+    @Column(columnDefinition = "timestamp with time zone")
+    private Instant nextAttemptAt;
+
+    public OutboxEvent(String topic, String messageKey, String payload) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.status = OutboxStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    public void claim(Instant lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    // 보내지 않고 다음 주기로 넘긴다 ( 시도 횟수는 그대로 )
+    public void release() {
+        this.lockedUntil = null;
+    }
+
+    public void markSent() {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = Instant.now();
+        this.lockedUntil = null;
+    }
+
+    public void markAttemptFailed(int maxAttempts, Instant nextAttemptAt) {
+        this.attempts++;
+        this.lockedUntil = null;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = OutboxStatus.FAILED;
+        }
+    }
+}
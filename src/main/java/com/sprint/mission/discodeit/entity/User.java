@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.entity;
 
 import com.sprint.mission.discodeit.entity.base.BaseUpdatableEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,20 +11,29 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import java.time.Instant;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Table(name = "users")
+// 탈퇴한 사용자는 작성 메시지 / 읽음 상태 정리가 끝나 행이 지워질 때까지 조회되지 않는다
+@SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.USER)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // JPA를 위한 기본 생성자
 public class User extends BaseUpdatableEntity {
 
-  @Column(length = 50, nullable = false, unique = true)
+  // 중복은 탈퇴하지 않은 사용자끼리만 막는다 ( V9 의 deleted_at IS NULL 부분 unique 인덱스 )
+  @Column(length = 50, nullable = false)
   private String username;
 
-  @Column(length = 100, nullable = false, unique = true)
+  @Column(length = 100, nullable = false)
   private String email;
 
   @Column(length = 60, nullable = false)
@@ -37,6 +47,9 @@ public class User extends BaseUpdatableEntity {
   @JoinColumn(name = "profile_id", columnDefinition = "uuid")
   private BinaryContent profile;
 
+  @Column(columnDefinition = "timestamp with time zone")
+  private Instant deletedAt;
+
   public User(String username, String email, String password, BinaryContent profile) {
     this.username = username;
     this.email = email;
@@ -64,4 +77,10 @@ public class User extends BaseUpdatableEntity {
   public void updateRole(Role newRole) {
       this.role = newRole;
   }
+
+  public void markDeleted() {
+    if (this.deletedAt == null) {
+      this.deletedAt = Instant.now();
+    }
+  }
 }
@@ -2,8 +2,6 @@ package com.sprint.mission.discodeit.entity.base;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 import java.time.Instant;
@@ -20,8 +18,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(AuditingEntityListener.class)
 public abstract class BaseEntity {
 
+  // 시간순 UUIDv7 : 새 행이 PK 인덱스 오른쪽 끝에 붙어 랜덤 v4 보다 페이지 분할 / 캐시 미스가 적다
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @TimeOrderedUuid
   @Column(columnDefinition = "uuid", updatable = false, nullable = false)
   private UUID id;
 
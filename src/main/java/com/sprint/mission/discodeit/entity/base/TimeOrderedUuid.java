@@ -0,0 +1,18 @@
+package com.sprint.mission.discodeit.entity.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * INSERT 전에 애플리케이션에서 UUIDv7 id 를 채운다
+ * ( DB 생성 키가 아니므로 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있다 )
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+
+}
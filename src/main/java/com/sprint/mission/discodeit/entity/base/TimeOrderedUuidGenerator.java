@@ -0,0 +1,22 @@
+package com.sprint.mission.discodeit.entity.base;
+
+import com.sprint.mission.discodeit.util.UuidV7;
+import java.util.EnumSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+      EventType eventType) {
+    return UuidV7.randomUuid();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -20,7 +20,7 @@ public class BinaryContentEventListener {
     private final BinaryContentService binaryContentService;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Async("taskExecutor")
+    @Async("binaryContentTaskExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleBinaryContentCreated(BinaryContentCreatedEvent event) {
         log.info("비동기 바이너리 데이터 저장 시작 - 스레드 : {}, ID : {}",
@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.service.MessageService;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ public class DistributedWebSocketEventListener {
     private final SimpMessagingTemplate messagingTemplate;
     private final MessageService messageService;
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
 
     /**
      * 메시지 생성 이벤트를 Kafak로 발행
@@ -29,7 +31,9 @@ public class DistributedWebSocketEventListener {
     public void handleMessageCreateForKafka(MessageCreateEvent event) {
         try {
             // Kafka 토픽으로 이벤트 발행 ( 모든 인스턴스가 받게 )
-            kafkaTemplate.send("message-created", event);
+            // MessageDto를 포함한 JSON으로 직렬화해 수신 인스턴스가 DB를 다시 조회하지 않도록 함
+            String payload = objectMapper.writeValueAsString(event);
+            kafkaTemplate.send("message-created", event.channelId().toString(), payload);
             log.info("Kafka로 메시지 생성 이벤트 발행 : channelId = {}, messageId = {}",
                 event.channelId(), event.messageId());
         } catch (Exception e) {
@@ -41,13 +45,21 @@ public class DistributedWebSocketEventListener {
      * Kafka에서 메시지 생성 이벤트 수신 및 WebSocket 전송
      * */
     @KafkaListener(topics = "message-created")
-    public void handleMessageCreateFromKafka(MessageCreateEvent event) {
+    public void handleMessageCreateFromKafka(String kafkaEvent) {
+        MessageCreateEvent event;
+        try {
+            event = objectMapper.readValue(kafkaEvent, MessageCreateEvent.class);
+        } catch (Exception e) {
+            log.error("Kafka 이벤트 파싱 실패 : error = {}", e.getMessage(), e);
+            return;
+        }
+
         var channelId = event.channelId();
         var messageId = event.messageId();
 
         try {
-            // 메시지 전체 정보를 조회하여 WebSocket으로 전송
-            MessageDto messageDto = messageService.find(messageId);
+            // 이벤트에 실린 DTO를 우선 사용하고, 구버전 페이로드만 조회로 대체
+            MessageDto messageDto = event.hasMessage() ? event.message() : messageService.find(messageId);
 
             // 채널을 구독하고 있는 클라이언트들에게 메시지 전송
             String destination = "/sub/channels." + channelId + ".messages";
@@ -1,14 +1,41 @@
 package com.sprint.mission.discodeit.event;
 
+import com.sprint.mission.discodeit.dto.data.MessageDto;
 import java.util.UUID;
 
+/**
+ * 메시지 생성 이벤트
+ * schemaVersion 2부터 생성 시점에 매핑된 MessageDto를 함께 실어 보내므로
+ * WebSocket fan-out 시 메시지를 다시 조회할 필요가 없다.
+ * ( 버전 1 페이로드는 message가 null 이며, 수신 측에서 조회로 대체한다 )
+ * 버전 1 페이로드에는 schemaVersion 필드 자체가 없으므로, 값이 없으면 1로 본다
+ */
 public record MessageCreateEvent(
     UUID messageId,
     UUID channelId,
     UUID authorId,
     String authorUsername,
     String channelName,
-    String content
+    String content,
+    MessageDto message,
+    Integer schemaVersion
 ) {
 
+    public static final int LEGACY_SCHEMA_VERSION = 1;
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+
+    public MessageCreateEvent {
+        if (schemaVersion == null) {
+            schemaVersion = LEGACY_SCHEMA_VERSION;
+        }
+    }
+
+    public MessageCreateEvent(UUID messageId, UUID channelId, UUID authorId,
+        String authorUsername, String channelName, String content) {
+        this(messageId, channelId, authorId, authorUsername, channelName, content, null, LEGACY_SCHEMA_VERSION);
+    }
+
+    public boolean hasMessage() {
+        return message != null;
+    }
 }
@@ -0,0 +1,146 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import com.sprint.mission.discodeit.dto.request.NotificationCreateRequest;
+import com.sprint.mission.discodeit.service.NotificationService;
+import com.sprint.mission.discodeit.service.SseService;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 생성 이벤트 -> 알림 저장 + SSE 전송 ( 로컬 / Kafka 리스너 공용 )
+ * - 개별 모드 : 메시지 한 건당 구독자별 알림 한 건, 메시지당 SSE 전송 한 번
+ * - 채널 집계 모드 ( app.notification.aggregate-by-channel=true ) :
+ *   ( 수신자, 채널 ) 당 aggregate-window 동안 알림 한 행에 메시지 수와 최신 미리보기만 갱신하고,
+ *   바뀐 집계 알림만 채널당 SSE 전송 한 번으로 내보낸다 ( 새 집계 notifications.new / 갱신 notifications.updated )
+ * SSE 전송 실패는 로그만 남기고 삼킨다 ( 알림은 이미 커밋되었으므로, 예외로 재시도되면 알림이 중복 저장된다 )
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageNotificationDispatcher {
+
+    public static final String EVENT_NEW = "notifications.new";
+    public static final String EVENT_UPDATED = "notifications.updated";
+
+    private final NotificationService notificationService;
+    private final SseService sseService;
+
+    @Value("${app.notification.aggregate-by-channel:false}")
+    private boolean aggregateByChannel;
+
+    /**
+     * @param events 처리할 메시지 이벤트 ( 발생 순서 )
+     * @param subscribersByChannel 채널별 알림 활성화 구독자 ID
+     * @return 저장되거나 갱신된 알림 수
+     */
+    public int dispatch(List<MessageCreateEvent> events, Map<UUID, List<UUID>> subscribersByChannel) {
+        return aggregateByChannel
+            ? dispatchAggregated(events, subscribersByChannel)
+            : dispatchIndividually(events, subscribersByChannel);
+    }
+
+    private int dispatchIndividually(List<MessageCreateEvent> events, Map<UUID, List<UUID>> subscribersByChannel) {
+        // 메시지별 알림 생성 요청 목록 ( 입력 순서 유지, 작성자 본인은 제외 )
+        List<List<NotificationCreateRequest>> requestsByEvent = new ArrayList<>(events.size());
+        for (MessageCreateEvent event : events) {
+            String title = title(event);
+            List<NotificationCreateRequest> requests = new ArrayList<>();
+            for (UUID subscriberId : subscribersByChannel.getOrDefault(event.channelId(), List.of())) {
+                if (!subscriberId.equals(event.authorId())) {
+                    requests.add(new NotificationCreateRequest(subscriberId, title, event.content()));
+                }
+            }
+            requestsByEvent.add(requests);
+        }
+
+        List<NotificationCreateRequest> allRequests = requestsByEvent.stream()
+            .flatMap(List::stream)
+            .toList();
+        if (allRequests.isEmpty()) {
+            return 0;
+        }
+        List<NotificationDto> notifications = notificationService.createAll(allRequests);
+
+        // createAll 은 요청 순서를 유지하므로 메시지별로 잘라 메시지당 SSE 전송 한 번
+        int offset = 0;
+        for (List<NotificationCreateRequest> requests : requestsByEvent) {
+            if (requests.isEmpty()) {
+                continue;
+            }
+            Map<UUID, NotificationDto> notificationByReceiver = new LinkedHashMap<>();
+            notifications.subList(offset, offset + requests.size())
+                .forEach(notification -> notificationByReceiver.put(notification.receiverId(), notification));
+            sendEach(EVENT_NEW, notificationByReceiver);
+            offset += requests.size();
+        }
+        return notifications.size();
+    }
+
+    private int dispatchAggregated(List<MessageCreateEvent> events, Map<UUID, List<UUID>> subscribersByChannel) {
+        // 채널 -> ( 수신자 -> 요청 ) : 같은 채널의 연속 메시지는 증가분만 더하고 미리보기는 마지막 메시지로 덮는다
+        Map<UUID, Map<UUID, NotificationAggregateRequest>> requestsByChannel = new LinkedHashMap<>();
+        for (MessageCreateEvent event : events) {
+            String title = title(event);
+            Map<UUID, NotificationAggregateRequest> requestByReceiver = requestsByChannel
+                .computeIfAbsent(event.channelId(), id -> new LinkedHashMap<>());
+            for (UUID subscriberId : subscribersByChannel.getOrDefault(event.channelId(), List.of())) {
+                if (subscriberId.equals(event.authorId())) {
+                    continue;
+                }
+                NotificationAggregateRequest previous = requestByReceiver.get(subscriberId);
+                int increment = previous == null ? 1 : previous.increment() + 1;
+                requestByReceiver.put(subscriberId, new NotificationAggregateRequest(
+                    subscriberId, event.channelId(), title, event.content(), increment));
+            }
+        }
+
+        List<NotificationAggregateRequest> requests = requestsByChannel.values().stream()
+            .flatMap(requestByReceiver -> requestByReceiver.values().stream())
+            .toList();
+        if (requests.isEmpty()) {
+            return 0;
+        }
+        List<NotificationDto> aggregates = notificationService.aggregateAll(requests);
+
+        // 채널별로 새 집계 / 갱신된 집계를 나눠 SSE 전송
+        Map<UUID, Map<UUID, NotificationDto>> createdByChannel = new LinkedHashMap<>();
+        Map<UUID, Map<UUID, NotificationDto>> updatedByChannel = new LinkedHashMap<>();
+        for (NotificationDto aggregate : aggregates) {
+            NotificationAggregateRequest request = requestsByChannel
+                .getOrDefault(aggregate.channelId(), Map.of())
+                .get(aggregate.receiverId());
+            boolean created = request != null && aggregate.count() == request.increment();
+            (created ? createdByChannel : updatedByChannel)
+                .computeIfAbsent(aggregate.channelId(), id -> new LinkedHashMap<>())
+                .put(aggregate.receiverId(), aggregate);
+        }
+        createdByChannel.values().forEach(byReceiver -> sendEach(EVENT_NEW, byReceiver));
+        updatedByChannel.values().forEach(byReceiver -> sendEach(EVENT_UPDATED, byReceiver));
+
+        log.info("[채널 집계 알림 전송] 메시지 수: {}, 집계 알림 수: {}", events.size(), aggregates.size());
+        return aggregates.size();
+    }
+
+    // 접속 중인 사용자는 다음 목록 조회에서 알림을 받는다
+    private void sendEach(String eventName, Map<UUID, NotificationDto> notificationByReceiver) {
+        try {
+            sseService.sendEach(eventName, notificationByReceiver);
+        } catch (RuntimeException e) {
+            log.warn("[알림 SSE 전송 실패] 이벤트: {}, 수신자 수: {}, error: {}",
+                eventName, notificationByReceiver.size(), e.getMessage());
+        }
+    }
+
+    private static String title(MessageCreateEvent event) {
+        return event.channelName() + " 채널에 새 메시지가 도착했습니다.";
+    }
+}
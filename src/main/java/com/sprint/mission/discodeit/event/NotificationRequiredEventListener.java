@@ -1,11 +1,12 @@
 package com.sprint.mission.discodeit.event;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
-import com.sprint.mission.discodeit.mapper.NotificationMapper;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.service.NotificationService;
 import com.sprint.mission.discodeit.service.SseService;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,6 +25,7 @@ public class NotificationRequiredEventListener {
     private final NotificationService notificationService;
     private final ReadStatusRepository readStatusRepository;
     private final SseService sseService;
+    private final MessageNotificationDispatcher messageNotificationDispatcher;
 
     @Value("${server.instance-id:default}")
     private String instanceId;
@@ -35,31 +37,18 @@ public class NotificationRequiredEventListener {
         log.info("[Local Event] 메시지 생성 이벤트 처리 시작 - 인스턴스: {}, 메시지 ID: {}", instanceId, event.messageId());
 
         try {
-            // 알림 활성화된 사용자들 조회
-            var notificationEnabledStatuses = readStatusRepository
-                .findAllByChannelIdAndNotificationEnabledTrue(event.channelId());
+            // 알림 활성화된 사용자들 조회 ( 메시지 작성자 제외는 dispatcher 에서 처리 )
+            List<UUID> subscriberIds = readStatusRepository
+                .findAllByChannelIdAndNotificationEnabledTrue(event.channelId()).stream()
+                .map(readStatus -> readStatus.getUser().getId())
+                .toList();
 
-            for (var readStatus : notificationEnabledStatuses) {
-                // 메시지 작성자는 자기에게 알림 보내지 않음
-                if (!readStatus.getUser().getId().equals(event.authorId())) {
-                    // 1. 알림 생성
-                    NotificationDto notification = notificationService.create(
-                        readStatus.getUser().getId(),
-                        event.channelName() + " 채널에 새 메시지가 도착했습니다.",
-                        event.content()
-                    );
+            // 알림 저장 ( 개별 또는 채널 집계 ) + SSE 전송
+            int notificationCount = messageNotificationDispatcher.dispatch(
+                List.of(event), Map.of(event.channelId(), subscriberIds));
 
-                    // 2. SSE 전송 ( 같은 인스턴스에서 바로 처리 )
-                    sseService.send(
-                        List.of(readStatus.getUser().getId()),
-                        "notifications.new",
-                        notification
-                    );
-
-                    log.info("[새 메시지 알림 완료] 수신자: {}, 인스턴스: {}, 알림ID: {}",
-                        readStatus.getUser().getId(), instanceId, notification.id());
-                }
-            }
+            log.info("[새 메시지 알림 완료] 메시지 ID: {}, 알림 수: {}, 인스턴스: {}",
+                event.messageId(), notificationCount, instanceId);
         } catch (Exception e) {
             log.error("[메시지 생성 이벤트 처리 실패] 인스턴스: {}, 메시지 ID: {}",
                 instanceId, event.messageId(), e);
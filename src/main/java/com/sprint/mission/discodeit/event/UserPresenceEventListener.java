@@ -0,0 +1,51 @@
+package com.sprint.mission.discodeit.event;
+
+import com.sprint.mission.discodeit.event.message.UserLogInOutEvent;
+import com.sprint.mission.discodeit.event.message.UserPresenceChangedEvent;
+import com.sprint.mission.discodeit.service.SseService;
+import com.sprint.mission.discodeit.service.UserSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접속 상태 변경을 SSE 로 알리고, online 값이 담긴 사용자 목록 캐시를 비운다
+ * 로그아웃( 모든 토큰 무효화 )은 만료를 기다리지 않고 바로 오프라인으로 반영한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPresenceEventListener {
+
+    public static final String EVENT_ONLINE = "users.online";
+    public static final String EVENT_OFFLINE = "users.offline";
+
+    private final SseService sseService;
+    private final CacheManager cacheManager;
+    private final UserSessionService userSessionService;
+
+    @EventListener
+    public void on(UserLogInOutEvent event) {
+        if (!event.isLoggedIn()) {
+            userSessionService.markUserOffline(event.userId());
+        }
+    }
+
+    @EventListener
+    public void on(UserPresenceChangedEvent event) {
+        Cache users = cacheManager.getCache("users");
+        if (users != null) {
+            users.clear();
+        }
+
+        try {
+            sseService.broadcast(event.online() ? EVENT_ONLINE : EVENT_OFFLINE, event);
+            log.debug("[SSE] 접속 상태 변경 전송: userId = {}, online = {}", event.userId(), event.online());
+        } catch (Exception e) {
+            log.error("[SSE] 접속 상태 변경 전송 실패: userId = {}, error = {}", event.userId(), e.getMessage());
+        }
+    }
+}
@@ -25,8 +25,8 @@ public class WebSocketRequiredEventListener {
         var messageId = event.messageId();
 
         try {
-            // 메시지 전체 정보를 조회하여 WebSocket으로 전송
-            MessageDto messageDto = messageService.find(messageId);
+            // 이벤트에 실린 DTO를 우선 사용하고, 구버전 이벤트만 조회로 대체
+            MessageDto messageDto = event.hasMessage() ? event.message() : messageService.find(messageId);
 
             // 채널을 구독하고 있는 클라이언트들에게 메시지 전송
             String destination = "/sub/channels." + channelId + ".messages";
@@ -3,17 +3,27 @@ package com.sprint.mission.discodeit.event.kafka;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
 import com.sprint.mission.discodeit.event.MessageCreateEvent;
+import com.sprint.mission.discodeit.event.MessageNotificationDispatcher;
 import com.sprint.mission.discodeit.event.RoleUpdatedEvent;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.service.NotificationService;
 import com.sprint.mission.discodeit.service.SseService;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +36,7 @@ public class KafkaNotificationEventListener {
     private final NotificationService notificationService;
     private final ReadStatusRepository readStatusRepository;
     private final SseService sseService;
+    private final MessageNotificationDispatcher messageNotificationDispatcher;
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, Object> redisTemplate;
 
@@ -34,15 +45,17 @@ public class KafkaNotificationEventListener {
 
     private static final Duration DEDUP_TTL = Duration.ofMinutes(10);
 
+    // app.kafka.notification.batch-enabled=false 일 때만 동작하는 레코드 단위 리스너
     @KafkaListener(
         topics = "discodeit.MessageCreateEvent",
-        groupId = "notification-group"
+        groupId = "notification-group",
+        autoStartup = "#{!${app.kafka.notification.batch-enabled:true}}"
     )
     public void handleMessageCreateEvent(String kafkaEvent) {
         try {
             MessageCreateEvent event = objectMapper.readValue(kafkaEvent, MessageCreateEvent.class);
 
-            String dedupKey = "notif:message:" + event.messageId();
+            String dedupKey = messageDedupKey(event.messageId());
             Boolean first = redisTemplate.opsForValue()
                 .setIfAbsent(dedupKey, "1", DEDUP_TTL);
             if (!Boolean.TRUE.equals(first)) {
@@ -52,32 +65,108 @@ public class KafkaNotificationEventListener {
             log.info("[Kafka Consumer] 메시지 알림 이벤트 수신 - 인스턴스: {}, 메시지 ID: {}",
                 instanceId, event.messageId());
 
-            var notificationEnabledStatuses = readStatusRepository
-                .findAllByChannelIdAndNotificationEnabledTrue(event.channelId());
-
-            for (var readStatus : notificationEnabledStatuses) {
-                if (!readStatus.getUser().getId().equals(event.authorId())) {
-                    NotificationDto notification = notificationService.create(
-                        readStatus.getUser().getId(),
-                        event.channelName() + " 채널에 새 메시지가 도착했습니다.",
-                        event.content()
-                    );
-
-                    sseService.send(
-                        List.of(readStatus.getUser().getId()),
-                        "notifications.new",
-                        notification
-                    );
-
-                    log.info("[Kafka Consumer] 메시지 알림 완료 - 수신자 {}, 인스턴스: {}, 알림ID: {}",
-                        readStatus.getUser().getId(), instanceId, notification.id());
-                }
-            }
+            int notificationCount = messageNotificationDispatcher.dispatch(
+                List.of(event), subscribersByChannel(List.of(event)));
+
+            log.info("[Kafka Consumer] 메시지 알림 완료 - 메시지 ID: {}, 인스턴스: {}, 알림 수: {}",
+                event.messageId(), instanceId, notificationCount);
         } catch (Exception e) {
             log.error("[Kafka Consumer] 메시지 이벤트 처리 실패 - 인스턴스: {}", instanceId, e);
         }
     }
 
+    /**
+     * poll 단위 배치 처리
+     * 1. 중복 제거 : 배치 전체의 SET NX 를 파이프라인 한 번으로 수행
+     * 2. 구독자 조회 : 배치에 포함된 채널들의 구독자를 쿼리 한 번으로 조회
+     * 3. 알림 저장 : MessageNotificationDispatcher 로 한 트랜잭션 / JDBC 배치 ( 개별 insert 또는 채널 집계 upsert )
+     * 저장이 실패하면 선점한 중복 제거 키를 풀고 예외를 던져 컨테이너가 배치를 재시도하게 한다
+     * ( dispatch 는 저장 트랜잭션이 실패할 때만 예외를 던진다. 커밋 이후의 SSE 전송 실패는 dispatcher 가 삼키므로
+     *   재시도로 같은 알림이 다시 저장되지 않는다 )
+     */
+    @KafkaListener(
+        topics = "discodeit.MessageCreateEvent",
+        groupId = "notification-group",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        autoStartup = "${app.kafka.notification.batch-enabled:true}"
+    )
+    public void handleMessageCreateEvents(List<String> kafkaEvents) {
+        List<MessageCreateEvent> events = new ArrayList<>(kafkaEvents.size());
+        for (String kafkaEvent : kafkaEvents) {
+            try {
+                events.add(objectMapper.readValue(kafkaEvent, MessageCreateEvent.class));
+            } catch (Exception e) {
+                log.error("[Kafka Consumer] 메시지 이벤트 역직렬화 실패 - 인스턴스: {}", instanceId, e);
+            }
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<MessageCreateEvent> firstSeen = claimDedupKeys(events);
+        if (firstSeen.isEmpty()) {
+            return;
+        }
+
+        log.info("[Kafka Consumer] 메시지 알림 배치 수신 - 인스턴스: {}, 레코드: {}, 처리 대상: {}",
+            instanceId, kafkaEvents.size(), firstSeen.size());
+
+        int notificationCount;
+        try {
+            notificationCount = messageNotificationDispatcher.dispatch(firstSeen, subscribersByChannel(firstSeen));
+        } catch (RuntimeException e) {
+            redisTemplate.delete(firstSeen.stream()
+                .map(event -> messageDedupKey(event.messageId()))
+                .toList());
+            throw e;
+        }
+
+        log.info("[Kafka Consumer] 메시지 알림 배치 완료 - 인스턴스: {}, 알림 수: {}",
+            instanceId, notificationCount);
+    }
+
+    private List<MessageCreateEvent> claimDedupKeys(List<MessageCreateEvent> events) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] marker = serializer.serialize("1");
+        Expiration ttl = Expiration.from(DEDUP_TTL);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (MessageCreateEvent event : events) {
+                connection.stringCommands().set(
+                    serializer.serialize(messageDedupKey(event.messageId())),
+                    marker, ttl, SetOption.ifAbsent());
+            }
+            return null;
+        });
+
+        // 결과는 명령 순서대로 돌아온다 ( 배치 안의 중복 메시지는 두 번째부터 false )
+        List<MessageCreateEvent> claimed = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                claimed.add(events.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    // 배치에 포함된 채널들의 알림 활성화 구독자를 쿼리 한 번으로 조회
+    private Map<UUID, List<UUID>> subscribersByChannel(List<MessageCreateEvent> events) {
+        Set<UUID> channelIds = events.stream()
+            .map(MessageCreateEvent::channelId)
+            .collect(Collectors.toSet());
+
+        return readStatusRepository
+            .findAllByChannelIdInAndNotificationEnabledTrue(channelIds).stream()
+            .collect(Collectors.groupingBy(
+                readStatus -> readStatus.getChannel().getId(),
+                Collectors.mapping(readStatus -> readStatus.getUser().getId(), Collectors.toList())
+            ));
+    }
+
+    private static String messageDedupKey(UUID messageId) {
+        return "notif:message:" + messageId;
+    }
+
     @KafkaListener(
         topics = "discodeit.RoleUpdatedEvent",
         groupId = "role-notification-group"
@@ -1,89 +1,114 @@
 package com.sprint.mission.discodeit.event.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sprint.mission.discodeit.event.MessageCreateEvent;
-import com.sprint.mission.discodeit.event.RoleUpdatedEvent;
+import com.sprint.mission.discodeit.config.SpillableTask;
+import com.sprint.mission.discodeit.entity.OutboxEvent;
 import com.sprint.mission.discodeit.event.S3UploadFailedEvent;
 import com.sprint.mission.discodeit.event.message.UserLogInOutEvent;
-import lombok.RequiredArgsConstructor;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 트랜잭션과 무관한 이벤트를 Kafka로 바로 발행
+ * MessageCreateEvent / RoleUpdatedEvent는 유실 방지를 위해 outbox ( OutboxEventRecorder → OutboxRelay ) 경유
+ * 발행은 eventTaskExecutor 에서 하고, 큐가 가득 차면 버리지 않고 outbox 에 남겨 OutboxRelay 가 이어서 발행한다
+ * 전송 결과 ( ack ) 가 실패로 끝나도 outbox 에 남긴다
+ * - 저장은 프로듀서 I/O 스레드가 아닌 outboxFallbackTaskExecutor 에서 한다
+ *   ( eventTaskExecutor 는 큐가 차면 제출한 스레드에서 실행하거나 거절하므로 쓰지 않는다 )
+ */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 @ConditionalOnProperty(name = "app.messaging.type", havingValue = "kafka")
 public class KafkaProduceRequiredEventListener {
 
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final TaskExecutor eventTaskExecutor;
+    private final TaskExecutor outboxFallbackTaskExecutor;
+    private final OutboxEventRepository outboxEventRepository;
 
-    @Async("eventTaskExecutor")
-    @TransactionalEventListener
-    public void on(MessageCreateEvent event) {
-        try {
-            log.info("[Kafka Producer]Kafka로 메시지 생성 이벤트 발급 - 스레드 : {}, 채널 {}", Thread.currentThread().getName(), event.channelId());
+    public KafkaProduceRequiredEventListener(KafkaTemplate<String, String> kafkaTemplate,
+        ObjectMapper objectMapper,
+        @Qualifier("eventTaskExecutor") TaskExecutor eventTaskExecutor,
+        @Qualifier("outboxFallbackTaskExecutor") TaskExecutor outboxFallbackTaskExecutor,
+        OutboxEventRepository outboxEventRepository) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.eventTaskExecutor = eventTaskExecutor;
+        this.outboxFallbackTaskExecutor = outboxFallbackTaskExecutor;
+        this.outboxEventRepository = outboxEventRepository;
+    }
 
+    @EventListener
+    public void on(S3UploadFailedEvent event) {
+        try {
             String payload = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send("discodeit.MessageCreateEvent", payload);
-
-            log.info("[Kafka Producer]Kafka로 메시지 생성 이벤트 발급 완료 - 채널 : {}", event.channelId());
+            produce("discodeit.S3UploadFailedEvent", event.binaryContentId().toString(), payload, () ->
+                log.info("Kafka로 S3 업로드 실패 이벤트 발급 - 스레드 : {}", Thread.currentThread().getName()));
         } catch (Exception e) {
-            log.error("[Kafka Producer]Kafka 메시지 생성 이벤트 발급 실패 - 채널 : {}, error : {}",
-                event.channelId(), e.getMessage());
+            log.error("Kafka S3 업로드 실패 이벤트 발급 실패 - error : {}", e.getMessage());
         }
     }
 
-    @Async("eventTaskExecutor")
-    @TransactionalEventListener
-    public void on(RoleUpdatedEvent event) {
+    @EventListener
+    public void on(UserLogInOutEvent event) {
         try {
-            log.info("Kafka로 권한 변경 이벤트 발급 - 스레드 : {}, 사용자 : {} ", Thread.currentThread().getName(), event.userId());
-
             String payload = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send("discodeit.RoleUpdatedEvent", payload);
-
-            log.info("Kafka로 권한 변경 이벤트 발급 완료 - 사용자 : {}", event.userId());
+            produce("discodeit.UserLogInOutEvent", event.userId().toString(), payload, () ->
+                log.info("[Kafka Producer] 사용자 로그인/로그아웃 이벤트 발급 - 스레드: {}, 사용자: {}, 로그인: {}",
+                    Thread.currentThread().getName(), event.userId(), event.isLoggedIn()));
         } catch (Exception e) {
-            log.error("Kafka 권한 변경 이벤트 발급 실패 - 사용자 : {}, error : {}",
+            log.error("[Kafka Producer] 사용자 로그인/로그아웃 이벤트 발급 실패 - 사용자: {}, error: {}",
                 event.userId(), e.getMessage());
         }
     }
 
-    @Async("eventTaskExecutor")
-    @EventListener
-    public void on(S3UploadFailedEvent event) {
-        try {
-            log.info("Kafka로 S3 업르도 실패 이벤트 발급 - 스레드 : {}", Thread.currentThread().getName());
-
-            String payload = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send("discodeit.S3UploadFailedEvent", payload);
+    private void produce(String topic, String key, String payload, Runnable beforeSend) {
+        eventTaskExecutor.execute(SpillableTask.of(() -> {
+            try {
+                beforeSend.run();
+                kafkaTemplate.send(topic, key, payload).whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.info("[Kafka Producer] 이벤트 발급 완료 - 토픽 : {}, 키 : {}", topic, key);
+                        return;
+                    }
+                    log.warn("[Kafka Producer] 이벤트 발급 실패, outbox 에 기록 - 토픽 : {}, 키 : {}, error : {}",
+                        topic, key, ex.getMessage());
+                    saveToOutboxLater(topic, key, payload);
+                });
+            } catch (Exception e) {
+                log.warn("[Kafka Producer] 이벤트 발급 실패, outbox 에 기록 - 토픽 : {}, 키 : {}, error : {}",
+                    topic, key, e.getMessage());
+                saveToOutbox(topic, key, payload);
+            }
+        }, () -> {
+            saveToOutbox(topic, key, payload);
+            log.info("[Kafka Producer] 발행 큐 포화로 outbox 에 기록 - 토픽 : {}, 키 : {}", topic, key);
+        }));
+    }
 
-            log.info("Kafka로 S3 업로드 실패 이벤트 발급 완료");
-        } catch (Exception e) {
-            log.error("Kafka S3 업로드 실패 이벤트 발급 실패 - error : {}", e.getMessage());
+    private void saveToOutboxLater(String topic, String key, String payload) {
+        try {
+            outboxFallbackTaskExecutor.execute(() -> saveToOutbox(topic, key, payload));
+        } catch (RejectedExecutionException e) {
+            // 큐 상한이 없으므로 종료 중일 때만 온다 - 버리지 않고 이 스레드에서 기록한다
+            saveToOutbox(topic, key, payload);
         }
     }
 
-    @Async("eventTaskExecutor")
-    @EventListener
-    public void on(UserLogInOutEvent event) {
+    private void saveToOutbox(String topic, String key, String payload) {
         try {
-            log.info("[Kafka Producer] 사용자 로그인/로그아웃 이벤트 발급 - 스레드: {}, 사용자: {}, 로그인: {}",
-                Thread.currentThread().getName(), event.userId(), event.isLoggedIn());
-
-            String payload = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send("discodeit.UserLogInOutEvent", payload);
-
-            log.info("[Kafka Producer] 사용자 로그인/로그아웃 이벤트 발급 완료 - 사용자: {}", event.userId());
+            outboxEventRepository.save(new OutboxEvent(topic, key, payload));
         } catch (Exception e) {
-            log.error("[Kafka Producer] 사용자 로그인/로그아웃 이벤트 발급 실패 - 사용자: {}, error: {}",
-                event.userId(), e.getMessage());
+            log.error("[Kafka Producer] outbox 기록 실패, 이벤트 유실 - 토픽 : {}, 키 : {}, error : {}",
+                topic, key, e.getMessage());
         }
     }
 }
@@ -0,0 +1,24 @@
+package com.sprint.mission.discodeit.event.message;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 클러스터 기준 사용자 접속 상태 변경 이벤트
+ * 변경을 감지한 노드 하나에서만 발행된다 ( Redis 모드 : ZADD 로 새로 추가 / ZREM 으로 제거한 노드 )
+ * @param lastActiveAt 마지막 활동 시각 ( 오프라인 전환 시 만료 기준이 된 시각, 명시적 오프라인이면 null )
+ */
+public record UserPresenceChangedEvent(
+    UUID userId,
+    boolean online,
+    Instant lastActiveAt
+) {
+
+    public static UserPresenceChangedEvent online(UUID userId, Instant lastActiveAt) {
+        return new UserPresenceChangedEvent(userId, true, lastActiveAt);
+    }
+
+    public static UserPresenceChangedEvent offline(UUID userId, Instant lastActiveAt) {
+        return new UserPresenceChangedEvent(userId, false, lastActiveAt);
+    }
+}
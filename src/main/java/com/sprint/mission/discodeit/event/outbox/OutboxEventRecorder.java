@@ -0,0 +1,54 @@
+package com.sprint.mission.discodeit.event.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.entity.OutboxEvent;
+import com.sprint.mission.discodeit.event.MessageCreateEvent;
+import com.sprint.mission.discodeit.event.RoleUpdatedEvent;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트를 커밋 직전에 outbox 테이블에 기록
+ * Message/User 변경과 같은 트랜잭션으로 묶이므로, 커밋되면 이벤트도 반드시 남는다.
+ * 실제 Kafka 발행은 OutboxRelay가 담당한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "app.messaging.type", havingValue = "kafka")
+public class OutboxEventRecorder {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(MessageCreateEvent event) {
+        // 같은 채널의 이벤트는 같은 파티션으로 ( 채널 내 순서 보장 )
+        record("discodeit.MessageCreateEvent", event.channelId().toString(), event);
+        log.debug("[Outbox] 메시지 생성 이벤트 기록 - 채널 : {}, 메시지 : {}", event.channelId(), event.messageId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void on(RoleUpdatedEvent event) {
+        record("discodeit.RoleUpdatedEvent", event.userId().toString(), event);
+        log.debug("[Outbox] 권한 변경 이벤트 기록 - 사용자 : {}", event.userId());
+    }
+
+    private void record(String topic, String key, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            // 이벤트를 남기지 못하면 도메인 변경도 롤백되어야 함
+            log.error("[Outbox] 이벤트 직렬화 실패 - 토픽 : {}, error : {}", topic, e.getMessage());
+            throw new IllegalStateException("outbox 이벤트 직렬화 실패 : " + topic, e);
+        }
+        outboxEventRepository.save(new OutboxEvent(topic, key, payload));
+    }
+}
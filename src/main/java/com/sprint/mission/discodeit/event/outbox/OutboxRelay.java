@@ -0,0 +1,224 @@
+package com.sprint.mission.discodeit.event.outbox;
+
+import com.sprint.mission.discodeit.entity.OutboxEvent;
+import com.sprint.mission.discodeit.entity.OutboxStatus;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository.PendingKeyHead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * outbox 테이블을 주기적으로 폴링해 Kafka로 발행하는 릴레이
+ * 짧은 트랜잭션으로 배치를 가져가 lockedUntil 을 잡아 두고, 트랜잭션 밖에서 전송 / ack 를 기다린 뒤
+ * 다시 짧은 트랜잭션으로 결과를 표시한다 ( ack 를 기다리는 동안 DB 행 잠금을 잡지 않는다 )
+ * 실패한 행은 PENDING으로 남아 지수 백오프 뒤에 재시도된다 ( at-least-once, 소비 측은 Redis 중복 제거 )
+ * max-attempts 를 넘기면 FAILED ( dead letter ) 로 표시하고 outbox.dead.letter 카운터 / 에러 로그로 알린다
+ * 키별 순서
+ * - 같은 messageKey 의 앞선 PENDING 행이 가져간 배치 밖에 있으면 ( 다른 relay 가 보내는 중 / 백오프 중 ) 뒤 행은 가져가지 않는다
+ *   ( 노드 / 배치가 달라도 앞선 행이 SENT 또는 FAILED 가 되기 전에는 뒤 행이 먼저 나가지 않는다 )
+ * - 한 배치 안에서는 멱등 프로듀서의 파티션별 순서에 맡긴다 ( 앞 행이 실패하면 같은 파티션의 뒤 전송도 실패한다 )
+ *   그래도 ack 를 받은 행은 이미 Kafka 에 있으므로 SENT 로 표시한다 ( 다시 보내면 중복 전달된다 )
+ * - FAILED 행은 더 이상 키를 막지 않는다 ( 한 행 때문에 채널 전체 발행이 멈추지 않도록, dead letter 로 따로 처리 )
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.messaging.type", havingValue = "kafka")
+public class OutboxRelay {
+
+    public static final String DEAD_LETTER = "outbox.dead.letter";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    // 가져간 행을 다른 relay 가 다시 가져가지 못하게 막는 시간 ( send-timeout-ms 보다 길어야 한다 )
+    @Value("${app.outbox.lease-ms:30000}")
+    private long leaseMs;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    // 재시도 간격 : backoff-initial-ms × 2^(시도 횟수 - 1), 최대 backoff-max-ms
+    @Value("${app.outbox.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${app.outbox.backoff-max-ms:60000}")
+    private long backoffMaxMs;
+
+    @Value("${app.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+        KafkaTemplate<String, String> kafkaTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:500}")
+    public void relay() {
+        List<OutboxEvent> batch = claimBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 배치 전체를 먼저 전송해 프로듀서 배칭(linger/batch.size)을 활용
+        List<CompletableFuture<SendResult<String, String>>> futures = batch.stream()
+            .map(event -> kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()))
+            .toList();
+
+        Map<UUID, Outcome> outcomes = awaitAcks(batch, futures);
+        transactionTemplate.executeWithoutResult(status -> applyOutcomes(outcomes));
+
+        long sent = outcomes.values().stream().filter(outcome -> outcome == Outcome.SENT).count();
+        long failed = outcomes.values().stream().filter(outcome -> outcome == Outcome.FAILED).count();
+        log.info("[Outbox Relay] 배치 발행 완료 - 대상 : {}, 성공 : {}, 실패 : {}, 보류 : {}",
+            batch.size(), sent, failed, batch.size() - sent - failed);
+    }
+
+    // SKIP LOCKED 행 잠금은 이 트랜잭션 동안만 잡는다
+    private List<OutboxEvent> claimBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxEvent> claimed = withoutBlockedKeys(outboxEventRepository.findBatchForRelay(
+                OutboxStatus.PENDING, now, PageRequest.of(0, batchSize)));
+            Instant lockedUntil = now.plusMillis(leaseMs);
+            claimed.forEach(event -> event.claim(lockedUntil));
+            return claimed;
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    // 배치 밖에 더 오래된 같은 키 PENDING 행이 있으면 그 키의 ( 그보다 뒤의 ) 행은 이번에 가져가지 않는다
+    private List<OutboxEvent> withoutBlockedKeys(List<OutboxEvent> candidates) {
+        Set<String> keys = candidates.stream()
+            .map(OutboxEvent::getMessageKey)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+            return candidates;
+        }
+
+        Set<UUID> candidateIds = candidates.stream().map(OutboxEvent::getId).collect(Collectors.toSet());
+        Map<String, Instant> blockedFrom = outboxEventRepository.findPendingKeyHeads(keys, candidateIds).stream()
+            .collect(Collectors.toMap(PendingKeyHead::getMessageKey, PendingKeyHead::getCreatedAt));
+        if (blockedFrom.isEmpty()) {
+            return candidates;
+        }
+
+        return candidates.stream()
+            .filter(event -> {
+                Instant head = event.getMessageKey() == null ? null : blockedFrom.get(event.getMessageKey());
+                return head == null || event.getCreatedAt().isBefore(head);
+            })
+            .toList();
+    }
+
+    private Map<UUID, Outcome> awaitAcks(List<OutboxEvent> batch,
+        List<CompletableFuture<SendResult<String, String>>> futures) {
+        Map<UUID, Outcome> outcomes = new LinkedHashMap<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            if (Thread.currentThread().isInterrupted()) {
+                // 남은 행은 PENDING으로 두고 다음 주기에 재전송
+                outcomes.put(event.getId(), Outcome.RELEASED);
+                continue;
+            }
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                outcomes.put(event.getId(), Outcome.SENT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcomes.put(event.getId(), Outcome.RELEASED);
+            } catch (ExecutionException | TimeoutException e) {
+                outcomes.put(event.getId(), Outcome.FAILED);
+                log.warn("[Outbox Relay] 발행 실패 - ID : {}, 토픽 : {}, 시도 : {}, error : {}",
+                    event.getId(), event.getTopic(), event.getAttempts() + 1, e.getMessage());
+            }
+        }
+        return outcomes;
+    }
+
+    private void applyOutcomes(Map<UUID, Outcome> outcomes) {
+        Instant now = Instant.now();
+        for (OutboxEvent event : outboxEventRepository.findAllById(outcomes.keySet())) {
+            switch (outcomes.get(event.getId())) {
+                case SENT -> event.markSent();
+                case FAILED -> {
+                    event.markAttemptFailed(maxAttempts, now.plusMillis(backoffMillis(event.getAttempts() + 1)));
+                    if (event.getStatus() == OutboxStatus.FAILED) {
+                        deadLetter(event);
+                    }
+                }
+                case RELEASED -> event.release();
+            }
+        }
+    }
+
+    private long backoffMillis(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        return Math.min(backoffMaxMs, backoffInitialMs << exponent);
+    }
+
+    private void deadLetter(OutboxEvent event) {
+        Counter.builder(DEAD_LETTER)
+            .description("최대 시도 횟수를 넘겨 발행을 포기한 outbox 행 수")
+            .tag("topic", event.getTopic())
+            .register(meterRegistry)
+            .increment();
+        log.error("[Outbox Relay] 최대 시도 횟수 초과로 발행 포기 ( dead letter ) - ID : {}, 토픽 : {}, 키 : {}, 시도 : {}",
+            event.getId(), event.getTopic(), event.getMessageKey(), event.getAttempts());
+    }
+
+    private enum Outcome {
+        SENT,
+        FAILED,
+        RELEASED
+    }
+
+    // 발행 완료된 행은 보존 기간이 지나면 정리
+    @Scheduled(fixedDelayString = "${app.outbox.cleanup-interval-ms:3600000}")
+    @Transactional
+    public void purgeSent() {
+        Instant before = Instant.now().minus(Duration.ofHours(retentionHours));
+        int deleted = outboxEventRepository.deleteSentBefore(before);
+        if (deleted > 0) {
+            log.info("[Outbox Relay] 발행 완료 행 정리 - 삭제 : {}건", deleted);
+        }
+    }
+}
@@ -44,7 +44,8 @@ public enum ErrorCode {
 
     /* Notification 관련 에러 */
     NOTIFICATION_NOT_FOUND("알림을 찾을 수 없습니다."),
-    NOTIFICATION_ACCESS_DENIED("본인의 알림만 접근할 수 있습니다.");
+    NOTIFICATION_ACCESS_DENIED("본인의 알림만 접근할 수 있습니다."),
+    INVALID_NOTIFICATION_CURSOR("유효하지 않은 알림 커서입니다.");
 
 
     private String message;
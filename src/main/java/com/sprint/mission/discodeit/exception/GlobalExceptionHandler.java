@@ -7,6 +7,7 @@ import com.sprint.mission.discodeit.exception.binarycontent.BinaryContentExcepti
 import com.sprint.mission.discodeit.exception.channel.ChannelNotFoundException;
 import com.sprint.mission.discodeit.exception.channel.PrivateChannelUpdateNotAllowedException;
 import com.sprint.mission.discodeit.exception.message.MessageNotFoundException;
+import com.sprint.mission.discodeit.exception.notification.InvalidNotificationCursorException;
 import com.sprint.mission.discodeit.exception.notification.NotificationAccessDeniedException;
 import com.sprint.mission.discodeit.exception.notification.NotificationNotFoundException;
 import com.sprint.mission.discodeit.exception.readstatus.ReadStatusAlreadyExistsException;
@@ -199,6 +200,16 @@ public class GlobalExceptionHandler {
         .body(errorResponse);
   }
 
+  /** 알림 관련 Error
+   * 15-1.Invalid Notification Cursor Exception
+   * */
+  @ExceptionHandler(InvalidNotificationCursorException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidNotificationCursorException(InvalidNotificationCursorException e) {
+    ErrorResponse errorResponse = new ErrorResponse(HttpStatus.BAD_REQUEST, e.getErrorCode());
+    return ResponseEntity
+        .status(HttpStatus.BAD_REQUEST)
+        .body(errorResponse);
+  }
 
   /** Refresh Token 관련 에러
    *  16. InvalidRefreshTokenException & RefreshTokenNotFoundException
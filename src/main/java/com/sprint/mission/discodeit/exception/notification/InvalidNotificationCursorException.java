@@ -0,0 +1,10 @@
+package com.sprint.mission.discodeit.exception.notification;
+
+import com.sprint.mission.discodeit.exception.DiscodeitException;
+import com.sprint.mission.discodeit.exception.ErrorCode;
+
+public class InvalidNotificationCursorException extends DiscodeitException {
+    public InvalidNotificationCursorException() {
+        super(ErrorCode.INVALID_NOTIFICATION_CURSOR);
+    }
+}
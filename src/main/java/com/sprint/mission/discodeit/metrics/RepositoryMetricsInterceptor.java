@@ -0,0 +1,116 @@
+package com.sprint.mission.discodeit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.BaseStream;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Spring Data repository 메서드 하나하나의 소요 시간과 반환 행 수를 기록한다
+ * - repository.invocations{repository, method, outcome} 타이머
+ * - repository.rows{repository, method} : 엔티티 / 프로젝션을 돌려주는 메서드만 ( count / exists / 수정 쿼리 / Stream 은 제외 )
+ * 메서드별 미터는 처음 호출될 때 한 번만 만들어 둔다 ( 호출마다 레지스트리를 조회하지 않는다 )
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    public static final String INVOCATIONS = "repository.invocations";
+    public static final String ROWS = "repository.rows";
+
+    private static final int NOT_ROWS = -1;
+
+    private final MeterRegistry meterRegistry;
+    private final String repository;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    public RepositoryMetricsInterceptor(MeterRegistry meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return invocation.proceed();
+        }
+
+        MethodMeters methodMeters = meters.computeIfAbsent(method, this::register);
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            int rows = rows(method, result);
+            if (rows != NOT_ROWS) {
+                methodMeters.rows.record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            methodMeters.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    static int rows(Method method, Object result) {
+        Class<?> returnType = method.getReturnType();
+        if (returnType == void.class || returnType.isPrimitive()
+            || Number.class.isAssignableFrom(returnType) || returnType == Boolean.class) {
+            return NOT_ROWS;
+        }
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Iterable<?> || result instanceof BaseStream<?, ?>) {
+            // 세려면 결과를 소비해야 한다
+            return NOT_ROWS;
+        }
+        return 1;
+    }
+
+    private MethodMeters register(Method method) {
+        return new MethodMeters(
+            timer(method, "success"),
+            timer(method, "error"),
+            DistributionSummary.builder(ROWS)
+                .description("repository 메서드가 반환한 행 수")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10_000.0)
+                .register(meterRegistry));
+    }
+
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder(INVOCATIONS)
+            .description("repository 메서드 소요 시간")
+            .tag("repository", repository)
+            .tag("method", method.getName())
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(100_000))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry);
+    }
+
+    private record MethodMeters(Timer success, Timer error, DistributionSummary rows) {
+
+    }
+}
@@ -0,0 +1,40 @@
+package com.sprint.mission.discodeit.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.MDC;
+
+/**
+ * 요청 스레드에서 Hibernate 가 준비한 SQL 문 수를 센다 ( hibernate.session_factory.statement_inspector )
+ * - MDCLoggingInterceptor 가 요청 시작 시 begin, 완료 시 end 를 호출하고, 그 사이 로그에는 MDC sqlCount 로 남는다
+ * - begin 하지 않은 스레드 ( 비동기 / 컨슈머 / 스케줄러 ) 는 세지 않는다
+ * JdbcTemplate 으로 직접 실행한 SQL 은 Hibernate 를 거치지 않으므로 포함되지 않는다
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    public static final String MDC_KEY = "sqlCount";
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void begin() {
+        COUNT.set(new int[1]);
+        MDC.put(MDC_KEY, "0");
+    }
+
+    /**
+     * 요청 중 실행된 SQL 문 수 ( begin 하지 않았으면 0 )
+     */
+    public static int end() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            MDC.put(MDC_KEY, Integer.toString(++count[0]));
+        }
+        return sql;
+    }
+}
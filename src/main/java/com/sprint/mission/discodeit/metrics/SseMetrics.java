@@ -0,0 +1,111 @@
+package com.sprint.mission.discodeit.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 연결/전송 관련 Micrometer 지표 모음
+ * node 태그는 management.metrics.tags.node 공통 태그로 붙는다 ( /actuator/prometheus 노출 )
+ */
+@Component
+@RequiredArgsConstructor
+public class SseMetrics {
+
+    public static final String ACTIVE_CONNECTIONS = "sse.connections.active";
+    public static final String CONNECTS = "sse.connects";
+    public static final String DISCONNECTS = "sse.disconnects";
+    public static final String SEND_LATENCY = "sse.send.latency";
+    public static final String SEND_FAILURES = "sse.send.failures";
+    public static final String FANOUT_SIZE = "sse.fanout.size";
+    public static final String REPLAY_SIZE = "sse.replay.size";
+
+    // 연결 종료 사유
+    public static final String REASON_COMPLETION = "completion";
+    public static final String REASON_TIMEOUT = "timeout";
+    public static final String REASON_ERROR = "error";
+    public static final String REASON_SEND_FAILURE = "send_failure";
+    public static final String REASON_PING_FAILURE = "ping_failure";
+    public static final String REASON_REPLACED = "replaced";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 현재 노드의 활성 연결 수 게이지 등록 ( mode : basic | redis )
+     */
+    public void bindActiveConnections(String mode, Supplier<Number> connectionCount) {
+        Gauge.builder(ACTIVE_CONNECTIONS, connectionCount)
+            .description("현재 노드에 연결된 SSE emitter 수")
+            .tag("mode", mode)
+            .register(meterRegistry);
+    }
+
+    public void connected(String mode) {
+        Counter.builder(CONNECTS)
+            .description("SSE 연결 수립 횟수")
+            .tag("mode", mode)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    public void disconnected(String mode, String reason) {
+        Counter.builder(DISCONNECTS)
+            .description("SSE 연결 종료 횟수 ( 사유별 )")
+            .tag("mode", mode)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * emitter 한 건에 대한 전송 소요 시간 기록
+     */
+    public void recordSend(String eventName, long elapsedNanos) {
+        Timer.builder(SEND_LATENCY)
+            .description("SSE emitter 전송 소요 시간")
+            .tag("event", eventName)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofNanos(100_000))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void sendFailed(String eventName) {
+        Counter.builder(SEND_FAILURES)
+            .description("SSE 전송 실패 횟수")
+            .tag("event", eventName)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * 이벤트 한 건이 현재 노드에서 전달된 emitter 수
+     */
+    public void recordFanOut(String eventName, int emitterCount) {
+        DistributionSummary.builder(FANOUT_SIZE)
+            .description("이벤트 타입별 SSE fan-out 크기")
+            .tag("event", eventName)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(emitterCount);
+    }
+
+    /**
+     * 재연결 시 Last-Event-ID 이후로 재전송한 이벤트 수
+     */
+    public void recordReplay(int replayedCount) {
+        DistributionSummary.builder(REPLAY_SIZE)
+            .description("재연결 시 재전송된 SSE 이벤트 수")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(replayedCount);
+    }
+}
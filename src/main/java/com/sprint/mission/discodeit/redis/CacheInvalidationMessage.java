@@ -0,0 +1,14 @@
+package com.sprint.mission.discodeit.redis;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지 ( Redis pub/sub )
+ * @param origin 발행한 노드의 CacheManager 식별자 ( 자기 메시지는 무시 )
+ * @param key L2 와 같은 문자열 키, null 이면 캐시 전체 비우기
+ */
+public record CacheInvalidationMessage(
+    String origin,
+    String cacheName,
+    String key
+) {
+
+}
@@ -0,0 +1,487 @@
+package com.sprint.mission.discodeit.redis;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.jwt.JwtInformation;
+import com.sprint.mission.discodeit.service.distributed.RedisBasedSseService.SseMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 / pub/sub 에 자주 오가는 DTO 용 바이너리 직렬화기
+ * - 형식 : [MAGIC][FORMAT_VERSION][FLAGS][본문] , 본문은 값마다 1바이트 태그 + ( DTO 는 버전 1바이트 ) + 필드
+ * - 클래스 이름 대신 태그를 쓰므로 List&lt;UserDto&gt; 같은 값이 JSON( DefaultTyping.EVERYTHING ) 대비 크게 줄어든다
+ * - 본문이 compressionThreshold 이상이면 Deflate 로 압축한다 ( 더 작아질 때만 )
+ * - 모르는 타입은 위임 직렬화기( JSON )로 그대로 저장하고, MAGIC 으로 시작하지 않는 값은 JSON 으로 읽는다
+ *   ( 기존 캐시 / 문자열 값과 호환 )
+ * DTO 필드를 바꾸면 해당 태그의 버전을 올리고 이전 버전 읽기를 남겨 둔다
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC7;
+    static final byte FORMAT_VERSION = 1;
+    static final byte FLAG_DEFLATED = 0x01;
+
+    // 값 태그
+    private static final byte T_NULL = 0;
+    private static final byte T_STRING = 1;
+    private static final byte T_UUID = 2;
+    private static final byte T_INSTANT = 3;
+    private static final byte T_LONG = 4;
+    private static final byte T_INT = 5;
+    private static final byte T_BOOLEAN = 6;
+    private static final byte T_LIST = 10;
+    private static final byte T_MAP = 11;
+    private static final byte T_USER = 20;
+    private static final byte T_CHANNEL = 21;
+    private static final byte T_NOTIFICATION = 22;
+    private static final byte T_MESSAGE = 23;
+    private static final byte T_BINARY_CONTENT = 24;
+    private static final byte T_JWT_INFORMATION = 25;
+    private static final byte T_SSE_MESSAGE = 26;
+    private static final byte T_JSON = 127;
+
+    // 타입별 현재 버전
+    private static final int USER_V1 = 1;
+    private static final int CHANNEL_V1 = 1;
+    private static final int NOTIFICATION_V1 = 1;
+    private static final int MESSAGE_V1 = 1;
+    private static final int BINARY_CONTENT_V1 = 1;
+    private static final int JWT_INFORMATION_V1 = 1;
+    private static final int SSE_MESSAGE_V1 = 1;
+
+    private final RedisSerializer<Object> fallback;
+    private final int compressionThreshold;
+
+    /**
+     * @param fallback 모르는 타입 / 기존 값용 직렬화기
+     * @param compressionThreshold 이 크기( bytes ) 이상인 본문을 압축, 0 이하면 압축하지 않음
+     */
+    public CompactRedisSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+        this.fallback = fallback;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * 이 직렬화기가 만든 바이너리인지 여부 ( JSON 은 MAGIC 바이트로 시작할 수 없다 )
+     */
+    public static boolean isCompact(byte[] bytes) {
+        return bytes != null && bytes.length >= 3 && bytes[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null || !isCompactRoot(value)) {
+            return fallback.serialize(value);
+        }
+
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+            buffer.write(MAGIC);
+            buffer.write(FORMAT_VERSION);
+            buffer.write(0);
+            DataOutputStream out = new DataOutputStream(buffer);
+            writeValue(out, value);
+            out.flush();
+            byte[] encoded = buffer.toByteArray();
+
+            if (compressionThreshold > 0 && encoded.length - 3 >= compressionThreshold) {
+                byte[] deflated = deflate(encoded, 3, encoded.length - 3);
+                if (deflated.length + 3 < encoded.length) {
+                    byte[] compressed = new byte[deflated.length + 3];
+                    compressed[0] = MAGIC;
+                    compressed[1] = FORMAT_VERSION;
+                    compressed[2] = FLAG_DEFLATED;
+                    System.arraycopy(deflated, 0, compressed, 3, deflated.length);
+                    return compressed;
+                }
+            }
+            return encoded;
+        } catch (IOException e) {
+            throw new SerializationException("바이너리 직렬화 실패 : " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (!isCompact(bytes)) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes[1] != FORMAT_VERSION) {
+            throw new SerializationException("지원하지 않는 바이너리 형식 버전 : " + bytes[1]);
+        }
+
+        try {
+            byte[] body = (bytes[2] & FLAG_DEFLATED) != 0
+                ? inflate(bytes, 3, bytes.length - 3)
+                : bytes;
+            int offset = body == bytes ? 3 : 0;
+            DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(body, offset, body.length - offset));
+            return readValue(in);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("바이너리 역직렬화 실패", e);
+        }
+    }
+
+    // 최상위 값은 알려진 DTO ( 또는 그 List )일 때만 바이너리로 저장한다 ( 문자열 / 락 토큰 등은 기존 JSON 유지 )
+    private static boolean isCompactRoot(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().allMatch(CompactRedisSerializer::isKnownType);
+        }
+        return isKnownType(value);
+    }
+
+    private static boolean isKnownType(Object value) {
+        return value instanceof UserDto
+            || value instanceof ChannelDto
+            || value instanceof NotificationDto
+            || value instanceof MessageDto
+            || value instanceof BinaryContentDto
+            || value instanceof JwtInformation
+            || value instanceof SseMessage;
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(T_NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(T_STRING);
+            writeString(out, string);
+        } else if (value instanceof UUID uuid) {
+            out.writeByte(T_UUID);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof Instant instant) {
+            out.writeByte(T_INSTANT);
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        } else if (value instanceof Long number) {
+            out.writeByte(T_LONG);
+            out.writeLong(number);
+        } else if (value instanceof Integer number) {
+            out.writeByte(T_INT);
+            out.writeInt(number);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(T_BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof UserDto user) {
+            out.writeByte(T_USER);
+            out.writeByte(USER_V1);
+            writeValue(out, user.id());
+            writeValue(out, user.username());
+            writeValue(out, user.email());
+            writeValue(out, user.role() != null ? user.role().name() : null);
+            writeValue(out, user.profile());
+            writeValue(out, user.online());
+        } else if (value instanceof BinaryContentDto binaryContent) {
+            out.writeByte(T_BINARY_CONTENT);
+            out.writeByte(BINARY_CONTENT_V1);
+            writeValue(out, binaryContent.id());
+            writeValue(out, binaryContent.fileName());
+            writeValue(out, binaryContent.size());
+            writeValue(out, binaryContent.contentType());
+            writeValue(out, binaryContent.status() != null ? binaryContent.status().name() : null);
+        } else if (value instanceof ChannelDto channel) {
+            out.writeByte(T_CHANNEL);
+            out.writeByte(CHANNEL_V1);
+            writeValue(out, channel.id());
+            writeValue(out, channel.type() != null ? channel.type().name() : null);
+            writeValue(out, channel.name());
+            writeValue(out, channel.description());
+            writeValue(out, channel.participants());
+            writeValue(out, channel.lastMessageAt());
+        } else if (value instanceof NotificationDto notification) {
+            out.writeByte(T_NOTIFICATION);
+            out.writeByte(NOTIFICATION_V1);
+            writeValue(out, notification.id());
+            writeValue(out, notification.createdAt());
+            writeValue(out, notification.receiverId());
+            writeValue(out, notification.title());
+            writeValue(out, notification.content());
+            writeValue(out, notification.channelId());
+            writeVarInt(out, notification.count());
+        } else if (value instanceof MessageDto message) {
+            out.writeByte(T_MESSAGE);
+            out.writeByte(MESSAGE_V1);
+            writeValue(out, message.id());
+            writeValue(out, message.createdAt());
+            writeValue(out, message.updatedAt());
+            writeValue(out, message.content());
+            writeValue(out, message.channelId());
+            writeValue(out, message.author());
+            writeValue(out, message.attachments());
+        } else if (value instanceof JwtInformation jwtInformation) {
+            out.writeByte(T_JWT_INFORMATION);
+            out.writeByte(JWT_INFORMATION_V1);
+            writeValue(out, jwtInformation.getUserDto());
+            writeValue(out, jwtInformation.getAccessToken());
+            writeValue(out, jwtInformation.getRefreshToken());
+        } else if (value instanceof SseMessage sseMessage) {
+            out.writeByte(T_SSE_MESSAGE);
+            out.writeByte(SSE_MESSAGE_V1);
+            writeValue(out, sseMessage.getTargetUsers());
+            writeValue(out, sseMessage.getEventName());
+            writeValue(out, sseMessage.getData());
+            writeValue(out, sseMessage.getPayloads());
+            writeValue(out, sseMessage.getTimestamp());
+            writeValue(out, sseMessage.getInstanceId());
+        } else if (value instanceof Collection<?> collection) {
+            out.writeByte(T_LIST);
+            writeVarInt(out, collection.size());
+            for (Object element : collection) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(T_MAP);
+            writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            // 중첩된 모르는 타입 ( 예: SSE 이벤트의 임의 data )은 JSON 조각으로 넣는다
+            out.writeByte(T_JSON);
+            byte[] json = fallback.serialize(value);
+            writeVarInt(out, json.length);
+            out.write(json);
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case T_NULL -> null;
+            case T_STRING -> readString(in);
+            case T_UUID -> new UUID(in.readLong(), in.readLong());
+            case T_INSTANT -> Instant.ofEpochSecond(in.readLong(), in.readInt());
+            case T_LONG -> in.readLong();
+            case T_INT -> in.readInt();
+            case T_BOOLEAN -> in.readBoolean();
+            case T_USER -> readUser(in);
+            case T_BINARY_CONTENT -> readBinaryContent(in);
+            case T_CHANNEL -> readChannel(in);
+            case T_NOTIFICATION -> readNotification(in);
+            case T_MESSAGE -> readMessage(in);
+            case T_JWT_INFORMATION -> readJwtInformation(in);
+            case T_SSE_MESSAGE -> readSseMessage(in);
+            case T_LIST -> readList(in);
+            case T_MAP -> readMap(in);
+            case T_JSON -> {
+                byte[] json = new byte[readVarInt(in)];
+                in.readFully(json);
+                yield fallback.deserialize(json);
+            }
+            default -> throw new SerializationException("알 수 없는 값 태그 : " + tag);
+        };
+    }
+
+    private UserDto readUser(DataInputStream in) throws IOException {
+        checkVersion(in, "UserDto", USER_V1);
+        return new UserDto(
+            (UUID) readValue(in),
+            (String) readValue(in),
+            (String) readValue(in),
+            readEnum(in, Role.class),
+            (BinaryContentDto) readValue(in),
+            (Boolean) readValue(in)
+        );
+    }
+
+    private BinaryContentDto readBinaryContent(DataInputStream in) throws IOException {
+        checkVersion(in, "BinaryContentDto", BINARY_CONTENT_V1);
+        return new BinaryContentDto(
+            (UUID) readValue(in),
+            (String) readValue(in),
+            (Long) readValue(in),
+            (String) readValue(in),
+            readEnum(in, BinaryContentStatus.class)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private ChannelDto readChannel(DataInputStream in) throws IOException {
+        checkVersion(in, "ChannelDto", CHANNEL_V1);
+        return new ChannelDto(
+            (UUID) readValue(in),
+            readEnum(in, ChannelType.class),
+            (String) readValue(in),
+            (String) readValue(in),
+            (List<UserDto>) readValue(in),
+            (Instant) readValue(in)
+        );
+    }
+
+    private NotificationDto readNotification(DataInputStream in) throws IOException {
+        checkVersion(in, "NotificationDto", NOTIFICATION_V1);
+        return new NotificationDto(
+            (UUID) readValue(in),
+            (Instant) readValue(in),
+            (UUID) readValue(in),
+            (String) readValue(in),
+            (String) readValue(in),
+            (UUID) readValue(in),
+            readVarInt(in)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private MessageDto readMessage(DataInputStream in) throws IOException {
+        checkVersion(in, "MessageDto", MESSAGE_V1);
+        return new MessageDto(
+            (UUID) readValue(in),
+            (Instant) readValue(in),
+            (Instant) readValue(in),
+            (String) readValue(in),
+            (UUID) readValue(in),
+            (UserDto) readValue(in),
+            (List<BinaryContentDto>) readValue(in)
+        );
+    }
+
+    private JwtInformation readJwtInformation(DataInputStream in) throws IOException {
+        checkVersion(in, "JwtInformation", JWT_INFORMATION_V1);
+        return new JwtInformation(
+            (UserDto) readValue(in),
+            (String) readValue(in),
+            (String) readValue(in)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private SseMessage readSseMessage(DataInputStream in) throws IOException {
+        checkVersion(in, "SseMessage", SSE_MESSAGE_V1);
+        SseMessage sseMessage = new SseMessage();
+        sseMessage.setTargetUsers((List<UUID>) readValue(in));
+        sseMessage.setEventName((String) readValue(in));
+        sseMessage.setData(readValue(in));
+        sseMessage.setPayloads((Map<UUID, Object>) readValue(in));
+        sseMessage.setTimestamp((Instant) readValue(in));
+        sseMessage.setInstanceId((String) readValue(in));
+        return sseMessage;
+    }
+
+    private List<Object> readList(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(readValue(in));
+        }
+        return list;
+    }
+
+    private Map<Object, Object> readMap(DataInputStream in) throws IOException {
+        int size = readVarInt(in);
+        Map<Object, Object> map = new LinkedHashMap<>(Math.max(16, size * 2));
+        for (int i = 0; i < size; i++) {
+            map.put(readValue(in), readValue(in));
+        }
+        return map;
+    }
+
+    private <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        String name = (String) readValue(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static void checkVersion(DataInputStream in, String typeName, int supported) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != supported) {
+            throw new SerializationException("지원하지 않는 " + typeName + " 버전 : " + version);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 음이 아닌 정수 LEB128 ( 길이 / 개수는 대부분 1바이트 )
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("잘못된 varint");
+    }
+
+    private static byte[] deflate(byte[] input, int offset, int length) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input, offset, length);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length / 2);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.write(chunk, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 3);
+            byte[] chunk = new byte[4096];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(chunk);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 잘렸습니다");
+                }
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.sprint.mission.discodeit.redis;
+
+import java.util.UUID;
+
+/**
+ * 노드 간 Hibernate 2차 캐시 무효화 메시지 ( Redis pub/sub )
+ * @param origin 발행한 노드 식별자 ( 자기 메시지는 무시 )
+ * @param entityName 변경된 엔티티 이름 ( Hibernate entity name )
+ */
+public record EntityCacheInvalidationMessage(
+    String origin,
+    String entityName,
+    UUID id
+) {
+
+}
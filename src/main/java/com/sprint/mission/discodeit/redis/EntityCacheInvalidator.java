@@ -0,0 +1,106 @@
+package com.sprint.mission.discodeit.redis;
+
+import com.sprint.mission.discodeit.entity.EntityCacheRegions;
+import com.sprint.mission.discodeit.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Hibernate 2차 캐시 노드 간 무효화
+ * - 2차 캐시( Caffeine )는 노드 로컬이므로, 캐시 대상 엔티티의 변경이 커밋되면 {@link #INVALIDATION_TOPIC} 으로 발행한다
+ * - 다른 노드는 해당 엔티티 엔트리를 지우고, 사용자 변경이면 중복 검사 쿼리 캐시도 비운다
+ * - 메시지가 유실돼도 리전 만료 시간( app.jpa.second-level-cache.expire-after-write ) 이후에는 DB 에서 다시 읽는다
+ */
+@Slf4j
+public class EntityCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+    PostCommitDeleteEventListener {
+
+    public static final String INVALIDATION_TOPIC = "cache:invalidate:entity";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SessionFactoryImplementor sessionFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory,
+        RedisTemplate<String, Object> redisTemplate) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void register() {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        // 새 엔티티는 다른 노드에 캐시돼 있지 않지만 중복 검사 쿼리 캐시는 비워야 한다
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void publish(EntityPersister persister, Object id) {
+        if (!persister.canWriteToCache() || !(id instanceof UUID uuid)) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC,
+                new EntityCacheInvalidationMessage(nodeId, persister.getEntityName(), uuid));
+        } catch (Exception e) {
+            // 다른 노드는 리전 만료 후 최신 값을 읽는다
+            log.warn("[2차 캐시] 무효화 발행 실패 : entity = {}, id = {}, error = {}",
+                persister.getEntityName(), uuid, e.getMessage());
+        }
+    }
+
+    public void onInvalidation(EntityCacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        sessionFactory.getCache().evictEntityData(message.entityName(), message.id());
+        if (User.class.getName().equals(message.entityName())) {
+            sessionFactory.getCache().evictQueryRegion(EntityCacheRegions.USER_EXISTS);
+        }
+        log.debug("[2차 캐시] 원격 무효화 : entity = {}, id = {}", message.entityName(), message.id());
+    }
+}
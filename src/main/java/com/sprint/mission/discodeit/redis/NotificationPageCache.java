@@ -0,0 +1,276 @@
+package com.sprint.mission.discodeit.redis;
+
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 알림 첫 페이지 캐시 ( Redis List, 최신순 )
+ * - 최대 WINDOW_SIZE 건만 보관하므로 사용자당 캐시 크기가 고정된다
+ * - 새 알림은 무효화 대신 LPUSHX + LTRIM 으로 앞에 끼워 넣는다 ( 캐시가 없으면 아무것도 하지 않음 )
+ * - 누적 수만 바뀐 집계 알림은 created_at 이 그대로라 목록 안 같은 자리에서 바꿔 끼운다 ( 무효화하지 않는다 )
+ * - 추가 / 교체 / 무효화할 때마다 사용자별 버전을 올리고, put 은 DB 를 읽기 전에 읽어 둔 버전이 그대로일 때만 저장한다
+ *   ( DB 조회와 put 사이에 커밋된 알림은 LPUSHX 가 캐시 없음으로 건너뛰므로, 그대로 저장하면 TTL 동안 보이지 않는다 )
+ * - Redis 가 없는 환경( test 프로필 )에서는 항상 캐시 미스로 동작한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class NotificationPageCache {
+
+    // 페이지 최대 크기 + 1 ( 다음 페이지 존재 여부 판단용 )
+    public static final int WINDOW_SIZE = 51;
+
+    private static final String KEY_PREFIX = "discodeit:userNotifications:first:";
+    private static final String VERSION_KEY_PREFIX = "discodeit:userNotifications:version:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // 버전이 읽어 둔 값과 같을 때만 목록을 교체 ( 버전 키가 없으면 0 )
+    private static final DefaultRedisScript<Long> PUT_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('RPUSH', KEYS[1], unpack(ARGV, 3)) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+            + "return 1",
+        Long.class);
+
+    // 읽어 둔 버전이 그대로일 때만 교체한 목록을 저장하고 버전을 올린다 ( 진행 중인 put 이 교체 전 페이지로 덮어쓰지 않도록 )
+    private static final byte[] REPLACE_IF_VERSION_SCRIPT = (
+        "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('RPUSH', KEYS[1], unpack(ARGV, 3)) "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+            + "redis.call('INCR', KEYS[2]) "
+            + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+            + "return 1").getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+
+    public Optional<List<NotificationDto>> get(UUID receiverId) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return Optional.empty();
+        }
+
+        List<Object> cached = redisTemplate.opsForList().range(key(receiverId), 0, WINDOW_SIZE - 1);
+        if (cached == null || cached.isEmpty()) {
+            log.info("[CACHE-MISS / 알림 첫 페이지] 수신자: {}", receiverId);
+            return Optional.empty();
+        }
+        return Optional.of(cached.stream()
+            .map(NotificationDto.class::cast)
+            .toList());
+    }
+
+    /**
+     * 첫 페이지 버전 ( DB 에서 첫 페이지를 읽기 전에 조회해 put 에 넘긴다 )
+     */
+    public long version(UUID receiverId) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return 0L;
+        }
+
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+            connection.stringCommands().get(versionKey(receiverId).getBytes(StandardCharsets.UTF_8)));
+        return value == null ? 0L : Long.parseLong(new String(value, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 조회한 첫 페이지 저장 ( 최신순 목록 )
+     * 읽어 둔 버전 이후에 알림이 추가 / 무효화됐으면 저장하지 않는다 ( 다음 조회가 DB 에서 다시 읽는다 )
+     */
+    @SuppressWarnings("unchecked")
+    public void put(UUID receiverId, long version, List<NotificationDto> latest) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null || latest.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        List<NotificationDto> window = latest.subList(0, Math.min(latest.size(), WINDOW_SIZE));
+        Object[] args = new Object[window.size() + 2];
+        args[0] = Long.toString(version).getBytes(StandardCharsets.UTF_8);
+        args[1] = Long.toString(TTL.toSeconds()).getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < window.size(); i++) {
+            args[i + 2] = valueSerializer.serialize(window.get(i));
+        }
+
+        Long stored = redisTemplate.execute(PUT_IF_VERSION_SCRIPT, RedisSerializer.byteArray(),
+            new GenericToStringSerializer<>(Long.class), List.of(key(receiverId), versionKey(receiverId)), args);
+        if (stored == null || stored == 0L) {
+            log.info("[CACHE-SKIP / 알림 첫 페이지] 조회 중 알림이 바뀌어 저장하지 않음 - 수신자: {}", receiverId);
+        }
+    }
+
+    /**
+     * 새 알림을 캐시된 첫 페이지 앞에 추가 ( 수신자별 최신순 목록, 파이프라인 한 번 )
+     */
+    public void prependAll(Map<UUID, List<NotificationDto>> newNotificationsByReceiver) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null || newNotificationsByReceiver.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                newNotificationsByReceiver.forEach((receiverId, notifications) -> {
+                    String key = key(receiverId);
+                    // LPUSH 는 마지막 값이 맨 앞에 오므로 오래된 것부터 넣는다
+                    for (int i = notifications.size() - 1; i >= 0; i--) {
+                        operations.opsForList().leftPushIfPresent(key, notifications.get(i));
+                    }
+                    operations.opsForList().trim(key, 0, WINDOW_SIZE - 1);
+                    // 캐시가 없어 건너뛴 경우에도 진행 중인 put 이 이 알림 없이 저장하지 않도록
+                    bumpVersion(operations, receiverId);
+                });
+                return null;
+            }
+        });
+        log.info("[CACHE-UPDATE / 알림 첫 페이지 갱신] 수신자 수: {}", newNotificationsByReceiver.size());
+    }
+
+    /**
+     * 갱신된 알림을 캐시된 첫 페이지의 같은 자리에서 바꿔 끼운다 ( 목록 위치가 그대로인 집계 알림 )
+     * 버전 / 목록 읽기와 교체를 각각 파이프라인 한 번으로 처리하고, 읽은 뒤 다른 변경이 끼어든 수신자만 무효화한다
+     */
+    @SuppressWarnings("unchecked")
+    public void replaceAll(Map<UUID, List<NotificationDto>> updatedByReceiver) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null || updatedByReceiver.isEmpty()) {
+            return;
+        }
+
+        RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        List<UUID> receiverIds = List.copyOf(updatedByReceiver.keySet());
+        // 버전은 INCR 로 쓴 문자열이라 값 직렬화를 거치지 않고 바이트 그대로 읽는다
+        List<Object> snapshots = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UUID receiverId : receiverIds) {
+                connection.stringCommands().get(bytes(versionKey(receiverId)));
+                connection.listCommands().lRange(bytes(key(receiverId)), 0, WINDOW_SIZE - 1);
+            }
+            return null;
+        }, RedisSerializer.byteArray());
+
+        List<UUID> replacing = new ArrayList<>();
+        List<byte[][]> replacements = new ArrayList<>();
+        List<UUID> evicting = new ArrayList<>();
+        for (int i = 0; i < receiverIds.size(); i++) {
+            UUID receiverId = receiverIds.get(i);
+            byte[] version = (byte[]) snapshots.get(i * 2);
+            List<byte[]> cached = (List<byte[]>) snapshots.get(i * 2 + 1);
+            if (cached == null || cached.isEmpty()) {
+                // 캐시가 없어도 진행 중인 put 이 갱신 전 값으로 저장하지 않도록 버전은 올린다
+                evicting.add(receiverId);
+                continue;
+            }
+
+            Map<UUID, NotificationDto> updatedById = new LinkedHashMap<>();
+            updatedByReceiver.get(receiverId).forEach(updated -> updatedById.put(updated.id(), updated));
+            byte[][] keysAndArgs = new byte[cached.size() + 4][];
+            keysAndArgs[0] = bytes(key(receiverId));
+            keysAndArgs[1] = bytes(versionKey(receiverId));
+            keysAndArgs[2] = version == null ? bytes("0") : version;
+            keysAndArgs[3] = bytes(Long.toString(TTL.toSeconds()));
+            boolean changed = false;
+            for (int j = 0; j < cached.size(); j++) {
+                NotificationDto notification = (NotificationDto) valueSerializer.deserialize(cached.get(j));
+                NotificationDto updated = notification == null ? null : updatedById.get(notification.id());
+                keysAndArgs[j + 4] = updated == null ? cached.get(j) : valueSerializer.serialize(updated);
+                changed |= updated != null;
+            }
+            // 첫 페이지 밖의 알림이면 캐시된 목록은 그대로 맞다
+            if (changed) {
+                replacing.add(receiverId);
+                replacements.add(keysAndArgs);
+            }
+        }
+
+        int replaced = 0;
+        if (!replacements.isEmpty()) {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                replacements.forEach(keysAndArgs -> connection.scriptingCommands()
+                    .eval(REPLACE_IF_VERSION_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs));
+                return null;
+            }, RedisSerializer.byteArray());
+            for (int i = 0; i < replacing.size(); i++) {
+                if (Long.valueOf(1L).equals(results.get(i))) {
+                    replaced++;
+                } else {
+                    evicting.add(replacing.get(i));
+                }
+            }
+        }
+
+        evictAll(evicting);
+        log.info("[CACHE-UPDATE / 알림 첫 페이지 교체] 수신자 수: {}, 교체: {}, 무효화: {}",
+            receiverIds.size(), replaced, evicting.size());
+    }
+
+    public void evict(UUID receiverId) {
+        evictAll(List.of(receiverId));
+    }
+
+    /**
+     * 여러 수신자의 첫 페이지 캐시를 DEL 한 번으로 무효화 ( 버전과 함께 파이프라인 한 번 )
+     */
+    public void evictAll(Collection<UUID> receiverIds) {
+        RedisTemplate<String, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null || receiverIds.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                operations.delete(receiverIds.stream()
+                    .map(NotificationPageCache::key)
+                    .toList());
+                receiverIds.forEach(receiverId -> bumpVersion(operations, receiverId));
+                return null;
+            }
+        });
+        log.info("[CACHE-EVICT / 알림 첫 페이지 무효화] 수신자 수: {}", receiverIds.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void bumpVersion(RedisOperations operations, UUID receiverId) {
+        String versionKey = versionKey(receiverId);
+        operations.opsForValue().increment(versionKey);
+        operations.expire(versionKey, TTL);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String key(UUID receiverId) {
+        return KEY_PREFIX + receiverId;
+    }
+
+    private static String versionKey(UUID receiverId) {
+        return VERSION_KEY_PREFIX + receiverId;
+    }
+}
@@ -0,0 +1,155 @@
+package com.sprint.mission.discodeit.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis pub/sub 메시지를 토픽별 큐에 넣고, 정해진 worker executor 에서 토픽마다 한 번에 하나씩 순서대로 처리한다
+ * - 컨테이너 기본값 ( SimpleAsyncTaskExecutor ) 은 메시지마다 스레드를 새로 띄우고 순서도 보장하지 않는다
+ * - 구독 스레드 ( Lettuce 이벤트 루프 ) 에서는 큐에 넣기만 하므로 Redis I/O 를 막지 않는다
+ * - 토픽 큐가 queue-capacity 를 넘으면 가장 오래된 메시지를 버린다 ( 이벤트 루프를 막는 대신, redis.pubsub.dropped )
+ * 지표 ( topic 태그 ) : redis.pubsub.queued / redis.pubsub.lag ( 수신 → 처리 시작 ) / redis.pubsub.processing / redis.pubsub.dropped
+ */
+@Slf4j
+public class OrderedMessageDispatcher {
+
+    public static final String QUEUED = "redis.pubsub.queued";
+    public static final String LAG = "redis.pubsub.lag";
+    public static final String PROCESSING = "redis.pubsub.processing";
+    public static final String DROPPED = "redis.pubsub.dropped";
+
+    // 한 토픽이 worker 를 오래 잡지 않도록 이만큼 처리하면 다시 제출한다
+    private static final int DRAIN_BATCH = 256;
+
+    private final Executor workers;
+    private final int queueCapacity;
+    private final MeterRegistry meterRegistry;
+
+    public OrderedMessageDispatcher(Executor workers, int queueCapacity, MeterRegistry meterRegistry) {
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 수신한 스레드에서 바로 토픽 큐로 넘기는 컨테이너
+     */
+    public RedisMessageListenerContainer createContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(new SyncTaskExecutor());
+        return container;
+    }
+
+    public void addMessageListener(RedisMessageListenerContainer container, MessageListener listener,
+        ChannelTopic topic) {
+        container.addMessageListener(new TopicQueue(topic.getTopic(), listener), topic);
+    }
+
+    private record Pending(Message message, byte[] pattern, long receivedAt) {
+
+    }
+
+    private class TopicQueue implements MessageListener, Runnable {
+
+        private final String topic;
+        private final MessageListener delegate;
+        private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Timer lag;
+        private final Timer processing;
+        private final Counter dropped;
+
+        TopicQueue(String topic, MessageListener delegate) {
+            this.topic = topic;
+            this.delegate = delegate;
+            Gauge.builder(QUEUED, size, AtomicInteger::get)
+                .description("처리를 기다리는 pub/sub 메시지 수")
+                .tag("topic", topic)
+                .register(meterRegistry);
+            this.lag = Timer.builder(LAG)
+                .description("pub/sub 메시지 수신부터 처리 시작까지 걸린 시간")
+                .tag("topic", topic)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+            this.processing = Timer.builder(PROCESSING)
+                .description("pub/sub 메시지 처리 시간")
+                .tag("topic", topic)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+            this.dropped = Counter.builder(DROPPED)
+                .description("토픽 큐가 가득 차 버린 pub/sub 메시지 수")
+                .tag("topic", topic)
+                .register(meterRegistry);
+        }
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            queue.offer(new Pending(message, pattern, System.nanoTime()));
+            if (size.incrementAndGet() > queueCapacity && queue.poll() != null) {
+                size.decrementAndGet();
+                dropped.increment();
+                log.warn("[Redis pub/sub] 처리 지연으로 가장 오래된 메시지를 버림 - 토픽 : {}, 대기 : {}", topic, size.get());
+            }
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < DRAIN_BATCH; i++) {
+                    Pending pending = queue.poll();
+                    if (pending == null) {
+                        break;
+                    }
+                    size.decrementAndGet();
+                    long start = System.nanoTime();
+                    lag.record(start - pending.receivedAt(), TimeUnit.NANOSECONDS);
+                    try {
+                        delegate.onMessage(pending.message(), pending.pattern());
+                    } catch (Exception e) {
+                        log.error("[Redis pub/sub] 메시지 처리 실패 - 토픽 : {}", topic, e);
+                    } finally {
+                        processing.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                // 처리 중 들어온 메시지가 있으면 이어서 처리
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        // 토픽마다 drain 작업은 하나만 돈다 ( 순서 보장 )
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                workers.execute(this);
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+                log.warn("[Redis pub/sub] 처리 작업 제출 실패 - 토픽 : {}, 대기 : {}, error : {}",
+                    topic, size.get(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.sprint.mission.discodeit.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+/**
+ * 캐시 미스 시 같은 키의 로드를 하나로 합친다
+ * - 노드 내 : 키별 in-flight future 를 공유해 동시 호출 중 한 스레드만 로더를 실행한다
+ * - 노드 간 : 짧은 Redis lease( SET NX PX )를 잡은 노드만 로더를 실행하고, 나머지는 L2 에 값이 채워지기를 기다린다
+ * Redis 가 없으면 lease 는 항상 획득한 것으로 본다
+ */
+@Slf4j
+public class SingleFlight {
+
+    private static final String LEASE_PREFIX = "discodeit:lease:";
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration leaseTtl;
+    private final Duration leaseWait;
+
+    public SingleFlight(RedisTemplate<String, Object> redisTemplate, Duration leaseTtl, Duration leaseWait) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = leaseTtl;
+        this.leaseWait = leaseWait;
+    }
+
+    /**
+     * 같은 flightKey 로 동시에 들어온 호출은 먼저 들어온 호출의 결과( 또는 예외 )를 함께 받는다
+     */
+    public Object load(String flightKey, Supplier<Object> loader) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+        if (existing != null) {
+            return join(existing);
+        }
+
+        try {
+            Object value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    /**
+     * 노드 간 lease 획득 시도
+     * @return 획득한 경우 해제용 토큰, 다른 노드가 로드 중이면 null
+     */
+    public String tryAcquireLease(String key) {
+        String token = UUID.randomUUID().toString();
+        if (redisTemplate == null) {
+            return token;
+        }
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LEASE_PREFIX + key, token, leaseTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            // Redis 장애 시에는 노드 내 single-flight 만으로 진행
+            log.warn("[캐시 lease 획득 실패] 키: {}", key, e);
+            return token;
+        }
+    }
+
+    /**
+     * 자기가 잡은 lease 만 해제한다 ( TTL 만료 후 다른 노드가 잡은 lease 를 지우지 않도록 토큰 비교 )
+     */
+    public void releaseLease(String key, String token) {
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            // 인자는 SET 과 같은 값 직렬화기로 직렬화되어 저장된 토큰과 비교된다
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + key), token);
+        } catch (Exception e) {
+            log.warn("[캐시 lease 해제 실패] 키: {} ( TTL 만료로 해제됨 )", key, e);
+        }
+    }
+
+    /**
+     * lease 를 잡지 못했을 때 다른 노드의 로드 결과를 기다리는 최대 시간
+     */
+    public Duration leaseWait() {
+        return leaseWait;
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
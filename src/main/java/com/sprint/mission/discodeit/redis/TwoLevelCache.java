@@ -0,0 +1,283 @@
+package com.sprint.mission.discodeit.redis;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Caffeine L1 ( 노드 로컬 힙 ) + Redis L2 2단 캐시
+ * - 조회 : L1 -> L2 순서, L2 히트 값은 L1 에 채운다 ( L1 히트는 네트워크 / 역직렬화 없음 )
+ * - 변경 : L2 반영 후 로컬 L1 을 갱신하고, 다른 노드의 L1 은 invalidation 메시지로 비운다
+ * - 미스 : get(key, loader) ( @Cacheable(sync = true) ) 는 {@link SingleFlight} 로 노드 내 / 노드 간 로드를 하나로 합친다
+ * - stale-while-revalidate : refreshAfterWrite 가 지난 L1 값은 그대로 돌려주고 백그라운드에서 한 번만 L2 를 다시 읽는다
+ *   ( @Cacheable 로더는 호출한 스레드의 트랜잭션 / SecurityContext 에 묶여 있으므로 백그라운드에서 실행하지 않는다.
+ *     로더는 L1 / L2 모두 없을 때 요청 스레드에서만 실행된다 )
+ * L1 키는 RedisCache 가 키를 문자열로 바꾸는 방식( toString )과 맞춰 두어 노드 간 메시지로 그대로 전달한다
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private static final long LEASE_POLL_MILLIS = 50;
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> l1;
+    private final Cache l2;
+    // ( cacheName, key ) -> 다른 노드로 무효화 전파 ( key 가 null 이면 전체 )
+    private final BiConsumer<String, String> invalidationPublisher;
+    private final SingleFlight singleFlight;
+    // null 이면 stale-while-revalidate 비활성
+    private final Duration refreshAfterWrite;
+    private final Executor refreshExecutor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> l1, Cache l2,
+        BiConsumer<String, String> invalidationPublisher, SingleFlight singleFlight,
+        Duration refreshAfterWrite, Executor refreshExecutor) {
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationPublisher = invalidationPublisher;
+        this.singleFlight = singleFlight;
+        this.refreshAfterWrite = refreshAfterWrite;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String l1Key = l1Key(key);
+        LocalEntry local = l1.getIfPresent(l1Key);
+        if (local != null) {
+            return new SimpleValueWrapper(local.value());
+        }
+
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            putLocal(l1Key, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치 : " + type.getName() + " / " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String l1Key = l1Key(key);
+        LocalEntry local = l1.getIfPresent(l1Key);
+        if (local != null) {
+            if (isStale(local)) {
+                refreshAsync(key, l1Key);
+            }
+            return (T) local.value();
+        }
+
+        return (T) singleFlight.load(name + "::" + l1Key, () -> loadThrough(key, l1Key, valueLoader));
+    }
+
+    // L2 -> ( lease 획득 시 ) 로더 순서로 값을 채운다
+    private Object loadThrough(Object key, String l1Key, Callable<?> valueLoader) {
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            putLocal(l1Key, remote.get());
+            return remote.get();
+        }
+
+        String leaseKey = name + "::" + l1Key;
+        String leaseToken = singleFlight.tryAcquireLease(leaseKey);
+        try {
+            if (leaseToken == null) {
+                // 다른 노드가 로드 중 : L2 에 채워지기를 잠시 기다리고, 끝내 없으면 직접 로드한다
+                Object awaited = awaitRemote(key);
+                if (awaited != null) {
+                    putLocal(l1Key, awaited);
+                    return awaited;
+                }
+                log.debug("[캐시 lease 대기 초과] 캐시: {}, 키: {} - 직접 로드", name, l1Key);
+            }
+
+            Object value = call(key, valueLoader);
+            if (value != null) {
+                l2.put(key, value);
+                putLocal(l1Key, value);
+            }
+            return value;
+        } finally {
+            if (leaseToken != null) {
+                singleFlight.releaseLease(leaseKey, leaseToken);
+            }
+        }
+    }
+
+    private Object awaitRemote(Object key) {
+        long deadline = System.nanoTime() + singleFlight.leaseWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(LEASE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper remote = l2.get(key);
+            if (remote != null && remote.get() != null) {
+                return remote.get();
+            }
+        }
+        return null;
+    }
+
+    // 키당 한 번만 백그라운드 갱신 ( 이미 갱신 중이거나 실행기가 가득 차면 건너뛰고 오래된 값을 계속 쓴다 )
+    private void refreshAsync(Object key, String l1Key) {
+        if (refreshExecutor == null || !refreshing.add(l1Key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, l1Key);
+                } catch (Exception e) {
+                    log.warn("[캐시 백그라운드 갱신 실패] 캐시: {}, 키: {}", name, l1Key, e);
+                } finally {
+                    refreshing.remove(l1Key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(l1Key);
+        }
+    }
+
+    // L2 값으로 L1 을 다시 채운다 ( 무효화 메시지를 놓친 노드도 다른 노드가 쓴 값을 따라간다 )
+    // L2 에도 없으면 L1 을 비워 다음 요청이 요청 스레드에서 로드하게 한다
+    private void refresh(Object key, String l1Key) {
+        ValueWrapper remote = l2.get(key);
+        if (remote != null && remote.get() != null) {
+            putLocal(l1Key, remote.get());
+        } else {
+            l1.invalidate(l1Key);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        if (value != null) {
+            putLocal(l1Key(key), value);
+        } else {
+            l1.invalidate(l1Key(key));
+        }
+        invalidationPublisher.accept(name, l1Key(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = l2.putIfAbsent(key, value);
+        if (existing == null) {
+            if (value != null) {
+                putLocal(l1Key(key), value);
+            }
+            invalidationPublisher.accept(name, l1Key(key));
+        } else if (existing.get() != null) {
+            putLocal(l1Key(key), existing.get());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(l1Key(key));
+        invalidationPublisher.accept(name, l1Key(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = l2.evictIfPresent(key);
+        l1.invalidate(l1Key(key));
+        invalidationPublisher.accept(name, l1Key(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = l2.invalidate();
+        l1.invalidateAll();
+        invalidationPublisher.accept(name, null);
+        return invalidated;
+    }
+
+    /**
+     * 다른 노드의 변경 통지 반영 ( L1 만 비우고 다시 전파하지 않는다 )
+     */
+    public void invalidateLocal(String key) {
+        if (key == null) {
+            l1.invalidateAll();
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    public long localSize() {
+        return l1.estimatedSize();
+    }
+
+    private void putLocal(String l1Key, Object value) {
+        l1.put(l1Key, new LocalEntry(value, System.nanoTime()));
+    }
+
+    private boolean isStale(LocalEntry entry) {
+        return refreshAfterWrite != null
+            && System.nanoTime() - entry.loadedAtNanos() > refreshAfterWrite.toNanos();
+    }
+
+    private static Object call(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private static String l1Key(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * L1 값과 적재 시각 ( stale-while-revalidate 판단용 )
+     */
+    public record LocalEntry(Object value, long loadedAtNanos) {
+
+    }
+}
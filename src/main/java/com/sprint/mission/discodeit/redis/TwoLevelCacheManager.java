@@ -0,0 +1,120 @@
+package com.sprint.mission.discodeit.redis;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * Redis CacheManager( L2 ) 앞에 노드별 Caffeine L1 을 두는 CacheManager
+ * - 변경은 {@link #INVALIDATION_TOPIC} 으로 발행해 다른 노드의 L1 에서 해당 키를 지운다
+ * - pub/sub 는 유실될 수 있으므로 L1 은 짧은 expireAfterWrite 로 최대 지연을 제한한다
+ * - 미스 시 로드는 {@link SingleFlight} 로 키당 하나만 실행된다 ( evict 직후 동시 요청이 DB 로 몰리지 않게 )
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    public static final String INVALIDATION_TOPIC = "cache:invalidate";
+
+    private final CacheManager l2CacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long l1MaximumSize;
+    private final Duration l1ExpireAfterWrite;
+    // stale-while-revalidate 기준 ( null 이면 비활성, expireAfterWrite 보다 짧아야 의미가 있다 )
+    private final Duration l1RefreshAfterWrite;
+    private final SingleFlight singleFlight;
+    private final Executor refreshExecutor;
+
+    // 자기 노드가 발행한 메시지를 구분하기 위한 식별자 ( 인스턴스 ID 설정과 무관하게 고유 )
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager l2CacheManager, RedisTemplate<String, Object> redisTemplate,
+        MeterRegistry meterRegistry, long l1MaximumSize, Duration l1ExpireAfterWrite,
+        Duration l1RefreshAfterWrite, SingleFlight singleFlight, Executor refreshExecutor) {
+        this.l2CacheManager = l2CacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.l1MaximumSize = l1MaximumSize;
+        this.l1ExpireAfterWrite = l1ExpireAfterWrite;
+        this.l1RefreshAfterWrite = l1RefreshAfterWrite != null && !l1RefreshAfterWrite.isZero()
+            ? l1RefreshAfterWrite : null;
+        this.singleFlight = singleFlight;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(l2CacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 처리
+     */
+    public void onInvalidation(CacheInvalidationMessage message) {
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            cache.invalidateLocal(message.key());
+            log.debug("[L1 캐시 무효화 수신] 캐시: {}, 키: {}", message.cacheName(),
+                message.key() != null ? message.key() : "*");
+        }
+    }
+
+    String getNodeId() {
+        return nodeId;
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache l2 = l2CacheManager.getCache(name);
+        if (l2 == null) {
+            return null;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<String, TwoLevelCache.LocalEntry> l1 = Caffeine.newBuilder()
+            .maximumSize(l1MaximumSize)
+            .expireAfterWrite(l1ExpireAfterWrite)
+            .recordStats()
+            .build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, l1, name, "level", "l1");
+        }
+        log.info("[2단 캐시 생성] 캐시: {}, L1 최대 크기: {}, L1 TTL: {}", name, l1MaximumSize, l1ExpireAfterWrite);
+        return new TwoLevelCache(name, l1, l2, this::publishInvalidation, singleFlight,
+            l1RefreshAfterWrite, refreshExecutor);
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_TOPIC, new CacheInvalidationMessage(nodeId, cacheName, key));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 L1 TTL 만료까지 이전 값을 볼 수 있다
+            log.warn("[L1 캐시 무효화 발행 실패] 캐시: {}, 키: {}", cacheName, key, e);
+        }
+    }
+}
@@ -10,7 +10,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface MessageRepository extends JpaRepository<Message, UUID> {
+public interface MessageRepository extends JpaRepository<Message, UUID>, MessageRepositoryCustom {
 
   @Query("SELECT m FROM Message m "
       + "LEFT JOIN FETCH m.author a "
@@ -26,6 +26,4 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
       + "WHERE m.channel.id = :channelId "
       + "ORDER BY m.createdAt DESC LIMIT 1")
   Optional<Instant> findLastMessageAtByChannelId(@Param("channelId") UUID channelId);
-
-  void deleteAllByChannelId(UUID channelId);
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface MessageRepositoryCustom {
+
+    /**
+     * 채널 타임라인 조회 ( createdAt 커서 이전 메시지 )
+     * 엔티티 없이 MessageDto 컬럼만 읽고, 작성자 / 프로필 / 첨부파일을 한 번의 쿼리로 가져온다
+     * 작성자의 online 은 채우지 않는다 ( 엔티티 경로의 MessageMapper 와 동일 )
+     */
+    Slice<MessageDto> findTimelineByChannelId(UUID channelId, Instant before, Pageable pageable);
+}
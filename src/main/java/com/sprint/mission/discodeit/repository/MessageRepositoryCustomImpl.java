@@ -0,0 +1,155 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 메시지 타임라인 읽기 전용 프로젝션
+ * - 영속성 컨텍스트를 거치지 않는다 ( 엔티티 / 스냅샷 / 지연 로딩 프록시를 만들지 않고 DTO 를 바로 조립 )
+ *   대신 쓰기 트랜잭션 안에서는 먼저 flush 해 아직 반영되지 않은 JPA 쓰기도 보이게 한다 ( JPQL 조회의 auto flush 와 같은 동작 )
+ * - 페이지는 서브쿼리에서 메시지 기준으로 자르고, 첨부파일은 같은 쿼리의 LEFT JOIN 으로 가져와 메시지별로 모은다
+ *   ( 첨부파일 수만큼 행이 늘지만 왕복은 한 번, H2 / PostgreSQL 공통 SQL )
+ */
+@RequiredArgsConstructor
+public class MessageRepositoryCustomImpl implements MessageRepositoryCustom {
+
+    // 정렬 방향만 치환한다 ( Sort.Direction 이름 )
+    private static final String TIMELINE_SQL = """
+        SELECT m.id, m.created_at, m.updated_at, m.content, m.channel_id,
+               u.id AS author_id, u.username, u.email, u.role,
+               p.id AS profile_id, p.file_name AS profile_file_name, p.size AS profile_size,
+               p.content_type AS profile_content_type, p.status AS profile_status,
+               b.id AS attachment_id, b.file_name AS attachment_file_name, b.size AS attachment_size,
+               b.content_type AS attachment_content_type, b.status AS attachment_status
+        FROM (
+            SELECT id, created_at, updated_at, content, channel_id, author_id
+            FROM messages
+            WHERE channel_id = ? AND created_at < ?
+            ORDER BY created_at %1$s, id %1$s
+            LIMIT ? OFFSET ?
+        ) m
+        LEFT JOIN users u ON u.id = m.author_id AND u.deleted_at IS NULL
+        LEFT JOIN binary_contents p ON p.id = u.profile_id
+        LEFT JOIN message_attachments ma ON ma.message_id = m.id
+        LEFT JOIN binary_contents b ON b.id = ma.attachment_id
+        ORDER BY m.created_at %1$s, m.id %1$s, b.created_at, b.id
+        """;
+
+    private static final String TIMELINE_DESC_SQL = TIMELINE_SQL.formatted(Sort.Direction.DESC.name());
+    private static final String TIMELINE_ASC_SQL = TIMELINE_SQL.formatted(Sort.Direction.ASC.name());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<MessageDto> findTimelineByChannelId(UUID channelId, Instant before, Pageable pageable) {
+        flushPendingWrites();
+
+        Sort.Order order = pageable.getSort().getOrderFor("createdAt");
+        String sql = order != null && order.isAscending() ? TIMELINE_ASC_SQL : TIMELINE_DESC_SQL;
+
+        // 다음 페이지 여부 판단용으로 한 건 더 읽는다
+        int pageSize = pageable.getPageSize();
+        Map<UUID, MessageRow> rows = jdbcTemplate.query(sql,
+            ps -> {
+                ps.setObject(1, channelId);
+                ps.setTimestamp(2, Timestamp.from(before));
+                ps.setInt(3, pageSize + 1);
+                ps.setLong(4, pageable.getOffset());
+            },
+            this::collect);
+
+        List<MessageDto> content = new ArrayList<>(Math.min(rows.size(), pageSize));
+        for (MessageRow row : rows.values()) {
+            if (content.size() == pageSize) {
+                break;
+            }
+            content.add(row.toDto());
+        }
+        return new SliceImpl<>(content, pageable, rows.size() > pageSize);
+    }
+
+    // readOnly 트랜잭션은 FlushMode.MANUAL 이라 반영할 쓰기가 없고, 트랜잭션 밖에서는 flush 할 수 없다
+    private void flushPendingWrites() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            entityManager.flush();
+        }
+    }
+
+    private Map<UUID, MessageRow> collect(ResultSet rs) throws SQLException {
+        Map<UUID, MessageRow> rows = new LinkedHashMap<>();
+        while (rs.next()) {
+            UUID messageId = rs.getObject("id", UUID.class);
+            MessageRow row = rows.get(messageId);
+            if (row == null) {
+                row = new MessageRow(messageId, instant(rs, "created_at"), instant(rs, "updated_at"),
+                    rs.getString("content"), rs.getObject("channel_id", UUID.class), author(rs));
+                rows.put(messageId, row);
+            }
+            BinaryContentDto attachment = binaryContent(rs, "attachment_");
+            if (attachment != null) {
+                row.attachments.add(attachment);
+            }
+        }
+        return rows;
+    }
+
+    private static UserDto author(ResultSet rs) throws SQLException {
+        UUID authorId = rs.getObject("author_id", UUID.class);
+        if (authorId == null) {
+            return null;
+        }
+        return new UserDto(authorId, rs.getString("username"), rs.getString("email"),
+            Role.valueOf(rs.getString("role")), binaryContent(rs, "profile_"), null);
+    }
+
+    private static BinaryContentDto binaryContent(ResultSet rs, String prefix) throws SQLException {
+        UUID id = rs.getObject(prefix + "id", UUID.class);
+        if (id == null) {
+            return null;
+        }
+        return new BinaryContentDto(id, rs.getString(prefix + "file_name"), rs.getLong(prefix + "size"),
+            rs.getString(prefix + "content_type"), BinaryContentStatus.valueOf(rs.getString(prefix + "status")));
+    }
+
+    private static Instant instant(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    private record MessageRow(UUID id, Instant createdAt, Instant updatedAt, String content, UUID channelId,
+                              UserDto author, List<BinaryContentDto> attachments) {
+
+        MessageRow(UUID id, Instant createdAt, Instant updatedAt, String content, UUID channelId, UserDto author) {
+            this(id, createdAt, updatedAt, content, channelId, author, new ArrayList<>());
+        }
+
+        MessageDto toDto() {
+            return new MessageDto(id, createdAt, updatedAt, content, channelId, author, attachments);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * notifications 월 단위 파티션 DDL ( PostgreSQL 전용 )
+ * 파티션 이름은 notifications_pYYYYMM, 범위는 해당 월 UTC 기준 [1일 00:00, 다음 달 1일 00:00)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationPartitionRepository {
+
+    private static final String PARENT_TABLE = "notifications";
+    private static final String PARTITION_PREFIX = "notifications_p";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{6})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 노드가 동시에 유지보수하지 않도록 트랜잭션 범위 advisory lock 을 시도한다
+     * @return 락을 잡았으면 true ( 트랜잭션 종료 시 자동 해제 )
+     */
+    public boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext('notifications_partition_maintenance'))",
+            Boolean.class));
+    }
+
+    /**
+     * 현재 붙어 있는 월 파티션 목록 ( default 파티션 제외, 오래된 순 )
+     */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                SELECT child.relname
+                FROM pg_inherits
+                JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+                WHERE parent.relname = ?
+                """, String.class, PARENT_TABLE).stream()
+            .map(NotificationPartitionRepository::parseMonth)
+            .filter(Objects::nonNull)
+            .sorted()
+            .toList();
+    }
+
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+            "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+            partitionName(month), PARENT_TABLE, startOf(month), startOf(month.plusMonths(1))));
+    }
+
+    /**
+     * 파티션을 통째로 삭제한다 ( 행 단위 DELETE 와 달리 dead tuple / VACUUM 부담이 없다 )
+     */
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+
+    private static Instant startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+
+    private static YearMonth parseMonth(String tableName) {
+        Matcher matcher = PARTITION_NAME.matcher(tableName);
+        return matcher.matches() ? YearMonth.parse(matcher.group(1), SUFFIX_FORMAT) : null;
+    }
+}
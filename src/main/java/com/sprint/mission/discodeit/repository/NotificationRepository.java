@@ -1,12 +1,42 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.Notification;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 알림 목록은 (receiver_id, created_at, id) 인덱스를 타는 keyset 방식으로만 조회한다
+ * notifications 는 created_at 파티션 테이블이므로 커서 조건은 created_at 상한을 단독 조건으로 둬서
+ * 커서보다 최신인 파티션이 pruning 으로 제외되게 한다
+ * 채널 집계 알림 upsert 는 {@link NotificationRepositoryCustom} 참고
+ */
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, UUID> {
-    List<Notification> findAllByReceiverIdOrderByCreatedAtDesc(UUID receiverId);
+public interface NotificationRepository extends JpaRepository<Notification, UUID>,
+    NotificationRepositoryCustom {
+
+    @Query("SELECT n FROM Notification n "
+        + "WHERE n.receiverId = :receiverId "
+        + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findLatestByReceiverId(@Param("receiverId") UUID receiverId, Limit limit);
+
+    @Query("SELECT n FROM Notification n "
+        + "WHERE n.receiverId = :receiverId "
+        + "AND n.createdAt <= :createdAt "
+        + "AND (n.createdAt < :createdAt OR n.id < :id) "
+        + "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findPageByReceiverIdBefore(@Param("receiverId") UUID receiverId,
+        @Param("createdAt") Instant createdAt,
+        @Param("id") UUID id,
+        Limit limit);
+
+    // 집계 upsert 결과 재조회 ( upsert 와 같은 created_at 하한으로 최근 파티션만 본다 )
+    List<Notification> findAllByChannelIdAndReceiverIdInAndCreatedAtGreaterThanEqual(UUID channelId,
+        Collection<UUID> receiverIds, Instant since);
 }
@@ -0,0 +1,15 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import java.time.Instant;
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+
+    /**
+     * ( 수신자, 채널 ) 당 since 이후에 만들어진 한 행인 집계 알림 upsert
+     * 없으면 새로 만들고, 있으면 누적 수를 더하고 제목 / 미리보기를 최신으로 갱신한다
+     * created_at ( 파티션 키 ) 은 바꾸지 않는다 ( 행이 파티션 사이를 옮겨 다니지 않고, 목록 위치도 그대로 )
+     */
+    void upsertAggregates(List<NotificationAggregateRequest> requests, Instant since);
+}
@@ -0,0 +1,79 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import com.sprint.mission.discodeit.util.UuidV7;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 집계 알림 upsert 는 JPA 로 표현할 수 없어 JDBC 배치로 처리한다
+ * - notifications 는 created_at 파티션 테이블이라 ( receiver_id, channel_id ) unique 인덱스를 둘 수 없다
+ *   ( ON CONFLICT 불가 ) 대신 ( 수신자, 채널 ) 단위 advisory lock 을 정렬된 순서로 잡은 뒤 UPDATE, 없으면 INSERT 한다
+ * - 갱신 대상은 since 이후에 만들어진 행으로 한정한다 ( created_at 하한으로 최근 파티션만 보도록 pruning )
+ *   기간이 지난 집계 알림은 그대로 두고 새 집계 알림을 만든다 ( 오래된 파티션의 행에 계속 누적되지 않는다 )
+ * - created_at 은 갱신하지 않는다 ( 파티션 키를 바꾸면 행이 파티션 사이로 옮겨진다 )
+ */
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+
+    // 정렬된 순서로 잡아 동시 upsert 간 데드락을 막는다 ( 트랜잭션 종료 시 자동 해제 )
+    private static final String LOCK_SQL = """
+        SELECT pg_advisory_xact_lock(k)
+        FROM (SELECT DISTINCT k FROM unnest(?::bigint[]) AS u(k) ORDER BY k) AS keys
+        """;
+
+    private static final String UPSERT_SQL = """
+        WITH updated AS (
+            UPDATE notifications
+            SET unread_count = unread_count + ?, title = ?, content = ?
+            WHERE receiver_id = ? AND channel_id = ? AND created_at >= ?
+            RETURNING id
+        )
+        INSERT INTO notifications (id, created_at, receiver_id, title, content, channel_id, unread_count)
+        SELECT ?::uuid, ?::timestamptz, ?::uuid, ?, ?, ?::uuid, ?::int
+        WHERE NOT EXISTS (SELECT 1 FROM updated)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAggregates(List<NotificationAggregateRequest> requests, Instant since) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Long[] lockKeys = requests.stream()
+            .map(request -> lockKey(request.receiverId(), request.channelId()))
+            .toArray(Long[]::new);
+        jdbcTemplate.query(LOCK_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", lockKeys)),
+            rs -> { });
+
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp windowStart = Timestamp.from(since);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, requests, requests.size(), (ps, request) -> {
+            ps.setInt(1, request.increment());
+            ps.setString(2, request.title());
+            ps.setString(3, request.preview());
+            ps.setObject(4, request.receiverId());
+            ps.setObject(5, request.channelId());
+            ps.setTimestamp(6, windowStart);
+            ps.setObject(7, UuidV7.randomUuid());
+            ps.setTimestamp(8, now);
+            ps.setObject(9, request.receiverId());
+            ps.setString(10, request.title());
+            ps.setString(11, request.preview());
+            ps.setObject(12, request.channelId());
+            ps.setInt(13, request.increment());
+        });
+    }
+
+    // 충돌해도 같은 키끼리 직렬화될 뿐이므로 64비트로 접어 쓴다
+    private static long lockKey(UUID receiverId, UUID channelId) {
+        return ((long) receiverId.hashCode() << 32) | (channelId.hashCode() & 0xffffffffL);
+    }
+}
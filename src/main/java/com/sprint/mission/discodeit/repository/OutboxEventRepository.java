@@ -0,0 +1,56 @@
+package com.sprint.mission.discodeit.repository;
+
+import com.sprint.mission.discodeit.entity.OutboxEvent;
+import com.sprint.mission.discodeit.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    // 여러 인스턴스가 동시에 relay 해도 같은 행을 잡지 않도록 SKIP LOCKED ( lock.timeout = -2 )
+    // 행 잠금은 가져가는 짧은 트랜잭션 동안만 잡고, ack 를 기다리는 동안은 lockedUntil 로 막는다
+    // 실패 후 백오프 중인 행 ( nextAttemptAt 이 아직 오지 않은 행 ) 은 가져가지 않는다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM OutboxEvent o "
+        + "WHERE o.status = :status "
+        + "AND (o.lockedUntil IS NULL OR o.lockedUntil < :now) "
+        + "AND (o.nextAttemptAt IS NULL OR o.nextAttemptAt <= :now) "
+        + "ORDER BY o.createdAt ASC")
+    List<OutboxEvent> findBatchForRelay(@Param("status") OutboxStatus status, @Param("now") Instant now,
+        Pageable pageable);
+
+    // 가져간 행 밖에 남아 있는 키별 가장 오래된 PENDING 행 시각
+    // ( 다른 relay 가 보내는 중 / 백오프 중 / SKIP LOCKED 로 건너뛴 행 ) 이보다 뒤의 같은 키 행은 보내지 않는다
+    @Query("SELECT o.messageKey AS messageKey, MIN(o.createdAt) AS createdAt FROM OutboxEvent o "
+        + "WHERE o.status = com.sprint.mission.discodeit.entity.OutboxStatus.PENDING "
+        + "AND o.messageKey IN :keys "
+        + "AND o.id NOT IN :claimedIds "
+        + "GROUP BY o.messageKey")
+    List<PendingKeyHead> findPendingKeyHeads(@Param("keys") Collection<String> keys,
+        @Param("claimedIds") Collection<UUID> claimedIds);
+
+    interface PendingKeyHead {
+
+        String getMessageKey();
+
+        Instant getCreatedAt();
+    }
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent o "
+        + "WHERE o.status = com.sprint.mission.discodeit.entity.OutboxStatus.SENT "
+        + "AND o.sentAt < :before")
+    int deleteSentBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,125 @@
+package com.sprint.mission.discodeit.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채널 / 사용자 삭제 후 연관 행 정리용 청크 단위 DML
+ * - 엔티티를 읽지 않고 id 만 골라 IN 목록으로 지운다 ( 한 번에 최대 limit 행, 트랜잭션은 호출 측이 청크마다 연다 )
+ * - deleted_at 이 찍힌 channels / users 행은 @SQLRestriction 때문에 JPA 로 보이지 않으므로 여기서 직접 다룬다
+ */
+@Repository
+@RequiredArgsConstructor
+public class PurgeRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<UUID> findDeletedChannelIds(Instant deletedBefore) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM channels WHERE deleted_at IS NOT NULL AND deleted_at < ?",
+            UUID.class, Timestamp.from(deletedBefore));
+    }
+
+    public List<UUID> findDeletedUserIds(Instant deletedBefore) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM users WHERE deleted_at IS NOT NULL AND deleted_at < ?",
+            UUID.class, Timestamp.from(deletedBefore));
+    }
+
+    public List<UUID> findMessageIdsByChannelId(UUID channelId, int limit) {
+        return jdbcTemplate.queryForList(
+            "SELECT id FROM messages WHERE channel_id = ? LIMIT ?", UUID.class, channelId, limit);
+    }
+
+    public List<UUID> findAttachmentIds(Collection<UUID> messageIds) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+            "SELECT attachment_id FROM message_attachments WHERE message_id IN (" + placeholders(messageIds) + ")",
+            UUID.class, messageIds.toArray());
+    }
+
+    /**
+     * 메시지와 첨부 연결 행을 지운다 ( 첨부파일 binary_contents 행은 {@link #deleteBinaryContents} 로 따로 지운다 )
+     */
+    public int deleteMessages(Collection<UUID> messageIds) {
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+        String in = placeholders(messageIds);
+        Object[] args = messageIds.toArray();
+        jdbcTemplate.update("DELETE FROM message_attachments WHERE message_id IN (" + in + ")", args);
+        return jdbcTemplate.update("DELETE FROM messages WHERE id IN (" + in + ")", args);
+    }
+
+    public int deleteBinaryContents(Collection<UUID> binaryContentIds) {
+        if (binaryContentIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(
+            "DELETE FROM binary_contents WHERE id IN (" + placeholders(binaryContentIds) + ")",
+            binaryContentIds.toArray());
+    }
+
+    public int deleteReadStatusesByChannelId(UUID channelId, int limit) {
+        return deleteChunk("read_statuses", "channel_id", channelId, limit);
+    }
+
+    public int deleteReadStatusesByUserId(UUID userId, int limit) {
+        return deleteChunk("read_statuses", "user_id", userId, limit);
+    }
+
+    /**
+     * 탈퇴한 사용자가 작성한 메시지는 남기고 작성자만 비운다 ( FK 의 ON DELETE SET NULL 을 청크로 나눠 미리 수행 )
+     */
+    public int detachMessagesFromAuthor(UUID authorId, int limit) {
+        List<UUID> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM messages WHERE author_id = ? LIMIT ?", UUID.class, authorId, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(
+            "UPDATE messages SET author_id = NULL WHERE id IN (" + placeholders(ids) + ")", ids.toArray());
+    }
+
+    public UUID findProfileId(UUID userId) {
+        List<UUID> profileIds = jdbcTemplate.queryForList(
+            "SELECT profile_id FROM users WHERE id = ? AND profile_id IS NOT NULL", UUID.class, userId);
+        return profileIds.isEmpty() ? null : profileIds.get(0);
+    }
+
+    /**
+     * 연관 행을 모두 정리한 뒤 마지막으로 채널 행을 지운다 ( 삭제 표시된 행만 )
+     */
+    public boolean deleteChannel(UUID channelId) {
+        return jdbcTemplate.update("DELETE FROM channels WHERE id = ? AND deleted_at IS NOT NULL", channelId) > 0;
+    }
+
+    public boolean deleteUser(UUID userId) {
+        jdbcTemplate.update("DELETE FROM social_accounts WHERE user_id = ?", userId);
+        return jdbcTemplate.update("DELETE FROM users WHERE id = ? AND deleted_at IS NOT NULL", userId) > 0;
+    }
+
+    // table / column 은 이 클래스의 상수만 넘어온다
+    private int deleteChunk(String table, String column, UUID value, int limit) {
+        List<UUID> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM " + table + " WHERE " + column + " = ? LIMIT ?", UUID.class, value, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(
+            "DELETE FROM " + table + " WHERE id IN (" + placeholders(ids) + ")", ids.toArray());
+    }
+
+    private static String placeholders(Collection<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+}
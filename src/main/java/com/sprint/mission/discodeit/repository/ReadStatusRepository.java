@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.entity.ReadStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,11 +21,16 @@ public interface ReadStatusRepository extends JpaRepository<ReadStatus, UUID> {
 
   Boolean existsByUserIdAndChannelId(UUID userId, UUID channelId);
 
-  void deleteAllByChannelId(UUID channelId);
-
   @Query("SELECT r FROM ReadStatus r "
       + "JOIN FETCH r.user u "
       + "WHERE r.channel.id = :channelId AND r.notificationEnabled = true")
   List<ReadStatus> findAllByChannelIdAndNotificationEnabledTrue(@Param("channelId") UUID channelId);
 
+  // 배치 컨슈머용 : 여러 채널의 알림 구독자를 한 번에 조회
+  @Query("SELECT r FROM ReadStatus r "
+      + "JOIN FETCH r.user u "
+      + "WHERE r.channel.id IN :channelIds AND r.notificationEnabled = true")
+  List<ReadStatus> findAllByChannelIdInAndNotificationEnabledTrue(
+      @Param("channelIds") Collection<UUID> channelIds);
+
 }
@@ -1,9 +1,12 @@
 package com.sprint.mission.discodeit.repository;
 
+import com.sprint.mission.discodeit.util.UuidObjectMap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
@@ -11,9 +14,9 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Repository
 @Slf4j
-public class SseEmitterRepository {
+public class SseEmitterRepository implements MeterBinder {
 
-    private final ConcurrentMap<UUID, List<SseEmitter>> data = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, List<SseEmitter>> data = new UuidObjectMap<>();
 
     public void save(UUID receiverId, SseEmitter sseEmitter) {
         data.computeIfAbsent(receiverId, k -> new ArrayList<>()).add(sseEmitter);
@@ -24,17 +27,37 @@ public class SseEmitterRepository {
         return data.getOrDefault(receiverId, new ArrayList<>());
     }
 
-    public void delete(UUID receiverId, SseEmitter sseEmitter) {
+    /**
+     * @return 실제로 제거된 경우 true ( 이미 정리된 emitter면 false )
+     */
+    public boolean delete(UUID receiverId, SseEmitter sseEmitter) {
         List<SseEmitter> emitters = data.get(receiverId);
-        if (emitters != null) {
-            emitters.remove(sseEmitter);
-            if (emitters.isEmpty()) {
-                data.remove(receiverId);
-            }
+        if (emitters == null) {
+            return false;
         }
+        boolean removed = emitters.remove(sseEmitter);
+        if (emitters.isEmpty()) {
+            data.remove(receiverId);
+        }
+        return removed;
+    }
+
+    public int countEmitters() {
+        return data.values().stream().mapToInt(List::size).sum();
+    }
+
+    public int countReceivers() {
+        return data.size();
     }
 
     public ConcurrentMap<UUID, List<SseEmitter>> findAll() {
         return data;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.emitter.receivers", this, SseEmitterRepository::countReceivers)
+            .description("emitter를 하나 이상 보유한 수신자 수")
+            .register(registry);
+    }
+}
@@ -1,6 +1,9 @@
 package com.sprint.mission.discodeit.repository;
 
 import com.sprint.mission.discodeit.dto.data.SseMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +15,7 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 @Slf4j
-public class SseMessageRepository {
+public class SseMessageRepository implements MeterBinder {
 
     private final ConcurrentLinkedDeque<UUID> eventIdQueue = new ConcurrentLinkedDeque<>();
     private final Map<UUID, SseMessage> messages = new ConcurrentHashMap<>();
@@ -54,4 +57,18 @@ public class SseMessageRepository {
 
         return result;
     }
-}
\ No newline at end of file
+
+    public int size() {
+        return messages.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("sse.buffer.size", this, SseMessageRepository::size)
+            .description("재전송용으로 보관 중인 SSE 이벤트 수")
+            .register(registry);
+        Gauge.builder("sse.buffer.capacity", () -> MAX_SIZE)
+            .description("재전송 버퍼 최대 크기")
+            .register(registry);
+    }
+}
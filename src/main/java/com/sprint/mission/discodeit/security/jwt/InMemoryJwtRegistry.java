@@ -1,8 +1,9 @@
 package com.sprint.mission.discodeit.security.jwt;
 
+import com.sprint.mission.discodeit.util.UuidObjectMap;
 import java.util.Queue;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +17,7 @@ import org.springframework.stereotype.Component;
 public class InMemoryJwtRegistry implements JwtRegistry{
 
     // <userId, Queue<JwtInformation>>
-    private final ConcurrentHashMap<UUID, Queue<JwtInformation>> origin = new ConcurrentHashMap<>();
+    private final ConcurrentMap<UUID, Queue<JwtInformation>> origin = new UuidObjectMap<>();
     private final int maxActiveJwtCount;
     private final JwtTokenProvider jwtTokenProvider;
 
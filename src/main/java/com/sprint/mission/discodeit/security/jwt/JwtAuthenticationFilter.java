@@ -87,10 +87,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 // SecurityContext에 인증 정보 설정
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                // JWT 토큰이 유효할 때 사용자를 온라인으로 표시
+                // JWT 토큰이 유효할 때 사용자 활동 기록 ( touch 간격 안의 요청은 읽기만 하고 넘어간다 )
                 if (userDetails instanceof DiscodeitUserDetails discodeitUserDetails) {
                     userSessionService.markUserOnline(discodeitUserDetails.getUserId());
-                    log.debug("User {} marked as online", discodeitUserDetails.getUserId());
                 }
 
                 log.debug("JWT 인증 성공 : {}", username);
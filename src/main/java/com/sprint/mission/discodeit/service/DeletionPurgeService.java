@@ -0,0 +1,244 @@
+package com.sprint.mission.discodeit.service;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.User;
+import com.sprint.mission.discodeit.repository.PurgeRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 채널 / 사용자 삭제의 백그라운드 정리
+ * - 요청 트랜잭션은 deleted_at 만 찍고 끝난다 ( 조회에서는 @SQLRestriction 으로 바로 사라진다 )
+ * - 커밋 이후 purge 스레드가 메시지 / 첨부파일 / 읽음 상태를 chunk-size 행씩 별도 트랜잭션으로 지우고,
+ *   남은 것이 없으면 채널 / 사용자 행을 삭제한다 ( 행 수와 무관하게 트랜잭션 하나의 크기가 일정하다 )
+ * - 저장소 파일은 binary_contents 행과 같은 청크에서 지운다 ( 커밋 전에 지워 파일만 남는 일이 없게 한다 )
+ * - 진행 상황은 청크 로그와 purge.rows{target, table} 카운터, purge.active 게이지로 본다
+ * 재기동 / 큐 거절로 멈춘 정리는 resume-after 가 지난 삭제 표시 행을 주기적으로 찾아 이어서 수행한다
+ * ( 청크는 멱등이라 여러 노드가 같은 대상을 동시에 정리해도 결과는 같다 )
+ */
+@Slf4j
+@Component
+public class DeletionPurgeService {
+
+    static final String TARGET_CHANNEL = "channel";
+    static final String TARGET_USER = "user";
+
+    // 이 청크 수마다 진행 로그를 남긴다
+    private static final int PROGRESS_LOG_INTERVAL = 20;
+
+    private final PurgeRepository purgeRepository;
+    private final BinaryContentStorage binaryContentStorage;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor purgeTaskExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 이 노드에서 진행 중인 대상 ( 같은 대상을 중복 실행하지 않는다 )
+    private final Set<UUID> running = ConcurrentHashMap.newKeySet();
+
+    @Value("${app.purge.chunk-size:500}")
+    private int chunkSize;
+
+    // 청크 사이 대기 ( 복제 지연 / autovacuum 이 따라올 여유 )
+    @Value("${app.purge.chunk-pause:50ms}")
+    private Duration chunkPause;
+
+    // 삭제 표시 후 이 시간이 지나도 남아 있으면 주기 작업이 이어서 정리한다
+    @Value("${app.purge.resume-after:10m}")
+    private Duration resumeAfter;
+
+    public DeletionPurgeService(PurgeRepository purgeRepository,
+        BinaryContentStorage binaryContentStorage,
+        EntityManagerFactory entityManagerFactory,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("purgeTaskExecutor") TaskExecutor purgeTaskExecutor,
+        MeterRegistry meterRegistry) {
+        this.purgeRepository = purgeRepository;
+        this.binaryContentStorage = binaryContentStorage;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.purgeTaskExecutor = purgeTaskExecutor;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("purge.active", running, Set::size)
+            .description("이 노드에서 진행 중인 삭제 정리 작업 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 채널 삭제 표시가 커밋되면 정리를 시작한다 ( 롤백되면 아무것도 하지 않는다 )
+     */
+    public void purgeChannelAfterCommit(UUID channelId) {
+        afterCommit(() -> {
+            // 2차 캐시에는 삭제 표시된 상태가 올라가 있으므로 id 조회가 DB 를 다시 읽게 한다
+            entityManagerFactory.getCache().evict(Channel.class, channelId);
+            submit(channelId, () -> purgeChannel(channelId));
+        });
+    }
+
+    public void purgeUserAfterCommit(UUID userId) {
+        afterCommit(() -> {
+            entityManagerFactory.getCache().evict(User.class, userId);
+            submit(userId, () -> purgeUser(userId));
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.purge.resume-interval-ms:300000}",
+        initialDelayString = "${app.purge.resume-interval-ms:300000}")
+    public void resumePending() {
+        Instant deletedBefore = Instant.now().minus(resumeAfter);
+        for (UUID channelId : purgeRepository.findDeletedChannelIds(deletedBefore)) {
+            submit(channelId, () -> purgeChannel(channelId));
+        }
+        for (UUID userId : purgeRepository.findDeletedUserIds(deletedBefore)) {
+            submit(userId, () -> purgeUser(userId));
+        }
+    }
+
+    /**
+     * 메시지 ( 첨부 연결 / 첨부파일 행 / 저장소 파일 포함 ) → 읽음 상태 → 채널 순으로 지운다
+     */
+    void purgeChannel(UUID channelId) {
+        if (!running.add(channelId)) {
+            return;
+        }
+        try {
+            log.info("[채널 정리 시작] 채널 ID : {}", channelId);
+            long messages = drain(TARGET_CHANNEL, "messages", channelId, () -> deleteMessageChunk(channelId));
+            long readStatuses = drain(TARGET_CHANNEL, "read_statuses", channelId,
+                () -> purgeRepository.deleteReadStatusesByChannelId(channelId, chunkSize));
+            transactionTemplate.executeWithoutResult(status -> purgeRepository.deleteChannel(channelId));
+            log.info("[채널 정리 완료] 채널 ID : {}, 메시지 : {}건, 읽음 상태 : {}건", channelId, messages, readStatuses);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[채널 정리 실패] 채널 ID : {} ( 다음 주기에 이어서 정리 )", channelId, e);
+        } finally {
+            running.remove(channelId);
+        }
+    }
+
+    /**
+     * 작성 메시지의 작성자 비우기 → 읽음 상태 → 사용자 / 소셜 계정 → 프로필 이미지 순으로 정리한다
+     */
+    void purgeUser(UUID userId) {
+        if (!running.add(userId)) {
+            return;
+        }
+        try {
+            log.info("[사용자 정리 시작] 사용자 ID : {}", userId);
+            long messages = drain(TARGET_USER, "messages", userId,
+                () -> purgeRepository.detachMessagesFromAuthor(userId, chunkSize));
+            long readStatuses = drain(TARGET_USER, "read_statuses", userId,
+                () -> purgeRepository.deleteReadStatusesByUserId(userId, chunkSize));
+            transactionTemplate.executeWithoutResult(status -> {
+                UUID profileId = purgeRepository.findProfileId(userId);
+                purgeRepository.deleteUser(userId);
+                if (profileId != null) {
+                    purgeRepository.deleteBinaryContents(List.of(profileId));
+                    binaryContentStorage.deleteAll(List.of(profileId));
+                }
+            });
+            log.info("[사용자 정리 완료] 사용자 ID : {}, 작성자 해제 메시지 : {}건, 읽음 상태 : {}건",
+                userId, messages, readStatuses);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[사용자 정리 실패] 사용자 ID : {} ( 다음 주기에 이어서 정리 )", userId, e);
+        } finally {
+            running.remove(userId);
+        }
+    }
+
+    // 한 청크 : 메시지 id 를 고르고 첨부파일 행 / 저장소 파일까지 같은 트랜잭션에서 지운다
+    private int deleteMessageChunk(UUID channelId) {
+        List<UUID> messageIds = purgeRepository.findMessageIdsByChannelId(channelId, chunkSize);
+        if (messageIds.isEmpty()) {
+            return 0;
+        }
+        List<UUID> attachmentIds = purgeRepository.findAttachmentIds(messageIds);
+        int deleted = purgeRepository.deleteMessages(messageIds);
+        if (!attachmentIds.isEmpty()) {
+            int attachments = purgeRepository.deleteBinaryContents(attachmentIds);
+            binaryContentStorage.deleteAll(attachmentIds);
+            rowCounter(TARGET_CHANNEL, "binary_contents").increment(attachments);
+        }
+        return deleted;
+    }
+
+    // 청크가 빌 때까지 반복한다 ( 청크마다 트랜잭션 커밋 )
+    private long drain(String target, String table, UUID id, IntSupplier chunk) throws InterruptedException {
+        Counter counter = rowCounter(target, table);
+        long total = 0;
+        int chunks = 0;
+        while (true) {
+            Integer affected = transactionTemplate.execute(status -> chunk.getAsInt());
+            if (affected == null || affected == 0) {
+                return total;
+            }
+            total += affected;
+            counter.increment(affected);
+            if (++chunks % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("[삭제 정리 진행] 대상 : {} {}, {} : {}건 ( {}청크 )", target, id, table, total, chunks);
+            }
+            if (!chunkPause.isZero()) {
+                Thread.sleep(chunkPause.toMillis());
+            }
+        }
+    }
+
+    private void submit(UUID id, Runnable purge) {
+        if (running.contains(id)) {
+            return;
+        }
+        try {
+            purgeTaskExecutor.execute(purge);
+        } catch (TaskRejectedException e) {
+            log.warn("[삭제 정리 대기] 작업 큐가 가득 차 다음 주기에 정리합니다. 대상 ID : {}", id);
+        }
+    }
+
+    private Counter rowCounter(String target, String table) {
+        return Counter.builder("purge.rows")
+            .description("삭제 정리로 지운 ( 작성자를 비운 ) 행 수")
+            .tag("target", target)
+            .tag("table", table)
+            .register(meterRegistry);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
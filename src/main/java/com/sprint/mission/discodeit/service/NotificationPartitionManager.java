@@ -0,0 +1,74 @@
+package com.sprint.mission.discodeit.service;
+
+import com.sprint.mission.discodeit.repository.NotificationPartitionRepository;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * notifications 파티션 유지보수
+ * - 이번 달부터 months-ahead 개월 뒤까지 파티션을 미리 만들어 default 파티션에 행이 쌓이지 않게 한다
+ * - 보존 기간( retention-months )이 완전히 지난 월 파티션은 DROP 한다 ( 0 이면 삭제하지 않는다, 기본값 )
+ *   DROP 은 읽지 않은 알림 / 집계 알림도 함께 지우므로 보존 정책이 정해진 환경에서만 켠다
+ * 기동 직후 한 번, 이후 cron 주기로 실행되며 여러 노드 중 advisory lock 을 잡은 한 노드만 수행한다
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "app.notification.partition.enabled", havingValue = "true")
+public class NotificationPartitionManager {
+
+    private final NotificationPartitionRepository notificationPartitionRepository;
+
+    @Value("${app.notification.partition.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${app.notification.partition.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.notification.partition.cron:0 0 3 * * *}", zone = "UTC")
+    @Transactional
+    public void maintain() {
+        maintain(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    void maintain(YearMonth currentMonth) {
+        if (!notificationPartitionRepository.tryMaintenanceLock()) {
+            log.debug("[알림 파티션] 다른 노드가 유지보수 중이므로 건너뜀");
+            return;
+        }
+
+        List<YearMonth> existing = notificationPartitionRepository.findPartitionMonths();
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!existing.contains(month)) {
+                notificationPartitionRepository.createPartition(month);
+                log.info("[알림 파티션 생성] {}", month);
+            }
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        // retentionMonths=3 이면 이번 달 포함 최근 4개월( 현재 진행 중인 달 + 3 )만 남긴다
+        YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+        for (YearMonth month : existing) {
+            if (month.isBefore(oldestKept)) {
+                notificationPartitionRepository.dropPartition(month);
+                log.info("[알림 파티션 삭제] {} ( 보존 기간 {}개월 경과 )", month, retentionMonths);
+            }
+        }
+    }
+}
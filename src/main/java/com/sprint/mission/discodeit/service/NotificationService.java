@@ -1,6 +1,9 @@
 package com.sprint.mission.discodeit.service;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import com.sprint.mission.discodeit.dto.request.NotificationCreateRequest;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,7 +11,23 @@ public interface NotificationService {
 
     NotificationDto create(UUID receiverId, String title, String content);
 
-    List<NotificationDto> findAllByReceiverId(UUID receiverId);
+    /**
+     * 알림 일괄 생성 ( 한 트랜잭션, JDBC 배치 insert )
+     * 반환 목록은 요청 순서를 유지한다
+     */
+    List<NotificationDto> createAll(List<NotificationCreateRequest> requests);
+
+    /**
+     * 채널 집계 알림 일괄 upsert ( 수신자, 채널 당 aggregate-window 안에서 한 행 )
+     * 반환 목록은 이번에 새로 만들어지거나 누적 수가 늘어난 집계 알림이다
+     */
+    List<NotificationDto> aggregateAll(List<NotificationAggregateRequest> requests);
+
+    /**
+     * 알림 목록 keyset 페이지 조회 ( 최신순 )
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지는 null
+     */
+    PageResponse<NotificationDto> findAllByReceiverId(UUID receiverId, String cursor, int size);
 
     void delete(UUID notificationId, UUID receiverId);
 }
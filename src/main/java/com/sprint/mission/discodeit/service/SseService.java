@@ -1,6 +1,7 @@
 package com.sprint.mission.discodeit.service;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -26,6 +27,13 @@ public interface SseService {
      */
     void send(Collection<UUID> receiverIds, String eventName, Object data);
 
+    /**
+     * 수신자마다 다른 데이터를 한 번의 요청으로 전송 ( 알림 fan-out 용 )
+     * @param eventName 이벤트 이름
+     * @param dataByReceiver 수신자 ID별 전송할 데이터
+     */
+    void sendEach(String eventName, Map<UUID, ?> dataByReceiver);
+
     /**
      * 모든 연결된 사용자에게 브로드캐스트
      * @param eventName 이벤트 이름
@@ -1,62 +1,354 @@
 package com.sprint.mission.discodeit.service;
 
+import static com.sprint.mission.discodeit.util.UuidLongMap.NO_VALUE;
+
+import com.sprint.mission.discodeit.event.message.UserPresenceChangedEvent;
+import com.sprint.mission.discodeit.util.UuidLongMap;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 사용자 접속 상태 ( presence )
+ * - Redis 가 있으면 sorted set( member : userId, score : 마지막 활동 epoch millis )을 클러스터 기준으로 쓴다
+ *   score 가 sessionTimeout 보다 오래된 사용자는 오프라인이며, 주기적으로 제거된다
+ * - 요청마다 Redis 에 쓰지 않고 로컬 버퍼( dirtyUsers )에 모았다가 flush 주기마다 파이프라인 한 번으로 올린다
+ *   ( 사용자당 주기마다 최대 ZADD 한 번, GT 옵션으로 다른 노드가 올린 더 최근 값은 덮어쓰지 않는다 )
+ * - 온라인 / 오프라인 전환은 ZADD 로 새로 추가하거나 ZREM 으로 제거한 노드 한 곳에서만 이벤트로 발행한다
+ * - 로그아웃은 OFFLINE_TOPIC 으로 모든 노드에 알려 각 노드의 로컬 슬롯 / 버퍼도 비운다
+ *   ( 다른 노드가 로컬 상태로 온라인이라 답하거나, 다음 flush 에서 다시 ZADD 하지 않도록 )
+ * - Redis 가 없는 환경( test 프로필 )에서는 노드 로컬 맵만으로 동작한다
+ * - 활동 기록은 사용자별 epoch millis 슬롯에 CAS 로 하며, 마지막 기록이 touchGranularity 이내면 아무것도 쓰지 않는다
+ *   ( 인증된 요청마다 호출되지만 대부분은 락 없는 읽기 한 번으로 끝난다 )
+ * - 슬롯은 UuidLongMap 에 박싱 없이 저장한다 ( 사용자당 AtomicLong / UUID / 노드 객체를 만들지 않는다 )
+ */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class UserSessionService {
 
-    private final Map<UUID, Instant> activeSessions = new ConcurrentHashMap<>();
-    private final Duration sessionTimeout = Duration.ofMinutes(30); // JWT 토큰 만료 시간과 동일
+    static final String PRESENCE_KEY = "discodeit:presence";
+    // 메시지 : "{userId}:{로그아웃 시각 epoch millis}"
+    public static final String OFFLINE_TOPIC = "discodeit:presence:offline";
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    // 만료된 멤버 조회 + 제거를 원자적으로 ( 제거한 멤버만 반환 )
+    private static final DefaultRedisScript<List> SWEEP_SCRIPT = new DefaultRedisScript<>(
+        "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) "
+            + "if #expired > 0 then redis.call('ZREM', KEYS[1], unpack(expired)) end "
+            + "return expired",
+        List.class);
+
+    // 로그아웃 시각 이전 활동으로 남아 있는 멤버만 제거 ( 로그아웃 뒤 다시 활동한 사용자는 남긴다 )
+    private static final DefaultRedisScript<Long> REMOVE_IF_BEFORE_SCRIPT = new DefaultRedisScript<>(
+        "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+            + "if score and tonumber(score) <= tonumber(ARGV[2]) then return redis.call('ZREM', KEYS[1], ARGV[1]) end "
+            + "return 0",
+        Long.class);
+
+    // 이 노드에서 관측한 사용자별 마지막 활동 시각 ( epoch millis )
+    private final UuidLongMap activeSessions = new UuidLongMap();
+    // 다음 flush 때 Redis 에 올릴 사용자
+    private final Set<UUID> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.presence.timeout:30m}")
+    private Duration sessionTimeout = Duration.ofMinutes(30); // JWT 토큰 만료 시간과 동일
+
+    // 이 간격 안의 활동은 다시 기록하지 않는다 ( sessionTimeout 보다 충분히 작아야 한다 )
+    @Value("${app.presence.touch-granularity:30s}")
+    private Duration touchGranularity = Duration.ofSeconds(30);
 
     public void markUserOnline(UUID userId) {
-        activeSessions.put(userId, Instant.now());
+        long now = System.currentTimeMillis();
+        long previous = activeSessions.get(userId);
+        if ((previous != NO_VALUE && now - previous < touchGranularity.toMillis())
+            || !activeSessions.compareAndSet(userId, previous, now)) {
+            // 최근에 기록됐거나 다른 요청이 방금 기록함
+            return;
+        }
+
+        if (redisTemplateProvider.getIfAvailable() != null) {
+            dirtyUsers.add(userId);
+        } else if (previous == NO_VALUE || isExpired(previous, now)) {
+            eventPublisher.publishEvent(UserPresenceChangedEvent.online(userId, Instant.ofEpochMilli(now)));
+        }
         log.debug("User {} marked as online", userId);
     }
 
     public void markUserOffline(UUID userId) {
-        activeSessions.remove(userId);
+        long loggedOutAt = System.currentTimeMillis();
+        long lastActivity = activeSessions.remove(userId);
+        Instant previous = lastActivity != NO_VALUE ? Instant.ofEpochMilli(lastActivity) : null;
+        dirtyUsers.remove(userId);
+
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        boolean removed = previous != null;
+        if (redisTemplate != null) {
+            try {
+                Long count = redisTemplate.opsForZSet().remove(PRESENCE_KEY, userId.toString());
+                removed = count != null && count > 0;
+                redisTemplate.convertAndSend(OFFLINE_TOPIC, userId + ":" + loggedOutAt);
+            } catch (Exception e) {
+                // 남은 멤버는 만료 정리에서 제거된다
+                log.warn("[Presence] Redis 오프라인 반영 실패 : userId = {}, error = {}", userId, e.getMessage());
+            }
+        }
+
+        if (removed) {
+            eventPublisher.publishEvent(UserPresenceChangedEvent.offline(userId, previous));
+        }
         log.debug("User {} marked as offline", userId);
     }
 
+    /**
+     * 다른 노드 ( 자기 자신 포함 ) 의 로그아웃 통지
+     * 로그아웃 이후에 이 노드에서 다시 활동한 사용자는 그대로 둔다
+     * 통지가 오기 전에 이 노드의 flush 가 사용자를 다시 ZADD 했을 수 있으므로, 로그아웃 이전 점수로 남은 멤버를 지운다
+     */
+    public void onOfflineMessage(String message) {
+        int separator = message.lastIndexOf(':');
+        UUID userId = UUID.fromString(message.substring(0, separator));
+        long loggedOutAt = Long.parseLong(message.substring(separator + 1));
+
+        long lastActivity = activeSessions.get(userId);
+        if (lastActivity == NO_VALUE || lastActivity > loggedOutAt || !activeSessions.remove(userId, lastActivity)) {
+            return;
+        }
+        dirtyUsers.remove(userId);
+
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            Long removed = redisTemplate.execute(REMOVE_IF_BEFORE_SCRIPT, List.of(PRESENCE_KEY),
+                userId.toString(), String.valueOf(loggedOutAt));
+            if (removed != null && removed > 0) {
+                eventPublisher.publishEvent(UserPresenceChangedEvent.offline(userId,
+                    Instant.ofEpochMilli(lastActivity)));
+            }
+        } catch (Exception e) {
+            log.warn("[Presence] 로그아웃 통지 반영 실패 : userId = {}, error = {}", userId, e.getMessage());
+        }
+        log.debug("User {} cleared by logout on another node", userId);
+    }
+
     public boolean isUserOnline(UUID userId) {
-        Instant lastActivity = activeSessions.get(userId);
-        if (lastActivity == null) {
+        long now = System.currentTimeMillis();
+        if (isLocallyOnline(userId, now)) {
+            return true;
+        }
+
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return false;
+        }
+        try {
+            Double score = redisTemplate.opsForZSet().score(PRESENCE_KEY, userId.toString());
+            return score != null && !isExpired(score.longValue(), now);
+        } catch (Exception e) {
+            log.warn("[Presence] Redis 조회 실패, 로컬 상태로 응답 : userId = {}, error = {}", userId, e.getMessage());
             return false;
         }
-        return Instant.now().isBefore(lastActivity.plus(sessionTimeout));
+    }
+
+    /**
+     * 주어진 사용자 중 온라인인 사용자 ( 목록 조회용, Redis 왕복 한 번 )
+     */
+    public Set<UUID> getOnlineUsers(Collection<UUID> userIds) {
+        long now = System.currentTimeMillis();
+        Set<UUID> online = new HashSet<>();
+        List<UUID> unknown = new ArrayList<>();
+        for (UUID userId : userIds) {
+            if (isLocallyOnline(userId, now)) {
+                online.add(userId);
+            } else {
+                unknown.add(userId);
+            }
+        }
+
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null || unknown.isEmpty()) {
+            return online;
+        }
+        try {
+            List<Double> scores = redisTemplate.opsForZSet().score(PRESENCE_KEY,
+                unknown.stream().map(UUID::toString).toArray());
+            for (int i = 0; i < unknown.size(); i++) {
+                Double score = scores != null ? scores.get(i) : null;
+                if (score != null && !isExpired(score.longValue(), now)) {
+                    online.add(unknown.get(i));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[Presence] Redis 일괄 조회 실패, 로컬 상태로 응답 : {}명, error = {}", unknown.size(), e.getMessage());
+        }
+        return online;
     }
 
     public Set<UUID> getOnlineUsers() {
-        Instant now = Instant.now();
-        return activeSessions.entrySet().stream()
-            .filter(entry -> now.isBefore(entry.getValue().plus(sessionTimeout)))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toSet());
+        long now = System.currentTimeMillis();
+        Set<UUID> online = new HashSet<>();
+        activeSessions.forEach((userId, lastActivity) -> {
+            if (!isExpired(lastActivity, now)) {
+                online.add(userId);
+            }
+        });
+
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null) {
+            return online;
+        }
+        try {
+            Set<String> members = redisTemplate.opsForZSet().rangeByScore(PRESENCE_KEY,
+                now - sessionTimeout.toMillis(), Double.POSITIVE_INFINITY);
+            if (members != null) {
+                members.forEach(member -> online.add(UUID.fromString(member)));
+            }
+        } catch (Exception e) {
+            log.warn("[Presence] Redis 온라인 목록 조회 실패, 로컬 상태로 응답 : {}", e.getMessage());
+        }
+        return online;
+    }
+
+    /**
+     * 버퍼에 모인 활동 시각을 Redis 에 반영 ( 파이프라인 한 번 )
+     * 새로 추가된 사용자( ZADD 결과 true )는 클러스터 기준으로 방금 온라인이 된 사용자다
+     */
+    @Scheduled(fixedDelayString = "${app.presence.flush-interval-ms:5000}")
+    public void flushPresence() {
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate == null || dirtyUsers.isEmpty()) {
+            return;
+        }
+
+        List<UUID> userIds = new ArrayList<>();
+        List<Long> lastActivities = new ArrayList<>();
+        for (Iterator<UUID> it = dirtyUsers.iterator(); it.hasNext(); ) {
+            UUID userId = it.next();
+            it.remove();
+            long lastActivity = activeSessions.get(userId);
+            if (lastActivity != NO_VALUE) {
+                userIds.add(userId);
+                lastActivities.add(lastActivity);
+            }
+        }
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (int i = 0; i < userIds.size(); i++) {
+                    stringConnection.zAdd(PRESENCE_KEY, lastActivities.get(i),
+                        userIds.get(i).toString(), ZAddArgs.empty().gt());
+                }
+                // 모든 노드가 멈춰도 키가 남지 않도록
+                stringConnection.expire(PRESENCE_KEY, sessionTimeout.multipliedBy(2).toSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            // 다음 주기에 다시 올린다
+            dirtyUsers.addAll(userIds);
+            log.warn("[Presence] Redis 반영 실패, 다음 주기에 재시도 : {}명, error = {}", userIds.size(), e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < userIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                eventPublisher.publishEvent(UserPresenceChangedEvent.online(userIds.get(i),
+                    Instant.ofEpochMilli(lastActivities.get(i))));
+            }
+        }
+        log.debug("[Presence] Redis 반영 : {}명", userIds.size());
     }
 
     // 만료된 세션 정리 (1분마다 실행)
     @Scheduled(fixedRate = 60000)
     public void cleanExpiredSessions() {
-        Instant now = Instant.now();
-        int beforeSize = activeSessions.size();
-        activeSessions.entrySet().removeIf(entry ->
-            now.isAfter(entry.getValue().plus(sessionTimeout)));
-        int afterSize = activeSessions.size();
+        long now = System.currentTimeMillis();
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        int[] cleaned = {0};
+        activeSessions.forEach((userId, lastActivity) -> {
+            // 확인 후 다시 활동한 사용자는 값이 바뀌어 제거되지 않는다
+            if (!isExpired(lastActivity, now) || !activeSessions.remove(userId, lastActivity)) {
+                return;
+            }
+            cleaned[0]++;
+            // Redis 모드에서는 아래 sweep 에서 클러스터 기준으로 판단한다
+            if (redisTemplate == null) {
+                eventPublisher.publishEvent(UserPresenceChangedEvent.offline(userId,
+                    Instant.ofEpochMilli(lastActivity)));
+            }
+        });
 
-        if (beforeSize != afterSize) {
+        if (cleaned[0] > 0) {
             log.debug("Cleaned {} expired sessions. Active sessions: {}",
-                beforeSize - afterSize, afterSize);
+                cleaned[0], activeSessions.size());
+        }
+
+        if (redisTemplate != null) {
+            flushPresence();
+            sweepExpiredPresence(redisTemplate, now);
         }
     }
-}
 
+    /**
+     * Redis 에서 만료된 사용자 제거
+     * 조회와 제거를 스크립트 하나로 처리하므로 여러 노드가 동시에 돌아도 사용자마다 한 노드만 오프라인 이벤트를 발행한다
+     */
+    @SuppressWarnings("unchecked")
+    private void sweepExpiredPresence(StringRedisTemplate redisTemplate, long now) {
+        Instant cutoff = Instant.ofEpochMilli(now - sessionTimeout.toMillis());
+        try {
+            List<String> expired;
+            do {
+                expired = redisTemplate.execute(SWEEP_SCRIPT, List.of(PRESENCE_KEY),
+                    String.valueOf(cutoff.toEpochMilli()), String.valueOf(SWEEP_BATCH_SIZE));
+                if (expired == null) {
+                    return;
+                }
+                for (String member : expired) {
+                    UUID userId = UUID.fromString(member);
+                    activeSessions.remove(userId);
+                    eventPublisher.publishEvent(UserPresenceChangedEvent.offline(userId, cutoff));
+                }
+            } while (expired.size() == SWEEP_BATCH_SIZE);
+        } catch (Exception e) {
+            log.warn("[Presence] 만료 사용자 정리 실패 : {}", e.getMessage());
+        }
+    }
+
+    private boolean isLocallyOnline(UUID userId, long now) {
+        long lastActivity = activeSessions.get(userId);
+        return lastActivity != NO_VALUE && !isExpired(lastActivity, now);
+    }
+
+    private boolean isExpired(long lastActivityMillis, long now) {
+        return now - lastActivityMillis >= sessionTimeout.toMillis();
+    }
+}
@@ -14,10 +14,10 @@ import com.sprint.mission.discodeit.exception.channel.PrivateChannelUpdateNotAll
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
-import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.ChannelService;
+import com.sprint.mission.discodeit.service.DeletionPurgeService;
 import com.sprint.mission.discodeit.service.SseService;
 import java.util.List;
 import java.util.UUID;
@@ -36,10 +36,10 @@ public class BasicChannelService implements ChannelService {
 
   private final ChannelRepository channelRepository;
   private final ReadStatusRepository readStatusRepository;
-  private final MessageRepository messageRepository;
   private final UserRepository userRepository;
   private final ChannelMapper channelMapper;
   private final SseService sseService;
+  private final DeletionPurgeService deletionPurgeService;
 
   @Transactional
   @PreAuthorize("hasRole('CHANNEL_MANAGER')")
@@ -124,7 +124,7 @@ public class BasicChannelService implements ChannelService {
   @Transactional(readOnly = true)
   @PreAuthorize("hasRole('USER')")
   @Override
-  @Cacheable(value = "userChannels", key = "#userId")
+  @Cacheable(value = "userChannels", key = "#userId", sync = true)
   public List<ChannelDto> findAllByUserId(UUID userId) {
     log.info("[유저가 참여한 모든 채널 조회 시도] 유저 ID : {} ", userId);
 
@@ -184,21 +184,20 @@ public class BasicChannelService implements ChannelService {
   // 채널 삭제 시 모든 사용자의 채널 목록 캐시 무효화
   @CacheEvict(value = "userChannels", allEntries = true)
   public void delete(UUID channelId) {
-    ChannelDto channelDto = find(channelId);
-
     log.info("[채널 삭제 시도] 채널 ID : {} ", channelId);
 
-    if (!channelRepository.existsById(channelId)) {
-      log.error("[채널 삭제 실패] 해당 채널을 찾을 수 없습니다. 채널 ID : {} ", channelId);
-      throw new ChannelNotFoundException();
-    }
+    Channel channel = channelRepository.findById(channelId)
+        .orElseThrow(() -> {
+          log.error("[채널 삭제 실패] 해당 채널을 찾을 수 없습니다. 채널 ID : {} ", channelId);
+          return new ChannelNotFoundException();
+        });
+    ChannelDto channelDto = channelMapper.toDto(channel);
 
-    messageRepository.deleteAllByChannelId(channelId);
-    readStatusRepository.deleteAllByChannelId(channelId);
+    // 채널은 삭제 표시만 하고, 메시지 / 첨부파일 / 읽음 상태는 커밋 이후 청크 단위로 정리한다
+    channel.markDeleted();
+    deletionPurgeService.purgeChannelAfterCommit(channelId);
     log.info("[채널 삭제 성공] 채널 ID : {} ", channelId);
 
-    channelRepository.deleteById(channelId);
-
     try {
       sseService.broadcast("channels.deleted", channelDto);
       log.debug("SSE 채널 삭제 이벤트 전송 성공 : channelId = {}", channelId);
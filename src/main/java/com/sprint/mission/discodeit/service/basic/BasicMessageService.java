@@ -94,16 +94,20 @@ public class BasicMessageService implements MessageService {
     messageRepository.save(message);
     log.info("[메세지 생성 성공] 메세지 ID : {}", message.getId());
 
-      eventPublisher.publishEvent(new MessageCreateEvent(
-          message.getId(),
-          channel.getId(),
-          author.getId(),
-          author.getUsername(),
-          channel.getName(),
-          message.getContent()
-      ));
-
-      return messageMapper.toDto(message);
+    // 매핑된 DTO를 이벤트에 실어 fan-out 시 재조회하지 않도록 함
+    MessageDto messageDto = messageMapper.toDto(message);
+    eventPublisher.publishEvent(new MessageCreateEvent(
+        message.getId(),
+        channel.getId(),
+        author.getId(),
+        author.getUsername(),
+        channel.getName(),
+        message.getContent(),
+        messageDto,
+        MessageCreateEvent.CURRENT_SCHEMA_VERSION
+    ));
+
+    return messageDto;
   }
 
   @Transactional(readOnly = true)
@@ -125,10 +129,10 @@ public class BasicMessageService implements MessageService {
       Pageable pageable) {
     log.info("[채널의 메세지 조회 시도] 채널 ID : {}", channelId);
 
-    Slice<MessageDto> slice = messageRepository.findAllByChannelIdWithAuthor(channelId,
-            Optional.ofNullable(createAt).orElse(Instant.now()),
-            pageable)
-        .map(messageMapper::toDto);
+    // 타임라인은 읽기 전용 프로젝션으로 바로 DTO 를 만든다 ( 엔티티 / 첨부파일 지연 로딩 없음 )
+    Slice<MessageDto> slice = messageRepository.findTimelineByChannelId(channelId,
+        Optional.ofNullable(createAt).orElse(Instant.now()),
+        pageable);
 
     Instant nextCursor = null;
     if (!slice.getContent().isEmpty()) {
@@ -1,30 +1,47 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import com.sprint.mission.discodeit.dto.request.NotificationCreateRequest;
+import com.sprint.mission.discodeit.dto.request.NotificationCursor;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.Notification;
 import com.sprint.mission.discodeit.exception.notification.NotificationAccessDeniedException;
 import com.sprint.mission.discodeit.exception.notification.NotificationNotFoundException;
 import com.sprint.mission.discodeit.mapper.NotificationMapper;
+import com.sprint.mission.discodeit.redis.NotificationPageCache;
 import com.sprint.mission.discodeit.repository.NotificationRepository;
 import com.sprint.mission.discodeit.service.NotificationService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @RequiredArgsConstructor
 @Service
 @Slf4j
 public class BasicNotificationService implements NotificationService {
 
+    public static final int MAX_PAGE_SIZE = NotificationPageCache.WINDOW_SIZE - 1;
+
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
-    private final CacheManager cacheManager;
+    private final NotificationPageCache notificationPageCache;
+
+    // 같은 ( 수신자, 채널 ) 집계 알림에 이어서 누적하는 기간 ( 지나면 새 집계 알림을 만든다 )
+    @Value("${app.notification.aggregate-window:1h}")
+    private Duration aggregateWindow;
 
     @Transactional
     @Override
@@ -33,39 +50,139 @@ public class BasicNotificationService implements NotificationService {
 
         Notification notification = new Notification(receiverId, title, content);
         notificationRepository.save(notification);
+        NotificationDto notificationDto = notificationMapper.toDto(notification);
 
-        // CacheManager를 사용해 해당 사용자의 알림 캐시 수동 무효화
-        var cache = cacheManager.getCache("userNotifications");
-        if (cache != null) {
-            boolean hadValue = cache.get(receiverId) != null;
-            cache.evict(receiverId);
-            log.info("[CACHE-EVICT / 수동 캐시 무효화] 사용자: {}, 기존 캐시 존재 여부 : {}", receiverId, hadValue);
-        } else {
-            log.warn("[CACHE-WARNING] userNotifications 캐시를 찾을 수 없음");
-        }
+        // 캐시된 첫 페이지를 무효화하지 않고 새 알림만 앞에 추가 ( 커밋 이후 )
+        afterCommit(() -> notificationPageCache.prependAll(Map.of(receiverId, List.of(notificationDto))));
 
         log.info("[CACHE-TEST / 알림 생성 성공] ID: {}, 수신자: {}", notification.getId(), receiverId);
-        return notificationMapper.toDto(notification);
+        return notificationDto;
+    }
+
+    @Transactional
+    @Override
+    public List<NotificationDto> createAll(List<NotificationCreateRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        List<Notification> notifications = requests.stream()
+            .map(request -> new Notification(request.receiverId(), request.title(), request.content()))
+            .toList();
+        // hibernate.jdbc.batch_size 단위로 묶여 insert 된다
+        notificationRepository.saveAll(notifications);
+
+        List<NotificationDto> notificationDtos = notifications.stream()
+            .map(notificationMapper::toDto)
+            .toList();
+
+        // 수신자별 최신순으로 묶어 파이프라인 한 번으로 첫 페이지 캐시 갱신
+        Map<UUID, List<NotificationDto>> newestFirstByReceiver = new LinkedHashMap<>();
+        for (int i = notificationDtos.size() - 1; i >= 0; i--) {
+            NotificationDto notificationDto = notificationDtos.get(i);
+            newestFirstByReceiver.computeIfAbsent(notificationDto.receiverId(), id -> new ArrayList<>())
+                .add(notificationDto);
+        }
+        afterCommit(() -> notificationPageCache.prependAll(newestFirstByReceiver));
+
+        log.info("[알림 일괄 생성 성공] 알림 수: {}, 수신자 수: {}", notifications.size(), newestFirstByReceiver.size());
+        return notificationDtos;
+    }
+
+    @Transactional
+    @Override
+    public List<NotificationDto> aggregateAll(List<NotificationAggregateRequest> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        Instant since = Instant.now().minus(aggregateWindow);
+        notificationRepository.upsertAggregates(requests, since);
+
+        // 채널 -> ( 수신자 -> 이번 증가분 )
+        Map<UUID, Map<UUID, Integer>> incrementsByChannel = new LinkedHashMap<>();
+        requests.forEach(request -> incrementsByChannel
+            .computeIfAbsent(request.channelId(), id -> new LinkedHashMap<>())
+            .merge(request.receiverId(), request.increment(), Integer::sum));
+
+        // 채널별로 upsert 결과를 다시 읽는다 ( 배치 안의 채널 수만큼 쿼리 )
+        List<NotificationDto> aggregates = new ArrayList<>(requests.size());
+        Map<UUID, List<NotificationDto>> createdByReceiver = new LinkedHashMap<>();
+        Map<UUID, List<NotificationDto>> incrementedByReceiver = new LinkedHashMap<>();
+        incrementsByChannel.forEach((channelId, incrementByReceiver) -> {
+            for (Notification notification : notificationRepository
+                .findAllByChannelIdAndReceiverIdInAndCreatedAtGreaterThanEqual(channelId, incrementByReceiver.keySet(),
+                    since)) {
+                NotificationDto aggregate = notificationMapper.toDto(notification);
+                aggregates.add(aggregate);
+                // 누적 수가 이번 증가분과 같으면 새로 만들어진 행이다
+                if (aggregate.count() == incrementByReceiver.getOrDefault(aggregate.receiverId(), 0)) {
+                    createdByReceiver.computeIfAbsent(aggregate.receiverId(), id -> new ArrayList<>()).add(aggregate);
+                } else {
+                    incrementedByReceiver.computeIfAbsent(aggregate.receiverId(), id -> new ArrayList<>())
+                        .add(aggregate);
+                }
+            }
+        });
+
+        // 새 집계 알림은 첫 페이지 앞에 추가, 갱신된 집계 알림은 created_at 이 그대로라 캐시된 자리에서 바꿔 끼운다
+        afterCommit(() -> {
+            notificationPageCache.prependAll(createdByReceiver);
+            notificationPageCache.replaceAll(incrementedByReceiver);
+        });
+
+        int incremented = incrementedByReceiver.values().stream().mapToInt(List::size).sum();
+        log.info("[채널 집계 알림 upsert 완료] 요청 수: {}, 신규: {}, 갱신: {}",
+            requests.size(), aggregates.size() - incremented, incremented);
+        return aggregates;
     }
 
     @Transactional(readOnly = true)
     @Override
-    @Cacheable(value = "userNotifications", key = "#receiverId" )
-    public List<NotificationDto> findAllByReceiverId(UUID receiverId) {
-        log.info("[CACHE-MISS / 알림 목록 조회] 수신자: {} ( 캐시 미스 ! )", receiverId);
+    public PageResponse<NotificationDto> findAllByReceiverId(UUID receiverId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
-        List<NotificationDto> notifications = notificationRepository.findAllByReceiverIdOrderByCreatedAtDesc(receiverId)
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다
+        List<NotificationDto> window;
+        if (cursor == null) {
+            window = notificationPageCache.get(receiverId)
+                .orElseGet(() -> loadFirstPage(receiverId));
+        } else {
+            NotificationCursor after = NotificationCursor.decode(cursor);
+            window = notificationRepository.findPageByReceiverIdBefore(receiverId,
+                    after.createdAt(), after.id(), Limit.of(pageSize + 1))
+                .stream()
+                .map(notificationMapper::toDto)
+                .toList();
+        }
+
+        boolean hasNext = window.size() > pageSize;
+        List<NotificationDto> content = hasNext ? List.copyOf(window.subList(0, pageSize)) : window;
+        String nextCursor = hasNext
+            ? NotificationCursor.from(content.get(content.size() - 1)).encode()
+            : null;
+
+        log.info("[알림 목록 조회 완료] 수신자: {}, 알림 수: {}개, 다음 페이지: {}", receiverId, content.size(), hasNext);
+        return new PageResponse<>(content, nextCursor, pageSize, hasNext, null);
+    }
+
+    // 첫 페이지는 최대 크기 + 1 건을 통째로 캐시해 두고 요청 크기만큼 잘라 쓴다
+    // 조회 중 커밋된 알림이 빠진 목록을 저장하지 않도록 DB 를 읽기 전에 캐시 버전을 읽어 둔다
+    private List<NotificationDto> loadFirstPage(UUID receiverId) {
+        long version = notificationPageCache.version(receiverId);
+        List<NotificationDto> latest = notificationRepository
+            .findLatestByReceiverId(receiverId, Limit.of(NotificationPageCache.WINDOW_SIZE))
             .stream()
             .map(notificationMapper::toDto)
             .toList();
+        notificationPageCache.put(receiverId, version, latest);
 
-        log.info("[CACHE-STORE / 알림 목록 조회 완료] 수신자: {}, 알림 수: {}개", receiverId, notifications.size());
-        return notifications;
+        log.info("[CACHE-STORE / 알림 첫 페이지 저장] 수신자: {}, 알림 수: {}개", receiverId, latest.size());
+        return latest;
     }
 
     @Transactional
     @Override
-    @CacheEvict(value = "userNotifications", key = "#receiverId" )
     public void delete(UUID notificationId, UUID receiverId) {
         log.info("[CACHE-TEST / 알림 삭제 시도] ID: {}, 요청자: {}", notificationId, receiverId);
 
@@ -83,7 +200,30 @@ public class BasicNotificationService implements NotificationService {
         }
 
         notificationRepository.delete(notification);
-        log.info("[CACHE-EVICT] @CacheEvict 어노테이션에 의한 자동 캐시 무효화 - 사용자: {}", receiverId);
+        afterCommit(() -> notificationPageCache.evict(receiverId));
+        log.info("[CACHE-EVICT] 알림 첫 페이지 캐시 무효화 - 사용자: {}", receiverId);
         log.info("[CACHE-TEST / 알림 삭제 성공] ID: {}, 삭제자: {}", notificationId, receiverId);
     }
+
+    // 롤백된 알림이 캐시에 남지 않도록 커밋 이후에 반영 ( 트랜잭션 밖이면 즉시 실행 )
+    // 캐시 반영 실패는 삼킨다 ( 이미 커밋된 저장이 실패한 것처럼 보여 호출한 쪽이 재시도하면 알림이 중복 저장된다 )
+    private void afterCommit(Runnable action) {
+        Runnable bestEffort = () -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.warn("[알림 첫 페이지 캐시 반영 실패] error: {}", e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bestEffort.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bestEffort.run();
+            }
+        });
+    }
 }
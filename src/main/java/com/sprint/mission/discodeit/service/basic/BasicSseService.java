@@ -1,13 +1,16 @@
 package com.sprint.mission.discodeit.service.basic;
 
 import com.sprint.mission.discodeit.dto.data.SseMessage;
+import com.sprint.mission.discodeit.metrics.SseMetrics;
 import com.sprint.mission.discodeit.repository.SseEmitterRepository;
 import com.sprint.mission.discodeit.repository.SseMessageRepository;
 import com.sprint.mission.discodeit.service.SseService;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,9 +31,16 @@ public class BasicSseService implements SseService {
 
     private final SseEmitterRepository sseEmitterRepository;
     private final SseMessageRepository sseMessageRepository;
+    private final SseMetrics sseMetrics;
 
     // 타임아웃을 더 길게 설정
     private static final long DEFAULT_TIMEOUT = 120L * 1000 * 60;
+    private static final String MODE = "basic";
+
+    @PostConstruct
+    void registerMetrics() {
+        sseMetrics.bindActiveConnections(MODE, sseEmitterRepository::countEmitters);
+    }
 
     @Override
     public SseEmitter connect(UUID receiverId, UUID lastEventId) {
@@ -38,18 +48,19 @@ public class BasicSseService implements SseService {
 
         // 연결 저장
         sseEmitterRepository.save(receiverId, sseEmitter);
+        sseMetrics.connected(MODE);
 
         // 연결 완료/에러/타임아웃 시 정리
         sseEmitter.onCompletion(() -> {
-            sseEmitterRepository.delete(receiverId, sseEmitter);
+            disconnect(receiverId, sseEmitter, SseMetrics.REASON_COMPLETION);
             log.debug("SSE 연결 완료됨 : receiverId = {}", receiverId);
         });
         sseEmitter.onTimeout(() -> {
-            sseEmitterRepository.delete(receiverId, sseEmitter);
+            disconnect(receiverId, sseEmitter, SseMetrics.REASON_TIMEOUT);
             log.debug("SSE 연결 타임아웃 : receiverId = {}", receiverId);
         });
         sseEmitter.onError(throwable -> {
-            sseEmitterRepository.delete(receiverId, sseEmitter);
+            disconnect(receiverId, sseEmitter, SseMetrics.REASON_ERROR);
             log.debug("SSE 연결 에러 : receiverId = {}", receiverId);
         });
 
@@ -61,13 +72,14 @@ public class BasicSseService implements SseService {
             log.info("SSE 연결 성공 : receiverId = {}", receiverId);
         } catch (IOException e) {
             log.error("SSE 초기 연결 실패 : receiverId = {}", receiverId);
-            sseEmitterRepository.delete(receiverId, sseEmitter);
+            disconnect(receiverId, sseEmitter, SseMetrics.REASON_SEND_FAILURE);
             return sseEmitter;
         }
 
         // 누락된 이벤트 재전송
         if (lastEventId != null) {
             List<SseMessage> missedMessages = sseMessageRepository.findEventsAfter(lastEventId);
+            sseMetrics.recordReplay(missedMessages.size());
             for (SseMessage message : missedMessages) {
                 try {
                     sseEmitter.send(SseEmitter.event()
@@ -92,24 +104,27 @@ public class BasicSseService implements SseService {
         // 메시지 저장
         sseMessageRepository.save(message);
 
+        int fanOut = 0;
         for (UUID receiverId : receiverIds) {
-            List<SseEmitter> emitters = sseEmitterRepository.findAllByReceiverId(receiverId);
-            emitters.removeIf(emitter -> {
-                try {
-                    emitter.send(SseEmitter.event()
-                        .id(eventId.toString())
-                        .name(eventName)
-                        .data(data));
-                    return false;
-                } catch (IOException e) {
-                    log.error("SSE 메시지 전송 실패 : receiverId = {}, eventName = {}", receiverId, eventName);
-                    return true;
-                }
-            });
+            fanOut += sendToReceiver(receiverId, eventId, eventName, data);
         }
+        sseMetrics.recordFanOut(eventName, fanOut);
         log.info("SSE 메시지 전송 완료 : eventName = {}, receiverIds = {}", eventName, receiverIds.size());
     }
 
+    @Override
+    public void sendEach(String eventName, Map<UUID, ?> dataByReceiver) {
+        int fanOut = 0;
+        for (Map.Entry<UUID, ?> entry : dataByReceiver.entrySet()) {
+            // 재연결 시 재전송할 수 있도록 수신자별 이벤트를 각각 저장
+            UUID eventId = UUID.randomUUID();
+            sseMessageRepository.save(new SseMessage(eventId, eventName, entry.getValue(), Instant.now()));
+            fanOut += sendToReceiver(entry.getKey(), eventId, eventName, entry.getValue());
+        }
+        sseMetrics.recordFanOut(eventName, fanOut);
+        log.info("SSE 개별 데이터 전송 완료 : eventName = {}, receiverIds = {}", eventName, dataByReceiver.size());
+    }
+
     @Override
     public void broadcast(String eventName, Object data) {
         UUID eventId = UUID.randomUUID();
@@ -117,20 +132,19 @@ public class BasicSseService implements SseService {
 
         sseMessageRepository.save(message);
 
+        int[] fanOut = {0};
         sseEmitterRepository.findAll().forEach((receiverId, emitters) -> {
+            fanOut[0] += emitters.size();
             emitters.removeIf(emitter -> {
-                try {
-                    emitter.send(SseEmitter.event()
-                        .id(eventId.toString())
-                        .name(eventName)
-                        .data(data));
+                if (deliver(emitter, eventId, eventName, data)) {
                     return false;
-                } catch (IOException e) {
-                    log.error("SSE 브로드캐스트 실패 : receiverId = {}", receiverId);
-                    return true;
                 }
+                log.error("SSE 브로드캐스트 실패 : receiverId = {}", receiverId);
+                sseMetrics.disconnected(MODE, SseMetrics.REASON_SEND_FAILURE);
+                return true;
             });
         });
+        sseMetrics.recordFanOut(eventName, fanOut[0]);
         log.info("SSE 브로드캐스트 완료 : eventName = {}", eventName);
     }
 
@@ -140,7 +154,13 @@ public class BasicSseService implements SseService {
         log.debug("SSE 연결 정리 시작");
 
         sseEmitterRepository.findAll().forEach((receiverId, emitters) -> {
-            emitters.removeIf(emitter -> !ping(emitter));
+            emitters.removeIf(emitter -> {
+                if (ping(emitter)) {
+                    return false;
+                }
+                sseMetrics.disconnected(MODE, SseMetrics.REASON_PING_FAILURE);
+                return true;
+            });
         });
 
         log.debug("SSE 연결 정리 완료");
@@ -150,10 +170,55 @@ public class BasicSseService implements SseService {
     @Scheduled(fixedDelay = 1000 * 30) // 30초마다
     public void sendHeartbeat() {
         sseEmitterRepository.findAll().forEach((receiverId, emitters) -> {
-            emitters.removeIf(emitter -> !sendHeartbeat(emitter));
+            emitters.removeIf(emitter -> {
+                if (sendHeartbeat(emitter)) {
+                    return false;
+                }
+                sseMetrics.disconnected(MODE, SseMetrics.REASON_PING_FAILURE);
+                return true;
+            });
         });
     }
 
+    // 수신자의 모든 emitter에 전송하고 실패한 emitter는 제거, 전송 시도한 emitter 수 반환
+    private int sendToReceiver(UUID receiverId, UUID eventId, String eventName, Object data) {
+        List<SseEmitter> emitters = sseEmitterRepository.findAllByReceiverId(receiverId);
+        int emitterCount = emitters.size();
+        emitters.removeIf(emitter -> {
+            if (deliver(emitter, eventId, eventName, data)) {
+                return false;
+            }
+            log.error("SSE 메시지 전송 실패 : receiverId = {}, eventName = {}", receiverId, eventName);
+            sseMetrics.disconnected(MODE, SseMetrics.REASON_SEND_FAILURE);
+            return true;
+        });
+        return emitterCount;
+    }
+
+    // 콜백이 중복 호출돼도 실제로 제거된 경우에만 종료로 집계
+    private void disconnect(UUID receiverId, SseEmitter sseEmitter, String reason) {
+        if (sseEmitterRepository.delete(receiverId, sseEmitter)) {
+            sseMetrics.disconnected(MODE, reason);
+        }
+    }
+
+    // emitter 한 건 전송 ( 지연 시간/실패 집계 포함 )
+    private boolean deliver(SseEmitter emitter, UUID eventId, String eventName, Object data) {
+        long start = System.nanoTime();
+        try {
+            emitter.send(SseEmitter.event()
+                .id(eventId.toString())
+                .name(eventName)
+                .data(data));
+            return true;
+        } catch (IOException e) {
+            sseMetrics.sendFailed(eventName);
+            return false;
+        } finally {
+            sseMetrics.recordSend(eventName, System.nanoTime() - start);
+        }
+    }
+
     private boolean ping(SseEmitter sseEmitter) {
         try {
             sseEmitter.send(SseEmitter.event()
@@ -13,14 +13,17 @@ import com.sprint.mission.discodeit.exception.user.UserEmailAlreadyExistsExcepti
 import com.sprint.mission.discodeit.exception.user.UserNameAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.redis.NotificationPageCache;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
+import com.sprint.mission.discodeit.service.DeletionPurgeService;
 import com.sprint.mission.discodeit.service.SseService;
 import com.sprint.mission.discodeit.service.UserService;
 import com.sprint.mission.discodeit.service.UserSessionService;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +49,8 @@ public class BasicUserService implements UserService {
   private final UserSessionService userSessionService;
   private final CacheManager cacheManager;
   private final SseService sseService;
+  private final NotificationPageCache notificationPageCache;
+  private final DeletionPurgeService deletionPurgeService;
 
 
   @Transactional
@@ -130,16 +135,17 @@ public class BasicUserService implements UserService {
 
   @Transactional(readOnly = true)
   @Override
-  @Cacheable(value = "users")
+  @Cacheable(value = "users", sync = true)
   public List<UserDto> findAll() {
       log.info("[모든 유저 조회 시도]");
 
-      return userRepository.findAllWithProfileAndStatus()
-          .stream()
-          .map(user -> {
-              boolean isOnline = userSessionService.isUserOnline(user.getId());
-              return userMapper.toDto(user, isOnline);
-          })
+      List<User> users = userRepository.findAllWithProfileAndStatus();
+      // 접속 상태는 사용자마다 묻지 않고 한 번에 조회
+      Set<UUID> onlineUserIds = userSessionService.getOnlineUsers(
+          users.stream().map(User::getId).toList());
+
+      return users.stream()
+          .map(user -> userMapper.toDto(user, onlineUserIds.contains(user.getId())))
           .toList();
   }
 
@@ -219,15 +225,12 @@ public class BasicUserService implements UserService {
 
       log.info("[유저 삭제 시도] 유저 ID : {}", userId);
 
-    if (!userRepository.existsById(userId)) {
-      log.error("[유저 삭제 실패] 해당 유저를 찾을 수 없습니다. 유저 ID : {} ", userId);
-      throw new UserNotFoundException();
-    }
-
       // 사용자 삭제 시 세션도 제거
       userSessionService.markUserOffline(userId);
 
-      userRepository.deleteById(userId);
+      // 탈퇴 표시만 하고, 작성 메시지 / 읽음 상태 / 프로필 정리는 커밋 이후 청크 단위로 수행한다
+      user.markDeleted();
+      deletionPurgeService.purgeUserAfterCommit(userId);
     log.info("[유저 삭제 성공] 유저 ID: {}", userId);
 
       try {
@@ -305,11 +308,8 @@ public class BasicUserService implements UserService {
             log.info("[🗑️ 사용자 채널 캐시 삭제] 사용자 ID: {}", userId);
         }
 
-        // 해당 사용자의 알림 캐시 삭제
-        var notificationCache = cacheManager.getCache("userNotifications");
-        if (notificationCache != null) {
-            notificationCache.evict(userId);
-            log.info("[🗑️ 사용자 알림 캐시 삭제] 사용자 ID: {}", userId);
-        }
+        // 해당 사용자의 알림 첫 페이지 캐시 삭제
+        notificationPageCache.evict(userId);
+        log.info("[🗑️ 사용자 알림 캐시 삭제] 사용자 ID: {}", userId);
     }
 }
\ No newline at end of file
@@ -1,13 +1,17 @@
 package com.sprint.mission.discodeit.service.distributed;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.metrics.SseMetrics;
 import com.sprint.mission.discodeit.service.SseService;
+import com.sprint.mission.discodeit.util.UuidObjectMap;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,14 +33,21 @@ public class RedisBasedSseService implements SseService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final SseMetrics sseMetrics;
 
-    // 로컬 SSE 연결만 관리 (각 인스턴스마다)
-    private final ConcurrentMap<UUID, SseEmitter> localConnections = new ConcurrentHashMap<>();
+    // 로컬 SSE 연결만 관리 (각 인스턴스마다, UUID 키를 박싱 없이 저장)
+    private final ConcurrentMap<UUID, SseEmitter> localConnections = new UuidObjectMap<>();
 
     // Redis 채널명
     private static final String SSE_CHANNEL = "sse:broadcast";
     private static final String SSE_TARGETED_CHANNEL = "sse:targeted";
     private static final long DEFAULT_TIMEOUT = 30 * 60 * 1000L; // 30분
+    private static final String MODE = "redis";
+
+    @PostConstruct
+    void registerMetrics() {
+        sseMetrics.bindActiveConnections(MODE, localConnections::size);
+    }
 
     @Override
     public SseEmitter connect(UUID userId, UUID lastEventId) {
@@ -44,22 +55,26 @@ public class RedisBasedSseService implements SseService {
 
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        // 로컬 연결 저장
-        localConnections.put(userId, emitter);
+        // 로컬 연결 저장 ( 기존 연결이 있으면 교체 )
+        SseEmitter previous = localConnections.put(userId, emitter);
+        sseMetrics.connected(MODE);
+        if (previous != null) {
+            sseMetrics.disconnected(MODE, SseMetrics.REASON_REPLACED);
+        }
 
-        // 연결 해제 처리
+        // 연결 해제 처리 ( 교체된 이전 emitter의 콜백이 새 연결을 지우지 않도록 emitter까지 비교 )
         emitter.onCompletion(() -> {
-            localConnections.remove(userId);
+            disconnect(userId, emitter, SseMetrics.REASON_COMPLETION);
             log.info("[SSE 연결 해제] 사용자: {}", userId);
         });
 
         emitter.onTimeout(() -> {
-            localConnections.remove(userId);
+            disconnect(userId, emitter, SseMetrics.REASON_TIMEOUT);
             log.info("[SSE 연결 타임아웃] 사용자: {}", userId);
         });
 
         emitter.onError(throwable -> {
-            localConnections.remove(userId);
+            disconnect(userId, emitter, SseMetrics.REASON_ERROR);
             log.error("[SSE 연결 에러] 사용자: {}", userId, throwable);
         });
 
@@ -71,7 +86,7 @@ public class RedisBasedSseService implements SseService {
                 .data("SSE 연결 성공"));
         } catch (Exception e) {
             log.error("[SSE 연결 실패] 사용자: {}", userId, e);
-            localConnections.remove(userId);
+            disconnect(userId, emitter, SseMetrics.REASON_SEND_FAILURE);
         }
 
         return emitter;
@@ -93,6 +108,23 @@ public class RedisBasedSseService implements SseService {
         }
     }
 
+    @Override
+    public void sendEach(String eventName, Map<UUID, ?> dataByReceiver) {
+        if (dataByReceiver.isEmpty()) {
+            return;
+        }
+        log.info("[SSE 개별 데이터 전송] 대상: {}, 이벤트: {}", dataByReceiver.size(), eventName);
+
+        try {
+            // 수신자 수와 무관하게 publish 한 번 ( 각 인스턴스가 자기 로컬 연결분만 전달 )
+            SseMessage message = new SseMessage(List.copyOf(dataByReceiver.keySet()), eventName, null);
+            message.setPayloads(new LinkedHashMap<>(dataByReceiver));
+            redisTemplate.convertAndSend(SSE_TARGETED_CHANNEL, message);
+        } catch (Exception e) {
+            log.error("[SSE 개별 데이터 전송 실패] 대상: {}, 이벤트: {}", dataByReceiver.size(), eventName, e);
+        }
+    }
+
     @Override
     public void broadcast(String eventName, Object data) {
         log.info("[SSE 브로드캐스트] 이벤트: {}", eventName);
@@ -114,9 +146,12 @@ public class RedisBasedSseService implements SseService {
         log.debug("[로컬 브로드캐스트 처리] 연결 수: {}, 이벤트: {}",
             localConnections.size(), message.getEventName());
 
+        int[] fanOut = {0};
         localConnections.forEach((userId, emitter) -> {
             sendToEmitter(userId, emitter, message.getEventName(), message.getData());
+            fanOut[0]++;
         });
+        sseMetrics.recordFanOut(message.getEventName(), fanOut[0]);
     }
 
     // Redis에서 메시지를 받아 특정 사용자들에게 전송
@@ -127,15 +162,21 @@ public class RedisBasedSseService implements SseService {
         log.debug("[로컬 타겟 전송 처리] 대상: {} 명, 이벤트: {}",
             targetUsers.size(), message.getEventName());
 
-        targetUsers.forEach(userId -> {
+        Map<UUID, Object> payloads = message.getPayloads();
+        int fanOut = 0;
+        for (UUID userId : targetUsers) {
             SseEmitter emitter = localConnections.get(userId);
             if (emitter != null) {
-                sendToEmitter(userId, emitter, message.getEventName(), message.getData());
+                Object data = payloads != null ? payloads.get(userId) : message.getData();
+                sendToEmitter(userId, emitter, message.getEventName(), data);
+                fanOut++;
             }
-        });
+        }
+        sseMetrics.recordFanOut(message.getEventName(), fanOut);
     }
 
     private void sendToEmitter(UUID userId, SseEmitter emitter, String eventName, Object data) {
+        long start = System.nanoTime();
         try {
             emitter.send(SseEmitter.event()
                 .id(UUID.randomUUID().toString())
@@ -143,7 +184,16 @@ public class RedisBasedSseService implements SseService {
                 .data(data));
         } catch (Exception e) {
             log.error("[SSE 개별 전송 실패] 사용자: {}, 이벤트: {}", userId, eventName, e);
-            localConnections.remove(userId);
+            sseMetrics.sendFailed(eventName);
+            disconnect(userId, emitter, SseMetrics.REASON_SEND_FAILURE);
+        } finally {
+            sseMetrics.recordSend(eventName, System.nanoTime() - start);
+        }
+    }
+
+    private void disconnect(UUID userId, SseEmitter emitter, String reason) {
+        if (localConnections.remove(userId, emitter)) {
+            sseMetrics.disconnected(MODE, reason);
         }
     }
 
@@ -157,6 +207,7 @@ public class RedisBasedSseService implements SseService {
 
             if (!ping(emitter)) {
                 log.debug("[SSE 연결 제거] 사용자: {}", userId);
+                sseMetrics.disconnected(MODE, SseMetrics.REASON_PING_FAILURE);
                 return true;
             }
             return false;
@@ -185,6 +236,8 @@ public class RedisBasedSseService implements SseService {
         private List<UUID> targetUsers;
         private String eventName;
         private Object data;
+        // 수신자별 데이터 ( sendEach ), 있으면 data 대신 사용
+        private Map<UUID, Object> payloads;
         private Instant timestamp;
         private String instanceId;
 
@@ -207,6 +260,8 @@ public class RedisBasedSseService implements SseService {
         public void setEventName(String eventName) { this.eventName = eventName; }
         public Object getData() { return data; }
         public void setData(Object data) { this.data = data; }
+        public Map<UUID, Object> getPayloads() { return payloads; }
+        public void setPayloads(Map<UUID, Object> payloads) { this.payloads = payloads; }
         public Instant getTimestamp() { return timestamp; }
         public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
         public String getInstanceId() { return instanceId; }
@@ -2,6 +2,7 @@ package com.sprint.mission.discodeit.storage;
 
 import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.UUID;
 import org.springframework.http.ResponseEntity;
 
@@ -12,4 +13,7 @@ public interface BinaryContentStorage {
   InputStream get(UUID binaryContentId);
 
   ResponseEntity<?> download(BinaryContentDto metaData);
+
+  // 없는 키는 무시한다 ( 채널 / 사용자 정리 작업이 재시도될 수 있다 )
+  void deleteAll(Collection<UUID> binaryContentIds);
 }
@@ -8,6 +8,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
@@ -76,6 +77,17 @@ public class LocalBinaryContentStorage implements BinaryContentStorage {
     }
   }
 
+  @Override
+  public void deleteAll(Collection<UUID> binaryContentIds) {
+    for (UUID binaryContentId : binaryContentIds) {
+      try {
+        Files.deleteIfExists(resolvePath(binaryContentId));
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   private Path resolvePath(UUID key) {
     return root.resolve(key.toString());
   }
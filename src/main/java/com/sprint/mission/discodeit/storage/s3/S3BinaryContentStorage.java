@@ -7,6 +7,9 @@ import com.sprint.mission.discodeit.storage.BinaryContentStorage;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -25,8 +28,12 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -38,6 +45,9 @@ import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequ
 @ConditionalOnProperty(name = "discodeit.storage.type", havingValue = "s3")
 public class S3BinaryContentStorage implements BinaryContentStorage {
 
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
     private final String accessKey;
     private final String secretKey;
     private final String region;
@@ -166,6 +176,32 @@ public class S3BinaryContentStorage implements BinaryContentStorage {
         }
     }
 
+    @Override
+    public void deleteAll(Collection<UUID> binaryContentIds) {
+        if (binaryContentIds.isEmpty()) {
+            return;
+        }
+        List<ObjectIdentifier> objects = binaryContentIds.stream()
+            .map(id -> ObjectIdentifier.builder().key(generateS3Key(id)).build())
+            .toList();
+
+        // 없는 키는 S3 가 성공으로 처리한다
+        try (S3Client s3Client = getS3Client()) {
+            for (int from = 0; from < objects.size(); from += MAX_DELETE_KEYS) {
+                List<ObjectIdentifier> batch = new ArrayList<>(
+                    objects.subList(from, Math.min(from + MAX_DELETE_KEYS, objects.size())));
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucket)
+                    .delete(Delete.builder().objects(batch).quiet(true).build())
+                    .build());
+                if (response.hasErrors() && !response.errors().isEmpty()) {
+                    throw new RuntimeException("S3 파일 삭제 실패 : " + response.errors().get(0).message());
+                }
+            }
+        }
+        log.info("S3 파일 삭제 완료 - {} 건", objects.size());
+    }
+
     private S3Client getS3Client() {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
@@ -0,0 +1,41 @@
+package com.sprint.mission.discodeit.util;
+
+/**
+ * UUID 키 open addressing 테이블 공통 계산
+ */
+final class UuidHashing {
+
+    // 이 비율을 넘으면 테이블을 두 배로 늘린다 ( 선형 탐사 길이 제한 )
+    static final float LOAD_FACTOR = 0.6f;
+
+    private UuidHashing() {
+    }
+
+    /**
+     * 상위 / 하위 long 을 섞은 32bit 해시
+     * 상위 비트는 세그먼트 선택, 하위 비트는 테이블 인덱스에 쓰므로 양쪽 모두 고르게 퍼져야 한다
+     * ( 랜덤 UUID 는 이미 고르지만 UUIDv7 처럼 앞부분이 시간인 키도 있으므로 fmix64 로 섞는다 )
+     */
+    static int hash(long msb, long lsb) {
+        long h = msb * 0x9E3779B97F4A7C15L ^ lsb;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    static boolean needsResize(int size, int capacity) {
+        return size > capacity * LOAD_FACTOR;
+    }
+
+    /**
+     * expectedSize 개를 리사이즈 없이 담는 2의 거듭제곱 용량
+     */
+    static int tableCapacity(int expectedSize, int minimum) {
+        int needed = (int) Math.ceil(expectedSize / LOAD_FACTOR) + 1;
+        int capacity = Integer.highestOneBit(Math.max(needed, minimum) - 1) << 1;
+        return Math.max(capacity, minimum);
+    }
+}
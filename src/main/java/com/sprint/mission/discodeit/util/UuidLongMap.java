@@ -0,0 +1,360 @@
+package com.sprint.mission.discodeit.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * UUID → long 동시성 해시 맵 ( 마지막 활동 시각 같은 epoch millis 용 )
+ * - 키는 상위 / 하위 long, 값은 long 으로 배열에 직접 저장한다 ( 엔트리당 약 24byte / LOAD_FACTOR, 박싱 없음 )
+ * - 구조는 UuidObjectMap 과 같다 ( 세그먼트 StampedLock, 낙관적 읽기, backward-shift 삭제 )
+ * - NO_VALUE( Long.MIN_VALUE )는 빈 슬롯 표시로 쓰므로 값으로 저장할 수 없다
+ */
+public class UuidLongMap {
+
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private final Segment[] segments;
+
+    public UuidLongMap() {
+        this(MIN_SEGMENT_CAPACITY * SEGMENT_COUNT);
+    }
+
+    public UuidLongMap(int expectedSize) {
+        int perSegment = UuidHashing.tableCapacity(Math.max(1, expectedSize / SEGMENT_COUNT), MIN_SEGMENT_CAPACITY);
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(UUID key, long value);
+    }
+
+    @FunctionalInterface
+    public interface EntryPredicate {
+        boolean test(UUID key, long value);
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    /**
+     * @return 값, 없으면 NO_VALUE ( 쓰기와 겹치지 않으면 락을 잡지 않는다 )
+     */
+    public long get(UUID key) {
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        int hash = UuidHashing.hash(msb, lsb);
+        Segment segment = segmentFor(hash);
+        StampedLock lock = segment.lock;
+
+        long stamp = lock.tryOptimisticRead();
+        long value = segment.find(msb, lsb, hash);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return segment.find(msb, lsb, hash);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean containsKey(UUID key) {
+        return get(key) != NO_VALUE;
+    }
+
+    /**
+     * @return 이전 값, 없었으면 NO_VALUE
+     */
+    public long put(UUID key, long value) {
+        checkValue(value);
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.put(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash, value);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 현재 값이 expected 일 때만 update 로 바꾼다 ( expected 가 NO_VALUE 면 키가 없을 때만 추가 )
+     */
+    public boolean compareAndSet(UUID key, long expected, long update) {
+        checkValue(update);
+        long msb = key.getMostSignificantBits();
+        long lsb = key.getLeastSignificantBits();
+        int hash = UuidHashing.hash(msb, lsb);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            if (segment.find(msb, lsb, hash) != expected) {
+                return false;
+            }
+            segment.put(msb, lsb, hash, update);
+            return true;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return 제거된 값, 없었으면 NO_VALUE
+     */
+    public long remove(UUID key) {
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.remove(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash, NO_VALUE);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 현재 값이 expected 일 때만 제거
+     */
+    public boolean remove(UUID key, long expected) {
+        checkValue(expected);
+        int hash = hash(key);
+        Segment segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return segment.remove(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash, expected)
+                != NO_VALUE;
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 스냅샷 순회 ( action 안에서 이 맵을 수정해도 된다 )
+     */
+    public void forEach(EntryConsumer action) {
+        for (Segment segment : segments) {
+            Snapshot snapshot = segment.snapshot();
+            for (int i = 0; i < snapshot.count; i++) {
+                action.accept(new UUID(snapshot.keys[i << 1], snapshot.keys[(i << 1) + 1]), snapshot.values[i]);
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 엔트리 제거 ( 조건 평가 후 값이 바뀐 엔트리는 남긴다 )
+     * @return 제거한 엔트리 수
+     */
+    public int removeIf(EntryPredicate filter) {
+        int removed = 0;
+        for (Segment segment : segments) {
+            Snapshot snapshot = segment.snapshot();
+            for (int i = 0; i < snapshot.count; i++) {
+                UUID key = new UUID(snapshot.keys[i << 1], snapshot.keys[(i << 1) + 1]);
+                long value = snapshot.values[i];
+                if (filter.test(key, value) && remove(key, value)) {
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    private static int hash(UUID key) {
+        return UuidHashing.hash(key.getMostSignificantBits(), key.getLeastSignificantBits());
+    }
+
+    private static void checkValue(long value) {
+        if (value == NO_VALUE) {
+            throw new IllegalArgumentException("NO_VALUE 는 저장할 수 없습니다");
+        }
+    }
+
+    private record Snapshot(long[] keys, long[] values, int count) {
+
+    }
+
+    private static final class Table {
+        final long[] keys;
+        final long[] values;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new long[capacity * 2];
+            values = new long[capacity];
+            Arrays.fill(values, NO_VALUE);
+            mask = capacity - 1;
+        }
+    }
+
+    private static final class Segment {
+
+        final StampedLock lock = new StampedLock();
+        volatile Table table;
+        volatile int size;
+
+        Segment(int capacity) {
+            table = new Table(capacity);
+        }
+
+        long find(long msb, long lsb, int hash) {
+            Table t = table;
+            long[] keys = t.keys;
+            long[] values = t.values;
+            int mask = t.mask;
+            for (int i = hash & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                long value = values[i];
+                if (value == NO_VALUE) {
+                    return NO_VALUE;
+                }
+                if (keys[i << 1] == msb && keys[(i << 1) + 1] == lsb) {
+                    return value;
+                }
+            }
+            return NO_VALUE;
+        }
+
+        // 쓰기 락 안에서만 호출
+        long put(long msb, long lsb, int hash, long value) {
+            Table t = table;
+            int mask = t.mask;
+            int i = hash & mask;
+            while (t.values[i] != NO_VALUE) {
+                if (t.keys[i << 1] == msb && t.keys[(i << 1) + 1] == lsb) {
+                    long previous = t.values[i];
+                    t.values[i] = value;
+                    return previous;
+                }
+                i = (i + 1) & mask;
+            }
+            t.keys[i << 1] = msb;
+            t.keys[(i << 1) + 1] = lsb;
+            t.values[i] = value;
+            size = size + 1;
+            if (UuidHashing.needsResize(size, t.mask + 1)) {
+                resize(t);
+            }
+            return NO_VALUE;
+        }
+
+        // expected 가 NO_VALUE 면 무조건 제거
+        long remove(long msb, long lsb, int hash, long expected) {
+            Table t = table;
+            int mask = t.mask;
+            for (int i = hash & mask; t.values[i] != NO_VALUE; i = (i + 1) & mask) {
+                if (t.keys[i << 1] == msb && t.keys[(i << 1) + 1] == lsb) {
+                    long previous = t.values[i];
+                    if (expected != NO_VALUE && expected != previous) {
+                        return NO_VALUE;
+                    }
+                    deleteAt(t, i);
+                    size = size - 1;
+                    return previous;
+                }
+            }
+            return NO_VALUE;
+        }
+
+        private void deleteAt(Table t, int i) {
+            int mask = t.mask;
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (t.values[j] == NO_VALUE) {
+                    break;
+                }
+                int home = UuidHashing.hash(t.keys[j << 1], t.keys[(j << 1) + 1]) & mask;
+                boolean movable = j > i ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    t.keys[i << 1] = t.keys[j << 1];
+                    t.keys[(i << 1) + 1] = t.keys[(j << 1) + 1];
+                    t.values[i] = t.values[j];
+                    i = j;
+                }
+            }
+            t.values[i] = NO_VALUE;
+        }
+
+        private void resize(Table old) {
+            Table resized = new Table((old.mask + 1) << 1);
+            int mask = resized.mask;
+            for (int i = 0; i <= old.mask; i++) {
+                long value = old.values[i];
+                if (value == NO_VALUE) {
+                    continue;
+                }
+                long msb = old.keys[i << 1];
+                long lsb = old.keys[(i << 1) + 1];
+                int j = UuidHashing.hash(msb, lsb) & mask;
+                while (resized.values[j] != NO_VALUE) {
+                    j = (j + 1) & mask;
+                }
+                resized.keys[j << 1] = msb;
+                resized.keys[(j << 1) + 1] = lsb;
+                resized.values[j] = value;
+            }
+            table = resized;
+        }
+
+        void clear() {
+            table = new Table(MIN_SEGMENT_CAPACITY);
+            size = 0;
+        }
+
+        Snapshot snapshot() {
+            if (size == 0) {
+                return new Snapshot(new long[0], new long[0], 0);
+            }
+            long stamp = lock.readLock();
+            try {
+                Table t = table;
+                long[] keys = new long[size * 2];
+                long[] values = new long[size];
+                int count = 0;
+                for (int i = 0; i <= t.mask; i++) {
+                    if (t.values[i] != NO_VALUE) {
+                        keys[count << 1] = t.keys[i << 1];
+                        keys[(count << 1) + 1] = t.keys[(i << 1) + 1];
+                        values[count++] = t.values[i];
+                    }
+                }
+                return new Snapshot(keys, values, count);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,475 @@
+package com.sprint.mission.discodeit.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * UUID 키 전용 동시성 해시 맵 ( open addressing, 선형 탐사 )
+ * - 키를 UUID 객체 대신 상위 / 하위 long 두 개로 배열에 직접 저장한다 ( 엔트리마다 Node / UUID 객체가 없다 )
+ * - 세그먼트마다 StampedLock 을 두고, 읽기는 낙관적 읽기( 락 없음 ), 쓰기만 세그먼트 단위로 잠근다
+ * - 삭제는 backward-shift 로 처리해 tombstone 이 쌓이지 않는다
+ * - ConcurrentMap 을 구현하므로 ConcurrentHashMap 자리에 그대로 쓸 수 있다
+ *   ( compute 계열 함수는 세그먼트 락 안에서 실행되므로 같은 맵을 다시 수정하면 안 된다 )
+ * - 순회( entrySet / forEach )는 세그먼트별 스냅샷이라 ConcurrentHashMap 처럼 약한 일관성을 가진다
+ *   ( 엔트리는 읽기 전용, 값 변경은 put / replace 로 )
+ */
+public class UuidObjectMap<V> extends AbstractMap<UUID, V> implements ConcurrentMap<UUID, V> {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int SEGMENT_COUNT = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+    private EntrySet entrySet;
+
+    public UuidObjectMap() {
+        this(MIN_SEGMENT_CAPACITY * SEGMENT_COUNT);
+    }
+
+    @SuppressWarnings("unchecked")
+    public UuidObjectMap(int expectedSize) {
+        int perSegment = UuidHashing.tableCapacity(Math.max(1, expectedSize / SEGMENT_COUNT), MIN_SEGMENT_CAPACITY);
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>(perSegment);
+        }
+    }
+
+    private Segment<V> segmentFor(int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    @Override
+    public V get(Object key) {
+        if (!(key instanceof UUID uuid)) {
+            return null;
+        }
+        return get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    public V get(long msb, long lsb) {
+        int hash = UuidHashing.hash(msb, lsb);
+        Segment<V> segment = segmentFor(hash);
+        StampedLock lock = segment.lock;
+
+        long stamp = lock.tryOptimisticRead();
+        V value = segment.find(msb, lsb, hash);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return segment.find(msb, lsb, hash);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(UUID key, V value) {
+        Objects.requireNonNull(value);
+        return write(key, (segment, hash) -> segment.put(key, hash, value, false));
+    }
+
+    @Override
+    public V putIfAbsent(UUID key, V value) {
+        Objects.requireNonNull(value);
+        return write(key, (segment, hash) -> segment.put(key, hash, value, true));
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (!(key instanceof UUID uuid)) {
+            return null;
+        }
+        return write(uuid, (segment, hash) -> segment.remove(uuid, hash, null));
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (!(key instanceof UUID uuid) || value == null) {
+            return false;
+        }
+        return write(uuid, (segment, hash) -> segment.remove(uuid, hash, value)) != null;
+    }
+
+    @Override
+    public boolean replace(UUID key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Objects.requireNonNull(newValue);
+        return write(key, (segment, hash) -> {
+            V current = segment.find(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash);
+            if (!oldValue.equals(current)) {
+                return null;
+            }
+            segment.put(key, hash, newValue, false);
+            return current;
+        }) != null;
+    }
+
+    @Override
+    public V replace(UUID key, V value) {
+        Objects.requireNonNull(value);
+        return write(key, (segment, hash) -> {
+            V current = segment.find(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash);
+            if (current != null) {
+                segment.put(key, hash, value, false);
+            }
+            return current;
+        });
+    }
+
+    @Override
+    public V computeIfAbsent(UUID key, Function<? super UUID, ? extends V> mappingFunction) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        return write(key, (segment, hash) -> {
+            V current = segment.find(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash);
+            if (current != null) {
+                return current;
+            }
+            V created = mappingFunction.apply(key);
+            if (created != null) {
+                segment.put(key, hash, created, false);
+            }
+            return created;
+        });
+    }
+
+    @Override
+    public V computeIfPresent(UUID key, BiFunction<? super UUID, ? super V, ? extends V> remappingFunction) {
+        return write(key, (segment, hash) -> {
+            V current = segment.find(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash);
+            if (current == null) {
+                return null;
+            }
+            return segment.apply(key, hash, current, remappingFunction.apply(key, current));
+        });
+    }
+
+    @Override
+    public V compute(UUID key, BiFunction<? super UUID, ? super V, ? extends V> remappingFunction) {
+        return write(key, (segment, hash) -> {
+            V current = segment.find(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash);
+            return segment.apply(key, hash, current, remappingFunction.apply(key, current));
+        });
+    }
+
+    @Override
+    public V merge(UUID key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        Objects.requireNonNull(value);
+        return write(key, (segment, hash) -> {
+            V current = segment.find(key.getMostSignificantBits(), key.getLeastSignificantBits(), hash);
+            V merged = current == null ? value : remappingFunction.apply(current, value);
+            return segment.apply(key, hash, current, merged);
+        });
+    }
+
+    private <R> R write(UUID key, SegmentWrite<V, R> operation) {
+        int hash = UuidHashing.hash(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            return operation.apply(segment, hash);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Segment<V> segment : segments) {
+            if (segment.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (Segment<V> segment : segments) {
+            long stamp = segment.lock.writeLock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 스냅샷을 순회하므로 action 안에서 이 맵을 수정해도 된다
+     */
+    @Override
+    public void forEach(BiConsumer<? super UUID, ? super V> action) {
+        for (Segment<V> segment : segments) {
+            for (Entry<UUID, V> entry : segment.snapshot()) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<UUID, V>> entrySet() {
+        EntrySet set = entrySet;
+        return set != null ? set : (entrySet = new EntrySet());
+    }
+
+    @FunctionalInterface
+    private interface SegmentWrite<V, R> {
+        R apply(Segment<V> segment, int hash);
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<UUID, V>> {
+
+        @Override
+        public Iterator<Entry<UUID, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return UuidObjectMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            UuidObjectMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<UUID, V>> {
+
+        private int segmentIndex;
+        private Iterator<Entry<UUID, V>> current = List.<Entry<UUID, V>>of().iterator();
+        private Entry<UUID, V> last;
+
+        @Override
+        public boolean hasNext() {
+            while (!current.hasNext() && segmentIndex < SEGMENT_COUNT) {
+                current = segments[segmentIndex++].snapshot().iterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public Entry<UUID, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = current.next();
+            return last;
+        }
+
+        // 스냅샷 이후 값이 바뀐 엔트리는 지우지 않는다
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            UuidObjectMap.this.remove(last.getKey(), last.getValue());
+            last = null;
+        }
+    }
+
+    private static final class Table<V> {
+        final long[] keys;
+        final Object[] values;
+        final int mask;
+
+        Table(int capacity) {
+            keys = new long[capacity * 2];
+            values = new Object[capacity];
+            mask = capacity - 1;
+        }
+    }
+
+    private static final class Segment<V> {
+
+        final StampedLock lock = new StampedLock();
+        volatile Table<V> table;
+        volatile int size;
+
+        Segment(int capacity) {
+            table = new Table<>(capacity);
+        }
+
+        @SuppressWarnings("unchecked")
+        V find(long msb, long lsb, int hash) {
+            Table<V> t = table;
+            long[] keys = t.keys;
+            Object[] values = t.values;
+            int mask = t.mask;
+            for (int i = hash & mask, probes = 0; probes <= mask; i = (i + 1) & mask, probes++) {
+                Object value = values[i];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[i << 1] == msb && keys[(i << 1) + 1] == lsb) {
+                    return (V) value;
+                }
+            }
+            return null;
+        }
+
+        // 쓰기 락 안에서만 호출
+        @SuppressWarnings("unchecked")
+        V put(UUID key, int hash, V value, boolean onlyIfAbsent) {
+            long msb = key.getMostSignificantBits();
+            long lsb = key.getLeastSignificantBits();
+            Table<V> t = table;
+            int mask = t.mask;
+            int i = hash & mask;
+            while (t.values[i] != null) {
+                if (t.keys[i << 1] == msb && t.keys[(i << 1) + 1] == lsb) {
+                    V previous = (V) t.values[i];
+                    if (!onlyIfAbsent) {
+                        t.values[i] = value;
+                    }
+                    return previous;
+                }
+                i = (i + 1) & mask;
+            }
+            t.keys[i << 1] = msb;
+            t.keys[(i << 1) + 1] = lsb;
+            t.values[i] = value;
+            size = size + 1;
+            if (UuidHashing.needsResize(size, t.mask + 1)) {
+                resize(t);
+            }
+            return null;
+        }
+
+        // expected 가 null 이면 무조건 제거, 아니면 값이 같을 때만 제거
+        @SuppressWarnings("unchecked")
+        V remove(UUID key, int hash, Object expected) {
+            long msb = key.getMostSignificantBits();
+            long lsb = key.getLeastSignificantBits();
+            Table<V> t = table;
+            int mask = t.mask;
+            for (int i = hash & mask; t.values[i] != null; i = (i + 1) & mask) {
+                if (t.keys[i << 1] == msb && t.keys[(i << 1) + 1] == lsb) {
+                    V previous = (V) t.values[i];
+                    if (expected != null && !expected.equals(previous)) {
+                        return null;
+                    }
+                    deleteAt(t, i);
+                    size = size - 1;
+                    return previous;
+                }
+            }
+            return null;
+        }
+
+        // compute 결과 반영 ( null 이면 제거 )
+        V apply(UUID key, int hash, V current, V updated) {
+            if (updated == null) {
+                if (current != null) {
+                    remove(key, hash, null);
+                }
+                return null;
+            }
+            put(key, hash, updated, false);
+            return updated;
+        }
+
+        // backward-shift 삭제 : 뒤따르는 클러스터를 당겨 탐사 체인이 끊기지 않게 한다
+        private void deleteAt(Table<V> t, int i) {
+            int mask = t.mask;
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                if (t.values[j] == null) {
+                    break;
+                }
+                int home = UuidHashing.hash(t.keys[j << 1], t.keys[(j << 1) + 1]) & mask;
+                boolean movable = j > i ? (home <= i || home > j) : (home <= i && home > j);
+                if (movable) {
+                    t.keys[i << 1] = t.keys[j << 1];
+                    t.keys[(i << 1) + 1] = t.keys[(j << 1) + 1];
+                    t.values[i] = t.values[j];
+                    i = j;
+                }
+            }
+            t.values[i] = null;
+        }
+
+        private void resize(Table<V> old) {
+            Table<V> resized = new Table<>((old.mask + 1) << 1);
+            int mask = resized.mask;
+            for (int i = 0; i <= old.mask; i++) {
+                Object value = old.values[i];
+                if (value == null) {
+                    continue;
+                }
+                long msb = old.keys[i << 1];
+                long lsb = old.keys[(i << 1) + 1];
+                int j = UuidHashing.hash(msb, lsb) & mask;
+                while (resized.values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                resized.keys[j << 1] = msb;
+                resized.keys[(j << 1) + 1] = lsb;
+                resized.values[j] = value;
+            }
+            table = resized;
+        }
+
+        void clear() {
+            table = new Table<>(MIN_SEGMENT_CAPACITY);
+            size = 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Map.Entry<UUID, V>> snapshot() {
+            if (size == 0) {
+                return List.of();
+            }
+            long stamp = lock.readLock();
+            try {
+                Table<V> t = table;
+                List<Map.Entry<UUID, V>> entries = new ArrayList<>(size);
+                for (int i = 0; i <= t.mask; i++) {
+                    Object value = t.values[i];
+                    if (value != null) {
+                        entries.add(new AbstractMap.SimpleImmutableEntry<>(
+                            new UUID(t.keys[i << 1], t.keys[(i << 1) + 1]), (V) value));
+                    }
+                }
+                return entries;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+-- 발행에 실패한 행은 지수 백오프가 지난 뒤에 다시 가져간다
+ALTER TABLE outbox
+    ADD COLUMN IF NOT EXISTS next_attempt_at timestamp with time zone;
+
+-- 키별 앞선 PENDING 행 조회용 ( 앞선 행이 끝나기 전에는 같은 키의 뒤 행을 보내지 않는다 )
+CREATE INDEX IF NOT EXISTS idx_outbox_pending_key_created_at
+    ON outbox (message_key, created_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,17 @@
+-- Outbox ( 도메인 변경과 같은 트랜잭션에 기록되는 발행 대기 이벤트, OutboxRelay 가 Kafka 로 발행 )
+CREATE TABLE IF NOT EXISTS outbox
+(
+    id          uuid PRIMARY KEY,
+    created_at  timestamp with time zone NOT NULL,
+    topic       varchar(100)             NOT NULL,
+    message_key varchar(100),
+    payload     text                     NOT NULL,
+    status      varchar(20)              NOT NULL,
+    attempts    integer                  NOT NULL DEFAULT 0,
+    sent_at     timestamp with time zone
+);
+
+-- relay 폴링용 ( 대기 중인 행만 인덱싱 )
+CREATE INDEX IF NOT EXISTS idx_outbox_pending_created_at
+    ON outbox (created_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,7 @@
+-- 메시지 알림 채널 집계 ( 수신자, 채널 당 읽지 않은 알림 한 건에 메시지 수만 올린다 )
+-- 기본값이 상수라 PostgreSQL 11 이상에서는 테이블을 다시 쓰지 않는다
+ALTER TABLE notifications
+    ADD COLUMN IF NOT EXISTS channel_id uuid;
+
+ALTER TABLE notifications
+    ADD COLUMN IF NOT EXISTS unread_count integer NOT NULL DEFAULT 1;
@@ -0,0 +1,12 @@
+-- 운영 중인 테이블을 잠그지 않도록 CONCURRENTLY 로 만든다 ( Flyway 가 감지해 트랜잭션 밖에서 실행한다 )
+-- 도중에 실패하면 INVALID 인덱스가 남을 수 있으므로 해당 인덱스를 DROP 한 뒤 다시 migrate 한다
+
+-- 알림 keyset 페이지네이션 ( receiver_id = ? ORDER BY created_at DESC, id DESC )
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_receiver_created_at_id
+    ON notifications (receiver_id, created_at DESC, id DESC);
+
+-- 채널 집계 알림 조회 ( 수신자, 채널 당 한 행 )
+-- 파티션 테이블에는 created_at 없는 unique 인덱스를 둘 수 없어 upsert 는 advisory lock 으로 직렬화한다
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_receiver_channel
+    ON notifications (receiver_id, channel_id)
+    WHERE channel_id IS NOT NULL;
@@ -0,0 +1,15 @@
+-- 채널 / 사용자 삭제는 deleted_at 표시 후 DeletionPurgeService 가 연관 행을 청크 단위로 지우고 마지막에 행을 삭제한다
+ALTER TABLE channels
+    ADD COLUMN IF NOT EXISTS deleted_at timestamp with time zone;
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS deleted_at timestamp with time zone;
+
+-- 정리 대기 중인 행만 인덱싱 ( 재기동 후 이어서 정리할 대상 조회 )
+CREATE INDEX IF NOT EXISTS idx_channels_deleted_at
+    ON channels (deleted_at)
+    WHERE deleted_at IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_users_deleted_at
+    ON users (deleted_at)
+    WHERE deleted_at IS NOT NULL;
@@ -0,0 +1,25 @@
+-- 조회 빈도가 높은 조건의 보조 인덱스
+-- 운영 중인 테이블을 잠그지 않도록 CONCURRENTLY 로 만든다 ( Flyway 가 감지해 트랜잭션 밖에서 실행한다 )
+-- 도중에 실패하면 INVALID 인덱스가 남을 수 있으므로 해당 인덱스를 DROP 한 뒤 다시 migrate 한다
+
+-- 채널 메시지 타임라인 / 마지막 메시지 시각 ( channel_id = ? AND created_at < ? ORDER BY created_at )
+-- channel_id 단독 조건 ( 채널 삭제 정리 ) 도 이 인덱스가 처리한다
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_messages_channel_created_at
+    ON messages (channel_id, created_at);
+
+-- 사용자 삭제 정리 시 작성자 기준으로 메시지를 찾는다
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_messages_author_id
+    ON messages (author_id);
+
+-- 채널 삭제 정리 시 읽음 상태를 찾는다 ( read_statuses.user_id 는 unique (user_id, channel_id) 인덱스를 쓴다 )
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_read_statuses_channel_id
+    ON read_statuses (channel_id);
+
+-- 새 메시지 알림 대상 조회 ( 알림을 켠 구독자만 인덱싱 )
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_read_statuses_channel_notification
+    ON read_statuses (channel_id)
+    WHERE notification_enabled;
+
+-- 첨부파일 → 메시지 역참조 ( binary_contents 삭제 시 FK ON DELETE CASCADE )
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_message_attachments_attachment_id
+    ON message_attachments (attachment_id);
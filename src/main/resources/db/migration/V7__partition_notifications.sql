@@ -0,0 +1,75 @@
+-- notifications 를 created_at 월 단위 range 파티션 테이블로 바꾼다
+-- 보존 기간이 지난 알림은 DELETE 대신 파티션을 통째로 DROP 한다 ( 이후 파티션 생성 / 삭제는 NotificationPartitionManager )
+-- 한 트랜잭션에서 새 파티션 테이블을 만들고 행을 복사한 뒤 이름을 바꾼다
+-- 복사하는 동안 기존 테이블 쓰기는 막히고 ( 읽기는 가능 ), 도중에 실패하면 전부 롤백되어 기존 테이블이 그대로 남는다
+-- 파티션 테이블의 PK 는 파티션 키를 포함해야 하므로 (id, created_at) 로 둔다
+DO
+$$
+    DECLARE
+        current_month date := date_trunc('month', now() AT TIME ZONE 'UTC')::date;
+        last_month    date := (date_trunc('month', now() AT TIME ZONE 'UTC') + interval '2 months')::date;
+        month_start   date;
+    BEGIN
+        -- 이미 파티션 테이블이면 건너뛴다
+        IF EXISTS (SELECT 1
+                   FROM pg_partitioned_table pt
+                            JOIN pg_class c ON c.oid = pt.partrelid
+                   WHERE c.relname = 'notifications'
+                     AND c.relnamespace = current_schema()::regnamespace) THEN
+            RETURN;
+        END IF;
+
+        LOCK TABLE notifications IN SHARE ROW EXCLUSIVE MODE;
+
+        CREATE TABLE notifications_partitioned
+        (
+            id           uuid                     NOT NULL,
+            created_at   timestamp with time zone NOT NULL,
+            receiver_id  uuid                     NOT NULL,
+            title        varchar(255)             NOT NULL,
+            content      text                     NOT NULL,
+            channel_id   uuid,
+            unread_count integer                  NOT NULL DEFAULT 1
+        ) PARTITION BY RANGE (created_at);
+
+        -- 미리 만들어 둔 파티션 범위를 벗어난 행의 안전망 ( 평소에는 비어 있어야 한다 )
+        CREATE TABLE notifications_default PARTITION OF notifications_partitioned DEFAULT;
+
+        -- 가장 오래된 행이 있는 달부터 다음 2개월까지 월 파티션 ( 보존 기간이 지난 달은 기동 시 파티션 관리자가 DROP 한다 )
+        SELECT LEAST(coalesce(date_trunc('month', min(created_at) AT TIME ZONE 'UTC')::date, current_month),
+                     current_month)
+        INTO month_start
+        FROM notifications;
+
+        WHILE month_start <= last_month
+            LOOP
+                EXECUTE format(
+                        'CREATE TABLE %I PARTITION OF notifications_partitioned FOR VALUES FROM (%L) TO (%L)',
+                        'notifications_p' || to_char(month_start, 'YYYYMM'),
+                        month_start::timestamp AT TIME ZONE 'UTC',
+                        (month_start + interval '1 month')::timestamp AT TIME ZONE 'UTC');
+                month_start := (month_start + interval '1 month')::date;
+            END LOOP;
+
+        INSERT INTO notifications_partitioned (id, created_at, receiver_id, title, content, channel_id, unread_count)
+        SELECT id, created_at, receiver_id, title, content, channel_id, unread_count
+        FROM notifications;
+
+        -- 인덱스 / 제약 이름이 겹치지 않도록 기존 테이블을 지운 뒤 이름을 바꾸고 인덱스를 만든다
+        DROP TABLE notifications;
+        ALTER TABLE notifications_partitioned RENAME TO notifications;
+
+        ALTER TABLE notifications
+            ADD CONSTRAINT notifications_pkey PRIMARY KEY (id, created_at);
+
+        -- 부모 테이블에 만든 인덱스는 모든 파티션에 자동으로 만들어진다
+        CREATE INDEX idx_notifications_receiver_created_at_id
+            ON notifications (receiver_id, created_at DESC, id DESC);
+
+        CREATE INDEX idx_notifications_receiver_channel
+            ON notifications (receiver_id, channel_id)
+            WHERE channel_id IS NOT NULL;
+    END
+$$;
+
+ANALYZE notifications;
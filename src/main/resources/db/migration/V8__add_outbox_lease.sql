@@ -0,0 +1,3 @@
+-- relay 가 ack 를 기다리는 동안 행 잠금 대신 잡아 두는 시각 ( 지나면 다른 relay 가 다시 가져간다 )
+ALTER TABLE outbox
+    ADD COLUMN IF NOT EXISTS locked_until timestamp with time zone;
@@ -0,0 +1,15 @@
+-- 탈퇴 표시된 사용자 행은 정리될 때까지 남아 있으므로 username / email 중복은 탈퇴하지 않은 사용자끼리만 막는다
+-- ( 조회 / 중복 검사는 @SQLRestriction 으로 탈퇴 행을 빼고 보므로, 전체 UNIQUE 가 남아 있으면 재가입 INSERT 가 제약 위반으로 실패한다 )
+ALTER TABLE users
+    DROP CONSTRAINT IF EXISTS users_username_key;
+
+ALTER TABLE users
+    DROP CONSTRAINT IF EXISTS users_email_key;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username_live
+    ON users (username)
+    WHERE deleted_at IS NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_email_live
+    ON users (email)
+    WHERE deleted_at IS NULL;
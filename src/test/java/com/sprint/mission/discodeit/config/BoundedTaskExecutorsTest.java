@@ -0,0 +1,149 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class BoundedTaskExecutorsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BoundedTaskExecutors boundedTaskExecutors = new BoundedTaskExecutors(meterRegistry,
+        new VirtualThreadExecutors(new MockEnvironment(), 10, 4));
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch queuedTaskRan = new CountDownLatch(1);
+
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("caller-runs : 큐가 차면 제출한 스레드가 원본 작업을 실행하고 제출한 스레드의 MDC 는 그대로 둔다")
+    void callerRuns() throws InterruptedException {
+        // given
+        saturate(RejectionPolicy.CALLER_RUNS);
+        MDC.put("requestId", "req-1");
+        AtomicReference<String> ranOn = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> ranOn.set(Thread.currentThread().getName()));
+
+        // then
+        assertThat(ranOn.get()).isEqualTo(Thread.currentThread().getName());
+        assertThat(MDC.get("requestId")).isEqualTo("req-1");
+        assertThat(rejected("caller_runs")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("spill : 큐가 차면 SpillableTask 는 실행하지 않고 spill 한다")
+    void spill() throws InterruptedException {
+        // given
+        saturate(RejectionPolicy.SPILL);
+        AtomicBoolean ran = new AtomicBoolean();
+        AtomicBoolean spilled = new AtomicBoolean();
+
+        // when
+        executor.execute(SpillableTask.of(() -> ran.set(true), () -> spilled.set(true)));
+
+        // then
+        assertThat(spilled).isTrue();
+        assertThat(ran).isFalse();
+        assertThat(rejected("spilled")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("drop-oldest : 가장 오래 기다린 작업을 버리고 새 작업을 큐에 넣는다")
+    void dropOldest() throws InterruptedException {
+        // given
+        CountDownLatch newest = new CountDownLatch(1);
+        saturate(RejectionPolicy.DROP_OLDEST);
+
+        // when
+        executor.execute(newest::countDown);
+        release.countDown();
+
+        // then
+        assertThat(newest.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(rejected("dropped")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("abort : 큐가 차면 TaskRejectedException 을 던진다")
+    void abort() throws InterruptedException {
+        // given
+        saturate(RejectionPolicy.ABORT);
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+            .isInstanceOf(TaskRejectedException.class);
+        assertThat(rejected("aborted")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("큐 대기 시간과 큐 길이 / 활성 스레드 지표를 executor 이름으로 남긴다")
+    void exportsMetrics() throws InterruptedException {
+        // given
+        saturate(RejectionPolicy.CALLER_RUNS);
+
+        // when
+        double queued = meterRegistry.get("executor.queued").tag("name", "test").gauge().value();
+        double active = meterRegistry.get("executor.active").tag("name", "test").gauge().value();
+        release.countDown();
+
+        // then
+        assertThat(queuedTaskRan.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued).isEqualTo(1.0);
+        assertThat(active).isEqualTo(1.0);
+        assertThat(meterRegistry.get(BoundedTaskExecutors.QUEUE_WAIT).tag("name", "test").timer().count())
+            .isEqualTo(2);
+    }
+
+    // 스레드 1개는 release 까지 막혀 있고 큐 1칸도 차 있는 상태로 만든다
+    private void saturate(RejectionPolicy policy) throws InterruptedException {
+        TaskExecutor created = boundedTaskExecutors.create("test", "test-",
+            new AsyncExecutorProperties.Pool(1, 1, 1, policy), new AsyncConfig().taskDecorator());
+        executor = (ThreadPoolTaskExecutor) created;
+
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(queuedTaskRan::countDown);
+    }
+
+    private double rejected(String action) {
+        return meterRegistry.get(BoundedTaskExecutors.REJECTED)
+            .tag("name", "test")
+            .tag("action", action)
+            .counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,10 +3,13 @@ package com.sprint.mission.discodeit.config;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.redis.CompactRedisSerializer;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 public class CacheConfigTest {
 
@@ -16,14 +19,33 @@ public class CacheConfigTest {
     @DisplayName("캐시 설정은 prefix · TTL · null 캐싱 여부를 명시한다")
     void redisCacheConfiguration_shouldCustomizePrefixTtlAndNullHandling() {
         // given
-        ObjectMapper objectMapper = new ObjectMapper();
+        RedisSerializer<Object> serializer = new RedisConfig().redisSerializer(
+            new RedisConfig().jsonRedisSerializer(new ObjectMapper()), "compact", 1024);
 
         // when
-        RedisCacheConfiguration configuration = cacheConfig.redisCacheConfiguration(objectMapper);
+        RedisCacheConfiguration configuration = cacheConfig.redisCacheConfiguration(serializer);
 
         // then
         assertThat(configuration.getTtl()).isEqualTo(Duration.ofSeconds(600));
         assertThat(configuration.getKeyPrefixFor("channels")).isEqualTo("discodeit:channels::");
         assertThat(configuration.getAllowCacheNullValues()).isFalse();
     }
+
+    @Test
+    @DisplayName("캐시 값은 주입된 redisSerializer로 직렬화된다")
+    void redisCacheConfiguration_shouldUseProvidedSerializer() {
+        // given
+        RedisSerializer<Object> serializer = new RedisConfig().redisSerializer(
+            new RedisConfig().jsonRedisSerializer(new ObjectMapper()), "compact", 1024);
+        RedisCacheConfiguration configuration = cacheConfig.redisCacheConfiguration(serializer);
+
+        // when
+        ByteBuffer written = configuration.getValueSerializationPair().write("value");
+
+        // then
+        byte[] bytes = new byte[written.remaining()];
+        written.get(bytes);
+        assertThat(serializer.deserialize(bytes)).isEqualTo("value");
+        assertThat(serializer).isInstanceOf(CompactRedisSerializer.class);
+    }
 }
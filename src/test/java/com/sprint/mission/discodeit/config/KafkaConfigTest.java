@@ -0,0 +1,75 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class KafkaConfigTest {
+
+    @Test
+    @DisplayName("프로듀서 설정에 배칭/압축/멱등성 옵션이 적용된다")
+    void producerConfigs_applyTuning() {
+        // given
+        KafkaTuningProperties properties = new KafkaTuningProperties();
+        properties.getProducer().setLingerMs(20);
+        properties.getProducer().setCompressionType("zstd");
+        KafkaConfig config = new KafkaConfig(properties);
+        ReflectionTestUtils.setField(config, "bootstrapServers", "localhost:9092");
+
+        // when
+        Map<String, Object> configs = config.producerConfigs();
+
+        // then
+        assertThat(configs).containsEntry(ProducerConfig.LINGER_MS_CONFIG, 20);
+        assertThat(configs).containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "zstd");
+        assertThat(configs).containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        assertThat(configs).containsEntry(ProducerConfig.ACKS_CONFIG, "all");
+    }
+
+    @Test
+    @DisplayName("리스너 동시성은 별도 설정이 없으면 토픽 파티션 수를 따른다")
+    void listenerConcurrency_followsPartitions() {
+        // given
+        KafkaTuningProperties properties = new KafkaTuningProperties();
+        properties.getTopic().setPartitions(6);
+        KafkaConfig config = new KafkaConfig(properties);
+        ReflectionTestUtils.setField(config, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(config, "instanceId", "test");
+
+        // when
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+            config.kafkaListenerContainerFactory();
+        NewTopic topic = config.messageCreateEventTopic();
+
+        // then
+        assertThat(ReflectionTestUtils.getField(factory, "concurrency")).isEqualTo(6);
+        assertThat(topic.numPartitions()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("배치 리스너 팩토리는 배치 모드와 max.poll.records 설정을 사용한다")
+    void batchKafkaListenerContainerFactory() {
+        // given
+        KafkaTuningProperties properties = new KafkaTuningProperties();
+        properties.getNotification().setMaxPollRecords(200);
+        KafkaConfig config = new KafkaConfig(properties);
+        ReflectionTestUtils.setField(config, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(config, "instanceId", "test");
+
+        // when
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+            config.batchKafkaListenerContainerFactory();
+
+        // then
+        assertThat(factory.isBatchListener()).isTrue();
+        assertThat(factory.getConsumerFactory().getConfigurationProperties())
+            .containsEntry(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 200);
+    }
+}
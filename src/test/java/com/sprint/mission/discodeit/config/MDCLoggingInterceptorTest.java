@@ -0,0 +1,92 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.mission.discodeit.controller.ChannelController;
+import com.sprint.mission.discodeit.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class MDCLoggingInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MDCLoggingInterceptor interceptor = new MDCLoggingInterceptor(meterRegistry, 2);
+    private final SqlStatementCounter statementCounter = new SqlStatementCounter();
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.end();
+        MDC.clear();
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 수를 MDC 에 남기고 컨트롤러 메서드별로 기록한다")
+    void countsStatementsPerRequest() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/channels");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = handler();
+
+        // when
+        interceptor.preHandle(request, response, handler);
+        statementCounter.inspect("select 1");
+        statementCounter.inspect("select 2");
+        String sqlCountDuringRequest = MDC.get(SqlStatementCounter.MDC_KEY);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        assertThat(sqlCountDuringRequest).isEqualTo("2");
+        assertThat(meterRegistry.get(MDCLoggingInterceptor.SQL_STATEMENTS)
+            .tag("controller", "ChannelController")
+            .tag("method", "findAll")
+            .summary().totalAmount()).isEqualTo(2.0);
+        assertThat(meterRegistry.find(MDCLoggingInterceptor.N_PLUS_ONE_SUSPECTED).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("SQL 수가 기준을 넘으면 호출한 컨트롤러 메서드로 N+1 의심 카운터를 올린다")
+    void flagsNPlusOne() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/channels");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = handler();
+
+        // when
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < 3; i++) {
+            statementCounter.inspect("select * from users where id = ?");
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // then
+        assertThat(meterRegistry.get(MDCLoggingInterceptor.N_PLUS_ONE_SUSPECTED)
+            .tag("controller", "ChannelController")
+            .tag("method", "findAll")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청 밖 ( 비동기 / 컨슈머 스레드 ) 에서 실행된 SQL 은 세지 않는다")
+    void ignoresStatementsOutsideRequest() {
+        // when
+        statementCounter.inspect("select 1");
+
+        // then
+        assertThat(MDC.get(SqlStatementCounter.MDC_KEY)).isNull();
+        assertThat(SqlStatementCounter.end()).isZero();
+    }
+
+    private static HandlerMethod handler() throws NoSuchMethodException {
+        Method findAll = ChannelController.class.getMethod("findAll", UUID.class);
+        return new HandlerMethod(mock(ChannelController.class), findAll);
+    }
+}
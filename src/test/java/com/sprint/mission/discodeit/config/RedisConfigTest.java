@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.mockito.Mockito.mock;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.redis.CompactRedisSerializer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 public class RedisConfigTest {
 
@@ -23,8 +25,8 @@ public class RedisConfigTest {
     void redisTemplate_shouldUseProvidedSerializer() {
         // given
         RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
-        GenericJackson2JsonRedisSerializer serializer =
-            redisConfig.redisSerializer(new ObjectMapper());
+        RedisSerializer<Object> serializer = redisConfig.redisSerializer(
+            redisConfig.jsonRedisSerializer(new ObjectMapper()), "compact", 1024);
 
         // when
         RedisTemplate<String, Object> template =
@@ -37,14 +39,14 @@ public class RedisConfigTest {
     }
 
     @Test
-    @DisplayName("redisSerializer는 타입 정보를 유지하는 JSON을 생성한다")
-    void redisSerializer_shouldPreserveTypeMetadata() {
+    @DisplayName("jsonRedisSerializer는 타입 정보를 유지하는 JSON을 생성한다")
+    void jsonRedisSerializer_shouldPreserveTypeMetadata() {
         // given
         ObjectMapper objectMapper = new ObjectMapper();
 
         // when
         GenericJackson2JsonRedisSerializer serializer =
-            redisConfig.redisSerializer(objectMapper);
+            redisConfig.jsonRedisSerializer(objectMapper);
 
         // then
         byte[] jsonBytes = serializer.serialize(List.of(UUID.randomUUID(), "payload"));
@@ -54,4 +56,19 @@ public class RedisConfigTest {
         assertThat(restored.get(0)).isInstanceOf(UUID.class);
         assertThat(restored.get(1)).isEqualTo("payload");
     }
+
+    @Test
+    @DisplayName("codec 설정에 따라 compact 또는 JSON serializer를 선택한다")
+    void redisSerializer_shouldSelectCodec() {
+        // given
+        GenericJackson2JsonRedisSerializer json = redisConfig.jsonRedisSerializer(new ObjectMapper());
+
+        // when
+        RedisSerializer<Object> compact = redisConfig.redisSerializer(json, "compact", 1024);
+        RedisSerializer<Object> plain = redisConfig.redisSerializer(json, "json", 1024);
+
+        // then
+        assertThat(compact).isInstanceOf(CompactRedisSerializer.class);
+        assertThat(plain).isSameAs(json);
+    }
 }
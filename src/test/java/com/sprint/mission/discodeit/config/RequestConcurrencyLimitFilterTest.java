@@ -0,0 +1,131 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class RequestConcurrencyLimitFilterTest {
+
+    // Hikari maximum-pool-size 1, concurrency-per-connection 1 → 요청 상한 1
+    private static final Duration HIKARI_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration REQUEST_WAIT_TIMEOUT = Duration.ofMillis(200);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(
+        new VirtualThreadExecutors(new MockEnvironment(), 1, 1).connectionBoundLimit(),
+        REQUEST_WAIT_TIMEOUT, meterRegistry);
+    private final ExecutorService requests = Executors.newCachedThreadPool();
+
+    // 커넥션 풀 대역 : 커넥션을 connection-timeout 동안 기다리고, 못 얻으면 실패로 센다
+    private final Semaphore connections = new Semaphore(1);
+    private final AtomicInteger connectionTimeouts = new AtomicInteger();
+    private final CountDownLatch holding = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        requests.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("상한을 넘은 요청은 커넥션을 기다리지 않고 대기 시간 안에 503 으로 돌려준다 ( Hikari connection-timeout 전에 막힌다 )")
+    void limitsRequestsBeforeHikariTimesOut() throws Exception {
+        // given : 첫 요청이 커넥션을 잡고 처리 중이다
+        Future<MockHttpServletResponse> first = requests.submit(() -> request("/api/messages", true));
+        assertThat(holding.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        long start = System.nanoTime();
+        MockHttpServletResponse second = request("/api/messages", false);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(second.getStatus()).isEqualTo(503);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(elapsed).isLessThan(HIKARI_CONNECTION_TIMEOUT);
+        assertThat(connectionTimeouts).hasValue(0);
+        assertThat(meterRegistry.get(RequestConcurrencyLimitFilter.LIMITED).counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(first.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 자리가 나면 기다리던 요청을 이어서 처리한다")
+    void waitingRequestProceedsWhenPermitFrees() throws Exception {
+        // given
+        Future<MockHttpServletResponse> first = requests.submit(() -> request("/api/messages", true));
+        assertThat(holding.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        Future<MockHttpServletResponse> second = requests.submit(() -> request("/api/messages", false));
+        Thread.sleep(50);
+        double waiting = meterRegistry.get(RequestConcurrencyLimitFilter.WAITING).gauge().value();
+        release.countDown();
+
+        // then
+        assertThat(waiting).isEqualTo(1.0);
+        assertThat(first.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(second.get(1, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get(RequestConcurrencyLimitFilter.LIMITED).counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("actuator 요청은 상한과 관계없이 처리한다")
+    void actuatorIsNotLimited() throws Exception {
+        // given
+        requests.submit(() -> request("/api/messages", true));
+        assertThat(holding.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        MockHttpServletResponse health = request("/actuator/health", false);
+
+        // then
+        assertThat(health.getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse request(String uri, boolean hold) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            if (uri.startsWith("/actuator")) {
+                return;
+            }
+            try {
+                if (!connections.tryAcquire(HIKARI_CONNECTION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    connectionTimeouts.incrementAndGet();
+                    ((MockHttpServletResponse) res).setStatus(500);
+                    return;
+                }
+                try {
+                    if (hold) {
+                        holding.countDown();
+                        release.await();
+                    }
+                } finally {
+                    connections.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
@@ -2,13 +2,18 @@ package com.sprint.mission.discodeit.config;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.redis.OrderedMessageDispatcher;
 import com.sprint.mission.discodeit.service.distributed.RedisBasedSseService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,10 +22,18 @@ import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.Topic;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.test.util.ReflectionTestUtils;
 
 public class SseRedisConfigTest {
 
+    private final RedisConfig redisConfig = new RedisConfig();
+    private final RedisSerializer<Object> redisSerializer = redisConfig.redisSerializer(
+        redisConfig.jsonRedisSerializer(new ObjectMapper()), "compact", 1024);
+    // 토픽 큐를 호출한 스레드에서 바로 비운다
+    private final OrderedMessageDispatcher dispatcher =
+        new OrderedMessageDispatcher(Runnable::run, 100, new SimpleMeterRegistry());
+
     private MessageListener findListener(
         RedisMessageListenerContainer container, String topicName) {
 
@@ -48,7 +61,7 @@ public class SseRedisConfigTest {
 
         SseRedisConfig config = new SseRedisConfig(objectMapper);
         RedisMessageListenerContainer container =
-            config.redisMessageListenerContainer(connectionFactory, sseService);
+            config.redisMessageListenerContainer(connectionFactory, sseService, redisSerializer, dispatcher);
 
         MessageListener broadcastListener = findListener(container, "sse:broadcast");
 
@@ -73,7 +86,7 @@ public class SseRedisConfigTest {
 
         SseRedisConfig config = new SseRedisConfig(objectMapper);
         RedisMessageListenerContainer container =
-            config.redisMessageListenerContainer(connectionFactory, sseService);
+            config.redisMessageListenerContainer(connectionFactory, sseService, redisSerializer, dispatcher);
 
         MessageListener targetedListener = findListener(container, "sse:targeted");
 
@@ -98,7 +111,7 @@ public class SseRedisConfigTest {
 
         SseRedisConfig config = new SseRedisConfig(objectMapper);
         RedisMessageListenerContainer container =
-            config.redisMessageListenerContainer(connectionFactory, sseService);
+            config.redisMessageListenerContainer(connectionFactory, sseService, redisSerializer, dispatcher);
 
         MessageListener broadcastListener = findListener(container, "sse:broadcast");
 
@@ -111,4 +124,35 @@ public class SseRedisConfigTest {
         // then
         then(sseService).shouldHaveNoInteractions();
     }
+
+    @Test
+    @DisplayName("compact 코덱으로 인코딩된 메시지도 handleTargetedMessage로 전달된다")
+    void compactMessage_isHandled() {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        RedisBasedSseService sseService = mock(RedisBasedSseService.class);
+
+        SseRedisConfig config = new SseRedisConfig(objectMapper);
+        RedisMessageListenerContainer container =
+            config.redisMessageListenerContainer(connectionFactory, sseService, redisSerializer, dispatcher);
+
+        MessageListener targetedListener = findListener(container, "sse:targeted");
+
+        UUID userId = UUID.randomUUID();
+        RedisBasedSseService.SseMessage sseMessage = new RedisBasedSseService.SseMessage();
+        sseMessage.setEventName("ping");
+        sseMessage.setData("hello");
+        sseMessage.setTargetUsers(List.of(userId));
+
+        Message targetedMessage = mock(Message.class);
+        when(targetedMessage.getBody()).thenReturn(redisSerializer.serialize(sseMessage));
+
+        // when
+        targetedListener.onMessage(targetedMessage, null);
+
+        // then
+        then(sseService).should().handleTargetedMessage(argThat(message ->
+            "ping".equals(message.getEventName()) && List.of(userId).equals(message.getTargetUsers())));
+    }
 }
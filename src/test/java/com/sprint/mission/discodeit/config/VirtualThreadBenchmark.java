@@ -0,0 +1,101 @@
+package com.sprint.mission.discodeit.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * I/O 대기 위주 작업에서 플랫폼 스레드 풀 대비 가상 스레드 executor 의 처리량 비교
+ * - 작업 하나 : 외부 I/O 20ms ( S3 / Redis / Kafka ) → DB 커넥션을 잡고 5ms
+ * - DB 커넥션 풀은 Semaphore 로 흉내 낸다 ( connection-timeout 안에 못 잡으면 실패로 센다 )
+ * ./gradlew benchmark 로 실행 ( 기본 test 태스크에서는 제외, JDK 21 이상 )
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadBenchmark {
+
+    private static final int TASKS = 2_000;
+    private static final int POOL_SIZE = 10;
+    private static final int CONCURRENCY_PER_CONNECTION = 4;
+    private static final long IO_MILLIS = 20;
+    private static final long QUERY_MILLIS = 5;
+    private static final long CONNECTION_TIMEOUT_MILLIS = 250;
+
+    @Test
+    @DisplayName("가상 스레드 ( 커넥션 풀 기준 상한 ) 가 기존 10 스레드 풀보다 처리량이 높고 커넥션 대기 시간 초과가 없다")
+    void ioBoundThroughput() throws InterruptedException {
+        VirtualThreadExecutors virtualThreadExecutors = new VirtualThreadExecutors(
+            new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"),
+            POOL_SIZE, CONCURRENCY_PER_CONNECTION);
+
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(POOL_SIZE);
+        platform.setMaxPoolSize(POOL_SIZE);
+        platform.setQueueCapacity(TASKS);
+        platform.setThreadNamePrefix("bench-platform-");
+        platform.initialize();
+
+        // 워밍업
+        run(platform);
+
+        Result platformResult = run(platform);
+        Result bounded = run(virtualThreadExecutors.create("bench-bounded-",
+            virtualThreadExecutors.connectionBoundLimit()));
+        Result unbounded = run(virtualThreadExecutors.create("bench-unbounded-", VirtualThreadExecutors.UNBOUNDED));
+        platform.shutdown();
+
+        System.out.printf("io-bound  platform(%d): %5d tasks/s timeouts %4d | virtual(limit %d): %5d tasks/s timeouts %4d | virtual(unbounded): %5d tasks/s timeouts %4d%n",
+            POOL_SIZE, platformResult.tasksPerSecond, platformResult.timeouts,
+            virtualThreadExecutors.connectionBoundLimit(), bounded.tasksPerSecond, bounded.timeouts,
+            unbounded.tasksPerSecond, unbounded.timeouts);
+
+        assertThat(bounded.tasksPerSecond).isGreaterThan(platformResult.tasksPerSecond);
+        assertThat(bounded.timeouts).isZero();
+    }
+
+    private static Result run(Executor executor) throws InterruptedException {
+        Semaphore connectionPool = new Semaphore(POOL_SIZE, true);
+        AtomicInteger timeouts = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(TASKS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(IO_MILLIS);
+                    if (!connectionPool.tryAcquire(CONNECTION_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                        timeouts.incrementAndGet();
+                        return;
+                    }
+                    try {
+                        Thread.sleep(QUERY_MILLIS);
+                    } finally {
+                        connectionPool.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - start;
+        return new Result(TASKS * 1_000_000_000L / elapsed, timeouts.get());
+    }
+
+    private record Result(long tasksPerSecond, int timeouts) {
+
+    }
+}
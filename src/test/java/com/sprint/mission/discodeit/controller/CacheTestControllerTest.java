@@ -9,9 +9,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
+import com.sprint.mission.discodeit.redis.NotificationPageCache;
 import com.sprint.mission.discodeit.service.NotificationService;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -51,6 +54,9 @@ public class CacheTestControllerTest {
     @MockitoBean
     private NotificationService notificationService;
 
+    @MockitoBean
+    private NotificationPageCache notificationPageCache;
+
     @Test
     @DisplayName("테스트 알림 생성 시 서비스 위임과 반환값을 확인한다")
     void createTestNotification_shouldDelegateToService() throws Exception {
@@ -77,12 +83,13 @@ public class CacheTestControllerTest {
     void getNotificationsMultipleTimes_shouldInvokeServiceRepeatedly() throws Exception {
         UUID receiverId = UUID.randomUUID();
         NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "t", "c");
-        given(notificationService.findAllByReceiverId(receiverId)).willReturn(List.of(dto));
+        given(notificationService.findAllByReceiverId(receiverId, null, 20))
+            .willReturn(new PageResponse<>(List.of(dto), null, 20, false, null));
 
         mockMvc.perform(get("/api/test/cache/notifications/{id}", receiverId).param("times", "2"))
             .andExpect(status().isOk());
 
-        then(notificationService).should(org.mockito.Mockito.times(2)).findAllByReceiverId(receiverId);
+        then(notificationService).should(org.mockito.Mockito.times(2)).findAllByReceiverId(receiverId, null, 20);
     }
 
     @Test
@@ -101,17 +108,15 @@ public class CacheTestControllerTest {
     }
 
     @Test
-    @DisplayName("캐시 비우기 요청 시 ValueWrapper 여부에 따라 로그를 남긴다")
+    @DisplayName("캐시 비우기 요청 시 알림 첫 페이지 캐시를 삭제한다")
     void clearCache_shouldEvictReceiverEntry() throws Exception {
-        Cache cache = cacheManager.getCache("userNotifications");
-        assertThat(cache).isNotNull();
         UUID receiverId = UUID.randomUUID();
-        cache.put(receiverId, "value");
+        given(notificationPageCache.get(receiverId)).willReturn(Optional.empty());
 
         mockMvc.perform(delete("/api/test/cache/clear/{id}", receiverId))
             .andExpect(status().isOk());
 
-        assertThat(cache.get(receiverId)).isNull();
+        then(notificationPageCache).should().evict(receiverId);
     }
 
     @Test
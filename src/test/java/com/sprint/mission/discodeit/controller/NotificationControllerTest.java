@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
 import com.sprint.mission.discodeit.service.NotificationService;
 import java.time.Instant;
@@ -39,15 +40,17 @@ class NotificationControllerTest {
             UUID.randomUUID(), Instant.now(), currentUserId, "title", "content");
         given(authentication.getPrincipal()).willReturn(userDetails);
         given(userDetails.getUserId()).willReturn(currentUserId);
-        given(notificationService.findAllByReceiverId(currentUserId)).willReturn(List.of(notification));
+        given(notificationService.findAllByReceiverId(currentUserId, null, 20))
+            .willReturn(new PageResponse<>(List.of(notification), null, 20, false, null));
 
         // when
         ResponseEntity<List<NotificationDto>> response =
-            controller.getNotifications(null, authentication);
+            controller.getNotifications(null, null, 20, authentication);
 
         // then
         assertThat(response.getBody()).containsExactly(notification);
-        then(notificationService).should().findAllByReceiverId(currentUserId);
+        assertThat(response.getHeaders().containsKey(NotificationController.NEXT_CURSOR_HEADER)).isFalse();
+        then(notificationService).should().findAllByReceiverId(currentUserId, null, 20);
     }
 
     @Test
@@ -55,13 +58,34 @@ class NotificationControllerTest {
     void getNotifications_특정사용자() {
         // given
         UUID targetId = UUID.randomUUID();
-        given(notificationService.findAllByReceiverId(targetId)).willReturn(List.of());
+        given(notificationService.findAllByReceiverId(targetId, "cursor", 10))
+            .willReturn(new PageResponse<>(List.of(), null, 10, false, null));
 
         // when
-        controller.getNotifications(targetId, authentication);
+        controller.getNotifications(targetId, "cursor", 10, authentication);
 
         // then
-        then(notificationService).should().findAllByReceiverId(targetId);
+        then(notificationService).should().findAllByReceiverId(targetId, "cursor", 10);
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 있으면 본문은 배열 그대로 두고 커서를 헤더로 내려준다")
+    void getNotifications_다음페이지커서() {
+        // given
+        UUID targetId = UUID.randomUUID();
+        var notification = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), targetId, "title", "content");
+        given(notificationService.findAllByReceiverId(targetId, null, 1))
+            .willReturn(new PageResponse<>(List.of(notification), "next-cursor", 1, true, null));
+
+        // when
+        ResponseEntity<List<NotificationDto>> response =
+            controller.getNotifications(targetId, null, 1, authentication);
+
+        // then
+        assertThat(response.getBody()).containsExactly(notification);
+        assertThat(response.getHeaders().getFirst(NotificationController.NEXT_CURSOR_HEADER))
+            .isEqualTo("next-cursor");
     }
 
     @Test
@@ -0,0 +1,160 @@
+package com.sprint.mission.discodeit.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT lag";
+
+    @Mock private DataSource primary;
+    @Mock private DataSource replica1;
+    @Mock private DataSource replica2;
+    @Mock private Connection primaryConnection;
+    @Mock private Connection replicaConnection1;
+    @Mock private Connection replicaConnection2;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica1);
+        replicas.put("replica-1", replica2);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas,
+            Duration.ofSeconds(5), Duration.ofSeconds(10), LAG_QUERY);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본을 번갈아 쓰고, 쓰기 트랜잭션은 primary 를 쓴다")
+    void routesByReadOnlyFlag() throws Exception {
+        // given
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica1.getConnection()).willReturn(replicaConnection1);
+        given(replica2.getConnection()).willReturn(replicaConnection2);
+
+        // when
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        Connection write = routingDataSource.getConnection();
+
+        // then
+        assertThat(first).isSameAs(replicaConnection1);
+        assertThat(second).isSameAs(replicaConnection2);
+        assertThat(write).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("복제본 커넥션 획득에 실패하면 primary 로 응답하고 다음 헬스 체크 전까지 제외한다")
+    void failsOverToPrimary() throws Exception {
+        // given
+        given(primary.getConnection()).willReturn(primaryConnection);
+        given(replica1.getConnection()).willThrow(new SQLException("connection refused"));
+        given(replica2.getConnection()).willReturn(replicaConnection2);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Connection failedOver = routingDataSource.getConnection();
+        Connection next = routingDataSource.getConnection();
+        Connection afterNext = routingDataSource.getConnection();
+
+        // then
+        assertThat(failedOver).isSameAs(primaryConnection);
+        assertThat(next).isSameAs(replicaConnection2);
+        assertThat(afterNext).isSameAs(replicaConnection2);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 maxLag 를 넘은 복제본은 건너뛰고, 모두 넘으면 primary 를 쓴다")
+    void skipsLaggingReplicas() throws Exception {
+        // given
+        stubLag(replica1, replicaConnection1, 60_000L);
+        stubLag(replica2, replicaConnection2, 60_000L);
+        given(primary.getConnection()).willReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        routingDataSource.checkReplicas();
+        Connection connection = routingDataSource.getConnection();
+
+        // then
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션을 커밋한 사용자의 읽기는 read-your-writes 구간 동안 primary 로 간다")
+    void readYourWrites() throws Exception {
+        // given
+        UUID userId = UUID.randomUUID();
+        authenticate(userId);
+        given(primary.getConnection()).willReturn(primaryConnection);
+
+        // when
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Connection ownRead = routingDataSource.getConnection();
+
+        authenticate(UUID.randomUUID());
+        given(replica1.getConnection()).willReturn(replicaConnection1);
+        Connection otherRead = routingDataSource.getConnection();
+
+        // then
+        assertThat(ownRead).isSameAs(primaryConnection);
+        assertThat(otherRead).isSameAs(replicaConnection1);
+    }
+
+    private void stubLag(DataSource replica, Connection connection, long lagMillis) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        given(replica.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getLong(1)).willReturn(lagMillis);
+    }
+
+    private static void authenticate(UUID userId) {
+        UserDto userDto = new UserDto(userId, "user", "user@test.com", Role.USER, null, true);
+        DiscodeitUserDetails userDetails = new DiscodeitUserDetails(userDto, "password", null);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+}
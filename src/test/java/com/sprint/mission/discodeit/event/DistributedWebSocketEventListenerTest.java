@@ -1,8 +1,12 @@
 package com.sprint.mission.discodeit.event;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.service.MessageService;
 import java.time.Instant;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -24,12 +29,14 @@ public class DistributedWebSocketEventListenerTest {
     @Mock private MessageService messageService;
     @Mock private KafkaTemplate<String, Object> kafkaTemplate;
 
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     private DistributedWebSocketEventListener listener;
 
     @BeforeEach
     void setUp() {
         listener = new DistributedWebSocketEventListener(
-            messagingTemplate, messageService, kafkaTemplate
+            messagingTemplate, messageService, kafkaTemplate, objectMapper
         );
     }
 
@@ -45,12 +52,15 @@ public class DistributedWebSocketEventListenerTest {
         listener.handleMessageCreateForKafka(event);
 
         // then
-        then(kafkaTemplate).should().send("message-created", event);
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        then(kafkaTemplate).should().send(eq("message-created"), eq(event.channelId().toString()), payload.capture());
+        assertThat(payload.getValue()).isInstanceOf(String.class);
+        assertThat((String) payload.getValue()).contains(event.messageId().toString());
     }
 
     @Test
-    @DisplayName("Kafka Consumer는 메시지 조회 후 WebSocket 구독자에게 전달한다")
-    void handleMessageCreateFromKafka_shouldForwardToSubscribers() {
+    @DisplayName("구버전(DTO 없는) 이벤트는 메시지 조회 후 WebSocket 구독자에게 전달한다")
+    void handleMessageCreateFromKafka_shouldForwardToSubscribers() throws Exception {
         // given
         UUID messageId = UUID.randomUUID();
         UUID channelId = UUID.randomUUID();
@@ -63,11 +73,59 @@ public class DistributedWebSocketEventListenerTest {
         given(messageService.find(messageId)).willReturn(dto);
 
         // when
-        listener.handleMessageCreateFromKafka(event);
+        listener.handleMessageCreateFromKafka(objectMapper.writeValueAsString(event));
 
         // then
         String expectedDestination = "/sub/channels." + channelId + ".messages";
         then(messageService).should().find(messageId);
         then(messagingTemplate).should().convertAndSend(expectedDestination, dto);
     }
+
+    @Test
+    @DisplayName("DTO가 포함된 이벤트는 DB 조회 없이 WebSocket 구독자에게 전달한다")
+    void handleMessageCreateFromKafka_usesEmbeddedDto() throws Exception {
+        // given
+        UUID messageId = UUID.randomUUID();
+        UUID channelId = UUID.randomUUID();
+        MessageDto dto = new MessageDto(
+            messageId, Instant.now(), null, "hello", channelId, null, List.of()
+        );
+        MessageCreateEvent event = new MessageCreateEvent(
+            messageId, channelId, UUID.randomUUID(), "author", "channel", "hello",
+            dto, MessageCreateEvent.CURRENT_SCHEMA_VERSION
+        );
+
+        // when
+        listener.handleMessageCreateFromKafka(objectMapper.writeValueAsString(event));
+
+        // then
+        String expectedDestination = "/sub/channels." + channelId + ".messages";
+        then(messageService).shouldHaveNoInteractions();
+        then(messagingTemplate).should().convertAndSend(eq(expectedDestination), any(MessageDto.class));
+    }
+
+    @Test
+    @DisplayName("schemaVersion 필드가 없는 버전 1 페이로드는 버전 1로 읽고 메시지를 조회해 전달한다")
+    void handleMessageCreateFromKafka_legacyPayloadWithoutSchemaVersion() throws Exception {
+        // given
+        UUID messageId = UUID.randomUUID();
+        UUID channelId = UUID.randomUUID();
+        String payload = """
+            {"messageId":"%s","channelId":"%s","authorId":"%s",
+             "authorUsername":"author","channelName":"channel","content":"hello"}
+            """.formatted(messageId, channelId, UUID.randomUUID());
+        MessageDto dto = new MessageDto(
+            messageId, Instant.now(), null, "hello", channelId, null, List.of()
+        );
+        given(messageService.find(messageId)).willReturn(dto);
+
+        // when
+        listener.handleMessageCreateFromKafka(payload);
+
+        // then
+        assertThat(objectMapper.readValue(payload, MessageCreateEvent.class).schemaVersion())
+            .isEqualTo(MessageCreateEvent.LEGACY_SCHEMA_VERSION);
+        then(messageService).should().find(messageId);
+        then(messagingTemplate).should().convertAndSend("/sub/channels." + channelId + ".messages", dto);
+    }
 }
@@ -0,0 +1,122 @@
+package com.sprint.mission.discodeit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import com.sprint.mission.discodeit.dto.request.NotificationCreateRequest;
+import com.sprint.mission.discodeit.service.NotificationService;
+import com.sprint.mission.discodeit.service.SseService;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MessageNotificationDispatcherTest {
+
+    @Mock private NotificationService notificationService;
+    @Mock private SseService sseService;
+    @InjectMocks private MessageNotificationDispatcher dispatcher;
+
+    private final UUID channelId = UUID.randomUUID();
+    private final UUID authorId = UUID.randomUUID();
+    private final UUID receiverA = UUID.randomUUID();
+    private final UUID receiverB = UUID.randomUUID();
+
+    private MessageCreateEvent message(String content) {
+        return new MessageCreateEvent(UUID.randomUUID(), channelId, authorId, "writer", "개발", content);
+    }
+
+    @Test
+    @DisplayName("개별 모드에서는 작성자를 제외한 구독자에게 메시지마다 알림을 만들고 메시지당 SSE 를 한 번 보낸다")
+    void dispatch_individual() {
+        // given
+        MessageCreateEvent first = message("1");
+        MessageCreateEvent second = message("2");
+        NotificationDto firstA = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverA, "t", "1");
+        NotificationDto secondA = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverA, "t", "2");
+        given(notificationService.createAll(anyList())).willReturn(List.of(firstA, secondA));
+
+        // when
+        int count = dispatcher.dispatch(List.of(first, second), Map.of(channelId, List.of(receiverA, authorId)));
+
+        // then
+        assertThat(count).isEqualTo(2);
+        then(notificationService).should().createAll(List.of(
+            new NotificationCreateRequest(receiverA, "개발 채널에 새 메시지가 도착했습니다.", "1"),
+            new NotificationCreateRequest(receiverA, "개발 채널에 새 메시지가 도착했습니다.", "2")));
+        then(sseService).should().sendEach("notifications.new", Map.of(receiverA, firstA));
+        then(sseService).should().sendEach("notifications.new", Map.of(receiverA, secondA));
+    }
+
+    @Test
+    @DisplayName("알림 저장 후 SSE 전송이 실패해도 예외를 던지지 않고 나머지 메시지를 계속 전송한다")
+    void dispatch_sseFailureIsNotRethrown() {
+        // given
+        MessageCreateEvent first = message("1");
+        MessageCreateEvent second = message("2");
+        NotificationDto firstA = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverA, "t", "1");
+        NotificationDto secondA = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverA, "t", "2");
+        given(notificationService.createAll(anyList())).willReturn(List.of(firstA, secondA));
+        willThrow(new IllegalStateException("emitter closed"))
+            .given(sseService).sendEach("notifications.new", Map.of(receiverA, firstA));
+
+        // when
+        int count = dispatcher.dispatch(List.of(first, second), Map.of(channelId, List.of(receiverA)));
+
+        // then
+        assertThat(count).isEqualTo(2);
+        then(sseService).should().sendEach("notifications.new", Map.of(receiverA, secondA));
+    }
+
+    @Test
+    @DisplayName("작성자 외에 알림 대상이 없으면 알림 생성과 SSE 전송을 하지 않는다")
+    void dispatch_noReceivers() {
+        // when
+        int count = dispatcher.dispatch(List.of(message("혼잣말")), Map.of(channelId, List.of(authorId)));
+
+        // then
+        assertThat(count).isZero();
+        then(notificationService).shouldHaveNoInteractions();
+        then(sseService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("채널 집계 모드에서는 연속 메시지를 수신자별 한 건으로 합치고 바뀐 집계만 전송한다")
+    void dispatch_aggregated() {
+        // given: 같은 채널에 메시지 3건, receiverA 는 새 집계 / receiverB 는 기존 집계 갱신
+        ReflectionTestUtils.setField(dispatcher, "aggregateByChannel", true);
+        NotificationDto created = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), receiverA, "t", "3", channelId, 3);
+        NotificationDto updated = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), receiverB, "t", "3", channelId, 7);
+        given(notificationService.aggregateAll(anyList())).willReturn(List.of(created, updated));
+
+        // when
+        int count = dispatcher.dispatch(List.of(message("1"), message("2"), message("3")),
+            Map.of(channelId, List.of(receiverA, receiverB, authorId)));
+
+        // then
+        assertThat(count).isEqualTo(2);
+        String title = "개발 채널에 새 메시지가 도착했습니다.";
+        then(notificationService).should().aggregateAll(List.of(
+            new NotificationAggregateRequest(receiverA, channelId, title, "3", 3),
+            new NotificationAggregateRequest(receiverB, channelId, title, "3", 3)));
+        then(notificationService).should(never()).createAll(anyList());
+        then(sseService).should().sendEach("notifications.new", Map.of(receiverA, created));
+        then(sseService).should().sendEach("notifications.updated", Map.of(receiverB, updated));
+    }
+}
@@ -1,5 +1,6 @@
 package com.sprint.mission.discodeit.event;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
@@ -15,6 +16,7 @@ import com.sprint.mission.discodeit.service.NotificationService;
 import com.sprint.mission.discodeit.service.SseService;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +33,7 @@ public class NotificationRequiredEventListenerTest {
     @Mock private NotificationService notificationService;
     @Mock private ReadStatusRepository readStatusRepository;
     @Mock private SseService sseService;
+    @Mock private MessageNotificationDispatcher messageNotificationDispatcher;
     @InjectMocks private NotificationRequiredEventListener listener;
 
     @BeforeEach
@@ -39,31 +42,42 @@ public class NotificationRequiredEventListenerTest {
     }
 
     @Test
-    @DisplayName("메시지 생성 이벤트 발생 시 작성자를 제외한 사용자에게만 알림을 발송한다")
-    void onMessageCreate_작성자제외알림() {
+    @DisplayName("메시지 생성 이벤트 발생 시 채널의 알림 허용 사용자와 함께 알림 발송을 위임한다")
+    void onMessageCreate_알림발송위임() {
         // given: PRIVATE 채널에서 알림 허용된 사용자가 한 명 존재
         UUID channelId = UUID.randomUUID();
         UUID authorId = UUID.randomUUID();
         UUID receiverId = UUID.randomUUID();
 
-        ReadStatus readStatus = createReadStatus(receiverId, channelId);
         given(readStatusRepository.findAllByChannelIdAndNotificationEnabledTrue(channelId))
-            .willReturn(List.of(readStatus));
-        NotificationDto notificationDto = new NotificationDto(
-            UUID.randomUUID(), Instant.now(), receiverId, "title", "body");
-        given(notificationService.create(eq(receiverId), anyString(), anyString()))
-            .willReturn(notificationDto);
+            .willReturn(List.of(createReadStatus(receiverId, channelId)));
         MessageCreateEvent event = new MessageCreateEvent(
             UUID.randomUUID(), channelId, authorId, "writer", "개발 채널", "새 메시지");
 
         // when: 메시지 이벤트 처리
         listener.on(event);
 
-        // then: NotificationService + SseService가 receiver에게만 호출됨
-        then(notificationService).should()
-            .create(eq(receiverId), contains("개발 채널"), eq("새 메시지"));
-        then(sseService).should()
-            .send(eq(List.of(receiverId)), eq("notifications.new"), eq(notificationDto));
+        // then: 작성자 제외 / 알림 저장 / SSE 전송은 dispatcher 가 담당
+        then(messageNotificationDispatcher).should()
+            .dispatch(List.of(event), Map.of(channelId, List.of(receiverId)));
+        then(notificationService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("알림 발송 중 예외가 발생해도 이벤트 리스너 밖으로 전파하지 않는다")
+    void onMessageCreate_예외삼킴() {
+        // given
+        UUID channelId = UUID.randomUUID();
+        given(readStatusRepository.findAllByChannelIdAndNotificationEnabledTrue(channelId))
+            .willReturn(List.of(createReadStatus(UUID.randomUUID(), channelId)));
+        given(messageNotificationDispatcher.dispatch(anyList(), anyMap()))
+            .willThrow(new RuntimeException("db down"));
+        MessageCreateEvent event = new MessageCreateEvent(
+            UUID.randomUUID(), channelId, UUID.randomUUID(), "writer", "개발 채널", "새 메시지");
+
+        // when & then
+        assertThatCode(() -> listener.on(event)).doesNotThrowAnyException();
+        then(sseService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -0,0 +1,74 @@
+package com.sprint.mission.discodeit.event;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.event.message.UserLogInOutEvent;
+import com.sprint.mission.discodeit.event.message.UserPresenceChangedEvent;
+import com.sprint.mission.discodeit.service.SseService;
+import com.sprint.mission.discodeit.service.UserSessionService;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class UserPresenceEventListenerTest {
+
+    @Mock private SseService sseService;
+    @Mock private CacheManager cacheManager;
+    @Mock private UserSessionService userSessionService;
+    @Mock private Cache usersCache;
+
+    @InjectMocks private UserPresenceEventListener listener;
+
+    @Test
+    @DisplayName("온라인 전환은 users 캐시를 비우고 users.online 으로 브로드캐스트한다")
+    void online_shouldEvictCacheAndBroadcast() {
+        // given
+        UserPresenceChangedEvent event = UserPresenceChangedEvent.online(UUID.randomUUID(), Instant.now());
+        given(cacheManager.getCache("users")).willReturn(usersCache);
+
+        // when
+        listener.on(event);
+
+        // then
+        then(usersCache).should().clear();
+        then(sseService).should().broadcast(UserPresenceEventListener.EVENT_ONLINE, event);
+    }
+
+    @Test
+    @DisplayName("오프라인 전환은 users.offline 으로 브로드캐스트한다")
+    void offline_shouldBroadcast() {
+        // given
+        UserPresenceChangedEvent event = UserPresenceChangedEvent.offline(UUID.randomUUID(), null);
+
+        // when
+        listener.on(event);
+
+        // then
+        then(sseService).should().broadcast(UserPresenceEventListener.EVENT_OFFLINE, event);
+    }
+
+    @Test
+    @DisplayName("로그아웃 이벤트만 즉시 오프라인으로 반영한다")
+    void logOut_shouldMarkOffline() {
+        // given
+        UUID userId = UUID.randomUUID();
+
+        // when
+        listener.on(UserLogInOutEvent.logIn(userId));
+        listener.on(UserLogInOutEvent.logOut(userId));
+
+        // then
+        then(userSessionService).should().markUserOffline(userId);
+        then(userSessionService).should(never()).markUserOnline(userId);
+    }
+}
@@ -1,19 +1,26 @@
 package com.sprint.mission.discodeit.event.kafka;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ReadStatus;
 import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.event.MessageCreateEvent;
+import com.sprint.mission.discodeit.event.MessageNotificationDispatcher;
 import com.sprint.mission.discodeit.event.RoleUpdatedEvent;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.service.NotificationService;
@@ -21,6 +28,8 @@ import com.sprint.mission.discodeit.service.SseService;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DisplayName;
@@ -29,8 +38,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @ExtendWith(MockitoExtension.class)
 public class KafkaNotificationEventListenerTest {
@@ -38,6 +49,7 @@ public class KafkaNotificationEventListenerTest {
     @Mock private NotificationService notificationService;
     @Mock private ReadStatusRepository readStatusRepository;
     @Mock private SseService sseService;
+    @Mock private MessageNotificationDispatcher messageNotificationDispatcher;
     @Mock private ObjectMapper objectMapper;
     @Mock private RedisTemplate<String, Object> redisTemplate;
 
@@ -51,7 +63,7 @@ public class KafkaNotificationEventListenerTest {
     }
 
     @Test
-    @DisplayName("MessageCreateEvent 를 수신하면 알림과 SSE 전송을 수행한다")
+    @DisplayName("MessageCreateEvent 를 수신하면 채널 구독자와 함께 알림 발송을 위임한다")
     void handleMessageCreateEvent() throws Exception {
         // given
         stubDedupPass();
@@ -62,28 +74,16 @@ public class KafkaNotificationEventListenerTest {
         MessageCreateEvent event = new MessageCreateEvent(
             UUID.randomUUID(), channelId, authorId, "author", "dev", "hello");
         given(objectMapper.readValue("json", MessageCreateEvent.class)).willReturn(event);
-
-        User subscriber = mock(User.class);
-        given(subscriber.getId()).willReturn(subscriberId);
-
-        var readStatus = mock(ReadStatus.class);
-        given(readStatus.getUser()).willReturn(subscriber);
-        given(readStatusRepository.findAllByChannelIdAndNotificationEnabledTrue(channelId))
-            .willReturn(List.of(readStatus));
-
-        NotificationDto notification = new NotificationDto(
-            UUID.randomUUID(), Instant.now(), subscriberId, "title", event.content());
-        given(notificationService.create(eq(subscriberId), any(), eq(event.content())))
-            .willReturn(notification);
+        List<ReadStatus> subscriptions = List.of(subscription(channelId, subscriberId));
+        given(readStatusRepository.findAllByChannelIdInAndNotificationEnabledTrue(Set.of(channelId)))
+            .willReturn(subscriptions);
 
         // when
         listener.handleMessageCreateEvent("json");
 
         // then
-        then(notificationService).should()
-            .create(eq(subscriberId), any(), eq(event.content()));
-        then(sseService).should()
-            .send(eq(List.of(subscriberId)), eq("notifications.new"), eq(notification));
+        then(messageNotificationDispatcher).should()
+            .dispatch(List.of(event), Map.of(channelId, List.of(subscriberId)));
     }
 
     @Test
@@ -120,41 +120,106 @@ public class KafkaNotificationEventListenerTest {
     }
 
     @Test
-    @DisplayName("메시지 작성자에게는 알림과 SSE 전송을 하지 않는다")
-    void handleMessageCreateEvent_skipsAuthor() throws Exception {
-        // given
-        stubDedupPass();
+    @DisplayName("RoleUpdatedEvent 역직렬화 실패 시 예외는 전파하지 않는다")
+    void handleRoleUpdatedEvent_jsonError() throws Exception {
+        given(objectMapper.readValue("bad", RoleUpdatedEvent.class))
+            .willThrow(new RuntimeException("boom"));
 
-        UUID channelId = UUID.randomUUID();
+        ThrowingCallable when = () -> listener.handleRoleUpdatedEvent("bad");
+        assertThatCode(when).doesNotThrowAnyException();
+        then(notificationService).shouldHaveNoInteractions();
+        then(sseService).shouldHaveNoInteractions();
+    }
+
+    private void stubPipelinedDedup(List<Object> results) {
+        given(redisTemplate.getStringSerializer()).willReturn(RedisSerializer.string());
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(results);
+    }
+
+    private ReadStatus subscription(UUID channelId, UUID userId) {
+        Channel channel = mock(Channel.class);
+        given(channel.getId()).willReturn(channelId);
+        User user = mock(User.class);
+        given(user.getId()).willReturn(userId);
+        ReadStatus readStatus = mock(ReadStatus.class);
+        given(readStatus.getChannel()).willReturn(channel);
+        given(readStatus.getUser()).willReturn(user);
+        return readStatus;
+    }
+
+    @Test
+    @DisplayName("배치 수신 시 중복 제거된 메시지의 구독자 알림을 한 번에 생성한다")
+    void handleMessageCreateEvents() throws Exception {
+        // given
+        UUID channelA = UUID.randomUUID();
+        UUID channelB = UUID.randomUUID();
         UUID authorId = UUID.randomUUID();
+        UUID subscriberA = UUID.randomUUID();
+        UUID subscriberB = UUID.randomUUID();
+        MessageCreateEvent first = new MessageCreateEvent(
+            UUID.randomUUID(), channelA, authorId, "author", "a", "hello");
+        MessageCreateEvent duplicated = new MessageCreateEvent(
+            UUID.randomUUID(), channelA, authorId, "author", "a", "dup");
+        MessageCreateEvent second = new MessageCreateEvent(
+            UUID.randomUUID(), channelB, authorId, "author", "b", "world");
+        given(objectMapper.readValue("1", MessageCreateEvent.class)).willReturn(first);
+        given(objectMapper.readValue("2", MessageCreateEvent.class)).willReturn(duplicated);
+        given(objectMapper.readValue("3", MessageCreateEvent.class)).willReturn(second);
+        stubPipelinedDedup(List.of(true, false, true));
+
+        ReadStatus authorStatus = subscription(channelA, authorId);
+        List<ReadStatus> subscriptions = List.of(subscription(channelA, subscriberA), authorStatus,
+            subscription(channelB, subscriberB));
+        given(readStatusRepository.findAllByChannelIdInAndNotificationEnabledTrue(anyCollection()))
+            .willReturn(subscriptions);
+        given(messageNotificationDispatcher.dispatch(anyList(), anyMap())).willReturn(2);
+
+        // when
+        listener.handleMessageCreateEvents(List.of("1", "2", "3"));
+
+        // then: 중복 메시지를 제외한 이벤트가 채널별 구독자와 함께 한 번에 위임됨
+        then(readStatusRepository).should(times(1))
+            .findAllByChannelIdInAndNotificationEnabledTrue(anyCollection());
+        then(messageNotificationDispatcher).should().dispatch(
+            List.of(first, second),
+            Map.of(channelA, List.of(subscriberA, authorId), channelB, List.of(subscriberB)));
+    }
+
+    @Test
+    @DisplayName("배치의 모든 메시지가 이미 처리된 경우 아무것도 하지 않는다")
+    void handleMessageCreateEvents_allDuplicated() throws Exception {
+        // given
         MessageCreateEvent event = new MessageCreateEvent(
-            UUID.randomUUID(), channelId, authorId, "me", "dev", "self");
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "author", "dev", "hello");
         given(objectMapper.readValue("json", MessageCreateEvent.class)).willReturn(event);
-
-        User author = mock(User.class);
-        given(author.getId()).willReturn(authorId);
-        ReadStatus status = mock(ReadStatus.class);
-        given(status.getUser()).willReturn(author);
-        given(readStatusRepository.findAllByChannelIdAndNotificationEnabledTrue(channelId))
-            .willReturn(List.of(status));
+        stubPipelinedDedup(List.of(false));
 
         // when
-        listener.handleMessageCreateEvent("json");
+        listener.handleMessageCreateEvents(List.of("json"));
 
         // then
-        then(notificationService).shouldHaveNoInteractions();
-        then(sseService).shouldHaveNoInteractions();
+        then(readStatusRepository).shouldHaveNoInteractions();
+        then(messageNotificationDispatcher).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("RoleUpdatedEvent 역직렬화 실패 시 예외는 전파하지 않는다")
-    void handleRoleUpdatedEvent_jsonError() throws Exception {
-        given(objectMapper.readValue("bad", RoleUpdatedEvent.class))
-            .willThrow(new RuntimeException("boom"));
-
-        ThrowingCallable when = () -> listener.handleRoleUpdatedEvent("bad");
-        assertThatCode(when).doesNotThrowAnyException();
-        then(notificationService).shouldHaveNoInteractions();
-        then(sseService).shouldHaveNoInteractions();
+    @DisplayName("알림 저장 실패 시 선점한 중복 제거 키를 해제하고 예외를 전파한다")
+    void handleMessageCreateEvents_saveFailure() throws Exception {
+        // given
+        UUID channelId = UUID.randomUUID();
+        MessageCreateEvent event = new MessageCreateEvent(
+            UUID.randomUUID(), channelId, UUID.randomUUID(), "author", "dev", "hello");
+        given(objectMapper.readValue("json", MessageCreateEvent.class)).willReturn(event);
+        stubPipelinedDedup(List.of(true));
+        List<ReadStatus> subscriptions = List.of(subscription(channelId, UUID.randomUUID()));
+        given(readStatusRepository.findAllByChannelIdInAndNotificationEnabledTrue(anyCollection()))
+            .willReturn(subscriptions);
+        given(messageNotificationDispatcher.dispatch(anyList(), anyMap()))
+            .willThrow(new RuntimeException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> listener.handleMessageCreateEvents(List.of("json")))
+            .isInstanceOf(RuntimeException.class);
+        then(redisTemplate).should().delete(List.of("notif:message:" + event.messageId()));
     }
 }
@@ -1,110 +1,148 @@
 package com.sprint.mission.discodeit.event.kafka;
 
-import static org.assertj.core.api.Assertions.assertThatCode;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.sprint.mission.discodeit.event.MessageCreateEvent;
-import com.sprint.mission.discodeit.event.RoleUpdatedEvent;
+import com.sprint.mission.discodeit.config.SpillableTask;
+import com.sprint.mission.discodeit.entity.OutboxEvent;
 import com.sprint.mission.discodeit.event.S3UploadFailedEvent;
 import com.sprint.mission.discodeit.event.message.UserLogInOutEvent;
-import com.sprint.mission.discodeit.entity.Role;
-import java.util.Map;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
-import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 
 @ExtendWith(MockitoExtension.class)
 public class KafkaProduceRequiredEventListenerTest {
 
     @Mock private KafkaTemplate<String, String> kafkaTemplate;
     @Mock private ObjectMapper objectMapper;
-
-    @InjectMocks private KafkaProduceRequiredEventListener listener;
+    @Mock private OutboxEventRepository outboxEventRepository;
 
     @Test
-    @DisplayName("MessageCreateEvent를 수신하면 JSON 직렬화 후 메시지를 전송한다")
-    void onMessageCreateEvent_success() throws Exception {
+    @DisplayName("S3UploadFailedEvent를 받아 S3 토픽으로 메시지를 전송한다")
+    void onS3UploadFailedEvent_success() throws Exception {
         // given
-        MessageCreateEvent event = new MessageCreateEvent(
-            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "kim", "dev", "hello");
-        given(objectMapper.writeValueAsString(event)).willReturn("{\"message\":true}");
+        KafkaProduceRequiredEventListener listener = new KafkaProduceRequiredEventListener(
+            kafkaTemplate, objectMapper, new SyncTaskExecutor(), new SyncTaskExecutor(), outboxEventRepository);
+        S3UploadFailedEvent event = new S3UploadFailedEvent(
+            UUID.randomUUID(), "file.txt", "upload failed", "timeout");
+        given(objectMapper.writeValueAsString(event)).willReturn("{\"s3\":true}");
+        given(kafkaTemplate.send("discodeit.S3UploadFailedEvent", event.binaryContentId().toString(), "{\"s3\":true}"))
+            .willReturn(CompletableFuture.completedFuture(null));
 
         // when
         listener.on(event);
 
         // then
         then(kafkaTemplate).should()
-            .send("discodeit.MessageCreateEvent", "{\"message\":true}");
+            .send("discodeit.S3UploadFailedEvent", event.binaryContentId().toString(), "{\"s3\":true}");
     }
 
     @Test
-    @DisplayName("MessageCreateEvent 직렬화 실패 시 예외를 전파하지 않는다")
-    void onMessageCreateEvent_failure() throws Exception {
-        // given: ObjectMapper가 예외를 던지는 상황
-        MessageCreateEvent event = new MessageCreateEvent(
-            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "kim", "dev", "hello");
-        given(objectMapper.writeValueAsString(event)).willThrow(new RuntimeException("boom"));
-
-        // when: 이벤트 발행 시도
-        ThrowingCallable when = () -> listener.on(event);
-
-        // then: 예외가 외부로 던져지지 않고 KafkaTemplate은 호출되지 않음
-        assertThatCode(when).doesNotThrowAnyException();
-        then(kafkaTemplate).shouldHaveNoInteractions();
+    @DisplayName("UserLogInOutEvent를 받아 로그인 토픽으로 메시지를 전송한다")
+    void onUserLogInOutEvent_success() throws Exception {
+        // given
+        KafkaProduceRequiredEventListener listener = new KafkaProduceRequiredEventListener(
+            kafkaTemplate, objectMapper, new SyncTaskExecutor(), new SyncTaskExecutor(), outboxEventRepository);
+        UserLogInOutEvent event = new UserLogInOutEvent(UUID.randomUUID(), true);
+        given(objectMapper.writeValueAsString(event)).willReturn("{\"login\":true}");
+        given(kafkaTemplate.send("discodeit.UserLogInOutEvent", event.userId().toString(), "{\"login\":true}"))
+            .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        listener.on(event);
+
+        // then
+        then(kafkaTemplate).should()
+            .send("discodeit.UserLogInOutEvent", event.userId().toString(), "{\"login\":true}");
+        then(outboxEventRepository).shouldHaveNoInteractions();
     }
 
     @Test
-    @DisplayName("RoleUpdatedEvent를 받아 role 토픽으로 메시지를 전송한다")
-    void onRoleUpdatedEvent_success() throws Exception {
+    @DisplayName("Kafka 전송 결과가 실패로 끝나면 프로듀서 스레드가 아닌 전용 executor 에서 outbox 에 기록한다")
+    void onUserLogInOutEvent_sendFailureSpillsToOutbox() throws Exception {
         // given
-        RoleUpdatedEvent event = new RoleUpdatedEvent(UUID.randomUUID(), Role.USER, Role.ADMIN);
-        given(objectMapper.writeValueAsString(event)).willReturn("{\"role\":true}");
+        List<Runnable> fallbackTasks = new ArrayList<>();
+        KafkaProduceRequiredEventListener listener = new KafkaProduceRequiredEventListener(
+            kafkaTemplate, objectMapper, new SyncTaskExecutor(), fallbackTasks::add, outboxEventRepository);
+        UserLogInOutEvent event = new UserLogInOutEvent(UUID.randomUUID(), true);
+        CompletableFuture<SendResult<String, String>> ack = new CompletableFuture<>();
+        given(objectMapper.writeValueAsString(event)).willReturn("{\"login\":true}");
+        given(kafkaTemplate.send("discodeit.UserLogInOutEvent", event.userId().toString(), "{\"login\":true}"))
+            .willReturn(ack);
 
-        // when
+        // when : 전송 직후에는 아직 기록하지 않고, ack 가 실패로 끝나면 기록한다
         listener.on(event);
+        then(outboxEventRepository).shouldHaveNoInteractions();
+        ack.completeExceptionally(new TimeoutException("delivery.timeout.ms"));
+        then(outboxEventRepository).shouldHaveNoInteractions();
+        fallbackTasks.forEach(Runnable::run);
 
         // then
-        then(kafkaTemplate).should()
-            .send("discodeit.RoleUpdatedEvent", "{\"role\":true}");
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        then(outboxEventRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getTopic()).isEqualTo("discodeit.UserLogInOutEvent");
+        assertThat(captor.getValue().getMessageKey()).isEqualTo(event.userId().toString());
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"login\":true}");
     }
 
     @Test
-    @DisplayName("S3UploadFailedEvent를 받아 S3 토픽으로 메시지를 전송한다")
-    void onS3UploadFailedEvent_success() throws Exception {
+    @DisplayName("발행 executor 가 가득 차 spill 되면 Kafka 대신 outbox 에 기록한다")
+    void onUserLogInOutEvent_spillsToOutbox() throws Exception {
         // given
-        S3UploadFailedEvent event = new S3UploadFailedEvent(
-            UUID.randomUUID(), "file.txt", "upload failed", "timeout");
-        given(objectMapper.writeValueAsString(event)).willReturn("{\"s3\":true}");
+        KafkaProduceRequiredEventListener listener = new KafkaProduceRequiredEventListener(
+            kafkaTemplate, objectMapper, task -> ((SpillableTask) task).spill(), new SyncTaskExecutor(),
+            outboxEventRepository);
+        UserLogInOutEvent event = new UserLogInOutEvent(UUID.randomUUID(), false);
+        given(objectMapper.writeValueAsString(event)).willReturn("{\"login\":false}");
 
         // when
         listener.on(event);
 
         // then
-        then(kafkaTemplate).should()
-            .send("discodeit.S3UploadFailedEvent", "{\"s3\":true}");
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        then(outboxEventRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getTopic()).isEqualTo("discodeit.UserLogInOutEvent");
+        assertThat(captor.getValue().getMessageKey()).isEqualTo(event.userId().toString());
+        assertThat(captor.getValue().getPayload()).isEqualTo("{\"login\":false}");
+        then(kafkaTemplate).should(never()).send(anyString(), anyString(), any());
     }
 
     @Test
-    @DisplayName("UserLogInOutEvent를 받아 로그인 토픽으로 메시지를 전송한다")
-    void onUserLogInOutEvent_success() throws Exception {
+    @DisplayName("전용 executor 가 종료 중이라 거절하면 이벤트를 버리지 않고 그 자리에서 outbox 에 기록한다")
+    void onUserLogInOutEvent_sendFailureFallbackRejected() throws Exception {
         // given
+        KafkaProduceRequiredEventListener listener = new KafkaProduceRequiredEventListener(
+            kafkaTemplate, objectMapper, new SyncTaskExecutor(), task -> {
+                throw new RejectedExecutionException("종료 중");
+            }, outboxEventRepository);
         UserLogInOutEvent event = new UserLogInOutEvent(UUID.randomUUID(), true);
         given(objectMapper.writeValueAsString(event)).willReturn("{\"login\":true}");
+        given(kafkaTemplate.send("discodeit.UserLogInOutEvent", event.userId().toString(), "{\"login\":true}"))
+            .willReturn(CompletableFuture.failedFuture(new TimeoutException("delivery.timeout.ms")));
 
         // when
         listener.on(event);
 
         // then
-        then(kafkaTemplate).should()
-            .send("discodeit.UserLogInOutEvent", "{\"login\":true}");
+        then(outboxEventRepository).should().save(any(OutboxEvent.class));
     }
 }
@@ -0,0 +1,85 @@
+package com.sprint.mission.discodeit.event.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.entity.OutboxEvent;
+import com.sprint.mission.discodeit.entity.OutboxStatus;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.event.MessageCreateEvent;
+import com.sprint.mission.discodeit.event.RoleUpdatedEvent;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxEventRecorderTest {
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+    @Mock private ObjectMapper objectMapper;
+
+    @InjectMocks private OutboxEventRecorder recorder;
+
+    @Test
+    @DisplayName("MessageCreateEvent는 채널 ID를 키로 outbox에 기록된다")
+    void onMessageCreateEvent_recordsWithChannelKey() throws Exception {
+        // given
+        MessageCreateEvent event = new MessageCreateEvent(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "kim", "dev", "hello");
+        given(objectMapper.writeValueAsString(event)).willReturn("{\"message\":true}");
+
+        // when
+        recorder.on(event);
+
+        // then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        then(outboxEventRepository).should().save(captor.capture());
+        OutboxEvent saved = captor.getValue();
+        assertThat(saved.getTopic()).isEqualTo("discodeit.MessageCreateEvent");
+        assertThat(saved.getMessageKey()).isEqualTo(event.channelId().toString());
+        assertThat(saved.getPayload()).isEqualTo("{\"message\":true}");
+        assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("RoleUpdatedEvent는 사용자 ID를 키로 outbox에 기록된다")
+    void onRoleUpdatedEvent_recordsWithUserKey() throws Exception {
+        // given
+        RoleUpdatedEvent event = new RoleUpdatedEvent(UUID.randomUUID(), Role.USER, Role.ADMIN);
+        given(objectMapper.writeValueAsString(event)).willReturn("{\"role\":true}");
+
+        // when
+        recorder.on(event);
+
+        // then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        then(outboxEventRepository).should().save(captor.capture());
+        assertThat(captor.getValue().getTopic()).isEqualTo("discodeit.RoleUpdatedEvent");
+        assertThat(captor.getValue().getMessageKey()).isEqualTo(event.userId().toString());
+    }
+
+    @Test
+    @DisplayName("직렬화에 실패하면 예외를 던져 도메인 트랜잭션을 롤백시킨다")
+    void onMessageCreateEvent_serializationFailure() throws Exception {
+        // given
+        MessageCreateEvent event = new MessageCreateEvent(
+            UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "kim", "dev", "hello");
+        given(objectMapper.writeValueAsString(event))
+            .willThrow(new JsonProcessingException("boom") { });
+
+        // when / then
+        assertThatThrownBy(() -> recorder.on(event)).isInstanceOf(IllegalStateException.class);
+        then(outboxEventRepository).should(org.mockito.Mockito.never()).save(any());
+    }
+}
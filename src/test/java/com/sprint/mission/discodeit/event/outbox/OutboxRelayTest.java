@@ -0,0 +1,221 @@
+package com.sprint.mission.discodeit.event.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.mission.discodeit.entity.OutboxEvent;
+import com.sprint.mission.discodeit.entity.OutboxStatus;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository;
+import com.sprint.mission.discodeit.repository.OutboxEventRepository.PendingKeyHead;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    @Mock private OutboxEventRepository outboxEventRepository;
+    @Mock private KafkaTemplate<String, String> kafkaTemplate;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, kafkaTemplate, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "leaseMs", 30000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 2);
+        ReflectionTestUtils.setField(relay, "backoffInitialMs", 1000L);
+        ReflectionTestUtils.setField(relay, "backoffMaxMs", 60000L);
+    }
+
+    @Test
+    @DisplayName("발행에 성공한 행은 SENT로, 실패한 행은 재시도 대상으로 남는다")
+    void relay_marksSentAndKeepsFailedPending() {
+        // given
+        OutboxEvent ok = event("discodeit.MessageCreateEvent", "channel-1", "{\"ok\":true}");
+        OutboxEvent fail = event("discodeit.MessageCreateEvent", "channel-2", "{\"ok\":false}");
+        @SuppressWarnings("unchecked")
+        SendResult<String, String> sendResult = mock(SendResult.class);
+        given(outboxEventRepository.findBatchForRelay(
+            eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(ok, fail));
+        given(outboxEventRepository.findAllById(any())).willReturn(List.of(ok, fail));
+        given(kafkaTemplate.send("discodeit.MessageCreateEvent", "channel-1", "{\"ok\":true}"))
+            .willReturn(CompletableFuture.completedFuture(sendResult));
+        given(kafkaTemplate.send("discodeit.MessageCreateEvent", "channel-2", "{\"ok\":false}"))
+            .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(ok.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(ok.getSentAt()).isNotNull();
+        assertThat(fail.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(fail.getAttempts()).isEqualTo(1);
+        assertThat(fail.getLockedUntil()).isNull();
+        assertThat(fail.getNextAttemptAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘기면 FAILED로 표시하고 dead letter 카운터를 올린다")
+    void relay_marksFailedAfterMaxAttempts() {
+        // given
+        OutboxEvent fail = event("discodeit.RoleUpdatedEvent", "user-1", "{}");
+        given(outboxEventRepository.findBatchForRelay(
+            eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(fail));
+        given(outboxEventRepository.findAllById(any())).willReturn(List.of(fail));
+        given(kafkaTemplate.send("discodeit.RoleUpdatedEvent", "user-1", "{}"))
+            .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        relay.relay();
+        relay.relay();
+
+        // then
+        assertThat(fail.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(meterRegistry.get(OutboxRelay.DEAD_LETTER).tag("topic", "discodeit.RoleUpdatedEvent")
+            .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 중인 행이 없으면 Kafka를 호출하지 않는다")
+    void relay_emptyBatch() {
+        // given
+        given(outboxEventRepository.findBatchForRelay(
+            eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of());
+
+        // when
+        relay.relay();
+
+        // then
+        then(kafkaTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("같은 키의 앞선 행이 실패해도 ack 를 받은 뒤 행은 이미 Kafka 에 있으므로 SENT로 표시한다 ( 중복 전달 방지 )")
+    void relay_marksAckedRowSentAfterEarlierFailure() {
+        // given
+        OutboxEvent first = event("discodeit.MessageCreateEvent", "channel-1", "{\"seq\":1}");
+        OutboxEvent second = event("discodeit.MessageCreateEvent", "channel-1", "{\"seq\":2}");
+        @SuppressWarnings("unchecked")
+        SendResult<String, String> sendResult = mock(SendResult.class);
+        given(outboxEventRepository.findBatchForRelay(
+            eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(first, second));
+        given(outboxEventRepository.findAllById(any())).willReturn(List.of(first, second));
+        given(kafkaTemplate.send("discodeit.MessageCreateEvent", "channel-1", "{\"seq\":1}"))
+            .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        given(kafkaTemplate.send("discodeit.MessageCreateEvent", "channel-1", "{\"seq\":2}"))
+            .willReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(second.getStatus()).isEqualTo(OutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("배치 밖에 같은 키의 더 오래된 PENDING 행이 있으면 ( 백오프 중 / 다른 relay 가 전송 중 ) 그 키의 뒤 행은 가져가지 않는다")
+    void relay_blocksKeyBehindOlderPendingRow() {
+        // given
+        Instant head = Instant.now().minusSeconds(10);
+        OutboxEvent blocked = event("discodeit.MessageCreateEvent", "channel-1", "{\"seq\":2}");
+        OutboxEvent other = event("discodeit.MessageCreateEvent", "channel-2", "{\"seq\":1}");
+        @SuppressWarnings("unchecked")
+        SendResult<String, String> sendResult = mock(SendResult.class);
+        given(outboxEventRepository.findBatchForRelay(
+            eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(blocked, other));
+        List<PendingKeyHead> heads = List.of(keyHead("channel-1", head));
+        given(outboxEventRepository.findPendingKeyHeads(any(), any())).willReturn(heads);
+        given(outboxEventRepository.findAllById(any())).willReturn(List.of(other));
+        given(kafkaTemplate.send("discodeit.MessageCreateEvent", "channel-2", "{\"seq\":1}"))
+            .willReturn(CompletableFuture.completedFuture(sendResult));
+
+        // when
+        relay.relay();
+
+        // then
+        then(kafkaTemplate).should(never()).send("discodeit.MessageCreateEvent", "channel-1", "{\"seq\":2}");
+        assertThat(blocked.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(blocked.getLockedUntil()).isNull();
+        assertThat(other.getStatus()).isEqualTo(OutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("ack 는 배치를 가져간 트랜잭션이 커밋된 뒤에 기다리고, 결과는 별도 트랜잭션에서 표시한다")
+    void relay_awaitsAcksOutsideClaimTransaction() {
+        // given
+        OutboxEvent event = event("discodeit.MessageCreateEvent", "channel-1", "{}");
+        CompletableFuture<SendResult<String, String>> ack = new CompletableFuture<>();
+        given(outboxEventRepository.findBatchForRelay(
+            eq(OutboxStatus.PENDING), any(Instant.class), any(Pageable.class)))
+            .willReturn(List.of(event));
+        given(outboxEventRepository.findAllById(any())).willReturn(List.of(event));
+        given(kafkaTemplate.send("discodeit.MessageCreateEvent", "channel-1", "{}")).willAnswer(invocation -> {
+            // 전송 시점에는 가져간 트랜잭션이 이미 커밋되어 있고, 행은 lockedUntil 로 잡혀 있다
+            then(transactionManager).should().commit(any());
+            assertThat(event.getLockedUntil()).isAfter(Instant.now());
+            ack.complete(null);
+            return ack;
+        });
+
+        // when
+        relay.relay();
+
+        // then
+        then(transactionManager).should(times(2)).commit(any());
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(event.getLockedUntil()).isNull();
+    }
+
+    private static OutboxEvent event(String topic, String key, String payload) {
+        OutboxEvent event = new OutboxEvent(topic, key, payload);
+        ReflectionTestUtils.setField(event, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(event, "createdAt", Instant.now());
+        return event;
+    }
+
+    private static PendingKeyHead keyHead(String messageKey, Instant createdAt) {
+        return new PendingKeyHead() {
+            @Override
+            public String getMessageKey() {
+                return messageKey;
+            }
+
+            @Override
+            public Instant getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
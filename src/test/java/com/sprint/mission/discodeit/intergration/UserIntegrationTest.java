@@ -19,6 +19,7 @@ import com.sprint.mission.discodeit.entity.Role;
 import com.sprint.mission.discodeit.entity.User;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.security.DiscodeitUserDetails;
+import jakarta.persistence.EntityManager;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,9 @@ public class UserIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @Transactional
     @DisplayName("유저 생성 - case : success")
@@ -230,9 +234,42 @@ public class UserIntegrationTest {
         // Then - 삭제 확인 (사용자가 존재하지 않아야 함)
         // 실제로는 사용자가 삭제되어서 로그인이 안 되는지 확인하는 것보다는
         // 레포지토리에서 직접 확인하는 것이 더 정확함
+        // ( 탈퇴 표시만 된 상태이므로 영속성 컨텍스트를 비우고 DB 에서 다시 조회 )
+        entityManager.flush();
+        entityManager.clear();
         assertTrue(userRepository.findById(userId).isEmpty());
     }
 
+    @Test
+    @Transactional
+    @DisplayName("유저 생성 - case : 탈퇴한 사용자의 username / email 로 다시 가입할 수 있다")
+    void createUserWithDeletedUsersNameSuccess() throws Exception {
+        // Given - 탈퇴 표시만 되고 아직 정리되지 않은 사용자
+        User deleted = userRepository.save(new User("탈퇴유저", "left@test.com", "12345", null));
+        deleted.markDeleted();
+        entityManager.flush();
+        entityManager.clear();
+
+        UserCreateRequest request = new UserCreateRequest("탈퇴유저", "left@test.com", "009874");
+        MockMultipartFile jsonPart = new MockMultipartFile(
+            "userCreateRequest",
+            "",
+            "application/json",
+            objectMapper.writeValueAsBytes(request)
+        );
+
+        // When
+        ResultActions result = mockMvc.perform(multipart("/api/users")
+            .file(jsonPart)
+            .with(csrf()));
+
+        // Then
+        result.andExpect(status().isCreated())
+            .andExpect(jsonPath("$.username").value("탈퇴유저"))
+            .andExpect(jsonPath("$.email").value("left@test.com"));
+        entityManager.flush();
+    }
+
     @Test
     @Transactional
     @DisplayName("유저 삭제 - case : 다른 사용자 삭제 시도 시 권한 없음")
@@ -0,0 +1,120 @@
+package com.sprint.mission.discodeit.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+class RepositoryMetricsInterceptorTest {
+
+    interface SampleRepository {
+
+        List<String> findAll();
+
+        Optional<String> findByName(String name);
+
+        Slice<String> findPage();
+
+        long count();
+    }
+
+    static class FakeSampleRepository implements SampleRepository {
+
+        @Override
+        public List<String> findAll() {
+            return List.of("a", "b", "c");
+        }
+
+        @Override
+        public Optional<String> findByName(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException("name");
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public Slice<String> findPage() {
+            return new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true);
+        }
+
+        @Override
+        public long count() {
+            return 3L;
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SampleRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ProxyFactory proxyFactory = new ProxyFactory(new FakeSampleRepository());
+        proxyFactory.addInterface(SampleRepository.class);
+        proxyFactory.addAdvice(new RepositoryMetricsInterceptor(meterRegistry, SampleRepository.class));
+        repository = (SampleRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("메서드별로 소요 시간과 반환 행 수를 repository / method 태그로 기록한다")
+    void recordsLatencyAndRows() {
+        // when
+        repository.findAll();
+        repository.findAll();
+        repository.findByName("none");
+        repository.findPage();
+
+        // then
+        assertThat(timerCount("findAll", "success")).isEqualTo(2);
+        assertThat(rows("findAll").count()).isEqualTo(2);
+        assertThat(rows("findAll").totalAmount()).isEqualTo(6.0);
+        assertThat(rows("findByName").totalAmount()).isZero();
+        assertThat(rows("findPage").totalAmount()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("count 처럼 행이 아닌 값을 반환하는 메서드는 시간만 기록한다")
+    void skipsRowsForScalarResults() {
+        // when
+        repository.count();
+
+        // then
+        assertThat(timerCount("count", "success")).isEqualTo(1);
+        assertThat(meterRegistry.find(RepositoryMetricsInterceptor.ROWS).tag("method", "count")
+            .summary().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("예외가 나면 outcome=error 로 기록하고 예외를 그대로 던진다")
+    void recordsErrorOutcome() {
+        // when / then
+        assertThatThrownBy(() -> repository.findByName(null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(timerCount("findByName", "error")).isEqualTo(1);
+        assertThat(timerCount("findByName", "success")).isZero();
+    }
+
+    private long timerCount(String method, String outcome) {
+        return meterRegistry.get(RepositoryMetricsInterceptor.INVOCATIONS)
+            .tag("repository", "SampleRepository")
+            .tag("method", method)
+            .tag("outcome", outcome)
+            .timer().count();
+    }
+
+    private DistributionSummary rows(String method) {
+        return meterRegistry.get(RepositoryMetricsInterceptor.ROWS)
+            .tag("repository", "SampleRepository")
+            .tag("method", method)
+            .summary();
+    }
+}
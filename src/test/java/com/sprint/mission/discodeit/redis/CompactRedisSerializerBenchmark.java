@@ -0,0 +1,90 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.config.RedisConfig;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Role;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * JSON( DefaultTyping.EVERYTHING ) 대비 compact 코덱의 크기 / 직렬화 시간 비교
+ * ./gradlew benchmark 로 실행 ( 기본 test 태스크에서는 제외 )
+ */
+@Tag("benchmark")
+class CompactRedisSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURE_ITERATIONS = 2_000;
+
+    private final RedisSerializer<Object> json = new RedisConfig().jsonRedisSerializer(new ObjectMapper());
+    private final RedisSerializer<Object> compact = new CompactRedisSerializer(json, 1024);
+
+    private static List<UserDto> users(int count) {
+        List<UserDto> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            BinaryContentDto profile = new BinaryContentDto(UUID.randomUUID(), "profile" + i + ".png",
+                4096L, "image/png", BinaryContentStatus.SUCCESS);
+            users.add(new UserDto(UUID.randomUUID(), "user" + i, "user" + i + "@test.com", Role.USER,
+                profile, i % 2 == 0));
+        }
+        return users;
+    }
+
+    private static List<ChannelDto> channels(int count) {
+        List<ChannelDto> channels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            channels.add(new ChannelDto(UUID.randomUUID(), ChannelType.PUBLIC, "channel" + i,
+                "설명 " + i, users(5), Instant.now()));
+        }
+        return channels;
+    }
+
+    @Test
+    @DisplayName("사용자 목록 / 채널 목록에서 compact 가 JSON 보다 작다")
+    void compareSizeAndSpeed() {
+        measure("users(50)", users(50));
+        measure("users(500)", users(500));
+        measure("channels(20)", channels(20));
+    }
+
+    private void measure(String label, Object value) {
+        byte[] jsonBytes = json.serialize(value);
+        byte[] compactBytes = compact.serialize(value);
+
+        long jsonSer = nanosPerOp(() -> json.serialize(value));
+        long compactSer = nanosPerOp(() -> compact.serialize(value));
+        long jsonDe = nanosPerOp(() -> json.deserialize(jsonBytes));
+        long compactDe = nanosPerOp(() -> compact.deserialize(compactBytes));
+
+        System.out.printf("%-14s json=%7d B ser=%8d ns de=%8d ns | compact=%7d B ser=%8d ns de=%8d ns (%.1f%%)%n",
+            label, jsonBytes.length, jsonSer, jsonDe, compactBytes.length, compactSer, compactDe,
+            100.0 * compactBytes.length / jsonBytes.length);
+
+        assertThat(compactBytes.length).isLessThan(jsonBytes.length);
+        assertThat(compact.deserialize(compactBytes)).isEqualTo(value);
+    }
+
+    private static long nanosPerOp(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / MEASURE_ITERATIONS;
+    }
+}
@@ -0,0 +1,146 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.config.RedisConfig;
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.ChannelDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.data.UserDto;
+import com.sprint.mission.discodeit.entity.BinaryContentStatus;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Role;
+import com.sprint.mission.discodeit.security.jwt.JwtInformation;
+import com.sprint.mission.discodeit.service.distributed.RedisBasedSseService.SseMessage;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+class CompactRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json =
+        new RedisConfig().jsonRedisSerializer(new ObjectMapper());
+    private final CompactRedisSerializer serializer = new CompactRedisSerializer(json, 1024);
+
+    private static UserDto user(String username) {
+        BinaryContentDto profile = new BinaryContentDto(UUID.randomUUID(), "profile.png", 2048L,
+            "image/png", BinaryContentStatus.SUCCESS);
+        return new UserDto(UUID.randomUUID(), username, username + "@test.com", Role.USER, profile, true);
+    }
+
+    @Test
+    @DisplayName("사용자 목록은 바이너리로 저장되고 그대로 복원된다")
+    void userList_roundTrip() {
+        // given
+        List<UserDto> users = List.of(user("alice"), user("bob"));
+
+        // when
+        byte[] bytes = serializer.serialize(users);
+        Object restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(CompactRedisSerializer.isCompact(bytes)).isTrue();
+        assertThat(restored).isEqualTo(users);
+    }
+
+    @Test
+    @DisplayName("채널 / 메시지 / 알림 / JWT DTO 가 그대로 복원된다")
+    void dtos_roundTrip() {
+        // given
+        UserDto author = user("alice");
+        ChannelDto channel = new ChannelDto(UUID.randomUUID(), ChannelType.PRIVATE, null, null,
+            List.of(author), Instant.parse("2026-01-01T00:00:00.123456789Z"));
+        MessageDto message = new MessageDto(UUID.randomUUID(), Instant.now(), null, "안녕하세요",
+            channel.id(), author, List.of());
+        NotificationDto notification = new NotificationDto(UUID.randomUUID(), Instant.now(),
+            author.id(), "제목", "내용", channel.id(), 3);
+        JwtInformation jwtInformation = new JwtInformation(author, "access", "refresh");
+
+        // when & then
+        assertThat(serializer.deserialize(serializer.serialize(channel))).isEqualTo(channel);
+        assertThat(serializer.deserialize(serializer.serialize(message))).isEqualTo(message);
+        assertThat(serializer.deserialize(serializer.serialize(notification))).isEqualTo(notification);
+        JwtInformation restored = (JwtInformation) serializer.deserialize(serializer.serialize(jwtInformation));
+        assertThat(restored.getUserDto()).isEqualTo(author);
+        assertThat(restored.getAccessToken()).isEqualTo("access");
+        assertThat(restored.getRefreshToken()).isEqualTo("refresh");
+    }
+
+    @Test
+    @DisplayName("SSE 메시지의 임의 data 는 JSON 조각으로 보존된다")
+    void sseMessage_roundTripWithArbitraryData() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        SseMessage sseMessage = new SseMessage(List.of(receiverId), "notifications.new",
+            Map.of("count", 1));
+        sseMessage.setPayloads(Map.of(receiverId, user("alice")));
+
+        // when
+        SseMessage restored = (SseMessage) serializer.deserialize(serializer.serialize(sseMessage));
+
+        // then
+        assertThat(restored.getTargetUsers()).containsExactly(receiverId);
+        assertThat(restored.getEventName()).isEqualTo("notifications.new");
+        assertThat(restored.getData()).isEqualTo(Map.of("count", 1));
+        assertThat(restored.getPayloads()).isEqualTo(sseMessage.getPayloads());
+        assertThat(restored.getTimestamp()).isEqualTo(sseMessage.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 값은 압축되고, 압축 전보다 작다")
+    void largeValue_isCompressed() {
+        // given
+        List<UserDto> users = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            users.add(user("user" + i));
+        }
+        CompactRedisSerializer uncompressed = new CompactRedisSerializer(json, 0);
+
+        // when
+        byte[] compressed = serializer.serialize(users);
+        byte[] plain = uncompressed.serialize(users);
+
+        // then
+        assertThat(compressed[2] & CompactRedisSerializer.FLAG_DEFLATED).isNotZero();
+        assertThat(compressed.length).isLessThan(plain.length);
+        assertThat(serializer.deserialize(compressed)).isEqualTo(users);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 타입은 JSON 으로 저장되고, 기존 JSON 값도 읽는다")
+    void unknownTypeAndLegacyJson_fallBackToJson() {
+        // given
+        CacheInvalidationMessage invalidation = new CacheInvalidationMessage("node", "users", "all");
+        byte[] legacy = json.serialize(List.of(user("alice")));
+
+        // when
+        byte[] bytes = serializer.serialize(invalidation);
+
+        // then
+        assertThat(CompactRedisSerializer.isCompact(bytes)).isFalse();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(invalidation);
+        assertThat(serializer.deserialize(legacy)).isEqualTo(json.deserialize(legacy));
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식 버전이면 SerializationException")
+    void unsupportedVersion_throws() {
+        // given
+        byte[] bytes = serializer.serialize(user("alice"));
+        bytes[1] = 99;
+
+        // when & then
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+            .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.EntityCacheRegions;
+import com.sprint.mission.discodeit.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheInvalidatorTest {
+
+    @Mock private EntityManagerFactory entityManagerFactory;
+    @Mock private SessionFactoryImplementor sessionFactory;
+    @Mock private CacheImplementor cache;
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private EntityPersister persister;
+
+    private EntityCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).willReturn(sessionFactory);
+        invalidator = new EntityCacheInvalidator(entityManagerFactory, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("캐시 대상 엔티티의 변경이 커밋되면 엔티티 이름과 id 를 발행한다")
+    void publishesCommittedChange() {
+        // given
+        UUID id = UUID.randomUUID();
+        given(persister.canWriteToCache()).willReturn(true);
+        given(persister.getEntityName()).willReturn(Channel.class.getName());
+
+        // when
+        invalidator.onPostUpdate(updateEvent(id));
+
+        // then
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        then(redisTemplate).should().convertAndSend(eq(EntityCacheInvalidator.INVALIDATION_TOPIC), message.capture());
+        assertThat(message.getValue()).isInstanceOfSatisfying(EntityCacheInvalidationMessage.class, published -> {
+            assertThat(published.entityName()).isEqualTo(Channel.class.getName());
+            assertThat(published.id()).isEqualTo(id);
+        });
+    }
+
+    @Test
+    @DisplayName("캐시 대상이 아닌 엔티티는 발행하지 않는다")
+    void ignoresUncachedEntity() {
+        // given
+        given(persister.canWriteToCache()).willReturn(false);
+
+        // when
+        invalidator.onPostUpdate(updateEvent(UUID.randomUUID()));
+
+        // then
+        then(redisTemplate).should(never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 사용자 변경은 엔티티 엔트리와 중복 검사 쿼리 캐시를 비우고, 자기 메시지는 무시한다")
+    void evictsRemoteChange() {
+        // given
+        UUID id = UUID.randomUUID();
+        given(sessionFactory.getCache()).willReturn(cache);
+        given(persister.canWriteToCache()).willReturn(true);
+        given(persister.getEntityName()).willReturn(User.class.getName());
+        invalidator.onPostUpdate(updateEvent(id));
+        ArgumentCaptor<Object> own = ArgumentCaptor.forClass(Object.class);
+        then(redisTemplate).should().convertAndSend(anyString(), own.capture());
+
+        // when
+        invalidator.onInvalidation((EntityCacheInvalidationMessage) own.getValue());
+        invalidator.onInvalidation(new EntityCacheInvalidationMessage("other-node", User.class.getName(), id));
+
+        // then
+        then(cache).should().evictEntityData(User.class.getName(), id);
+        then(cache).should().evictQueryRegion(EntityCacheRegions.USER_EXISTS);
+    }
+
+    private PostUpdateEvent updateEvent(UUID id) {
+        PostUpdateEvent event = mock(PostUpdateEvent.class);
+        given(event.getPersister()).willReturn(persister);
+        given(event.getId()).willReturn(id);
+        return event;
+    }
+}
@@ -0,0 +1,285 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPageCacheTest {
+
+    @Mock private ObjectProvider<RedisTemplate<String, Object>> redisTemplateProvider;
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private ListOperations<String, Object> listOperations;
+    @InjectMocks private NotificationPageCache notificationPageCache;
+
+    @Test
+    @DisplayName("캐시된 첫 페이지를 최대 WINDOW_SIZE 건까지 읽어온다")
+    void get_hit() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "t", "c");
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        given(redisTemplate.opsForList()).willReturn(listOperations);
+        given(listOperations.range("discodeit:userNotifications:first:" + receiverId,
+            0, NotificationPageCache.WINDOW_SIZE - 1)).willReturn(List.of(dto));
+
+        // when & then
+        assertThat(notificationPageCache.get(receiverId)).contains(List.of(dto));
+    }
+
+    @Test
+    @DisplayName("Redis 가 없는 환경에서는 항상 캐시 미스이고 갱신은 무시된다")
+    void withoutRedis() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "t", "c");
+        given(redisTemplateProvider.getIfAvailable()).willReturn(null);
+
+        // when & then
+        assertThat(notificationPageCache.get(receiverId)).isEmpty();
+        notificationPageCache.put(receiverId, 0L, List.of(dto));
+        notificationPageCache.prependAll(Map.of(receiverId, List.of(dto)));
+        notificationPageCache.evict(receiverId);
+    }
+
+    @Test
+    @DisplayName("새 알림 반영은 수신자 수와 무관하게 파이프라인 한 번으로 처리한다")
+    void prependAll_singlePipeline() {
+        // given
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), UUID.randomUUID(), "t", "c");
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+
+        // when
+        notificationPageCache.prependAll(Map.of(
+            dto.receiverId(), List.of(dto),
+            UUID.randomUUID(), List.of(dto)));
+
+        // then
+        then(redisTemplate).should().executePipelined(any(SessionCallback.class));
+        then(redisTemplate).should(never()).delete(any(String.class));
+    }
+
+    @Test
+    @DisplayName("빈 목록은 캐시에 저장하지 않는다")
+    void put_empty() {
+        // given
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+
+        // when
+        notificationPageCache.put(UUID.randomUUID(), 0L, List.of());
+
+        // then
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("여러 수신자의 첫 페이지 캐시를 DEL 한 번과 버전 증가로 무효화한다 ( 파이프라인 한 번 )")
+    @SuppressWarnings("unchecked")
+    void evictAll_singleDelete() {
+        // given
+        UUID receiverA = UUID.randomUUID();
+        UUID receiverB = UUID.randomUUID();
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        given(operations.opsForValue()).willReturn(valueOperations);
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+            return List.of();
+        });
+
+        // when
+        notificationPageCache.evictAll(List.of(receiverA, receiverB));
+
+        // then
+        then(redisTemplate).should().executePipelined(any(SessionCallback.class));
+        then(operations).should().delete(List.of(
+            "discodeit:userNotifications:first:" + receiverA,
+            "discodeit:userNotifications:first:" + receiverB));
+        then(valueOperations).should().increment("discodeit:userNotifications:version:" + receiverA);
+        then(valueOperations).should().increment("discodeit:userNotifications:version:" + receiverB);
+    }
+
+    @Test
+    @DisplayName("캐시가 없어 LPUSHX 가 건너뛰어도 버전을 올려 진행 중인 put 이 저장하지 않게 한다")
+    @SuppressWarnings("unchecked")
+    void prependAll_bumpsVersion() {
+        // given
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), UUID.randomUUID(), "t", "c");
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+        given(operations.opsForList()).willReturn(listOperations);
+        given(operations.opsForValue()).willReturn(valueOperations);
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+            return List.of();
+        });
+
+        // when
+        notificationPageCache.prependAll(Map.of(dto.receiverId(), List.of(dto)));
+
+        // then
+        then(listOperations).should().leftPushIfPresent("discodeit:userNotifications:first:" + dto.receiverId(), dto);
+        then(valueOperations).should().increment("discodeit:userNotifications:version:" + dto.receiverId());
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 DB 조회 전에 읽어 둔 버전과 함께 스크립트 한 번으로 조건부 저장한다")
+    @SuppressWarnings("unchecked")
+    void put_guardedByVersion() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "t", "c");
+        RedisSerializer<Object> valueSerializer = mock(RedisSerializer.class);
+        byte[] serialized = {1, 2, 3};
+        given(valueSerializer.serialize(dto)).willReturn(serialized);
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+        List<Object> scriptCall = new ArrayList<>();
+        given(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+            anyList(), any(Object[].class))).willAnswer(invocation -> {
+                scriptCall.addAll(List.of(invocation.getRawArguments()));
+                return 1L;
+            });
+
+        // when
+        notificationPageCache.put(receiverId, 3L, List.of(dto));
+
+        // then : KEYS = 목록 / 버전, ARGV = 버전 / TTL / 직렬화한 알림
+        assertThat(scriptCall.get(3)).isEqualTo(List.of(
+            "discodeit:userNotifications:first:" + receiverId,
+            "discodeit:userNotifications:version:" + receiverId));
+        Object[] args = (Object[]) scriptCall.get(4);
+        assertThat(args).hasSize(3);
+        assertThat(new String((byte[]) args[0], StandardCharsets.UTF_8)).isEqualTo("3");
+        assertThat(args[2]).isEqualTo(serialized);
+        then(redisTemplate).should(never()).delete(any(String.class));
+    }
+
+    @Test
+    @DisplayName("갱신된 집계 알림은 캐시된 첫 페이지의 같은 자리에서 바꿔 끼우고 무효화하지 않는다")
+    @SuppressWarnings("unchecked")
+    void replaceAll_patchesInPlace() {
+        // given : 캐시된 첫 페이지 [ other, aggregate ], 버전 7
+        UUID receiverId = UUID.randomUUID();
+        NotificationDto other = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "t", "c");
+        NotificationDto aggregate = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), receiverId, "t", "old", UUID.randomUUID(), 2);
+        NotificationDto updated = new NotificationDto(
+            aggregate.id(), aggregate.createdAt(), receiverId, "t", "new", aggregate.channelId(), 5);
+        byte[] otherBytes = {1};
+        byte[] aggregateBytes = {2};
+        byte[] updatedBytes = {3};
+        RedisSerializer<Object> valueSerializer = mock(RedisSerializer.class);
+        given(valueSerializer.deserialize(otherBytes)).willReturn(other);
+        given(valueSerializer.deserialize(aggregateBytes)).willReturn(aggregate);
+        given(valueSerializer.serialize(updated)).willReturn(updatedBytes);
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+        given(connection.scriptingCommands()).willReturn(scriptingCommands);
+        List<Object> snapshot = List.of("7".getBytes(StandardCharsets.UTF_8), List.of(otherBytes, aggregateBytes));
+        given(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+            .willReturn(snapshot)
+            .willAnswer(invocation -> {
+                invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+                return List.of(1L);
+            });
+
+        // when
+        notificationPageCache.replaceAll(Map.of(receiverId, List.of(updated)));
+
+        // then : KEYS = 목록 / 버전, ARGV = 읽어 둔 버전 / TTL / 같은 순서의 목록 ( 집계 알림만 교체 )
+        ArgumentCaptor<byte[][]> keysAndArgs = ArgumentCaptor.forClass(byte[][].class);
+        then(scriptingCommands).should().eval(any(byte[].class), eq(ReturnType.INTEGER), eq(2),
+            keysAndArgs.capture());
+        List<byte[]> captured = List.of(keysAndArgs.getValue());
+        assertThat(new String(captured.get(0), StandardCharsets.UTF_8))
+            .isEqualTo("discodeit:userNotifications:first:" + receiverId);
+        assertThat(new String(captured.get(2), StandardCharsets.UTF_8)).isEqualTo("7");
+        assertThat(captured.subList(4, 6)).containsExactly(otherBytes, updatedBytes);
+        then(redisTemplate).should(never()).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지를 읽은 뒤 다른 변경이 끼어들어 교체하지 못했거나 캐시가 없으면 그 수신자만 무효화한다")
+    @SuppressWarnings("unchecked")
+    void replaceAll_evictsOnConflictOrMiss() {
+        // given : receiverA 는 버전이 바뀌어 교체 실패, receiverB 는 캐시 없음
+        UUID receiverA = UUID.randomUUID();
+        UUID receiverB = UUID.randomUUID();
+        NotificationDto cachedA = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), receiverA, "t", "old", UUID.randomUUID(), 1);
+        NotificationDto updatedA = new NotificationDto(
+            cachedA.id(), cachedA.createdAt(), receiverA, "t", "new", cachedA.channelId(), 2);
+        NotificationDto updatedB = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), receiverB, "t", "new", UUID.randomUUID(), 2);
+        byte[] cachedBytes = {1};
+        RedisSerializer<Object> valueSerializer = mock(RedisSerializer.class);
+        given(valueSerializer.deserialize(cachedBytes)).willReturn(cachedA);
+        given(valueSerializer.serialize(updatedA)).willReturn(new byte[] {2});
+        given(redisTemplateProvider.getIfAvailable()).willReturn(redisTemplate);
+        given(redisTemplate.getValueSerializer()).willReturn((RedisSerializer) valueSerializer);
+        Map<UUID, List<NotificationDto>> updated = new LinkedHashMap<>();
+        updated.put(receiverA, List.of(updatedA));
+        updated.put(receiverB, List.of(updatedB));
+        List<Object> snapshot = new ArrayList<>();
+        snapshot.add(null);
+        snapshot.add(List.of(cachedBytes));
+        snapshot.add(null);
+        snapshot.add(List.of());
+        given(redisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+            .willReturn(snapshot)
+            .willReturn(List.of(0L));
+        RedisOperations<String, Object> operations = mock(RedisOperations.class);
+        given(operations.opsForValue()).willReturn(mock(ValueOperations.class));
+        given(redisTemplate.executePipelined(any(SessionCallback.class))).willAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(operations);
+            return List.of();
+        });
+
+        // when
+        notificationPageCache.replaceAll(updated);
+
+        // then
+        then(operations).should().delete(List.of(
+            "discodeit:userNotifications:first:" + receiverB,
+            "discodeit:userNotifications:first:" + receiverA));
+    }
+}
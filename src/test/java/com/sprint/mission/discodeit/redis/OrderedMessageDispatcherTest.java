@@ -0,0 +1,130 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class OrderedMessageDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("여러 worker 스레드로 처리해도 토픽마다 받은 순서대로 처리한다")
+    void preservesOrderPerTopic() throws InterruptedException {
+        // given
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        OrderedMessageDispatcher dispatcher = new OrderedMessageDispatcher(workers, 10_000, meterRegistry);
+        RedisMessageListenerContainer container = dispatcher.createContainer(mock(RedisConnectionFactory.class));
+
+        int messages = 2_000;
+        CountDownLatch done = new CountDownLatch(messages * 2);
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        for (String topic : List.of("a", "b")) {
+            List<Integer> sequence = new CopyOnWriteArrayList<>();
+            received.put(topic, sequence);
+            dispatcher.addMessageListener(container, (message, pattern) -> {
+                sequence.add(Integer.parseInt(new String(message.getBody(), StandardCharsets.UTF_8)));
+                done.countDown();
+            }, new ChannelTopic(topic));
+        }
+        MessageListener a = listener(container, "a");
+        MessageListener b = listener(container, "b");
+
+        // when
+        for (int i = 0; i < messages; i++) {
+            a.onMessage(message("a", i), null);
+            b.onMessage(message("b", i), null);
+        }
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        workers.shutdown();
+        List<Integer> expected = IntStream.range(0, messages).boxed().toList();
+        assertThat(received.get("a")).isEqualTo(expected);
+        assertThat(received.get("b")).isEqualTo(expected);
+        assertThat(meterRegistry.get(OrderedMessageDispatcher.LAG).tag("topic", "a").timer().count())
+            .isEqualTo(messages);
+    }
+
+    @Test
+    @DisplayName("토픽 큐가 가득 차면 가장 오래된 메시지를 버리고 dropped 카운터를 올린다")
+    void dropsOldestWhenFull() {
+        // given
+        List<Runnable> submitted = new ArrayList<>();
+        OrderedMessageDispatcher dispatcher = new OrderedMessageDispatcher(submitted::add, 3, meterRegistry);
+        RedisMessageListenerContainer container = dispatcher.createContainer(mock(RedisConnectionFactory.class));
+        List<Integer> received = new ArrayList<>();
+        dispatcher.addMessageListener(container, (message, pattern) ->
+            received.add(Integer.parseInt(new String(message.getBody(), StandardCharsets.UTF_8))),
+            new ChannelTopic("a"));
+        MessageListener listener = listener(container, "a");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            listener.onMessage(message("a", i), null);
+        }
+        submitted.forEach(Runnable::run);
+
+        // then
+        assertThat(submitted).hasSize(1);
+        assertThat(received).containsExactly(2, 3, 4);
+        assertThat(meterRegistry.get(OrderedMessageDispatcher.DROPPED).tag("topic", "a").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get(OrderedMessageDispatcher.QUEUED).tag("topic", "a").gauge().value())
+            .isZero();
+    }
+
+    @Test
+    @DisplayName("컨테이너는 메시지마다 스레드를 띄우지 않고 수신한 스레드에서 토픽 큐로 넘긴다")
+    void containerDispatchesOnReceivingThread() {
+        // when
+        RedisMessageListenerContainer container = new OrderedMessageDispatcher(Runnable::run, 10, meterRegistry)
+            .createContainer(mock(RedisConnectionFactory.class));
+
+        // then
+        assertThat(ReflectionTestUtils.getField(container, "taskExecutor")).isInstanceOf(SyncTaskExecutor.class);
+    }
+
+    private static Message message(String topic, int sequence) {
+        return new DefaultMessage(topic.getBytes(StandardCharsets.UTF_8),
+            Integer.toString(sequence).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageListener listener(RedisMessageListenerContainer container, String topicName) {
+        @SuppressWarnings("unchecked")
+        Map<MessageListener, Set<Topic>> listenerTopics =
+            (Map<MessageListener, Set<Topic>>) ReflectionTestUtils.getField(container, "listenerTopics");
+
+        assertThat(listenerTopics).isNotNull();
+
+        return listenerTopics.entrySet().stream()
+            .filter(entry -> entry.getValue().stream().anyMatch(topic -> topicName.equals(topic.getTopic())))
+            .map(Map.Entry::getKey)
+            .findFirst()
+            .orElseThrow();
+    }
+}
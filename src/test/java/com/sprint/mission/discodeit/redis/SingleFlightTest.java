@@ -0,0 +1,107 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightTest {
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private ValueOperations<String, Object> valueOperations;
+
+    @Test
+    @DisplayName("로드 중인 키로 들어온 호출은 같은 결과를 기다려 받는다")
+    void load_sharesInFlightResult() throws Exception {
+        // given
+        SingleFlight singleFlight = new SingleFlight(null, Duration.ofSeconds(5), Duration.ofSeconds(2));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<Object> leader = executor.submit(() -> singleFlight.load("users::all", () -> {
+            started.countDown();
+            await(release);
+            return "leader";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = executor.submit(() -> singleFlight.load("users::all", () -> "follower"));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("로더 예외는 호출자에게 그대로 전파되고 다음 호출은 다시 로드한다")
+    void load_failureIsNotCached() {
+        // given
+        SingleFlight singleFlight = new SingleFlight(null, Duration.ofSeconds(5), Duration.ofSeconds(2));
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.load("users::all", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.load("users::all", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 lease 를 잡고 있으면 토큰을 받지 못한다")
+    void tryAcquireLease_heldByOtherNode() {
+        // given
+        SingleFlight singleFlight = new SingleFlight(redisTemplate, Duration.ofSeconds(5), Duration.ofSeconds(2));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq("discodeit:lease:users::all"), anyString(), eq(Duration.ofSeconds(5))))
+            .willReturn(false);
+
+        // when & then
+        assertThat(singleFlight.tryAcquireLease("users::all")).isNull();
+    }
+
+    @Test
+    @DisplayName("lease 해제는 자기 토큰과 일치할 때만 지우는 스크립트로 수행한다")
+    void releaseLease_comparesToken() {
+        // given
+        SingleFlight singleFlight = new SingleFlight(redisTemplate, Duration.ofSeconds(5), Duration.ofSeconds(2));
+
+        // when
+        singleFlight.releaseLease("users::all", "token");
+
+        // then
+        then(redisTemplate).should()
+            .execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("discodeit:lease:users::all")), eq("token"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+
+    private ConcurrentMapCacheManager l2CacheManager;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void init() {
+        l2CacheManager = new ConcurrentMapCacheManager();
+        cacheManager = new TwoLevelCacheManager(l2CacheManager, redisTemplate, null, 100, Duration.ofSeconds(30),
+            Duration.ZERO, new SingleFlight(null, Duration.ofSeconds(5), Duration.ofSeconds(2)), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("캐시 변경은 노드 식별자를 담아 무효화 채널로 발행된다")
+    void put_publishesToTopic() {
+        // when
+        cacheManager.getCache("users").put("all", "value");
+
+        // then
+        then(redisTemplate).should().convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_TOPIC),
+            eq(new CacheInvalidationMessage(cacheManager.getNodeId(), "users", "all")));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1 의 해당 키만 지우고 L2 값은 남긴다")
+    void onInvalidation_fromOtherNode() {
+        // given
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("users");
+        cache.put("all", "value");
+
+        // when
+        cacheManager.onInvalidation(new CacheInvalidationMessage("other-node", "users", "all"));
+
+        // then
+        assertThat(cache.localSize()).isZero();
+        assertThat(l2CacheManager.getCache("users").get("all").get()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("자기 노드가 발행한 무효화 메시지는 무시한다")
+    void onInvalidation_fromSelf() {
+        // given
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("users");
+        cache.put("all", "value");
+
+        // when
+        cacheManager.onInvalidation(new CacheInvalidationMessage(cacheManager.getNodeId(), "users", null));
+
+        // then
+        assertThat(cache.localSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 캐시는 한 번만 만들어 재사용한다")
+    void getCache_reusesInstance() {
+        // when
+        Cache first = cacheManager.getCache("userChannels");
+        Cache second = cacheManager.getCache("userChannels");
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(cacheManager.getCacheNames()).contains("userChannels");
+    }
+}
@@ -0,0 +1,208 @@
+package com.sprint.mission.discodeit.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock private Cache l2;
+
+    private final List<List<String>> published = new ArrayList<>();
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void init() {
+        cache = new TwoLevelCache("users", Caffeine.newBuilder().maximumSize(100).build(), l2,
+            (cacheName, key) -> published.add(Arrays.asList(cacheName, key)),
+            new SingleFlight(null, Duration.ofSeconds(5), Duration.ofSeconds(2)), null, null);
+    }
+
+    @Test
+    @DisplayName("L2 히트 값은 L1 에 채워져 다음 조회부터 L2 를 거치지 않는다")
+    void get_populatesL1() {
+        // given
+        UUID key = UUID.randomUUID();
+        given(l2.get(key)).willReturn(new SimpleValueWrapper("value"));
+
+        // when
+        Cache.ValueWrapper first = cache.get(key);
+        Cache.ValueWrapper second = cache.get(key);
+
+        // then
+        assertThat(first.get()).isEqualTo("value");
+        assertThat(second.get()).isEqualTo("value");
+        then(l2).should().get(key);
+        assertThat(cache.localSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1 / L2 모두 없을 때만 로더를 실행하고 결과를 L2 와 L1 에 채운다")
+    void get_withLoader() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        String first = cache.get("all", () -> "loaded-" + loads.incrementAndGet());
+        String second = cache.get("all", () -> "loaded-" + loads.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(loads).hasValue(1);
+        then(l2).should().put("all", "loaded-1");
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 미스가 나도 로더는 한 번만 실행된다")
+    void get_singleFlight() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Callable<String> slowLoader = () -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "value";
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> cache.get("all", slowLoader)));
+        loaderStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> cache.get("all", slowLoader)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("refreshAfterWrite 가 지난 값은 그대로 돌려주고 백그라운드에서 한 번만 L2 를 다시 읽는다 ( 로더는 실행하지 않는다 )")
+    void get_staleWhileRevalidate() {
+        // given: 갱신 기준 0ms -> 적재 직후부터 stale, 실행기는 예약만 해 둔다
+        List<Runnable> scheduled = new ArrayList<>();
+        TwoLevelCache swrCache = new TwoLevelCache("users", Caffeine.newBuilder().maximumSize(100).build(), l2,
+            (cacheName, key) -> { }, new SingleFlight(null, Duration.ofSeconds(5), Duration.ofSeconds(2)),
+            Duration.ofNanos(1), scheduled::add);
+        swrCache.get("all", () -> "old");
+        AtomicInteger backgroundLoads = new AtomicInteger();
+        Callable<String> loader = () -> {
+            backgroundLoads.incrementAndGet();
+            return "loaded";
+        };
+
+        // when: stale 상태에서 두 번 조회
+        String first = swrCache.get("all", loader);
+        String second = swrCache.get("all", loader);
+
+        // then: 오래된 값을 바로 돌려주고, 갱신 작업은 하나만 예약됨
+        assertThat(first).isEqualTo("old");
+        assertThat(second).isEqualTo("old");
+        assertThat(scheduled).hasSize(1);
+
+        // 다른 노드가 L2 에 쓴 값을 가져오고, 호출한 쪽의 로더는 백그라운드에서 실행되지 않는다
+        given(l2.get("all")).willReturn(new SimpleValueWrapper("new"));
+        scheduled.get(0).run();
+        assertThat(swrCache.get("all").get()).isEqualTo("new");
+        assertThat(backgroundLoads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신 시 L2 에도 값이 없으면 L1 을 비워 다음 요청 스레드에서 로드한다")
+    void get_staleRefreshWithoutRemoteFallsBackToCaller() {
+        // given
+        List<Runnable> scheduled = new ArrayList<>();
+        TwoLevelCache swrCache = new TwoLevelCache("users", Caffeine.newBuilder().maximumSize(100).build(), l2,
+            (cacheName, key) -> { }, new SingleFlight(null, Duration.ofSeconds(5), Duration.ofSeconds(2)),
+            Duration.ofNanos(1), scheduled::add);
+        swrCache.get("all", () -> "old");
+        swrCache.get("all", () -> "unused");
+
+        // when
+        scheduled.get(0).run();
+        String reloaded = swrCache.get("all", () -> "new");
+
+        // then
+        assertThat(reloaded).isEqualTo("new");
+        then(l2).should().put("all", "new");
+    }
+
+    @Test
+    @DisplayName("put 은 L2 에 쓰고 로컬 L1 을 갱신한 뒤 다른 노드에 무효화를 전파한다")
+    void put_publishesInvalidation() {
+        // when
+        cache.put("all", "value");
+
+        // then
+        then(l2).should().put("all", "value");
+        assertThat(cache.get("all").get()).isEqualTo("value");
+        assertThat(published).containsExactly(Arrays.asList("users", "all"));
+    }
+
+    @Test
+    @DisplayName("clear 는 L1 / L2 를 모두 비우고 전체 무효화를 전파한다")
+    void clear_publishesClearAll() {
+        // given
+        cache.put("all", "value");
+        published.clear();
+
+        // when
+        cache.clear();
+
+        // then
+        then(l2).should().clear();
+        assertThat(cache.localSize()).isZero();
+        assertThat(published).containsExactly(Arrays.asList("users", null));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 통지는 L1 만 비우고 L2 변경이나 재전파를 하지 않는다")
+    void invalidateLocal() {
+        // given
+        cache.put("all", "value");
+        published.clear();
+
+        // when
+        cache.invalidateLocal("all");
+
+        // then
+        assertThat(cache.localSize()).isZero();
+        assertThat(published).isEmpty();
+        then(l2).should(never()).evict(any());
+    }
+}
@@ -2,9 +2,13 @@ package com.sprint.mission.discodeit.repository;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
+import com.sprint.mission.discodeit.dto.data.MessageDto;
 import com.sprint.mission.discodeit.entity.BinaryContent;
 import com.sprint.mission.discodeit.entity.Channel;
 import com.sprint.mission.discodeit.entity.ChannelType;
@@ -107,6 +111,59 @@ public class MessageRepositoryTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    @DisplayName("채널 타임라인 프로젝션 조회 - case : success")
+    void findTimelineByChannelIdSuccess() {
+        // Given
+        BinaryContent profile = binaryContentRepository.save(
+            new BinaryContent("img001.jpg", 1024L, "image/jpg")
+        );
+        BinaryContent file1 = binaryContentRepository.save(new BinaryContent("a.txt", 10L, "text/plain"));
+        BinaryContent file2 = binaryContentRepository.save(new BinaryContent("b.txt", 20L, "text/plain"));
+        User user = userRepository.save(
+            new User("김현기","test@test.com","009874", profile)
+        );
+        Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC,"testPublicChannel",null));
+        Message withFiles = new Message("testMessage1", channel, user, List.of(file1, file2));
+        Message withoutFiles = new Message("testMessage2", channel, user, List.of());
+        messageRepository.saveAll(List.of(withFiles, withoutFiles));
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        Slice<MessageDto> result = messageRepository.findTimelineByChannelId(
+            channel.getId(),
+            Instant.now(),
+            PageRequest.of(0, 10));
+        Slice<MessageDto> firstPage = messageRepository.findTimelineByChannelId(
+            channel.getId(),
+            Instant.now(),
+            PageRequest.of(0, 1));
+
+        // Then
+        assertEquals(2, result.getNumberOfElements());
+        assertFalse(result.hasNext());
+        assertEquals(1, firstPage.getNumberOfElements());
+        assertTrue(firstPage.hasNext());
+
+        MessageDto dto = result.getContent().stream()
+            .filter(message -> message.id().equals(withFiles.getId()))
+            .findFirst()
+            .orElseThrow();
+        assertEquals("testMessage1", dto.content());
+        assertEquals(channel.getId(), dto.channelId());
+        assertNotNull(dto.createdAt());
+        assertEquals(user.getId(), dto.author().id());
+        assertEquals("김현기", dto.author().username());
+        assertEquals(profile.getId(), dto.author().profile().id());
+        assertNull(dto.author().online());
+        assertEquals(2, dto.attachments().size());
+        assertTrue(dto.attachments().stream()
+            .map(BinaryContentDto::id)
+            .toList()
+            .containsAll(List.of(file1.getId(), file2.getId())));
+    }
+
     @Test
     @DisplayName("채널의 최근 메시지 시간 조회 - case : success")
     void findLastMessageAyByChannelIdSuccess() {
@@ -0,0 +1,242 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.then;
+
+import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import com.sprint.mission.discodeit.entity.Notification;
+import com.sprint.mission.discodeit.mapper.NotificationMapperImpl;
+import com.sprint.mission.discodeit.redis.NotificationPageCache;
+import com.sprint.mission.discodeit.service.basic.BasicNotificationService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * 채널 집계 알림 ( app.notification.aggregate-by-channel ) 경로를 실제 PostgreSQL 에서 검사한다
+ * - H2 테스트 프로필은 집계를 끄고 있어 advisory lock / WITH ... UPDATE RETURNING ... INSERT WHERE NOT EXISTS 를 실행하지 않는다
+ * - 서비스 트랜잭션이 실제로 커밋되어야 afterCommit 캐시 반영을 볼 수 있으므로 테스트 트랜잭션은 쓰지 않는다
+ * Docker 가 없으면 건너뛴다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({BasicNotificationService.class, NotificationMapperImpl.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("채널 집계 알림 upsert ( PostgreSQL )")
+class NotificationAggregateUpsertTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17"))
+        .withCopyFileToContainer(MountableFile.forClasspathResource("schema.sql"),
+            "/docker-entrypoint-initdb.d/01-schema.sql");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+        registry.add("app.notification.aggregate-by-channel", () -> "true");
+    }
+
+    @Autowired
+    private BasicNotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private NotificationPageCache notificationPageCache;
+
+    private final UUID channelId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notifications WHERE channel_id = ?", channelId);
+    }
+
+    @Test
+    @DisplayName("집계 알림이 없으면 증가분을 누적 수로 새 행을 만들고 첫 페이지 캐시 앞에 추가한다")
+    void aggregateAll_createsRow() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+
+        // when
+        List<NotificationDto> result = notificationService.aggregateAll(List.of(request(receiverId, "첫 메시지", 2)));
+
+        // then
+        assertThat(result).singleElement().satisfies(aggregate -> {
+            assertThat(aggregate.receiverId()).isEqualTo(receiverId);
+            assertThat(aggregate.channelId()).isEqualTo(channelId);
+            assertThat(aggregate.count()).isEqualTo(2);
+            assertThat(aggregate.content()).isEqualTo("첫 메시지");
+        });
+        assertThat(rows(receiverId))
+            .singleElement()
+            .extracting(Notification::getCount)
+            .isEqualTo(2);
+        then(notificationPageCache).should().prependAll(Map.of(receiverId, result));
+        then(notificationPageCache).should().replaceAll(Map.of());
+    }
+
+    @Test
+    @DisplayName("집계 알림이 있으면 created_at 은 그대로 두고 같은 행의 누적 수를 늘린 뒤 캐시된 자리에서 바꿔 끼운다")
+    void aggregateAll_incrementsRow() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        notificationService.aggregateAll(List.of(request(receiverId, "첫 메시지", 2)));
+        Instant firstCreatedAt = rows(receiverId).get(0).getCreatedAt();
+
+        // when
+        List<NotificationDto> result = notificationService.aggregateAll(List.of(request(receiverId, "두 번째 메시지", 3)));
+
+        // then
+        assertThat(result).singleElement().satisfies(aggregate -> {
+            assertThat(aggregate.count()).isEqualTo(5);
+            assertThat(aggregate.content()).isEqualTo("두 번째 메시지");
+            assertThat(aggregate.createdAt()).isEqualTo(firstCreatedAt);
+        });
+        assertThat(rows(receiverId))
+            .hasSize(1);
+        then(notificationPageCache).should().prependAll(Map.of());
+        then(notificationPageCache).should().replaceAll(Map.of(receiverId, result));
+    }
+
+    @Test
+    @DisplayName("한 배치에 새 수신자와 기존 수신자가 섞여 있으면 각각 신규 / 갱신으로 나눈다")
+    void aggregateAll_splitsCreatedAndIncremented() {
+        // given
+        UUID existingReceiverId = UUID.randomUUID();
+        UUID newReceiverId = UUID.randomUUID();
+        notificationService.aggregateAll(List.of(request(existingReceiverId, "첫 메시지", 1)));
+
+        // when
+        List<NotificationDto> result = notificationService.aggregateAll(List.of(
+            request(existingReceiverId, "두 번째 메시지", 1),
+            request(newReceiverId, "두 번째 메시지", 1)));
+
+        // then
+        NotificationDto created = result.stream()
+            .filter(aggregate -> aggregate.receiverId().equals(newReceiverId))
+            .findFirst()
+            .orElseThrow();
+        assertThat(created.count()).isEqualTo(1);
+        assertThat(result).filteredOn(aggregate -> aggregate.receiverId().equals(existingReceiverId))
+            .singleElement()
+            .extracting(NotificationDto::count)
+            .isEqualTo(2);
+        NotificationDto incremented = result.stream()
+            .filter(aggregate -> aggregate.receiverId().equals(existingReceiverId))
+            .findFirst()
+            .orElseThrow();
+        then(notificationPageCache).should().prependAll(Map.of(newReceiverId, List.of(created)));
+        then(notificationPageCache).should().replaceAll(Map.of(existingReceiverId, List.of(incremented)));
+    }
+
+    @Test
+    @DisplayName("같은 ( 수신자, 채널 ) 을 동시에 upsert 해도 advisory lock 으로 직렬화되어 행이 하나만 생기고 증가분이 모두 더해진다")
+    void upsertAggregates_concurrentSameKey() throws Exception {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<List<NotificationDto>>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < writers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return notificationService.aggregateAll(List.of(request(receiverId, "메시지", 1)));
+                }));
+            }
+            start.countDown();
+            for (Future<List<NotificationDto>> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(rows(receiverId))
+            .singleElement()
+            .extracting(Notification::getCount)
+            .isEqualTo(writers);
+        // 잠금을 커밋까지 잡으므로 각 트랜잭션은 1 ~ writers 를 하나씩 보고, 처음 만든 한 번만 신규 ( count == increment ) 로 판단한다
+        List<Integer> counts = new ArrayList<>();
+        for (Future<List<NotificationDto>> future : futures) {
+            counts.add(future.get().get(0).count());
+        }
+        assertThat(counts).containsExactlyInAnyOrderElementsOf(
+            IntStream.rangeClosed(1, writers).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("집계 기간 ( aggregate-window ) 이 지난 집계 알림에는 누적하지 않고 새 집계 알림을 만든다")
+    void aggregateAll_startsNewRowAfterWindow() {
+        // given : 2시간 전에 만들어진 집계 알림 ( 기본 기간 1시간 )
+        UUID receiverId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO notifications (id, created_at, receiver_id, title, content, channel_id, unread_count)
+            VALUES (?, now() - interval '2 hours', ?, '채널 새 메시지', '오래된 메시지', ?, 3)
+            """, UUID.randomUUID(), receiverId, channelId);
+
+        // when
+        List<NotificationDto> result = notificationService.aggregateAll(List.of(request(receiverId, "새 메시지", 1)));
+
+        // then
+        assertThat(result).singleElement().extracting(NotificationDto::count).isEqualTo(1);
+        assertThat(rows(receiverId))
+            .extracting(Notification::getCount)
+            .containsExactlyInAnyOrder(3, 1);
+        then(notificationPageCache).should().prependAll(Map.of(receiverId, result));
+    }
+
+    private List<Notification> rows(UUID receiverId) {
+        return notificationRepository.findAllByChannelIdAndReceiverIdInAndCreatedAtGreaterThanEqual(
+            channelId, List.of(receiverId), Instant.EPOCH);
+    }
+
+    private NotificationAggregateRequest request(UUID receiverId, String preview, int increment) {
+        return new NotificationAggregateRequest(receiverId, channelId, "채널 새 메시지", preview, increment);
+    }
+}
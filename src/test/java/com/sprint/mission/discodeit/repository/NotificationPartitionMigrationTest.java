@@ -0,0 +1,72 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * schema.sql ( V1 ) 로 만들어져 운영 중인 DB 에 마이그레이션을 적용하면
+ * 기존 알림 행을 유지한 채 notifications 가 월 파티션 테이블로 바뀌는지 검사한다
+ * Docker 가 없으면 건너뛴다
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("notifications 파티션 전환 마이그레이션")
+class NotificationPartitionMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17"))
+        .withCopyFileToContainer(MountableFile.forClasspathResource("schema.sql"),
+            "/docker-entrypoint-initdb.d/01-schema.sql");
+
+    @Test
+    @DisplayName("기존 DB 의 알림 행을 복사해 월 파티션 / default 파티션으로 옮기고 파티션 관리자가 이어서 관리할 수 있다")
+    void convertsExistingTable() {
+        // given : V1 기준선 DB 에 지난달 / 이번 달 알림이 있다
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        UUID receiverId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO notifications (id, created_at, receiver_id, title, content)
+            VALUES (?, date_trunc('month', now()) - interval '1 day', ?, 'old', 'old'),
+                   (?, now(), ?, 'new', 'new')
+            """, UUID.randomUUID(), receiverId, UUID.randomUUID(), receiverId);
+
+        // when
+        Flyway.configure()
+            .dataSource(dataSource)
+            .locations("classpath:db/migration")
+            .baselineOnMigrate(true)
+            .baselineVersion("1")
+            .load()
+            .migrate();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid "
+                + "WHERE c.relname = 'notifications'", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM notifications WHERE receiver_id = ?", Integer.class, receiverId)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM notifications_default", Integer.class)).isZero();
+
+        NotificationPartitionRepository partitionRepository = new NotificationPartitionRepository(jdbcTemplate);
+        assertThat(partitionRepository.findPartitionMonths()).contains(
+            currentMonth.minusMonths(1), currentMonth, currentMonth.plusMonths(2));
+        partitionRepository.createPartition(currentMonth.plusMonths(3));
+        assertThat(partitionRepository.findPartitionMonths()).contains(currentMonth.plusMonths(3));
+    }
+}
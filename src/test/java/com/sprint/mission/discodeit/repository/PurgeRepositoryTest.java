@@ -0,0 +1,133 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sprint.mission.discodeit.entity.BinaryContent;
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.entity.ChannelType;
+import com.sprint.mission.discodeit.entity.Message;
+import com.sprint.mission.discodeit.entity.ReadStatus;
+import com.sprint.mission.discodeit.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@EnableJpaAuditing
+@ActiveProfiles("test")
+@Import(PurgeRepository.class)
+@DisplayName("삭제 정리 Repo 슬라이스 테스트")
+public class PurgeRepositoryTest {
+
+    @Autowired
+    private PurgeRepository purgeRepository;
+
+    @Autowired
+    private ChannelRepository channelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private BinaryContentRepository binaryContentRepository;
+
+    @Autowired
+    private ReadStatusRepository readStatusRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("삭제 표시된 채널의 메시지 / 첨부파일 / 읽음 상태를 청크로 지운 뒤 채널 행을 삭제한다")
+    void purgeChannelInChunks() {
+        // Given
+        User user = userRepository.save(new User("김현기", "test@test.com", "009874", null));
+        Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "testPublicChannel", null));
+        BinaryContent attachment = binaryContentRepository.save(new BinaryContent("a.txt", 10L, "text/plain"));
+        messageRepository.saveAll(List.of(
+            new Message("testMessage1", channel, user, List.of(attachment)),
+            new Message("testMessage2", channel, user, List.of()),
+            new Message("testMessage3", channel, user, List.of())));
+        readStatusRepository.save(new ReadStatus(user, channel, Instant.now()));
+        channel.markDeleted();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        List<UUID> firstChunk = purgeRepository.findMessageIdsByChannelId(channel.getId(), 2);
+        List<UUID> firstAttachments = purgeRepository.findAttachmentIds(firstChunk);
+        int deletedFirst = purgeRepository.deleteMessages(firstChunk);
+        List<UUID> secondChunk = purgeRepository.findMessageIdsByChannelId(channel.getId(), 2);
+        List<UUID> secondAttachments = purgeRepository.findAttachmentIds(secondChunk);
+        int deletedSecond = purgeRepository.deleteMessages(secondChunk);
+        int readStatuses = purgeRepository.deleteReadStatusesByChannelId(channel.getId(), 2);
+
+        // Then
+        assertThat(firstChunk).hasSize(2);
+        assertThat(secondChunk).hasSize(1);
+        assertThat(deletedFirst + deletedSecond).isEqualTo(3);
+        assertThat(purgeRepository.findMessageIdsByChannelId(channel.getId(), 2)).isEmpty();
+        assertThat(readStatuses).isEqualTo(1);
+        assertThat(purgeRepository.findDeletedChannelIds(Instant.now().plusSeconds(1))).containsExactly(channel.getId());
+
+        // 첨부파일은 어느 청크에 있든 한 번만 잡힌다
+        List<UUID> attachmentIds = new ArrayList<>(firstAttachments);
+        attachmentIds.addAll(secondAttachments);
+        assertThat(attachmentIds).containsExactly(attachment.getId());
+        assertThat(purgeRepository.deleteBinaryContents(attachmentIds)).isEqualTo(1);
+        assertThat(purgeRepository.deleteChannel(channel.getId())).isTrue();
+        assertThat(count("channels")).isZero();
+        assertThat(count("message_attachments")).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 정리는 작성 메시지를 남기고 작성자만 비운 뒤, 삭제 표시된 사용자만 지운다")
+    void purgeUser() {
+        // Given
+        BinaryContent profile = binaryContentRepository.save(new BinaryContent("img001.jpg", 1024L, "image/jpg"));
+        User user = userRepository.save(new User("김현기", "test@test.com", "009874", profile));
+        User other = userRepository.save(new User("other", "other@test.com", "009874", null));
+        Channel channel = channelRepository.save(new Channel(ChannelType.PUBLIC, "testPublicChannel", null));
+        messageRepository.saveAll(List.of(
+            new Message("testMessage1", channel, user, List.of()),
+            new Message("testMessage2", channel, user, List.of()),
+            new Message("testMessage3", channel, other, List.of())));
+        user.markDeleted();
+        entityManager.flush();
+        entityManager.clear();
+
+        // When
+        int detachedFirst = purgeRepository.detachMessagesFromAuthor(user.getId(), 1);
+        int detachedSecond = purgeRepository.detachMessagesFromAuthor(user.getId(), 1);
+        int detachedThird = purgeRepository.detachMessagesFromAuthor(user.getId(), 1);
+        UUID profileId = purgeRepository.findProfileId(user.getId());
+
+        // Then
+        assertThat(List.of(detachedFirst, detachedSecond, detachedThird)).containsExactly(1, 1, 0);
+        assertThat(profileId).isEqualTo(profile.getId());
+        assertThat(purgeRepository.deleteUser(other.getId())).isFalse();
+        assertThat(purgeRepository.deleteUser(user.getId())).isTrue();
+        assertThat(count("messages")).isEqualTo(3);
+        assertThat(count("users")).isEqualTo(1);
+    }
+
+    private Integer count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
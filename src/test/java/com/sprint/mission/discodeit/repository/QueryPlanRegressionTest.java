@@ -0,0 +1,249 @@
+package com.sprint.mission.discodeit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * Repository 의 @Query 가 seq scan 으로 바뀌지 않았는지 실제 PostgreSQL 실행 계획으로 검사한다
+ * - schema.sql ( V1 ) → Flyway 마이그레이션 → 시드 ( afterMigrate 콜백 ) 순으로 운영과 같은 스키마 / 인덱스를 만든다
+ * - 각 쿼리를 한 번 실행해 Hibernate 가 만든 SQL 을 잡고, EXPLAIN (GENERIC_PLAN) 으로 파라미터 값과 무관한 계획을 본다
+ * - 데이터가 있는 테이블에 Seq Scan 노드가 있으면 실패 ( 빈 파티션처럼 비용이 0 인 테이블은 제외 )
+ * Docker 가 없으면 건너뛴다
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Repository @Query 실행 계획 회귀 테스트")
+class QueryPlanRegressionTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:17"))
+        .withCopyFileToContainer(MountableFile.forClasspathResource("schema.sql"),
+            "/docker-entrypoint-initdb.d/01-schema.sql");
+
+    // 전체 목록 조회처럼 seq scan 이 정상인 쿼리만 테이블 단위로 허용한다
+    private static final Map<String, Set<String>> SEQ_SCAN_ALLOWED = Map.of(
+        "UserRepository.findAllWithProfileAndStatus", Set.of("users", "binary_contents"));
+
+    private static final List<Class<?>> REPOSITORIES = List.of(
+        MessageRepository.class, ReadStatusRepository.class, UserRepository.class, NotificationRepository.class);
+
+    private static final UUID CHANNEL_ID = seedId("channel", 1);
+    private static final UUID USER_ID = seedId("user", 1);
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+            RecordingStatementInspector.class::getName);
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration,classpath:db/query-plan");
+    }
+
+    @Autowired
+    private MessageRepository messageRepository;
+
+    @Autowired
+    private ReadStatusRepository readStatusRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // "Repository.method" → 시드 데이터로 한 번 실행
+    private Map<String, Runnable> queryCases() {
+        Map<String, Runnable> cases = new LinkedHashMap<>();
+        cases.put("MessageRepository.findAllByChannelIdWithAuthor",
+            () -> messageRepository.findAllByChannelIdWithAuthor(CHANNEL_ID, Instant.now(),
+                PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "createdAt"))));
+        cases.put("MessageRepository.findLastMessageAtByChannelId",
+            () -> messageRepository.findLastMessageAtByChannelId(CHANNEL_ID));
+        cases.put("ReadStatusRepository.findAllByChannelIdWithUser",
+            () -> readStatusRepository.findAllByChannelIdWithUser(CHANNEL_ID));
+        cases.put("ReadStatusRepository.findAllByChannelIdAndNotificationEnabledTrue",
+            () -> readStatusRepository.findAllByChannelIdAndNotificationEnabledTrue(CHANNEL_ID));
+        cases.put("ReadStatusRepository.findAllByChannelIdInAndNotificationEnabledTrue",
+            () -> readStatusRepository.findAllByChannelIdInAndNotificationEnabledTrue(
+                List.of(CHANNEL_ID, seedId("channel", 2), seedId("channel", 3))));
+        cases.put("UserRepository.findByUsername",
+            () -> userRepository.findByUsername("user1"));
+        cases.put("UserRepository.findAllWithProfileAndStatus",
+            () -> userRepository.findAllWithProfileAndStatus());
+        cases.put("NotificationRepository.findLatestByReceiverId",
+            () -> notificationRepository.findLatestByReceiverId(USER_ID, Limit.of(20)));
+        cases.put("NotificationRepository.findPageByReceiverIdBefore",
+            () -> notificationRepository.findPageByReceiverIdBefore(USER_ID, Instant.now(), UUID.randomUUID(),
+                Limit.of(20)));
+        return cases;
+    }
+
+    @Test
+    @DisplayName("대상 Repository 의 모든 @Query 에 실행 계획 검사 케이스가 있다")
+    void everyQueryHasPlanCase() {
+        // given
+        List<String> queries = REPOSITORIES.stream()
+            .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(Query.class))
+                .map(method -> repository.getSimpleName() + "." + method.getName()))
+            .toList();
+
+        // when
+        Set<String> covered = queryCases().keySet();
+
+        // then
+        assertThat(covered).containsExactlyInAnyOrderElementsOf(queries);
+    }
+
+    @TestFactory
+    @DisplayName("@Query 실행 계획에 데이터가 있는 테이블의 Seq Scan 이 없다")
+    Stream<DynamicTest> noSequentialScan() {
+        return queryCases().entrySet().stream()
+            .map(entry -> DynamicTest.dynamicTest(entry.getKey(),
+                () -> assertNoSequentialScan(entry.getKey(), entry.getValue())));
+    }
+
+    private void assertNoSequentialScan(String query, Runnable call) throws Exception {
+        // given
+        RecordingStatementInspector.clear();
+
+        // when
+        call.run();
+        List<String> statements = RecordingStatementInspector.statements();
+
+        // then
+        assertThat(statements).as(query).isNotEmpty();
+        Set<String> allowed = SEQ_SCAN_ALLOWED.getOrDefault(query, Set.of());
+        for (String sql : statements) {
+            JsonNode plan = explain(sql);
+            List<String> seqScans = new ArrayList<>();
+            collectSeqScans(plan, seqScans);
+            List<String> violations = seqScans.stream()
+                .filter(relation -> !allowed.contains(relation))
+                .filter(this::hasRows)
+                .toList();
+            assertThat(violations)
+                .as("%s%n%s%n%s", query, sql, plan.toPrettyString())
+                .isEmpty();
+        }
+    }
+
+    private JsonNode explain(String sql) throws Exception {
+        String json = jdbcTemplate.queryForObject(
+            "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberedParameters(sql), String.class);
+        return objectMapper.readTree(json).get(0).get("Plan");
+    }
+
+    private static void collectSeqScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, relations);
+        }
+    }
+
+    // 아직 파티션 경계가 오지 않은 빈 파티션 등은 seq scan 비용이 0 이므로 문제 삼지 않는다
+    private boolean hasRows(String relation) {
+        Float tuples = jdbcTemplate.queryForObject(
+            "SELECT reltuples FROM pg_class WHERE relname = ?", Float.class, relation);
+        return tuples != null && tuples > 0;
+    }
+
+    // JDBC 의 ? 를 GENERIC_PLAN 이 받는 $1, $2 ... 로 바꾼다 ( Hibernate SQL 에는 문자열 리터럴 안의 ? 가 없다 )
+    private static String numberedParameters(String sql) {
+        StringBuilder numbered = new StringBuilder(sql.length() + 16);
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    // query-plan-seed.sql 의 md5(접두어 || 번호)::uuid 와 같은 id
+    private static UUID seedId(String prefix, int number) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5")
+                .digest((prefix + number).getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 테스트 중 Hibernate 가 실행한 SQL 을 모은다 ( hibernate.session_factory.statement_inspector )
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> statements() {
+            return List.copyOf(STATEMENTS);
+        }
+    }
+}
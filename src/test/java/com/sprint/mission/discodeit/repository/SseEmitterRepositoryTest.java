@@ -43,4 +43,25 @@ public class SseEmitterRepositoryTest {
         assertThat(repository.findAllByReceiverId(receiverId)).isEmpty();
         assertThat(repository.findAll()).doesNotContainKey(receiverId);
     }
+
+    @Test
+    @DisplayName("이미 정리된 emitter 삭제는 false를 반환하고 연결 수를 집계한다")
+    void delete_shouldReportWhetherRemoved() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        SseEmitter first = new SseEmitter();
+        SseEmitter second = new SseEmitter();
+        repository.save(receiverId, first);
+        repository.save(receiverId, second);
+
+        // when
+        boolean removed = repository.delete(receiverId, first);
+        boolean removedAgain = repository.delete(receiverId, first);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(removedAgain).isFalse();
+        assertThat(repository.countEmitters()).isEqualTo(1);
+        assertThat(repository.countReceivers()).isEqualTo(1);
+    }
 }
@@ -26,7 +26,6 @@ import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.ChannelMapper;
 import com.sprint.mission.discodeit.mapper.UserMapper;
 import com.sprint.mission.discodeit.repository.ChannelRepository;
-import com.sprint.mission.discodeit.repository.MessageRepository;
 import com.sprint.mission.discodeit.repository.ReadStatusRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.basic.BasicChannelService;
@@ -63,7 +62,7 @@ public class BasicChannelServiceTest {
     private ChannelMapper channelMapper;
 
     @Mock
-    private MessageRepository messageRepository;
+    private DeletionPurgeService deletionPurgeService;
 
     @Mock
     private SseService sseService;
@@ -261,23 +260,20 @@ public class BasicChannelServiceTest {
         Channel channel = new Channel(ChannelType.PUBLIC, "oldName", "oldDesc");
         ChannelDto dto = new ChannelDto(channelId, ChannelType.PUBLIC, "oldName", "oldDesc", null, Instant.now());
 
-        // Given - find(channelId)까지 성공하도록 준비
+        // Given
         given(channelRepository.findById(channelId)).willReturn(Optional.of(channel));
         given(channelMapper.toDto(channel)).willReturn(dto);
-        given(channelRepository.existsById(channelId)).willReturn(true);
-        willDoNothing().given(messageRepository).deleteAllByChannelId(channelId);
-        willDoNothing().given(readStatusRepository).deleteAllByChannelId(channelId);
-        willDoNothing().given(channelRepository).deleteById(channelId);
         willDoNothing().given(sseService).broadcast(anyString(), any());
 
         // When
         channelService.delete(channelId);
 
-        // Then
-        then(channelRepository).should().findById(channelId);
-        then(messageRepository).should().deleteAllByChannelId(channelId);
-        then(readStatusRepository).should().deleteAllByChannelId(channelId);
-        then(channelRepository).should().deleteById(channelId);
+        // Then - 채널은 삭제 표시만 하고 연관 데이터 정리는 백그라운드로 넘긴다
+        assertThat(channel.getDeletedAt()).isNotNull();
+        then(deletionPurgeService).should().purgeChannelAfterCommit(channelId);
+        then(channelRepository).should(never()).deleteById(any());
+        then(readStatusRepository).shouldHaveNoInteractions();
+        then(sseService).should().broadcast("channels.deleted", dto);
     }
 
     @Test
@@ -285,11 +281,7 @@ public class BasicChannelServiceTest {
     void deleteChannelFail() {
         // Given
         UUID channelId = UUID.randomUUID();
-        Channel channel = new Channel(ChannelType.PUBLIC, "oldName", "oldDesc");
-        ChannelDto dto = new ChannelDto(channelId, ChannelType.PUBLIC, "oldName", "oldDesc", null, Instant.now());
-        given(channelRepository.findById(channelId)).willReturn(Optional.of(channel));
-        given(channelMapper.toDto(channel)).willReturn(dto);
-        given(channelRepository.existsById(channelId)).willReturn(false);
+        given(channelRepository.findById(channelId)).willReturn(Optional.empty());
 
         // When
         ThrowableAssert.ThrowingCallable act = () -> channelService.delete(channelId);
@@ -297,8 +289,8 @@ public class BasicChannelServiceTest {
         // Then
         assertThatThrownBy(act).isInstanceOf(ChannelNotFoundException.class);
         then(channelRepository).should().findById(channelId);
-        then(channelRepository).should().existsById(channelId);
-        then(channelRepository).should(never()).deleteById(any());
+        then(deletionPurgeService).shouldHaveNoInteractions();
+        then(sseService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -306,11 +298,7 @@ public class BasicChannelServiceTest {
     void deleteChannel_notFound() {
         // given
         UUID channelId = UUID.randomUUID();
-        Channel channel = new Channel(ChannelType.PUBLIC, "old", "desc");
-        ChannelDto dto = new ChannelDto(channelId, ChannelType.PUBLIC, "old", "desc", null, Instant.now());
-        given(channelRepository.findById(channelId)).willReturn(Optional.of(channel));
-        given(channelMapper.toDto(channel)).willReturn(dto);
-        given(channelRepository.existsById(channelId)).willReturn(false);
+        given(channelRepository.findById(channelId)).willReturn(Optional.empty());
 
         // when
         ThrowingCallable when = () -> channelService.delete(channelId);
@@ -318,9 +306,8 @@ public class BasicChannelServiceTest {
         // then
         assertThatThrownBy(when).isInstanceOf(ChannelNotFoundException.class);
         then(channelRepository).should().findById(channelId);
-        then(channelRepository).should().existsById(channelId);
-        then(messageRepository).shouldHaveNoInteractions();
         then(readStatusRepository).shouldHaveNoInteractions();
+        then(deletionPurgeService).should(never()).purgeChannelAfterCommit(any());
     }
 
 
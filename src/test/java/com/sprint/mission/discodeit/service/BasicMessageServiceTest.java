@@ -207,8 +207,6 @@ public class BasicMessageServiceTest {
         UUID channelId = UUID.randomUUID();
         Instant now = Instant.now();
         Pageable pageable = PageRequest.of(0, 10);
-        User author = new User("testUserName", "test@test.com", "009874", null);
-        Message message = new Message("test", new Channel(ChannelType.PUBLIC, "testChannel","testChannel Description"),author, List.of());
         MessageDto messageDto = new MessageDto(
             UUID.randomUUID(),
             Instant.now(),
@@ -218,10 +216,9 @@ public class BasicMessageServiceTest {
             null,
             null
         );
-        Slice<Message> messageSlice = new SliceImpl<>(List.of(message), pageable, false);
-        given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), any(), eq(pageable)))
+        Slice<MessageDto> messageSlice = new SliceImpl<>(List.of(messageDto), pageable, false);
+        given(messageRepository.findTimelineByChannelId(eq(channelId), eq(now), eq(pageable)))
             .willReturn(messageSlice);
-        given(messageMapper.toDto(any(Message.class))).willReturn(messageDto);
         given(pageResponseMapper.fromSlice(any(), any())).willReturn(
             new PageResponse<>(
                 List.of(messageDto),
@@ -247,8 +244,8 @@ public class BasicMessageServiceTest {
         // Given
         UUID channelId = UUID.randomUUID();
         Pageable pageable = PageRequest.of(0, 5);
-        Slice<Message> emptySlice = new SliceImpl<>(List.of(), pageable, false);
-        given(messageRepository.findAllByChannelIdWithAuthor(eq(channelId), any(), eq(pageable)))
+        Slice<MessageDto> emptySlice = new SliceImpl<>(List.of(), pageable, false);
+        given(messageRepository.findTimelineByChannelId(eq(channelId), any(), eq(pageable)))
             .willReturn(emptySlice);
         given(pageResponseMapper.fromSlice(any(), any())).willReturn(
             new PageResponse<>(
@@ -266,7 +263,7 @@ public class BasicMessageServiceTest {
         // Then
         assertThat(result.content()).isEmpty();
         then(messageRepository).should()
-            .findAllByChannelIdWithAuthor(eq(channelId), any(), eq(pageable));
+            .findTimelineByChannelId(eq(channelId), any(), eq(pageable));
         then(pageResponseMapper).should().fromSlice(any(), any());
     }
 
@@ -3,50 +3,61 @@ package com.sprint.mission.discodeit.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 
 import com.sprint.mission.discodeit.dto.data.NotificationDto;
+import com.sprint.mission.discodeit.dto.request.NotificationAggregateRequest;
+import com.sprint.mission.discodeit.dto.request.NotificationCreateRequest;
+import com.sprint.mission.discodeit.dto.request.NotificationCursor;
+import com.sprint.mission.discodeit.dto.response.PageResponse;
 import com.sprint.mission.discodeit.entity.Notification;
+import com.sprint.mission.discodeit.exception.notification.InvalidNotificationCursorException;
 import com.sprint.mission.discodeit.exception.notification.NotificationAccessDeniedException;
 import com.sprint.mission.discodeit.exception.notification.NotificationNotFoundException;
 import com.sprint.mission.discodeit.mapper.NotificationMapper;
+import com.sprint.mission.discodeit.redis.NotificationPageCache;
 import com.sprint.mission.discodeit.repository.NotificationRepository;
 import com.sprint.mission.discodeit.service.basic.BasicNotificationService;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class BasicNotificationServiceTest {
 
     @Mock private NotificationRepository notificationRepository;
     @Mock private NotificationMapper notificationMapper;
-    @Mock private CacheManager cacheManager;
-    @Mock private Cache cache;
+    @Mock private NotificationPageCache notificationPageCache;
 
     @InjectMocks private BasicNotificationService notificationService;
 
     @Test
-    @DisplayName("알림 생성 시 저장과 캐시 무효화가 수행된다")
-    void create_캐시무효화() {
+    @DisplayName("알림 생성 시 저장 후 캐시된 첫 페이지 앞에 새 알림을 추가한다")
+    void create_첫페이지갱신() {
         // given
         UUID receiverId = UUID.randomUUID();
         NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "title", "content");
         given(notificationMapper.toDto(any(Notification.class))).willReturn(dto);
-        given(cacheManager.getCache("userNotifications")).willReturn(cache);
 
         // when
         NotificationDto result = notificationService.create(receiverId, "title", "content");
@@ -54,20 +65,21 @@ class BasicNotificationServiceTest {
         // then
         assertThat(result).isEqualTo(dto);
         then(notificationRepository).should().save(any(Notification.class));
-        then(cache).should().evict(receiverId);
+        then(notificationPageCache).should().prependAll(Map.of(receiverId, List.of(dto)));
+        then(notificationPageCache).should(never()).evict(any());
     }
 
     @Test
-    @DisplayName("캐시가 null이어도 알림 생성은 정상 동작한다")
-    void create_cacheNull() {
+    @DisplayName("저장 이후 캐시 반영이 실패해도 예외를 던지지 않는다 ( 호출한 쪽이 재시도해 중복 저장하지 않도록 )")
+    void create_cacheFailureIsNotRethrown() {
         // given
         UUID receiverId = UUID.randomUUID();
-        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "title", "body");
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "title", "content");
         given(notificationMapper.toDto(any(Notification.class))).willReturn(dto);
-        given(cacheManager.getCache("userNotifications")).willReturn(null);
+        willThrow(new IllegalStateException("redis down")).given(notificationPageCache).prependAll(any());
 
         // when
-        NotificationDto result = notificationService.create(receiverId, "title", "body");
+        NotificationDto result = notificationService.create(receiverId, "title", "content");
 
         // then
         assertThat(result).isEqualTo(dto);
@@ -75,21 +87,179 @@ class BasicNotificationServiceTest {
     }
 
     @Test
-    @DisplayName("알림 목록 조회는 레포지토리 데이터를 DTO로 매핑한다")
-    void findAllByReceiverId() {
+    @DisplayName("알림 일괄 생성 시 한 번에 저장하고 수신자별 최신순으로 첫 페이지 캐시를 갱신한다")
+    void createAll() {
+        // given
+        UUID receiverA = UUID.randomUUID();
+        UUID receiverB = UUID.randomUUID();
+        List<NotificationCreateRequest> requests = List.of(
+            new NotificationCreateRequest(receiverA, "t", "1"),
+            new NotificationCreateRequest(receiverA, "t", "2"),
+            new NotificationCreateRequest(receiverB, "t", "3"));
+        NotificationDto first = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverA, "t", "1");
+        NotificationDto second = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverA, "t", "2");
+        NotificationDto third = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverB, "t", "3");
+        given(notificationMapper.toDto(any(Notification.class))).willReturn(first, second, third);
+
+        // when
+        List<NotificationDto> result = notificationService.createAll(requests);
+
+        // then
+        assertThat(result).containsExactly(first, second, third);
+        then(notificationRepository).should().saveAll(anyList());
+        then(notificationRepository).should(never()).save(any(Notification.class));
+        then(notificationPageCache).should().prependAll(Map.of(
+            receiverA, List.of(second, first),
+            receiverB, List.of(third)));
+    }
+
+    @Test
+    @DisplayName("빈 요청으로 일괄 생성하면 저장하지 않는다")
+    void createAll_empty() {
+        // when
+        List<NotificationDto> result = notificationService.createAll(List.of());
+
+        // then
+        assertThat(result).isEmpty();
+        then(notificationRepository).shouldHaveNoInteractions();
+        then(notificationPageCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("채널 집계 알림 upsert 시 새 집계는 첫 페이지 앞에 추가하고 갱신된 집계는 캐시된 자리에서 바꿔 끼운다")
+    void aggregateAll() {
+        // given: receiverA 는 새 집계, receiverB 는 기존 집계에 2건 누적
+        UUID channelId = UUID.randomUUID();
+        UUID receiverA = UUID.randomUUID();
+        UUID receiverB = UUID.randomUUID();
+        List<NotificationAggregateRequest> requests = List.of(
+            new NotificationAggregateRequest(receiverA, channelId, "t", "latest", 2),
+            new NotificationAggregateRequest(receiverB, channelId, "t", "latest", 2));
+        Notification rowA = new Notification(receiverA, "t", "latest");
+        Notification rowB = new Notification(receiverB, "t", "latest");
+        ReflectionTestUtils.setField(notificationService, "aggregateWindow", Duration.ofHours(1));
+        given(notificationRepository.findAllByChannelIdAndReceiverIdInAndCreatedAtGreaterThanEqual(
+            eq(channelId), any(), any(Instant.class)))
+            .willReturn(List.of(rowA, rowB));
+        NotificationDto created = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), receiverA, "t", "latest", channelId, 2);
+        NotificationDto updated = new NotificationDto(
+            UUID.randomUUID(), Instant.now(), receiverB, "t", "latest", channelId, 5);
+        given(notificationMapper.toDto(rowA)).willReturn(created);
+        given(notificationMapper.toDto(rowB)).willReturn(updated);
+
+        // when
+        List<NotificationDto> result = notificationService.aggregateAll(requests);
+
+        // then
+        assertThat(result).containsExactly(created, updated);
+        ArgumentCaptor<Instant> since = ArgumentCaptor.forClass(Instant.class);
+        then(notificationRepository).should().upsertAggregates(eq(requests), since.capture());
+        // 재조회도 upsert 와 같은 created_at 하한으로 최근 파티션만 본다
+        then(notificationRepository).should().findAllByChannelIdAndReceiverIdInAndCreatedAtGreaterThanEqual(
+            eq(channelId), any(), eq(since.getValue()));
+        assertThat(since.getValue()).isBefore(Instant.now().minus(Duration.ofMinutes(59)));
+        then(notificationPageCache).should().prependAll(Map.of(receiverA, List.of(created)));
+        then(notificationPageCache).should().replaceAll(Map.of(receiverB, List.of(updated)));
+        then(notificationPageCache).should(never()).evictAll(any());
+    }
+
+    @Test
+    @DisplayName("빈 요청으로 집계 upsert 하면 저장하지 않는다")
+    void aggregateAll_empty() {
+        // when
+        List<NotificationDto> result = notificationService.aggregateAll(List.of());
+
+        // then
+        assertThat(result).isEmpty();
+        then(notificationRepository).shouldHaveNoInteractions();
+        then(notificationPageCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("첫 페이지 캐시 미스 시 최대 크기 + 1 건을 조회해 캐시하고 요청 크기만큼 반환한다")
+    void findAllByReceiverId_firstPageMiss() {
         // given
         UUID receiverId = UUID.randomUUID();
-        Notification entity = new Notification(receiverId, "title", "content");
-        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "title", "content");
-        given(notificationRepository.findAllByReceiverIdOrderByCreatedAtDesc(receiverId)).willReturn(List.of(entity));
+        List<Notification> entities = List.of(
+            new Notification(receiverId, "t", "1"),
+            new Notification(receiverId, "t", "2"),
+            new Notification(receiverId, "t", "3"));
+        List<NotificationDto> dtos = List.of(
+            new NotificationDto(UUID.randomUUID(), Instant.parse("2026-01-01T00:00:03Z"), receiverId, "t", "1"),
+            new NotificationDto(UUID.randomUUID(), Instant.parse("2026-01-01T00:00:02Z"), receiverId, "t", "2"),
+            new NotificationDto(UUID.randomUUID(), Instant.parse("2026-01-01T00:00:01Z"), receiverId, "t", "3"));
+        given(notificationPageCache.get(receiverId)).willReturn(Optional.empty());
+        given(notificationPageCache.version(receiverId)).willReturn(7L);
+        given(notificationRepository.findLatestByReceiverId(receiverId, Limit.of(NotificationPageCache.WINDOW_SIZE)))
+            .willReturn(entities);
+        given(notificationMapper.toDto(any(Notification.class)))
+            .willReturn(dtos.get(0), dtos.get(1), dtos.get(2));
+
+        // when
+        PageResponse<NotificationDto> result = notificationService.findAllByReceiverId(receiverId, null, 2);
+
+        // then
+        assertThat(result.content()).containsExactly(dtos.get(0), dtos.get(1));
+        assertThat(result.hasNext()).isTrue();
+        assertThat(NotificationCursor.decode((String) result.nextCursor()))
+            .isEqualTo(new NotificationCursor(dtos.get(1).createdAt(), dtos.get(1).id()));
+        // DB 를 읽기 전에 읽어 둔 버전으로 저장한다
+        InOrder inOrder = inOrder(notificationPageCache, notificationRepository);
+        inOrder.verify(notificationPageCache).version(receiverId);
+        inOrder.verify(notificationRepository).findLatestByReceiverId(receiverId,
+            Limit.of(NotificationPageCache.WINDOW_SIZE));
+        inOrder.verify(notificationPageCache).put(receiverId, 7L, dtos);
+    }
+
+    @Test
+    @DisplayName("첫 페이지 캐시 히트 시 DB를 조회하지 않는다")
+    void findAllByReceiverId_firstPageHit() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "t", "c");
+        given(notificationPageCache.get(receiverId)).willReturn(Optional.of(List.of(dto)));
+
+        // when
+        PageResponse<NotificationDto> result = notificationService.findAllByReceiverId(receiverId, null, 20);
+
+        // then
+        assertThat(result.content()).containsExactly(dto);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("커서가 있으면 캐시를 거치지 않고 커서 이후를 keyset 조회한다")
+    void findAllByReceiverId_cursor() {
+        // given
+        UUID receiverId = UUID.randomUUID();
+        NotificationCursor cursor = new NotificationCursor(Instant.parse("2026-01-01T00:00:00Z"), UUID.randomUUID());
+        Notification entity = new Notification(receiverId, "t", "c");
+        NotificationDto dto = new NotificationDto(UUID.randomUUID(), Instant.now(), receiverId, "t", "c");
+        given(notificationRepository.findPageByReceiverIdBefore(
+            receiverId, cursor.createdAt(), cursor.id(), Limit.of(11))).willReturn(List.of(entity));
         given(notificationMapper.toDto(entity)).willReturn(dto);
 
         // when
-        List<NotificationDto> result = notificationService.findAllByReceiverId(receiverId);
+        PageResponse<NotificationDto> result =
+            notificationService.findAllByReceiverId(receiverId, cursor.encode(), 10);
+
+        // then
+        assertThat(result.content()).containsExactly(dto);
+        assertThat(result.hasNext()).isFalse();
+        then(notificationPageCache).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 InvalidNotificationCursorException 으로 거부한다")
+    void findAllByReceiverId_invalidCursor() {
+        // when
+        ThrowingCallable when = () -> notificationService.findAllByReceiverId(UUID.randomUUID(), "!!invalid", 10);
 
         // then
-        assertThat(result).containsExactly(dto);
-        then(notificationRepository).should().findAllByReceiverIdOrderByCreatedAtDesc(receiverId);
+        assertThatThrownBy(when).isInstanceOf(InvalidNotificationCursorException.class);
     }
 
     @Test
@@ -138,8 +308,7 @@ class BasicNotificationServiceTest {
 
         // then
         then(notificationRepository).should().delete(notification);
-        // CacheEvict 애노테이션 동작은 프록시에서 처리되므로 직접 검증할 수 없지만,
-        // 최소한 delete 로직이 예외 없이 마무리되는지를 확인한다.
+        then(notificationPageCache).should().evict(receiverId);
     }
 
     @Test
@@ -8,6 +8,7 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 
 import com.sprint.mission.discodeit.dto.data.SseMessage;
+import com.sprint.mission.discodeit.metrics.SseMetrics;
 import com.sprint.mission.discodeit.repository.SseEmitterRepository;
 import com.sprint.mission.discodeit.repository.SseMessageRepository;
 import com.sprint.mission.discodeit.service.basic.BasicSseService;
@@ -38,6 +39,9 @@ public class BasicSseServiceTest {
     @Mock
     private SseMessageRepository sseMessageRepository;
 
+    @Mock
+    private SseMetrics sseMetrics;
+
     @InjectMocks
     private BasicSseService sseService;
 
@@ -57,6 +61,8 @@ public class BasicSseServiceTest {
         assertThat(emitter).isNotNull();
         then(sseEmitterRepository).should().save(eq(receiverId), any(SseEmitter.class));
         then(sseMessageRepository).should().findEventsAfter(lastEventId);
+        then(sseMetrics).should().connected("basic");
+        then(sseMetrics).should().recordReplay(1);
     }
 
     @Test
@@ -76,6 +82,28 @@ public class BasicSseServiceTest {
         then(sseMessageRepository).should().save(any(SseMessage.class));
         then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
         assertThat(emitters).hasSize(1);
+        then(sseMetrics).should().recordFanOut("message.created", 1);
+    }
+
+    @Test
+    @DisplayName("sendEach는 수신자별 데이터를 각자의 emitter로 전송한다")
+    void sendEach_shouldDeliverPerReceiverData() throws Exception {
+        // given
+        UUID receiverA = UUID.randomUUID();
+        UUID receiverB = UUID.randomUUID();
+        SseEmitter emitterA = org.mockito.Mockito.mock(SseEmitter.class);
+        SseEmitter emitterB = org.mockito.Mockito.mock(SseEmitter.class);
+        given(sseEmitterRepository.findAllByReceiverId(receiverA)).willReturn(new ArrayList<>(List.of(emitterA)));
+        given(sseEmitterRepository.findAllByReceiverId(receiverB)).willReturn(new ArrayList<>(List.of(emitterB)));
+
+        // when
+        sseService.sendEach("notifications.new", Map.of(receiverA, "a", receiverB, "b"));
+
+        // then
+        then(sseMessageRepository).should(org.mockito.Mockito.times(2)).save(any(SseMessage.class));
+        then(emitterA).should().send(any(SseEmitter.SseEventBuilder.class));
+        then(emitterB).should().send(any(SseEmitter.SseEventBuilder.class));
+        then(sseMetrics).should().recordFanOut("notifications.new", 2);
     }
 
     @Test
@@ -100,6 +128,8 @@ public class BasicSseServiceTest {
         then(successEmitter).should().send(any(SseEmitter.SseEventBuilder.class));
         then(failingEmitter).should().send(any(SseEmitter.SseEventBuilder.class));
         assertThat(data.get(failReceiver)).isEmpty();
+        then(sseMetrics).should().sendFailed("message.updated");
+        then(sseMetrics).should().disconnected("basic", SseMetrics.REASON_SEND_FAILURE);
     }
 
     @Test
@@ -27,12 +27,14 @@ import com.sprint.mission.discodeit.exception.user.UserEmailAlreadyExistsExcepti
 import com.sprint.mission.discodeit.exception.user.UserNameAlreadyExistsException;
 import com.sprint.mission.discodeit.exception.user.UserNotFoundException;
 import com.sprint.mission.discodeit.mapper.UserMapper;
+import com.sprint.mission.discodeit.redis.NotificationPageCache;
 import com.sprint.mission.discodeit.repository.BinaryContentRepository;
 import com.sprint.mission.discodeit.repository.UserRepository;
 import com.sprint.mission.discodeit.service.basic.BasicUserService;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DisplayName;
@@ -60,6 +62,8 @@ public class BasicUserServiceTest {
     @Mock private UserSessionService userSessionService;
     @Mock private CacheManager cacheManager;
     @Mock private SseService sseService;
+    @Mock private NotificationPageCache notificationPageCache;
+    @Mock private DeletionPurgeService deletionPurgeService;
 
     @InjectMocks
     private BasicUserService userService;
@@ -216,19 +220,19 @@ public class BasicUserServiceTest {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(userSessionService.isUserOnline(userId)).willReturn(false);
         given(userMapper.toDto(user, false)).willReturn(dto);
-        given(userRepository.existsById(userId)).willReturn(true);
 
         willDoNothing().given(userSessionService).markUserOffline(userId);
         willDoNothing().given(sseService).broadcast(eq("users.deleted"), any());
-        willDoNothing().given(userRepository).deleteById(userId);
 
         // when
         userService.delete(userId);
 
-        // then
+        // then - 탈퇴 표시 후 연관 데이터 정리는 백그라운드로 넘긴다
         then(userRepository).should().findById(userId);
         then(userSessionService).should().markUserOffline(userId);
-        then(userRepository).should().deleteById(userId);
+        assertThat(user.getDeletedAt()).isNotNull();
+        then(deletionPurgeService).should().purgeUserAfterCommit(userId);
+        then(userRepository).should(never()).deleteById(any());
     }
 
     @Test
@@ -246,6 +250,7 @@ public class BasicUserServiceTest {
             .isInstanceOf(UserNotFoundException.class)
             .hasMessageContaining("유저를 찾을 수 없습니다.");
         then(userRepository).should(never()).deleteById(userId);
+        then(deletionPurgeService).shouldHaveNoInteractions();
     }
 
     @Test
@@ -316,8 +321,7 @@ public class BasicUserServiceTest {
         ReflectionTestUtils.setField(user2, "id", user2Id);
 
         given(userRepository.findAllWithProfileAndStatus()).willReturn(List.of(user1, user2));
-        given(userSessionService.isUserOnline(user1Id)).willReturn(true);
-        given(userSessionService.isUserOnline(user2Id)).willReturn(false);
+        given(userSessionService.getOnlineUsers(List.of(user1Id, user2Id))).willReturn(Set.of(user1Id));
 
         UserDto dto1 = new UserDto(user1Id, "kim", "kim@sprint.io", Role.USER, null, true);
         UserDto dto2 = new UserDto(user2Id, "lee", "lee@sprint.io", Role.USER, null, false);
@@ -402,9 +406,7 @@ public class BasicUserServiceTest {
     void clearUserRelatedCaches_shouldEvictChannelAndNotificationEntries() {
         // given
         Cache channelCache = mock(Cache.class);
-        Cache notificationCache = mock(Cache.class);
         given(cacheManager.getCache("userChannels")).willReturn(channelCache);
-        given(cacheManager.getCache("userNotifications")).willReturn(notificationCache);
 
         // when
         UUID userId = UUID.randomUUID();
@@ -412,7 +414,7 @@ public class BasicUserServiceTest {
 
         // then
         then(channelCache).should().evict(userId);
-        then(notificationCache).should().evict(userId);
+        then(notificationPageCache).should().evict(userId);
     }
 }
 
@@ -0,0 +1,168 @@
+package com.sprint.mission.discodeit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.entity.Channel;
+import com.sprint.mission.discodeit.repository.PurgeRepository;
+import com.sprint.mission.discodeit.storage.BinaryContentStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class DeletionPurgeServiceTest {
+
+    @Mock private PurgeRepository purgeRepository;
+    @Mock private BinaryContentStorage binaryContentStorage;
+    @Mock private EntityManagerFactory entityManagerFactory;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DeletionPurgeService deletionPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        deletionPurgeService = new DeletionPurgeService(purgeRepository, binaryContentStorage,
+            entityManagerFactory, transactionManager, new SyncTaskExecutor(), meterRegistry);
+        ReflectionTestUtils.setField(deletionPurgeService, "chunkSize", 2);
+        ReflectionTestUtils.setField(deletionPurgeService, "chunkPause", Duration.ZERO);
+        ReflectionTestUtils.setField(deletionPurgeService, "resumeAfter", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("채널 정리는 메시지를 청크 단위로 지우고, 읽음 상태를 지운 뒤 마지막에 채널 행을 삭제한다")
+    void purgeChannel_deletesInChunks() {
+        // given: 메시지 3건 ( 청크 2 + 1 ), 첫 청크에 첨부파일 1건
+        UUID channelId = UUID.randomUUID();
+        UUID m1 = UUID.randomUUID();
+        UUID m2 = UUID.randomUUID();
+        UUID m3 = UUID.randomUUID();
+        UUID attachmentId = UUID.randomUUID();
+        given(purgeRepository.findMessageIdsByChannelId(channelId, 2))
+            .willReturn(List.of(m1, m2))
+            .willReturn(List.of(m3))
+            .willReturn(List.of());
+        given(purgeRepository.findAttachmentIds(List.of(m1, m2))).willReturn(List.of(attachmentId));
+        given(purgeRepository.deleteMessages(List.of(m1, m2))).willReturn(2);
+        given(purgeRepository.deleteMessages(List.of(m3))).willReturn(1);
+        given(purgeRepository.deleteBinaryContents(List.of(attachmentId))).willReturn(1);
+        given(purgeRepository.deleteReadStatusesByChannelId(channelId, 2)).willReturn(2, 0);
+
+        // when
+        deletionPurgeService.purgeChannel(channelId);
+
+        // then
+        InOrder inOrder = inOrder(purgeRepository, binaryContentStorage);
+        inOrder.verify(purgeRepository).deleteMessages(List.of(m1, m2));
+        inOrder.verify(purgeRepository).deleteBinaryContents(List.of(attachmentId));
+        inOrder.verify(binaryContentStorage).deleteAll(List.of(attachmentId));
+        inOrder.verify(purgeRepository).deleteMessages(List.of(m3));
+        inOrder.verify(purgeRepository).deleteChannel(channelId);
+        then(binaryContentStorage).should().deleteAll(anyCollection());
+
+        assertThat(rows(DeletionPurgeService.TARGET_CHANNEL, "messages")).isEqualTo(3);
+        assertThat(rows(DeletionPurgeService.TARGET_CHANNEL, "binary_contents")).isEqualTo(1);
+        assertThat(rows(DeletionPurgeService.TARGET_CHANNEL, "read_statuses")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장소 파일 삭제가 실패하면 채널 행을 남겨 다음 주기에 다시 정리한다")
+    void purgeChannel_keepsChannelWhenStorageFails() {
+        // given
+        UUID channelId = UUID.randomUUID();
+        UUID messageId = UUID.randomUUID();
+        UUID attachmentId = UUID.randomUUID();
+        given(purgeRepository.findMessageIdsByChannelId(channelId, 2)).willReturn(List.of(messageId));
+        given(purgeRepository.findAttachmentIds(List.of(messageId))).willReturn(List.of(attachmentId));
+        willThrow(new RuntimeException("storage down")).given(binaryContentStorage).deleteAll(any());
+
+        // when
+        deletionPurgeService.purgeChannel(channelId);
+
+        // then
+        then(purgeRepository).should(never()).deleteChannel(any());
+        then(transactionManager).should().rollback(any());
+        assertThat(meterRegistry.get("purge.active").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자 정리는 작성 메시지의 작성자를 비우고 읽음 상태, 사용자, 프로필 순으로 지운다")
+    void purgeUser_detachesMessagesThenDeletesUser() {
+        // given
+        UUID userId = UUID.randomUUID();
+        UUID profileId = UUID.randomUUID();
+        given(purgeRepository.detachMessagesFromAuthor(userId, 2)).willReturn(2, 1, 0);
+        given(purgeRepository.deleteReadStatusesByUserId(userId, 2)).willReturn(1, 0);
+        given(purgeRepository.findProfileId(userId)).willReturn(profileId);
+
+        // when
+        deletionPurgeService.purgeUser(userId);
+
+        // then
+        InOrder inOrder = inOrder(purgeRepository, binaryContentStorage);
+        inOrder.verify(purgeRepository).deleteUser(userId);
+        inOrder.verify(purgeRepository).deleteBinaryContents(List.of(profileId));
+        inOrder.verify(binaryContentStorage).deleteAll(List.of(profileId));
+        assertThat(rows(DeletionPurgeService.TARGET_USER, "messages")).isEqualTo(3);
+        assertThat(rows(DeletionPurgeService.TARGET_USER, "read_statuses")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 요청하면 2차 캐시에서 채널을 지우고 바로 정리한다")
+    void purgeChannelAfterCommit_outsideTransaction() {
+        // given
+        UUID channelId = UUID.randomUUID();
+        Cache cache = mock(Cache.class);
+        given(entityManagerFactory.getCache()).willReturn(cache);
+
+        // when
+        deletionPurgeService.purgeChannelAfterCommit(channelId);
+
+        // then
+        then(cache).should().evict(Channel.class, channelId);
+        then(purgeRepository).should().findMessageIdsByChannelId(channelId, 2);
+        then(purgeRepository).should().deleteChannel(channelId);
+    }
+
+    @Test
+    @DisplayName("삭제 표시 후 resume-after 가 지난 대상을 찾아 이어서 정리한다")
+    void resumePending_purgesLeftovers() {
+        // given
+        UUID channelId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        given(purgeRepository.findDeletedChannelIds(any())).willReturn(List.of(channelId));
+        given(purgeRepository.findDeletedUserIds(any())).willReturn(List.of(userId));
+
+        // when
+        deletionPurgeService.resumePending();
+
+        // then
+        then(purgeRepository).should().deleteChannel(channelId);
+        then(purgeRepository).should().deleteUser(userId);
+    }
+
+    private double rows(String target, String table) {
+        return meterRegistry.get("purge.rows").tag("target", target).tag("table", table).counter().count();
+    }
+}
@@ -0,0 +1,101 @@
+package com.sprint.mission.discodeit.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.sprint.mission.discodeit.repository.NotificationPartitionRepository;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPartitionManagerTest {
+
+    @Mock private NotificationPartitionRepository notificationPartitionRepository;
+    @InjectMocks private NotificationPartitionManager notificationPartitionManager;
+
+    private final YearMonth current = YearMonth.of(2026, 10);
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(notificationPartitionManager, "monthsAhead", 2);
+        ReflectionTestUtils.setField(notificationPartitionManager, "retentionMonths", 3);
+    }
+
+    @Test
+    @DisplayName("이번 달부터 months-ahead 개월 뒤까지 없는 파티션만 생성한다")
+    void maintain_createsMissingPartitions() {
+        // given
+        given(notificationPartitionRepository.tryMaintenanceLock()).willReturn(true);
+        given(notificationPartitionRepository.findPartitionMonths())
+            .willReturn(List.of(YearMonth.of(2026, 10)));
+
+        // when
+        notificationPartitionManager.maintain(current);
+
+        // then
+        then(notificationPartitionRepository).should(never()).createPartition(YearMonth.of(2026, 10));
+        then(notificationPartitionRepository).should().createPartition(YearMonth.of(2026, 11));
+        then(notificationPartitionRepository).should().createPartition(YearMonth.of(2026, 12));
+        then(notificationPartitionRepository).should(never()).dropPartition(any());
+    }
+
+    @Test
+    @DisplayName("보존 기간이 완전히 지난 월 파티션만 삭제한다")
+    void maintain_dropsExpiredPartitions() {
+        // given: 보존 3개월이면 2026-07 이후는 유지
+        given(notificationPartitionRepository.tryMaintenanceLock()).willReturn(true);
+        given(notificationPartitionRepository.findPartitionMonths()).willReturn(List.of(
+            YearMonth.of(2026, 5), YearMonth.of(2026, 6), YearMonth.of(2026, 7),
+            YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12)));
+
+        // when
+        notificationPartitionManager.maintain(current);
+
+        // then
+        then(notificationPartitionRepository).should().dropPartition(YearMonth.of(2026, 5));
+        then(notificationPartitionRepository).should().dropPartition(YearMonth.of(2026, 6));
+        then(notificationPartitionRepository).should(never()).dropPartition(YearMonth.of(2026, 7));
+        then(notificationPartitionRepository).should(never()).createPartition(any());
+    }
+
+    @Test
+    @DisplayName("보존 기간이 0 ( 기본값 ) 이면 오래된 파티션도 삭제하지 않는다")
+    void maintain_retentionDisabled() {
+        // given
+        ReflectionTestUtils.setField(notificationPartitionManager, "retentionMonths", 0);
+        given(notificationPartitionRepository.tryMaintenanceLock()).willReturn(true);
+        given(notificationPartitionRepository.findPartitionMonths()).willReturn(List.of(
+            YearMonth.of(2025, 1), YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12)));
+
+        // when
+        notificationPartitionManager.maintain(current);
+
+        // then
+        then(notificationPartitionRepository).should(never()).dropPartition(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 유지보수 락을 잡고 있으면 아무것도 하지 않는다")
+    void maintain_lockNotAcquired() {
+        // given
+        given(notificationPartitionRepository.tryMaintenanceLock()).willReturn(false);
+
+        // when
+        notificationPartitionManager.maintain(current);
+
+        // then
+        then(notificationPartitionRepository).should(never()).findPartitionMonths();
+        then(notificationPartitionRepository).should(never()).createPartition(any());
+        then(notificationPartitionRepository).should(never()).dropPartition(any());
+    }
+}
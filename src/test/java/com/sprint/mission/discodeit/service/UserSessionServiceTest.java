@@ -0,0 +1,267 @@
+package com.sprint.mission.discodeit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.sprint.mission.discodeit.event.message.UserPresenceChangedEvent;
+import com.sprint.mission.discodeit.util.UuidLongMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class UserSessionServiceTest {
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    @SuppressWarnings("unchecked")
+    private UserSessionService service(StringRedisTemplate redisTemplate) {
+        ObjectProvider<StringRedisTemplate> provider = mock(ObjectProvider.class);
+        given(provider.getIfAvailable()).willReturn(redisTemplate);
+        return new UserSessionService(provider, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Redis 가 없으면 첫 활동에만 온라인 이벤트를 발행하고 로컬 상태로 응답한다")
+    void local_onlineOnceAndAnswerLocally() {
+        // given
+        UserSessionService service = service(null);
+        UUID userId = UUID.randomUUID();
+
+        // when
+        service.markUserOnline(userId);
+        service.markUserOnline(userId);
+
+        // then
+        assertThat(service.isUserOnline(userId)).isTrue();
+        assertThat(service.getOnlineUsers(List.of(userId, UUID.randomUUID()))).containsExactly(userId);
+        then(eventPublisher).should(times(1)).publishEvent(any(UserPresenceChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Redis 가 없으면 만료 정리 시 오프라인 이벤트를 발행한다")
+    void local_expiredSessionPublishesOffline() {
+        // given
+        UserSessionService service = service(null);
+        ReflectionTestUtils.setField(service, "sessionTimeout", Duration.ZERO);
+        UUID userId = UUID.randomUUID();
+        service.markUserOnline(userId);
+
+        // when
+        service.cleanExpiredSessions();
+
+        // then
+        assertThat(service.isUserOnline(userId)).isFalse();
+        then(eventPublisher).should().publishEvent(argThat((Object event) ->
+            event instanceof UserPresenceChangedEvent changed
+                && changed.userId().equals(userId) && !changed.online()));
+    }
+
+    @Test
+    @DisplayName("Redis 모드에서는 활동을 버퍼에 모았다가 flush 때 한 번만 ZADD 하고, 새로 추가된 사용자만 온라인 이벤트")
+    void redis_flushBatchesWrites() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        UserSessionService service = service(redisTemplate);
+        UUID userId = UUID.randomUUID();
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(List.of(true, true));
+
+        // when
+        service.markUserOnline(userId);
+        service.markUserOnline(userId);
+        service.flushPresence();
+        service.flushPresence();
+
+        // then
+        then(redisTemplate).should(times(1)).executePipelined(any(RedisCallback.class));
+        then(eventPublisher).should().publishEvent(argThat((Object event) ->
+            event instanceof UserPresenceChangedEvent changed
+                && changed.userId().equals(userId) && changed.online()));
+    }
+
+    @Test
+    @DisplayName("Redis 반영에 실패하면 다음 주기에 다시 올린다")
+    void redis_flushFailureRetries() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        UserSessionService service = service(redisTemplate);
+        service.markUserOnline(UUID.randomUUID());
+        given(redisTemplate.executePipelined(any(RedisCallback.class)))
+            .willThrow(new IllegalStateException("down"))
+            .willReturn(List.of(false, true));
+
+        // when
+        service.flushPresence();
+        service.flushPresence();
+
+        // then
+        then(redisTemplate).should(times(2)).executePipelined(any(RedisCallback.class));
+        then(eventPublisher).should(never()).publishEvent(any(UserPresenceChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 활동한 사용자는 Redis score 로 온라인을 판단한다")
+    @SuppressWarnings("unchecked")
+    void redis_isUserOnlineFromSortedSet() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        UserSessionService service = service(redisTemplate);
+        UUID recent = UUID.randomUUID();
+        UUID stale = UUID.randomUUID();
+        given(zSetOperations.score(UserSessionService.PRESENCE_KEY, recent.toString()))
+            .willReturn((double) System.currentTimeMillis());
+        given(zSetOperations.score(UserSessionService.PRESENCE_KEY, stale.toString()))
+            .willReturn((double) (System.currentTimeMillis() - Duration.ofHours(1).toMillis()));
+
+        // when & then
+        assertThat(service.isUserOnline(recent)).isTrue();
+        assertThat(service.isUserOnline(stale)).isFalse();
+    }
+
+    @Test
+    @DisplayName("명시적 오프라인은 ZREM 으로 실제 제거한 경우에만 이벤트를 발행한다")
+    @SuppressWarnings("unchecked")
+    void redis_markOfflineRemovesMember() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        UserSessionService service = service(redisTemplate);
+        UUID removed = UUID.randomUUID();
+        UUID absent = UUID.randomUUID();
+        given(zSetOperations.remove(UserSessionService.PRESENCE_KEY, removed.toString())).willReturn(1L);
+        given(zSetOperations.remove(UserSessionService.PRESENCE_KEY, absent.toString())).willReturn(0L);
+
+        // when
+        service.markUserOffline(removed);
+        service.markUserOffline(absent);
+
+        // then
+        then(eventPublisher).should(times(1)).publishEvent(any(UserPresenceChangedEvent.class));
+        assertThat(service.getOnlineUsers(Set.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그아웃은 모든 노드에 알리고, 통지를 받은 노드는 로컬 상태를 비워 다시 ZADD 하지 않는다")
+    @SuppressWarnings("unchecked")
+    void redis_logoutClearsOtherNodes() {
+        // given : 사용자가 다른 노드 ( other ) 에서 활동했고 아직 flush 전이다
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        UserSessionService node = service(redisTemplate);
+        UserSessionService other = service(redisTemplate);
+        UUID userId = UUID.randomUUID();
+        other.markUserOnline(userId);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+
+        // when
+        node.markUserOffline(userId);
+        then(redisTemplate).should().convertAndSend(eq(UserSessionService.OFFLINE_TOPIC), message.capture());
+        other.onOfflineMessage(message.getValue());
+        other.flushPresence();
+
+        // then : 로컬 상태로 온라인이라 답하지 않고, Redis 에 다시 올리지도 않는다
+        assertThat(other.isUserOnline(userId)).isFalse();
+        then(redisTemplate).should(never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("로그아웃 통지보다 늦게 다시 활동한 사용자는 온라인으로 남는다")
+    void redis_activityAfterLogoutIsKept() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        UserSessionService service = service(redisTemplate);
+        UUID userId = UUID.randomUUID();
+        service.markUserOnline(userId);
+
+        // when
+        service.onOfflineMessage(userId + ":" + (lastActivity(service, userId) - 1));
+
+        // then
+        assertThat(service.isUserOnline(userId)).isTrue();
+        then(redisTemplate).should(never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("마지막 기록이 touch 간격 이내면 활동 시각을 다시 쓰지 않는다")
+    void touch_isThrottledByGranularity() throws Exception {
+        // given
+        UserSessionService service = service(null);
+        UUID userId = UUID.randomUUID();
+        service.markUserOnline(userId);
+        long recorded = lastActivity(service, userId);
+        Thread.sleep(5);
+
+        // when
+        service.markUserOnline(userId);
+        long throttled = lastActivity(service, userId);
+        ReflectionTestUtils.setField(service, "touchGranularity", Duration.ZERO);
+        service.markUserOnline(userId);
+
+        // then
+        assertThat(throttled).isEqualTo(recorded);
+        assertThat(lastActivity(service, userId)).isGreaterThan(recorded);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 첫 활동 중 하나만 기록되어 온라인 이벤트가 한 번 발행된다")
+    void touch_concurrentFirstActivityRecordedOnce() throws Exception {
+        // given
+        UserSessionService service = service(null);
+        UUID userId = UUID.randomUUID();
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                service.markUserOnline(userId);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        then(eventPublisher).should(times(1)).publishEvent(any(UserPresenceChangedEvent.class));
+    }
+
+    private static long lastActivity(UserSessionService service, UUID userId) {
+        UuidLongMap sessions = (UuidLongMap) ReflectionTestUtils.getField(service, "activeSessions");
+        return sessions.get(userId);
+    }
+}
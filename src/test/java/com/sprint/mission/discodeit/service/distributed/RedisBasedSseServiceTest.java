@@ -6,16 +6,21 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sprint.mission.discodeit.metrics.SseMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -28,11 +33,14 @@ class RedisBasedSseServiceTest {
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SseMetrics sseMetrics = new SseMetrics(meterRegistry);
+
     private RedisBasedSseService redisBasedSseService;
 
     @BeforeEach
     void setUp() {
-        redisBasedSseService = new RedisBasedSseService(redisTemplate, new ObjectMapper());
+        redisBasedSseService = new RedisBasedSseService(redisTemplate, new ObjectMapper(), sseMetrics);
     }
 
 
@@ -54,7 +62,7 @@ class RedisBasedSseServiceTest {
     @DisplayName("send 호출 시 Redis targeted 채널로 메시지를 publish 한다")
     void send_publishesTargetedChannel() {
         // given
-        RedisBasedSseService service = new RedisBasedSseService(redisTemplate, new ObjectMapper());
+        RedisBasedSseService service = new RedisBasedSseService(redisTemplate, new ObjectMapper(), sseMetrics);
 
         // when
         service.send(List.of(UUID.randomUUID()), "notifications.new", "payload");
@@ -64,6 +72,50 @@ class RedisBasedSseServiceTest {
             .convertAndSend(eq("sse:targeted"), any(RedisBasedSseService.SseMessage.class));
     }
 
+    @Test
+    @DisplayName("sendEach는 수신자 수와 무관하게 수신자별 데이터를 담아 한 번만 publish 한다")
+    void sendEach_singlePublish() {
+        // given
+        UUID receiverA = UUID.randomUUID();
+        UUID receiverB = UUID.randomUUID();
+
+        // when
+        redisBasedSseService.sendEach("notifications.new", Map.of(receiverA, "a", receiverB, "b"));
+
+        // then
+        ArgumentCaptor<RedisBasedSseService.SseMessage> captor =
+            ArgumentCaptor.forClass(RedisBasedSseService.SseMessage.class);
+        then(redisTemplate).should(times(1)).convertAndSend(eq("sse:targeted"), captor.capture());
+        assertThat(captor.getValue().getTargetUsers()).containsExactlyInAnyOrder(receiverA, receiverB);
+        assertThat(captor.getValue().getPayloads())
+            .containsEntry(receiverA, "a")
+            .containsEntry(receiverB, "b");
+    }
+
+    @Test
+    @DisplayName("수신자별 데이터가 있으면 handleTargetedMessage는 각 사용자에게 자기 데이터를 전달한다")
+    void handleTargetedMessage_perReceiverPayload() throws Exception {
+        // given
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<UUID, SseEmitter> connections =
+            (ConcurrentMap<UUID, SseEmitter>) ReflectionTestUtils.getField(
+                redisBasedSseService, "localConnections");
+        UUID userId = UUID.randomUUID();
+        SseEmitter emitter = mock(SseEmitter.class);
+        connections.put(userId, emitter);
+
+        RedisBasedSseService.SseMessage message =
+            new RedisBasedSseService.SseMessage(List.of(userId, UUID.randomUUID()), "notifications.new", null);
+        message.setPayloads(Map.of(userId, "mine"));
+
+        // when
+        redisBasedSseService.handleTargetedMessage(message);
+
+        // then
+        then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+        assertThat(meterRegistry.get(SseMetrics.FANOUT_SIZE).summary().totalAmount()).isEqualTo(1.0);
+    }
+
     @Test
     @DisplayName("브로드캐스트 요청은 Redis broadcast 채널로 publish 된다")
     void broadcast_브로드캐스트발행() {
@@ -107,7 +159,7 @@ class RedisBasedSseServiceTest {
     @DisplayName("handleBroadcastMessage는 등록된 emitter 모두에 데이터를 전달한다")
     void handleBroadcastMessage_deliversToEmitters() throws Exception {
         // given
-        RedisBasedSseService service = new RedisBasedSseService(redisTemplate, new ObjectMapper());
+        RedisBasedSseService service = new RedisBasedSseService(redisTemplate, new ObjectMapper(), sseMetrics);
         UUID userId = UUID.randomUUID();
         SseEmitter emitter = mock(SseEmitter.class);
         @SuppressWarnings("unchecked")
@@ -166,7 +218,7 @@ class RedisBasedSseServiceTest {
     @DisplayName("handleTargetedMessage에서 send가 실패하면 해당 emitter를 제거한다")
     void handleTargetedMessage_removesFailingEmitter() throws Exception {
         // given: Exception을 던지는 emitter 등록
-        RedisBasedSseService service = new RedisBasedSseService(redisTemplate, new ObjectMapper());
+        RedisBasedSseService service = new RedisBasedSseService(redisTemplate, new ObjectMapper(), sseMetrics);
         UUID userId = UUID.randomUUID();
         SseEmitter failingEmitter = mock(SseEmitter.class);
         doThrow(new IOException("boom"))
@@ -186,6 +238,32 @@ class RedisBasedSseServiceTest {
         assertThat(connections).doesNotContainKey(userId);
     }
 
+    @Test
+    @DisplayName("전송 실패와 연결 종료 사유가 지표로 집계된다")
+    void handleTargetedMessage_recordsFailureMetrics() {
+        // given: 실패 emitter 하나와 정상 emitter 하나
+        @SuppressWarnings("unchecked")
+        ConcurrentMap<UUID, SseEmitter> connections =
+            (ConcurrentMap<UUID, SseEmitter>) ReflectionTestUtils.getField(
+                redisBasedSseService, "localConnections");
+        UUID okUser = UUID.randomUUID();
+        UUID failUser = UUID.randomUUID();
+        connections.put(okUser, new RecordingEmitter());
+        connections.put(failUser, new FailingEmitter());
+
+        // when
+        redisBasedSseService.handleTargetedMessage(
+            new RedisBasedSseService.SseMessage(List.of(okUser, failUser), "notifications.new", "body"));
+
+        // then
+        assertThat(meterRegistry.get(SseMetrics.SEND_FAILURES).tag("event", "notifications.new")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(SseMetrics.DISCONNECTS).tag("reason", SseMetrics.REASON_SEND_FAILURE)
+            .counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get(SseMetrics.SEND_LATENCY).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(SseMetrics.FANOUT_SIZE).summary().totalAmount()).isEqualTo(2.0);
+    }
+
     private static class RecordingEmitter extends SseEmitter {
         boolean invoked = false;
 
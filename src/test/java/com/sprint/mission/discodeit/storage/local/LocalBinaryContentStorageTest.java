@@ -7,7 +7,9 @@ import com.sprint.mission.discodeit.dto.data.BinaryContentDto;
 import com.sprint.mission.discodeit.entity.BinaryContentStatus;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -87,4 +89,21 @@ public class LocalBinaryContentStorageTest {
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getInputStream().readAllBytes()).isEqualTo(payload);
     }
+
+    @Test
+    @DisplayName("deleteAll은 파일을 지우고, 없는 키는 무시한다")
+    void deleteAll_removesFilesAndIgnoresMissing() throws Exception {
+        // given: 파일 하나만 존재
+        UUID stored = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        Files.write(tempDir.resolve(stored.toString()), "bytes".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        storage.deleteAll(List.of(stored, missing));
+
+        // then
+        assertThat(tempDir.resolve(stored.toString())).doesNotExist();
+        assertThatThrownBy(() -> storage.get(stored))
+            .isInstanceOf(NoSuchElementException.class);
+    }
 }
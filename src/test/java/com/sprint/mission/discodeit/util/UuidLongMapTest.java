@@ -0,0 +1,170 @@
+package com.sprint.mission.discodeit.util;
+
+import static com.sprint.mission.discodeit.util.UuidLongMap.NO_VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidLongMapTest {
+
+    @Test
+    @DisplayName("없는 키는 NO_VALUE 를 반환하고, put / remove 는 이전 값을 반환한다")
+    void putGetRemove() {
+        // given
+        UuidLongMap map = new UuidLongMap();
+        UUID userId = UUID.randomUUID();
+
+        // when
+        long absent = map.get(userId);
+        long first = map.put(userId, 10L);
+        long second = map.put(userId, 20L);
+
+        // then
+        assertThat(absent).isEqualTo(NO_VALUE);
+        assertThat(first).isEqualTo(NO_VALUE);
+        assertThat(second).isEqualTo(10L);
+        assertThat(map.get(userId)).isEqualTo(20L);
+        assertThat(map.remove(userId)).isEqualTo(20L);
+        assertThat(map.containsKey(userId)).isFalse();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("NO_VALUE 는 값으로 저장할 수 없다")
+    void rejectsSentinel() {
+        UuidLongMap map = new UuidLongMap();
+
+        assertThatThrownBy(() -> map.put(UUID.randomUUID(), NO_VALUE))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("compareAndSet 은 현재 값이 기대값일 때만 바꾸고, NO_VALUE 기대는 키가 없을 때만 추가한다")
+    void compareAndSet() {
+        // given
+        UuidLongMap map = new UuidLongMap();
+        UUID userId = UUID.randomUUID();
+
+        // when & then
+        assertThat(map.compareAndSet(userId, NO_VALUE, 1L)).isTrue();
+        assertThat(map.compareAndSet(userId, NO_VALUE, 2L)).isFalse();
+        assertThat(map.compareAndSet(userId, 5L, 2L)).isFalse();
+        assertThat(map.compareAndSet(userId, 1L, 2L)).isTrue();
+        assertThat(map.get(userId)).isEqualTo(2L);
+        assertThat(map.remove(userId, 1L)).isFalse();
+        assertThat(map.remove(userId, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("리사이즈와 삭제가 섞여도 HashMap 과 같은 결과를 낸다")
+    void matchesHashMapUnderRandomOperations() {
+        // given
+        UuidLongMap map = new UuidLongMap(1);
+        Map<UUID, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+        UUID[] keys = new UUID[2_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID();
+        }
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            UUID key = keys[random.nextInt(keys.length)];
+            long value = random.nextInt(1_000);
+            if (random.nextBoolean()) {
+                Long previous = expected.put(key, value);
+                assertThat(map.put(key, value)).isEqualTo(previous == null ? NO_VALUE : previous);
+            } else {
+                Long previous = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(previous == null ? NO_VALUE : previous);
+            }
+        }
+
+        // then
+        Map<UUID, Long> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("removeIf 는 조건에 맞는 엔트리만 제거하고 개수를 반환한다")
+    void removeIf() {
+        // given
+        UuidLongMap map = new UuidLongMap();
+        for (int i = 0; i < 100; i++) {
+            map.put(UUID.randomUUID(), i);
+        }
+
+        // when
+        int removed = map.removeIf((key, value) -> value % 2 == 0);
+
+        // then
+        assertThat(removed).isEqualTo(50);
+        assertThat(map.size()).isEqualTo(50);
+        map.forEach((key, value) -> assertThat(value % 2).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키에 compareAndSet 으로 증가시켜도 갱신이 유실되지 않는다")
+    void concurrentCompareAndSet() throws Exception {
+        // given
+        UuidLongMap map = new UuidLongMap();
+        List<UUID> keys = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            keys.add(UUID.randomUUID());
+        }
+        int threads = 8;
+        int increments = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger inserts = new AtomicInteger();
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < increments; i++) {
+                    for (UUID key : keys) {
+                        while (true) {
+                            long current = map.get(key);
+                            long next = current == NO_VALUE ? 1 : current + 1;
+                            if (map.compareAndSet(key, current, next)) {
+                                if (current == NO_VALUE) {
+                                    inserts.incrementAndGet();
+                                }
+                                break;
+                            }
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(inserts.get()).isEqualTo(keys.size());
+        keys.forEach(key -> assertThat(map.get(key)).isEqualTo((long) threads * increments));
+    }
+}
@@ -0,0 +1,151 @@
+package com.sprint.mission.discodeit.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConcurrentHashMap 대비 UUID 전용 맵의 엔트리당 메모리 / 조회 / 갱신 시간 비교
+ * ./gradlew benchmark 로 실행 ( 기본 test 태스크에서는 제외 )
+ */
+@Tag("benchmark")
+class UuidMapBenchmark {
+
+    private static final int ENTRIES = 200_000;
+    private static final int ROUNDS = 5;
+
+    private static UUID[] keys() {
+        UUID[] keys = new UUID[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            keys[i] = UUID.randomUUID();
+        }
+        return keys;
+    }
+
+    @Test
+    @DisplayName("활동 시각 맵 : UuidLongMap 이 ConcurrentHashMap<UUID, AtomicLong> 보다 엔트리당 메모리가 작다")
+    void presenceMap() {
+        UUID[] keys = keys();
+
+        long chmBytes = retainedBytes(() -> {
+            Map<UUID, AtomicLong> map = new ConcurrentHashMap<>();
+            for (UUID key : keys) {
+                // 실제 요청의 키는 매번 새로 파싱된 UUID 이므로 키 객체도 맵이 붙잡는다
+                map.put(new UUID(key.getMostSignificantBits(), key.getLeastSignificantBits()), new AtomicLong(1L));
+            }
+            return map;
+        });
+        long longMapBytes = retainedBytes(() -> {
+            UuidLongMap map = new UuidLongMap();
+            for (UUID key : keys) {
+                map.put(key, 1L);
+            }
+            return map;
+        });
+
+        Map<UUID, AtomicLong> chm = new ConcurrentHashMap<>();
+        UuidLongMap longMap = new UuidLongMap();
+        for (UUID key : keys) {
+            chm.put(key, new AtomicLong(1L));
+            longMap.put(key, 1L);
+        }
+        long chmTouch = nanosPerOp(keys, key -> {
+            AtomicLong slot = chm.get(key);
+            long previous = slot.get();
+            slot.compareAndSet(previous, previous + 1);
+        });
+        long longMapTouch = nanosPerOp(keys, key -> {
+            long previous = longMap.get(key);
+            longMap.compareAndSet(key, previous, previous + 1);
+        });
+        long chmGet = nanosPerOp(keys, chm::get);
+        long longMapGet = nanosPerOp(keys, longMap::get);
+
+        System.out.printf("presence  chm=%5.1f B/entry get=%4d ns touch=%4d ns | uuidLongMap=%5.1f B/entry get=%4d ns touch=%4d ns%n",
+            (double) chmBytes / ENTRIES, chmGet, chmTouch, (double) longMapBytes / ENTRIES, longMapGet, longMapTouch);
+
+        assertThat(longMapBytes).isLessThan(chmBytes);
+    }
+
+    @Test
+    @DisplayName("연결 레지스트리 : UuidObjectMap 이 ConcurrentHashMap<UUID, V> 보다 엔트리당 메모리가 작다")
+    void connectionMap() {
+        UUID[] keys = keys();
+        Object connection = new Object();
+
+        long chmBytes = retainedBytes(() -> {
+            Map<UUID, Object> map = new ConcurrentHashMap<>();
+            for (UUID key : keys) {
+                map.put(new UUID(key.getMostSignificantBits(), key.getLeastSignificantBits()), connection);
+            }
+            return map;
+        });
+        long objectMapBytes = retainedBytes(() -> {
+            Map<UUID, Object> map = new UuidObjectMap<>();
+            for (UUID key : keys) {
+                map.put(key, connection);
+            }
+            return map;
+        });
+
+        Map<UUID, Object> chm = new ConcurrentHashMap<>();
+        Map<UUID, Object> objectMap = new UuidObjectMap<>();
+        for (UUID key : keys) {
+            chm.put(key, connection);
+            objectMap.put(key, connection);
+        }
+        long chmGet = nanosPerOp(keys, chm::get);
+        long objectMapGet = nanosPerOp(keys, objectMap::get);
+        long chmPut = nanosPerOp(keys, key -> chm.put(key, connection));
+        long objectMapPut = nanosPerOp(keys, key -> objectMap.put(key, connection));
+
+        System.out.printf("registry  chm=%5.1f B/entry get=%4d ns put=%4d ns | uuidObjectMap=%5.1f B/entry get=%4d ns put=%4d ns%n",
+            (double) chmBytes / ENTRIES, chmGet, chmPut, (double) objectMapBytes / ENTRIES, objectMapGet, objectMapPut);
+
+        assertThat(objectMapBytes).isLessThan(chmBytes);
+    }
+
+    // 생성한 맵이 붙잡고 있는 힙 크기 ( GC 후 사용량 차이, 대략값 )
+    private static long retainedBytes(Supplier<Object> factory) {
+        Runtime runtime = Runtime.getRuntime();
+        settle(runtime);
+        long before = runtime.totalMemory() - runtime.freeMemory();
+        Object retained = factory.get();
+        settle(runtime);
+        long after = runtime.totalMemory() - runtime.freeMemory();
+        assertThat(retained).isNotNull();
+        return after - before;
+    }
+
+    private static void settle(Runtime runtime) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static long nanosPerOp(UUID[] keys, Consumer<UUID> operation) {
+        for (int round = 0; round < ROUNDS; round++) {
+            for (UUID key : keys) {
+                operation.accept(key);
+            }
+        }
+        long start = System.nanoTime();
+        for (UUID key : keys) {
+            operation.accept(key);
+        }
+        return (System.nanoTime() - start) / keys.length;
+    }
+}
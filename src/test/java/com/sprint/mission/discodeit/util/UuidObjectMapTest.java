@@ -0,0 +1,124 @@
+package com.sprint.mission.discodeit.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidObjectMapTest {
+
+    @Test
+    @DisplayName("ConcurrentMap 의 조건부 연산이 ConcurrentHashMap 과 같은 의미로 동작한다")
+    void conditionalOperations() {
+        // given
+        ConcurrentMap<UUID, String> map = new UuidObjectMap<>();
+        UUID key = UUID.randomUUID();
+
+        // when & then
+        assertThat(map.putIfAbsent(key, "a")).isNull();
+        assertThat(map.putIfAbsent(key, "b")).isEqualTo("a");
+        assertThat(map.replace(key, "x", "c")).isFalse();
+        assertThat(map.replace(key, "a", "c")).isTrue();
+        assertThat(map.remove(key, "a")).isFalse();
+        assertThat(map.computeIfPresent(key, (k, v) -> v + "d")).isEqualTo("cd");
+        assertThat(map.merge(key, "e", String::concat)).isEqualTo("cde");
+        assertThat(map.compute(key, (k, v) -> null)).isNull();
+        assertThat(map.containsKey(key)).isFalse();
+        assertThat(map.computeIfAbsent(key, k -> "f")).isEqualTo("f");
+        assertThat(map.get(key.toString())).isNull();
+        assertThat(map).containsOnly(Map.entry(key, "f"));
+    }
+
+    @Test
+    @DisplayName("리사이즈와 삭제가 섞여도 HashMap 과 같은 결과를 낸다")
+    void matchesHashMapUnderRandomOperations() {
+        // given
+        UuidObjectMap<Integer> map = new UuidObjectMap<>(1);
+        Map<UUID, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+        UUID[] keys = new UUID[2_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = UUID.randomUUID();
+        }
+
+        // when
+        for (int i = 0; i < 200_000; i++) {
+            UUID key = keys[random.nextInt(keys.length)];
+            if (random.nextBoolean()) {
+                int value = random.nextInt(1_000);
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        // then
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.size()).isEqualTo(expected.size());
+    }
+
+    @Test
+    @DisplayName("순회 중 맵을 수정해도 예외 없이 스냅샷 기준으로 순회한다")
+    void iterationToleratesModification() {
+        // given
+        UuidObjectMap<Integer> map = new UuidObjectMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(UUID.randomUUID(), i);
+        }
+
+        // when
+        map.forEach((key, value) -> map.put(UUID.randomUUID(), value));
+        int afterForEach = map.size();
+        map.entrySet().removeIf(entry -> entry.getValue() % 2 == 0);
+
+        // then ( 아직 방문하지 않은 세그먼트에 추가된 엔트리는 다시 방문될 수 있다 )
+        assertThat(afterForEach).isGreaterThanOrEqualTo(200);
+        assertThat(map).isNotEmpty();
+        assertThat(map.values()).allMatch(value -> value % 2 == 1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 compute 로 같은 키를 갱신해도 갱신이 유실되지 않는다")
+    void concurrentCompute() throws Exception {
+        // given
+        UuidObjectMap<Integer> map = new UuidObjectMap<>();
+        UUID key = UUID.randomUUID();
+        int threads = 8;
+        int increments = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < increments; i++) {
+                    map.merge(key, 1, Integer::sum);
+                    map.get(key);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(map.get(key)).isEqualTo(threads * increments);
+    }
+}
@@ -0,0 +1,169 @@
+package com.sprint.mission.discodeit.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 랜덤 UUIDv4 대비 UUIDv7 PK 의 INSERT 처리량 / 인덱스 크기 비교
+ * ./gradlew benchmark 로 실행 ( 기본 test 태스크에서는 제외 )
+ */
+@Tag("benchmark")
+class UuidV7Benchmark {
+
+    private static final int INDEX_KEYS = 500_000;
+    private static final int INSERT_ROWS = 200_000;
+    // application.yaml 의 hibernate.jdbc.batch_size 와 맞춘다
+    private static final int BATCH_SIZE = 100;
+
+    @Test
+    @DisplayName("PK 인덱스 : v7 은 리프를 오른쪽 끝에서만 채워 v4 보다 페이지 수와 최근 INSERT 가 건드리는 페이지가 적다")
+    void indexSize() {
+        LeafStats v4 = LeafStats.build(UUID::randomUUID);
+        LeafStats v7 = LeafStats.build(UuidV7::randomUuid);
+
+        System.out.printf("pk index  v4: %5d leaf pages ( %4.1f MB, fill %4.1f%% ), hot pages %5d | v7: %5d leaf pages ( %4.1f MB, fill %4.1f%% ), hot pages %5d%n",
+            v4.pages, v4.megabytes(), v4.fillPercent(), v4.hotPages,
+            v7.pages, v7.megabytes(), v7.fillPercent(), v7.hotPages);
+
+        assertThat(v7.pages).isLessThan(v4.pages);
+        assertThat(v7.hotPages).isLessThan(v4.hotPages);
+    }
+
+    @Test
+    @DisplayName("INSERT 처리량 : 같은 배치 크기로 messages 모양 테이블에 넣을 때 v4 / v7 초당 행 수")
+    void insertThroughput() throws SQLException {
+        // 첫 회는 JIT / H2 워밍업
+        insertRowsPerSecond("warmup", UUID::randomUUID);
+        long v4 = insertRowsPerSecond("v4", UUID::randomUUID);
+        long v7 = insertRowsPerSecond("v7", UuidV7::randomUuid);
+
+        System.out.printf("insert    v4: %7d rows/s | v7: %7d rows/s ( batch %d, %d rows )%n",
+            v4, v7, BATCH_SIZE, INSERT_ROWS);
+
+        assertThat(v4).isPositive();
+        assertThat(v7).isPositive();
+    }
+
+    private static long insertRowsPerSecond(String name, Supplier<UUID> ids) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:uuid_bench_" + name)) {
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("""
+                    CREATE TABLE messages (
+                        id uuid PRIMARY KEY,
+                        channel_id uuid NOT NULL,
+                        content varchar(200),
+                        created_at timestamp with time zone NOT NULL
+                    )
+                    """);
+            }
+            connection.setAutoCommit(false);
+            UUID channelId = UUID.randomUUID();
+            Timestamp now = Timestamp.from(Instant.now());
+
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO messages (id, channel_id, content, created_at) VALUES (?, ?, ?, ?)")) {
+                for (int i = 1; i <= INSERT_ROWS; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setObject(2, channelId);
+                    insert.setString(3, "benchmark message " + i);
+                    insert.setTimestamp(4, now);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            return INSERT_ROWS * 1_000_000_000L / elapsed;
+        }
+    }
+
+    /**
+     * PostgreSQL nbtree 리프 단계만 흉내 낸 모델
+     * - 8KB 페이지에 uuid 인덱스 튜플 ( 16B + 튜플 헤더 + line pointer ) 약 290개
+     * - 가득 차면 반으로 나누고, 가장 오른쪽 페이지는 왼쪽을 fillfactor 90% 로 남기고 나눈다
+     * hotPages 는 마지막 10% INSERT 가 건드린 서로 다른 리프 수 ( shared_buffers 에 올라와 있어야 하는 working set )
+     */
+    private static final class LeafStats {
+
+        private static final int PAGE_BYTES = 8192;
+        private static final int LEAF_CAPACITY = 290;
+        private static final int RIGHTMOST_SPLIT = LEAF_CAPACITY * 90 / 100;
+
+        private int pages;
+        private int hotPages;
+
+        static LeafStats build(Supplier<UUID> ids) {
+            // 각 리프의 최소 키 → 정렬된 키 목록
+            TreeMap<UUID, List<UUID>> leaves = new TreeMap<>();
+            Set<List<UUID>> touched = Collections.newSetFromMap(new IdentityHashMap<>());
+            int hotFrom = INDEX_KEYS - INDEX_KEYS / 10;
+
+            for (int i = 0; i < INDEX_KEYS; i++) {
+                UUID key = ids.get();
+                List<UUID> leaf = leafFor(leaves, key);
+                int position = -Collections.binarySearch(leaf, key) - 1;
+                leaf.add(position, key);
+                if (leaf.size() > LEAF_CAPACITY) {
+                    boolean rightmost = leaves.higherKey(leaf.get(0)) == null;
+                    int split = rightmost ? RIGHTMOST_SPLIT : leaf.size() / 2;
+                    List<UUID> right = new ArrayList<>(leaf.subList(split, leaf.size()));
+                    leaf.subList(split, leaf.size()).clear();
+                    leaves.put(right.get(0), right);
+                    if (i >= hotFrom) {
+                        touched.add(right);
+                    }
+                }
+                if (i >= hotFrom) {
+                    touched.add(leaf);
+                }
+            }
+
+            LeafStats stats = new LeafStats();
+            stats.pages = leaves.size();
+            stats.hotPages = touched.size();
+            return stats;
+        }
+
+        private static List<UUID> leafFor(TreeMap<UUID, List<UUID>> leaves, UUID key) {
+            Map.Entry<UUID, List<UUID>> entry = leaves.floorEntry(key);
+            if (entry != null) {
+                return entry.getValue();
+            }
+            // 가장 왼쪽 리프보다 작은 키 : 첫 리프의 최소 키를 바꿔 단다
+            Map.Entry<UUID, List<UUID>> first = leaves.pollFirstEntry();
+            List<UUID> leaf = first == null ? new ArrayList<>(LEAF_CAPACITY + 1) : first.getValue();
+            leaves.put(key, leaf);
+            return leaf;
+        }
+
+        double megabytes() {
+            return (double) pages * PAGE_BYTES / (1024 * 1024);
+        }
+
+        double fillPercent() {
+            return 100.0 * INDEX_KEYS / ((double) pages * LEAF_CAPACITY);
+        }
+    }
+}
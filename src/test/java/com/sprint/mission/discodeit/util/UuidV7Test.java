@@ -0,0 +1,90 @@
+package com.sprint.mission.discodeit.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+    @Test
+    @DisplayName("version 7 / RFC variant 비트를 가지며 생성 시각을 ms 단위로 꺼낼 수 있다")
+    void versionVariantAndTimestamp() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UuidV7.randomUuid();
+
+        // then
+        long after = System.currentTimeMillis();
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidV7.timestamp(uuid).toEpochMilli()).isBetween(before, after + 1);
+    }
+
+    @Test
+    @DisplayName("같은 ms 안에서도, 시계가 뒤로 가도 발급 순서대로 증가한다")
+    void monotonicWithinSameMillis() {
+        // given
+        long now = System.currentTimeMillis();
+
+        // when
+        UUID first = UuidV7.next(now);
+        UUID second = UuidV7.next(now);
+        UUID third = UuidV7.next(now - 1_000);
+
+        // then
+        assertThat(first).isLessThan(second);
+        assertThat(second).isLessThan(third);
+        assertThat(UuidV7.timestamp(third)).isAfterOrEqualTo(Instant.ofEpochMilli(now));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복이 없고 스레드마다 증가 순서를 지킨다")
+    void concurrentIssue() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<List<UUID>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                List<UUID> issued = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    issued.add(UuidV7.randomUuid());
+                }
+                return issued;
+            }));
+        }
+
+        // then
+        Set<UUID> all = new HashSet<>();
+        for (Future<List<UUID>> future : futures) {
+            List<UUID> issued = future.get();
+            assertThat(issued).isSorted();
+            all.addAll(issued);
+        }
+        executor.shutdown();
+        assertThat(all).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("v7 이 아닌 UUID 의 시각은 꺼낼 수 없다")
+    void timestampRejectsOtherVersions() {
+        assertThatThrownBy(() -> UuidV7.timestamp(UUID.randomUUID()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
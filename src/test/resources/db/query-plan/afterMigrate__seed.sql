@@ -0,0 +1,45 @@
+-- QueryPlanRegressionTest 용 시드 ( Flyway afterMigrate 콜백, V2 이후 마이그레이션이 적용된 스키마에 넣는다 )
+-- 테이블이 작으면 플래너가 인덱스보다 seq scan 을 고르므로 운영과 비슷한 규모 / 분포로 채우고 통계를 만든다
+-- id 는 md5(접두어 || 번호)::uuid 로 만들어 테이블 간 참조를 맞춘다
+
+INSERT INTO binary_contents (id, created_at, file_name, size, content_type, status)
+SELECT md5('profile' || i)::uuid, now(), 'profile-' || i || '.png', 1024, 'image/png', 'SUCCESS'
+FROM generate_series(1, 50000) i;
+
+INSERT INTO binary_contents (id, created_at, file_name, size, content_type, status)
+SELECT md5('attachment' || i)::uuid, now(), 'attachment-' || i || '.txt', 2048, 'text/plain', 'SUCCESS'
+FROM generate_series(1, 20000) i;
+
+-- 사용자 10만 명, 짝수 번호만 프로필 이미지가 있다
+INSERT INTO users (id, created_at, username, email, password, profile_id, role)
+SELECT md5('user' || i)::uuid, now(), 'user' || i, 'user' || i || '@test.com', 'password',
+       CASE WHEN i % 2 = 0 THEN md5('profile' || (i / 2))::uuid END, 'USER'
+FROM generate_series(1, 100000) i;
+
+INSERT INTO channels (id, created_at, name, description, type)
+SELECT md5('channel' || i)::uuid, now(), 'channel-' || i, 'seed channel', 'PUBLIC'
+FROM generate_series(1, 1000) i;
+
+-- 채널당 메시지 200건 ( 1초 간격 )
+INSERT INTO messages (id, created_at, content, channel_id, author_id)
+SELECT md5('message' || i)::uuid, now() - i * interval '1 second', 'message ' || i,
+       md5('channel' || (i % 1000 + 1))::uuid, md5('user' || (i % 100000 + 1))::uuid
+FROM generate_series(1, 200000) i;
+
+INSERT INTO message_attachments (message_id, attachment_id)
+SELECT md5('message' || (i * 10))::uuid, md5('attachment' || i)::uuid
+FROM generate_series(1, 20000) i;
+
+-- 사용자마다 채널 하나를 구독하고 4명 중 1명만 알림을 켠다
+INSERT INTO read_statuses (id, created_at, user_id, channel_id, last_read_at, notification_enabled)
+SELECT md5('read-status' || i)::uuid, now(), md5('user' || i)::uuid,
+       md5('channel' || (i % 1000 + 1))::uuid, now(), i % 4 = 0
+FROM generate_series(1, 100000) i;
+
+INSERT INTO notifications (id, created_at, receiver_id, title, content, channel_id, unread_count)
+SELECT md5('notification' || i)::uuid, now() - (i % 1000) * interval '1 minute',
+       md5('user' || (i % 100000 + 1))::uuid, 'title', 'content',
+       md5('channel' || (i % 1000 + 1))::uuid, 1
+FROM generate_series(1, 200000) i;
+
+ANALYZE;